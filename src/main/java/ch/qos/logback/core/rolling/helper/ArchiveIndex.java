@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.qos.logback.core.rolling.helper;
+
+import java.io.File;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Index of archive files ordered by last modified time with the total size
+ * of all indexed archives. Adding, replacing and removing an archive, and
+ * removing the oldest archive, are all O(log n). Not thread safe.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class ArchiveIndex {
+
+    /**
+     * Add an archive or replace the entry of an archive already indexed.
+     *
+     * @param file The archive.
+     * @param size The size of the archive in bytes.
+     * @param lastModified The last modified time of the archive in milliseconds.
+     */
+    /* package private */ void put(final File file, final long size, final long lastModified) {
+        final Entry entry = new Entry(file.getAbsoluteFile(), size, lastModified);
+        final Entry previous = _entriesByPath.put(entry._path, entry);
+        if (previous != null) {
+            _entriesByAge.remove(previous);
+            _totalSize -= previous._size;
+        }
+        _entriesByAge.add(entry);
+        _totalSize += size;
+    }
+
+    /**
+     * Remove an archive from the index if present.
+     *
+     * @param absolutePath The absolute path of the archive.
+     */
+    /* package private */ void remove(final String absolutePath) {
+        final Entry entry = _entriesByPath.remove(absolutePath);
+        if (entry != null) {
+            _entriesByAge.remove(entry);
+            _totalSize -= entry._size;
+        }
+    }
+
+    /**
+     * Remove and return the least recently modified archive. The index must
+     * not be empty.
+     *
+     * @return The removed entry.
+     */
+    /* package private */ Entry removeOldest() {
+        final Entry entry = _entriesByAge.pollFirst();
+        _entriesByPath.remove(entry._path);
+        _totalSize -= entry._size;
+        return entry;
+    }
+
+    /* package private */ int size() {
+        return _entriesByPath.size();
+    }
+
+    /* package private */ long getTotalSize() {
+        return _totalSize;
+    }
+
+    private final Map<String, Entry> _entriesByPath = new HashMap<>();
+    private final TreeSet<Entry> _entriesByAge = new TreeSet<>(
+            Comparator.comparingLong((Entry entry) -> entry._lastModified).thenComparing(entry -> entry._path));
+    private long _totalSize;
+
+    /**
+     * An indexed archive.
+     */
+    /* package private */ static final class Entry {
+
+        private Entry(final File file, final long size, final long lastModified) {
+            _file = file;
+            _path = file.getPath();
+            _size = size;
+            _lastModified = lastModified;
+        }
+
+        /* package private */ File getFile() {
+            return _file;
+        }
+
+        /* package private */ long getSize() {
+            return _size;
+        }
+
+        /* package private */ long getLastModified() {
+            return _lastModified;
+        }
+
+        private final File _file;
+        private final String _path;
+        private final long _size;
+        private final long _lastModified;
+    }
+}
@@ -15,16 +15,36 @@
  */
 package ch.qos.logback.core.rolling.helper;
 
-import ch.qos.logback.core.CoreConstants;
 import ch.qos.logback.core.util.FileSize;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
 
 /**
  * This is a customization of the {@link SizeAndTimeBasedArchiveRemover}
- * to enforce total size on each clean and to count all files not just periods.
+ * to count all files not just periods when enforcing the total size. Logback
+ * enforces the total size once per cleaning cycle, after the clean.
+ *
+ * The size and modification time of the archives are kept in an in-memory
+ * index ordered by modification time with a running total size. The index is
+ * built with a single pass over the archive directory on the first cycle and
+ * is then kept up to date from the files deleted by each clean and a listing
+ * of the most recent periods, which is where new archives appear; it is also
+ * rebuilt every 100 cycles to pick up external changes. Enforcing the total size
+ * cap then deletes the oldest archives from the index until the cap is met.
+ *
+ * If the archives are not all in one directory (e.g. the directory name
+ * contains a date) each clean falls back to listing every period.
  *
  * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
  * @since 1.16.1
@@ -41,13 +61,26 @@ public class CustomSizeAndTimeBasedArchiveRemover extends SizeAndTimeBasedArchiv
             final FileNamePattern fileNamePattern,
             final RollingCalendar rollingCalendar) {
         super(fileNamePattern, rollingCalendar);
+        _directory = getArchiveDirectory(fileNamePattern);
+        _archivePattern = Pattern.compile(
+                FileFilterUtil.afterLastSlash(fileNamePattern.toRegex()).replace("\\d{1,2}", "\\d+"));
     }
 
     @Override
-    public void clean(final Instant now) {
-        super.clean(now);
-        if (_totalSizeCap != CoreConstants.UNBOUNDED_TOTAL_SIZE_CAP && _totalSizeCap > 0) {
-            capTotalSize(now);
+    public synchronized void clean(final Instant now) {
+        _deletionCandidates = new ArrayList<>();
+        try {
+            super.clean(now);
+        } finally {
+            final List<File> candidates = _deletionCandidates;
+            _deletionCandidates = null;
+            if (_index != null) {
+                for (final File candidate : candidates) {
+                    if (!candidate.exists()) {
+                        _index.remove(candidate.getAbsolutePath());
+                    }
+                }
+            }
         }
     }
 
@@ -64,7 +97,62 @@ public class CustomSizeAndTimeBasedArchiveRemover extends SizeAndTimeBasedArchiv
     }
 
     @Override
-    void capTotalSize(final Instant now) {
+    protected File[] getFilesInPeriod(final Instant dateOfPeriodToClean) {
+        final File[] files = super.getFilesInPeriod(dateOfPeriodToClean);
+        final List<File> candidates = _deletionCandidates;
+        if (candidates != null) {
+            candidates.addAll(Arrays.asList(files));
+        }
+        return files;
+    }
+
+    @Override
+    synchronized void capTotalSize(final Instant now) {
+        if (_directory == null) {
+            capTotalSizeByListing(now);
+            return;
+        }
+        // Called once per cleaning cycle, after the clean
+        if (_index == null || _cyclesSinceRebuild >= REBUILD_INTERVAL) {
+            try {
+                _index = buildIndex(_directory, _archivePattern);
+            } catch (final IOException e) {
+                addWarn("Failed to index archives in [" + _directory + "]; listing each period instead", e);
+                capTotalSizeByListing(now);
+                return;
+            }
+            _cyclesSinceRebuild = 0;
+        } else {
+            refreshRecentPeriods(now);
+        }
+        ++_cyclesSinceRebuild;
+        capTotalSize(_index);
+    }
+
+    /* package private */ void capTotalSize(final ArchiveIndex index) {
+        int totalFilesRemoved = 0;
+        long totalBytesRemoved = 0;
+        while (index.getTotalSize() > _totalSizeCap) {
+            if (index.size() <= UNTOUCHABLE_ARCHIVE_FILE_COUNT) {
+                addWarn(String.format(
+                        "Skipping the %d newest log archives totalling %s",
+                        index.size(),
+                        new FileSize(index.getTotalSize())));
+                break;
+            }
+            final ArchiveIndex.Entry oldest = index.removeOldest();
+            addInfo(String.format("Deleting [%s] of size %s", oldest.getFile(), new FileSize(oldest.getSize())));
+            if (!oldest.getFile().delete() && oldest.getFile().exists()) {
+                addWarn(String.format("Deleting [%s] failed.", oldest.getFile()));
+            } else {
+                totalBytesRemoved += oldest.getSize();
+                ++totalFilesRemoved;
+            }
+        }
+        addInfo(String.format("Removed %d files totalling %s", totalFilesRemoved, new FileSize(totalBytesRemoved)));
+    }
+
+    /* package private */ void capTotalSizeByListing(final Instant now) {
         long totalSize = 0;
         int totalFilesRemoved = 0;
         long totalBytesRemoved = 0;
@@ -105,12 +193,68 @@ public class CustomSizeAndTimeBasedArchiveRemover extends SizeAndTimeBasedArchiv
         addInfo(String.format("Removed %d files totalling %s", totalFilesRemoved, new FileSize(totalBytesRemoved)));
     }
 
+    /* package private */ static ArchiveIndex buildIndex(final Path directory, final Pattern archivePattern) throws IOException {
+        final ArchiveIndex index = new ArchiveIndex();
+        if (!Files.isDirectory(directory)) {
+            return index;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(
+                directory,
+                path -> archivePattern.matcher(path.getFileName().toString()).matches())) {
+            for (final Path path : stream) {
+                final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    index.put(path.toFile(), attributes.size(), attributes.lastModifiedTime().toMillis());
+                }
+            }
+        }
+        return index;
+    }
+
+    @Nullable
+    /* package private */ ArchiveIndex getIndex() {
+        return _index;
+    }
+
+    private void refreshRecentPeriods(final Instant now) {
+        // New archives appear in the current and last periods; compression
+        // may complete a period later so the period before is included.
+        for (int offset = 0; offset < RECENT_PERIODS; ++offset) {
+            for (final File file : super.getFilesInPeriod(rc.getEndOfNextNthPeriod(now, -offset))) {
+                try {
+                    final BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+                    _index.put(file, attributes.size(), attributes.lastModifiedTime().toMillis());
+                } catch (final IOException e) {
+                    _index.remove(file.getAbsolutePath());
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private static Path getArchiveDirectory(final FileNamePattern fileNamePattern) {
+        final String pattern = fileNamePattern.getPattern().replace('\\', '/');
+        final int lastSlash = pattern.lastIndexOf('/');
+        final String directory = lastSlash < 0 ? "." : pattern.substring(0, lastSlash + 1);
+        if (directory.indexOf('%') >= 0) {
+            return null;
+        }
+        return new File(directory).getAbsoluteFile().toPath();
+    }
+
     private void descendingSortByLastModified(final File[] matchingFileArray) {
         Arrays.sort(matchingFileArray, (f1, f2) -> Long.compare(f2.lastModified(), f1.lastModified()));
     }
 
+    private final Path _directory;
+    private final Pattern _archivePattern;
     private long _totalSizeCap;
     private int _maxHistory;
+    private ArchiveIndex _index;
+    private int _cyclesSinceRebuild;
+    private volatile List<File> _deletionCandidates;
 
     private static final int UNTOUCHABLE_ARCHIVE_FILE_COUNT = 2;
+    private static final int RECENT_PERIODS = 3;
+    private static final int REBUILD_INTERVAL = 100;
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+
+/**
+ * Queue of encoded events between logging threads and a single writer
+ * thread, bounded by the total number of bytes queued. The writer takes all
+ * queued events at once with {@link #poll(long)} and releases their bytes
+ * with {@link #release(long)} only once written, so the bound also covers
+ * the batch being written.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class BoundedByteQueue {
+
+    /**
+     * Package private constructor.
+     *
+     * @param capacity The maximum number of bytes queued.
+     */
+    /* package private */ BoundedByteQueue(final long capacity) {
+        _capacity = capacity;
+    }
+
+    /**
+     * Add an event, waiting at most the specified time for space.
+     *
+     * @param bytes The encoded event.
+     * @param maxBlockInNanos The longest time to wait for space.
+     * @return True if and only if the event was queued; false if it did not
+     * fit in time or the queue is closed.
+     */
+    /* package private */ boolean offer(final byte[] bytes, final long maxBlockInNanos) {
+        if (bytes.length > _capacity) {
+            return false;
+        }
+        _lock.lock();
+        try {
+            long remainingNanos = maxBlockInNanos;
+            while (!_closed && _queuedBytes + bytes.length > _capacity) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = _notFull.awaitNanos(remainingNanos);
+            }
+            if (_closed) {
+                return false;
+            }
+            _events.add(bytes);
+            _queuedBytes += bytes.length;
+            _notEmpty.signal();
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Take all queued events, waiting at most the specified time for one.
+     *
+     * @param timeoutInNanos The longest time to wait for an event.
+     * @return The events in the order they were added, empty if none arrived
+     * in time, or {@code null} if the queue is closed and empty.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Nullable
+    /* package private */ List<byte[]> poll(final long timeoutInNanos) throws InterruptedException {
+        _lock.lock();
+        try {
+            long remainingNanos = timeoutInNanos;
+            while (_events.isEmpty() && !_closed && remainingNanos > 0) {
+                remainingNanos = _notEmpty.awaitNanos(remainingNanos);
+            }
+            if (_events.isEmpty()) {
+                return _closed ? null : Collections.emptyList();
+            }
+            final List<byte[]> events = new ArrayList<>(_events);
+            _events.clear();
+            return events;
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Release the space of taken events once they have been written.
+     *
+     * @param bytes The number of bytes.
+     */
+    /* package private */ void release(final long bytes) {
+        _lock.lock();
+        try {
+            _queuedBytes -= bytes;
+            _notFull.signalAll();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Close the queue. Subsequent offers fail and waiting threads are woken;
+     * events already queued may still be taken.
+     */
+    /* package private */ void close() {
+        _lock.lock();
+        try {
+            _closed = true;
+            _notEmpty.signalAll();
+            _notFull.signalAll();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until the queue is closed or the specified time elapses. Events
+     * added meanwhile may end the wait early.
+     *
+     * @param timeoutInNanos The longest time to wait.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    /* package private */ void awaitClose(final long timeoutInNanos) throws InterruptedException {
+        _lock.lock();
+        try {
+            if (!_closed) {
+                _notEmpty.awaitNanos(timeoutInNanos);
+            }
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /* package private */ boolean isClosed() {
+        _lock.lock();
+        try {
+            return _closed;
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    private final long _capacity;
+    private final ReentrantLock _lock = new ReentrantLock();
+    private final Condition _notEmpty = _lock.newCondition();
+    private final Condition _notFull = _lock.newCondition();
+    private final ArrayDeque<byte[]> _events = new ArrayDeque<>();
+    private long _queuedBytes;
+    private boolean _closed;
+}
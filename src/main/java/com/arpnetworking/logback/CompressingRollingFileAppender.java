@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.util.FileSize;
+import ch.qos.logback.core.util.FileUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * Rolling file appender which gzip compresses the active file as it is
+ * written. The deflater is sync flushed every {@code flushSize} uncompressed
+ * bytes and at least every {@code flushIntervalInMillis} while events are
+ * being written, so the active file can be decompressed (e.g. with
+ * {@code zcat}) up to the last flush at any time. Each time the file is
+ * opened a new gzip member is started and the member is completed when the
+ * file is closed on roll over or stop.
+ *
+ * Use this appender with a {@code file} name ending in {@code .gz} and a
+ * {@link ParallelGzipTimeBasedRollingPolicy} with a {@code fileNamePattern}
+ * ending in {@code .gz}; the policy recognizes that rolled files are already
+ * compressed and renames them instead of compressing them again. Logback's
+ * own rolling policies do not and would compress the file twice.
+ *
+ * Sync flushes cost some compression ratio, so prefer a larger
+ * {@code flushSize} and rely on {@code flushIntervalInMillis} to bound how
+ * far the readable content lags. Prudent mode is not supported. If the
+ * process dies without closing the file the readable content ends at the
+ * last sync flush and, since appending starts a new member, content
+ * appended after restart is not reachable by standard gzip readers.
+ *
+ * @param <E> The event type.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public class CompressingRollingFileAppender<E> extends RollingFileAppender<E> {
+
+    @Override
+    public void start() {
+        if (isPrudent()) {
+            addError("Prudent mode is not supported by " + getClass().getSimpleName());
+            return;
+        }
+        super.start();
+        if (isStarted() && _flushIntervalInMillis > 0) {
+            final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "steno-compressing-flush-" + getName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(
+                    this::flushIfDue,
+                    _flushIntervalInMillis,
+                    _flushIntervalInMillis,
+                    TimeUnit.MILLISECONDS);
+            _executor = executor;
+        }
+    }
+
+    @Override
+    public void stop() {
+        final ScheduledExecutorService executor = _executor;
+        if (executor != null) {
+            executor.shutdownNow();
+            _executor = null;
+        }
+        super.stop();
+    }
+
+    @Override
+    public void openFile(final String fileName) throws IOException {
+        streamWriteLock.lock();
+        try {
+            final File file = new File(fileName);
+            if (!FileUtil.createMissingParentDirectories(file)) {
+                addError("Failed to create parent directories for [" + file.getAbsolutePath() + "]");
+            }
+            final SyncFlushGzipOutputStream outputStream = new SyncFlushGzipOutputStream(
+                    new FileOutputStream(file, isAppend()),
+                    _compressionLevel,
+                    _flushSize.getSize(),
+                    _flushIntervalInMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(_flushIntervalInMillis) : Long.MAX_VALUE,
+                    System::nanoTime);
+            _outputStream = outputStream;
+            setOutputStream(outputStream);
+        } finally {
+            streamWriteLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the number of uncompressed bytes after which the deflater is
+     * sync flushed.
+     *
+     * @return The flush size.
+     */
+    public FileSize getFlushSize() {
+        return _flushSize;
+    }
+
+    /**
+     * Set the number of uncompressed bytes after which the deflater is sync
+     * flushed. The default is 64 KB.
+     *
+     * @param value The flush size.
+     */
+    public void setFlushSize(final FileSize value) {
+        if (value.getSize() <= 0) {
+            addError("Flush size must be positive; flushSize=" + value);
+            return;
+        }
+        _flushSize = value;
+    }
+
+    /**
+     * Retrieve the longest time written events wait for a sync flush.
+     *
+     * @return The flush interval in milliseconds.
+     */
+    public long getFlushIntervalInMillis() {
+        return _flushIntervalInMillis;
+    }
+
+    /**
+     * Set the longest time written events wait for a sync flush. The default
+     * is one second. Zero disables time based flushing, in which case the
+     * deflater is only sync flushed by size.
+     *
+     * @param value The flush interval in milliseconds.
+     */
+    public void setFlushIntervalInMillis(final long value) {
+        if (value < 0) {
+            addError("Flush interval must not be negative; flushIntervalInMillis=" + value);
+            return;
+        }
+        _flushIntervalInMillis = value;
+    }
+
+    /**
+     * Retrieve the deflate compression level.
+     *
+     * @return The compression level.
+     */
+    public int getCompressionLevel() {
+        return _compressionLevel;
+    }
+
+    /**
+     * Set the deflate compression level from 0 (none) to 9 (best), or -1 for
+     * the default level.
+     *
+     * @param value The compression level.
+     */
+    public void setCompressionLevel(final int value) {
+        if (value < Deflater.DEFAULT_COMPRESSION || value > Deflater.BEST_COMPRESSION) {
+            addError("Compression level must be between -1 and 9; compressionLevel=" + value);
+            return;
+        }
+        _compressionLevel = value;
+    }
+
+    /* package private */ void flushIfDue() {
+        final SyncFlushGzipOutputStream outputStream = _outputStream;
+        if (outputStream != null) {
+            try {
+                outputStream.flushIfDue();
+            } catch (final IOException e) {
+                addError("Failed to flush [" + getFile() + "]", e);
+            }
+        }
+    }
+
+    private volatile SyncFlushGzipOutputStream _outputStream;
+    private volatile ScheduledExecutorService _executor;
+    private FileSize _flushSize = new FileSize(DEFAULT_FLUSH_SIZE);
+    private long _flushIntervalInMillis = DEFAULT_FLUSH_INTERVAL_IN_MILLIS;
+    private int _compressionLevel = Deflater.DEFAULT_COMPRESSION;
+
+    private static final long DEFAULT_FLUSH_SIZE = 64 * FileSize.KB_COEFFICIENT;
+    private static final long DEFAULT_FLUSH_INTERVAL_IN_MILLIS = 1000;
+}
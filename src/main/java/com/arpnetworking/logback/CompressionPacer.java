@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces the reading of files being compressed. Before each block is handed
+ * to the compressor the pacer:
+ *
+ * <ul>
+ *     <li>backs off while the CPU load of the process is above a threshold,
+ *     for at most {@code maxBackoffInMillis} per block so that compression
+ *     always makes progress; and</li>
+ *     <li>waits as needed to keep the read rate at or below a limit in bytes
+ *     per second, allowing bursts of up to one second's worth of bytes.</li>
+ * </ul>
+ *
+ * The pacer also counts the bytes read and the time spent waiting. It is
+ * intended for use by a single compression thread at a time.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class CompressionPacer {
+
+    /**
+     * Package private constructor.
+     *
+     * @param bytesPerSecond The maximum read rate; zero for unlimited.
+     * @param maxCpuLoad The CPU load in (0, 1) above which to back off; zero to disable.
+     * @param maxBackoffInMillis The maximum time to back off per block.
+     * @param cpuLoadProvider The source of the CPU load.
+     */
+    /* package private */ CompressionPacer(
+            final long bytesPerSecond,
+            final double maxCpuLoad,
+            final long maxBackoffInMillis,
+            final CpuLoadProvider cpuLoadProvider) {
+        this(bytesPerSecond, maxCpuLoad, maxBackoffInMillis, cpuLoadProvider, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    /* package private */ CompressionPacer(
+            final long bytesPerSecond,
+            final double maxCpuLoad,
+            final long maxBackoffInMillis,
+            final CpuLoadProvider cpuLoadProvider,
+            final LongSupplier clock,
+            final Sleeper sleeper) {
+        _bytesPerSecond = bytesPerSecond;
+        _maxCpuLoad = maxCpuLoad;
+        _maxBackoffInNanos = TimeUnit.MILLISECONDS.toNanos(maxBackoffInMillis);
+        _cpuLoadProvider = cpuLoadProvider;
+        _clock = clock;
+        _sleeper = sleeper;
+        _nextAvailableNanos = clock.getAsLong() - BURST_IN_NANOS;
+    }
+
+    /**
+     * Wait until the given number of bytes may be read.
+     *
+     * @param bytes The number of bytes about to be read.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    /* package private */ void acquire(final int bytes) throws InterruptedException {
+        if (_maxCpuLoad > 0) {
+            backOff();
+        }
+        if (_bytesPerSecond > 0) {
+            final long now = _clock.getAsLong();
+            // Unused capacity accumulates for at most one second
+            _nextAvailableNanos = Math.max(_nextAvailableNanos, now - BURST_IN_NANOS)
+                    + bytes * NANOS_PER_SECOND / _bytesPerSecond;
+            final long waitInNanos = _nextAvailableNanos - now;
+            if (waitInNanos > 0) {
+                _throttledNanos.addAndGet(waitInNanos);
+                _sleeper.sleep(waitInNanos);
+            }
+        }
+        _bytes.addAndGet(bytes);
+    }
+
+    /**
+     * Retrieve the total number of bytes acquired.
+     *
+     * @return The number of bytes.
+     */
+    /* package private */ long getBytes() {
+        return _bytes.get();
+    }
+
+    /**
+     * Retrieve the total time spent waiting for the read rate limit.
+     *
+     * @return The time in nanoseconds.
+     */
+    /* package private */ long getThrottledNanos() {
+        return _throttledNanos.get();
+    }
+
+    /**
+     * Retrieve the total time spent backing off due to CPU load.
+     *
+     * @return The time in nanoseconds.
+     */
+    /* package private */ long getBackoffNanos() {
+        return _backoffNanos.get();
+    }
+
+    private void backOff() throws InterruptedException {
+        long backoffInNanos = 0;
+        while (backoffInNanos < _maxBackoffInNanos && _cpuLoadProvider.get() > _maxCpuLoad) {
+            final long sleepInNanos = Math.min(BACKOFF_INTERVAL_IN_NANOS, _maxBackoffInNanos - backoffInNanos);
+            _sleeper.sleep(sleepInNanos);
+            backoffInNanos += sleepInNanos;
+        }
+        _backoffNanos.addAndGet(backoffInNanos);
+    }
+
+    private final long _bytesPerSecond;
+    private final double _maxCpuLoad;
+    private final long _maxBackoffInNanos;
+    private final CpuLoadProvider _cpuLoadProvider;
+    private final LongSupplier _clock;
+    private final Sleeper _sleeper;
+    private final AtomicLong _bytes = new AtomicLong();
+    private final AtomicLong _throttledNanos = new AtomicLong();
+    private final AtomicLong _backoffNanos = new AtomicLong();
+    private long _nextAvailableNanos;
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long BURST_IN_NANOS = NANOS_PER_SECOND;
+    private static final long BACKOFF_INTERVAL_IN_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * Sleeps for a given duration.
+     */
+    @FunctionalInterface
+    /* package private */ interface Sleeper {
+
+        /**
+         * Sleep for the given duration.
+         *
+         * @param nanos The duration in nanoseconds.
+         * @throws InterruptedException if interrupted while sleeping.
+         */
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
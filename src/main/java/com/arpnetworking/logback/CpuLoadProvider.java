@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * Interface for providing the recent CPU load of the process.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ interface CpuLoadProvider {
+
+    /**
+     * Return the recent CPU load.
+     *
+     * @return The load in [0, 1] or a negative value if it is not available.
+     */
+    double get();
+
+    /**
+     * Default instance of {@link CpuLoadProvider}.
+     */
+    CpuLoadProvider DEFAULT = new DefaultCpuLoadProvider(ManagementFactory.getOperatingSystemMXBean());
+
+    /**
+     * Default implementation of {@link CpuLoadProvider} using the process CPU
+     * load where the platform provides it and otherwise the system load
+     * average per processor.
+     */
+    final class DefaultCpuLoadProvider implements CpuLoadProvider {
+
+        /* package private */ DefaultCpuLoadProvider(final OperatingSystemMXBean operatingSystem) {
+            _operatingSystem = operatingSystem;
+        }
+
+        @Override
+        public double get() {
+            if (_operatingSystem instanceof com.sun.management.OperatingSystemMXBean) {
+                final double load = ((com.sun.management.OperatingSystemMXBean) _operatingSystem).getProcessCpuLoad();
+                if (load >= 0) {
+                    return load;
+                }
+            }
+            final double loadAverage = _operatingSystem.getSystemLoadAverage();
+            if (loadAverage < 0) {
+                return loadAverage;
+            }
+            return Math.min(1.0, loadAverage / _operatingSystem.getAvailableProcessors());
+        }
+
+        private final OperatingSystemMXBean _operatingSystem;
+    }
+}
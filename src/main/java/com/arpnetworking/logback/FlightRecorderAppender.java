@@ -0,0 +1,433 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Appender which records low level events in memory and writes them to the
+ * attached appenders only when something goes wrong. Events at or below
+ * {@code recordLevel} (debug by default) are kept in a circular buffer of
+ * the most recent {@code bufferSize} events per key and are otherwise
+ * overwritten; all other events are passed straight to the attached
+ * appenders. The key is the value of the {@code mdcKey} MDC property, for
+ * example a request identifier, or the thread name when the property is not
+ * set.
+ *
+ * The recorded events for a key are written, in order and ahead of the
+ * triggering event, when an event at or above {@code flushLevel} (error,
+ * which is Steno's crit, by default) is appended for the same key. They may
+ * also be written by calling {@link #flush(String)} or {@link #flushAll()},
+ * directly or through the JMX operations of the {@link FlightRecorderMXBean}
+ * registered as
+ * {@code com.arpnetworking.logback:type=FlightRecorder,name=<appender name>}.
+ * At most {@code maxRecordings} keys are recorded; beyond that the
+ * recording of the key with the least recently recorded event is discarded.
+ * The recordings are kept in the order they were last recorded to, so
+ * finding that recording takes constant time.
+ *
+ * Recorded events are not encoded until they are written, so the cost of an
+ * event that is overwritten is that of preparing it for deferred processing
+ * and storing a reference; the buffers hold the events on the heap. Since
+ * encoding is deferred, mutable values logged as data or context are encoded
+ * as they are when written.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public class FlightRecorderAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent>, FlightRecorderMXBean {
+
+    @Override
+    public void start() {
+        if (_jmxEnabled) {
+            try {
+                final ObjectName objectName = new ObjectName(
+                        "com.arpnetworking.logback:type=FlightRecorder,name=" + ObjectName.quote(String.valueOf(name)));
+                ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+                _objectName = objectName;
+            } catch (final JMException e) {
+                addWarn("Failed to register flight recorder management bean for [" + name + "]", e);
+            }
+        }
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        final ObjectName objectName = _objectName;
+        if (objectName != null) {
+            _objectName = null;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (final JMException e) {
+                addWarn("Failed to unregister flight recorder management bean for [" + name + "]", e);
+            }
+        }
+        synchronized (_recordings) {
+            for (final Recording recording : _recordings.values()) {
+                _discardedEvents.addAndGet(recording.size());
+            }
+            _recordings.clear();
+        }
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        final String key = getKey(event);
+        final Level level = event.getLevel();
+        if (_recordLevel.isGreaterOrEqual(level)) {
+            event.prepareForDeferredProcessing();
+            record(key, event);
+            _recordedEvents.incrementAndGet();
+            return;
+        }
+        if (level.isGreaterOrEqual(_flushLevel)) {
+            flush(key);
+        }
+        _appenders.appendLoopOnAppenders(event);
+    }
+
+    @Override
+    public int flush(final String key) {
+        final Recording recording;
+        synchronized (_recordings) {
+            recording = _recordings.remove(key);
+        }
+        return recording == null ? 0 : write(recording);
+    }
+
+    @Override
+    public int flushAll() {
+        final List<Recording> recordings;
+        synchronized (_recordings) {
+            recordings = new ArrayList<>(_recordings.values());
+            _recordings.clear();
+        }
+        int count = 0;
+        for (final Recording recording : recordings) {
+            count += write(recording);
+        }
+        return count;
+    }
+
+    @Override
+    public int getRecordingCount() {
+        synchronized (_recordings) {
+            return _recordings.size();
+        }
+    }
+
+    @Override
+    public long getRecordedEvents() {
+        return _recordedEvents.get();
+    }
+
+    @Override
+    public long getDiscardedEvents() {
+        return _discardedEvents.get();
+    }
+
+    @Override
+    public long getFlushedEvents() {
+        return _flushedEvents.get();
+    }
+
+    @Override
+    public void addAppender(final Appender<ILoggingEvent> appender) {
+        _appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return _appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(final String appenderName) {
+        return _appenders.getAppender(appenderName);
+    }
+
+    @Override
+    public boolean isAttached(final Appender<ILoggingEvent> appender) {
+        return _appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        _appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(final Appender<ILoggingEvent> appender) {
+        return _appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(final String appenderName) {
+        return _appenders.detachAppender(appenderName);
+    }
+
+    /**
+     * Retrieve the number of events recorded per key.
+     *
+     * @return The number of events.
+     */
+    public int getBufferSize() {
+        return _bufferSize;
+    }
+
+    /**
+     * Set the number of events recorded per key. The default is 256.
+     *
+     * @param value The number of events.
+     */
+    public void setBufferSize(final int value) {
+        if (value < 1) {
+            addError("Buffer size must be positive; bufferSize=" + value);
+            return;
+        }
+        _bufferSize = value;
+    }
+
+    /**
+     * Retrieve the maximum number of keys recorded.
+     *
+     * @return The number of keys.
+     */
+    public int getMaxRecordings() {
+        return _maxRecordings;
+    }
+
+    /**
+     * Set the maximum number of keys recorded. The default is 1024.
+     *
+     * @param value The number of keys.
+     */
+    public void setMaxRecordings(final int value) {
+        if (value < 1) {
+            addError("Maximum recordings must be positive; maxRecordings=" + value);
+            return;
+        }
+        _maxRecordings = value;
+    }
+
+    /**
+     * Retrieve the MDC property identifying the recording of an event.
+     *
+     * @return The MDC property name.
+     */
+    @Nullable
+    public String getMdcKey() {
+        return _mdcKey;
+    }
+
+    /**
+     * Set the MDC property identifying the recording of an event. Optional;
+     * events without the property, or all events if not set, are recorded
+     * by thread name.
+     *
+     * @param value The MDC property name.
+     */
+    public void setMdcKey(@Nullable final String value) {
+        _mdcKey = value;
+    }
+
+    /**
+     * Retrieve the most severe level recorded.
+     *
+     * @return The level name.
+     */
+    public String getRecordLevel() {
+        return _recordLevel.toString();
+    }
+
+    /**
+     * Set the most severe level recorded. The default is {@code DEBUG}.
+     *
+     * @param value The level name.
+     */
+    public void setRecordLevel(final String value) {
+        _recordLevel = Level.toLevel(value, Level.DEBUG);
+    }
+
+    /**
+     * Retrieve the least severe level which writes the recorded events.
+     *
+     * @return The level name.
+     */
+    public String getFlushLevel() {
+        return _flushLevel.toString();
+    }
+
+    /**
+     * Set the least severe level which writes the recorded events. The
+     * default is {@code ERROR}.
+     *
+     * @param value The level name.
+     */
+    public void setFlushLevel(final String value) {
+        _flushLevel = Level.toLevel(value, Level.ERROR);
+    }
+
+    /**
+     * Determine whether the management bean is registered on start.
+     *
+     * @return True if and only if the management bean is registered.
+     */
+    public boolean isJmxEnabled() {
+        return _jmxEnabled;
+    }
+
+    /**
+     * Set whether the management bean is registered on start. The default is
+     * true.
+     *
+     * @param value True to register the management bean.
+     */
+    public void setJmxEnabled(final boolean value) {
+        _jmxEnabled = value;
+    }
+
+    private String getKey(final ILoggingEvent event) {
+        if (_mdcKey != null) {
+            final String value = event.getMDCPropertyMap().get(_mdcKey);
+            if (value != null) {
+                return value;
+            }
+        }
+        return event.getThreadName();
+    }
+
+    private void record(final String key, final ILoggingEvent event) {
+        // Adding under the lock is atomic with the removal of the recording by a flush
+        synchronized (_recordings) {
+            Recording recording = _recordings.get(key);
+            if (recording == null) {
+                evict();
+                recording = new Recording(_bufferSize);
+                _recordings.put(key, recording);
+            }
+            if (recording.add(event)) {
+                _discardedEvents.incrementAndGet();
+            }
+        }
+    }
+
+    private void evict() {
+        // The map is in access order so the first recordings have the least recently recorded events
+        final Iterator<Recording> iterator = _recordings.values().iterator();
+        while (_recordings.size() >= _maxRecordings) {
+            _discardedEvents.addAndGet(iterator.next().size());
+            iterator.remove();
+        }
+    }
+
+    private int write(final Recording recording) {
+        final List<ILoggingEvent> events = recording.drain();
+        for (final ILoggingEvent event : events) {
+            _appenders.appendLoopOnAppenders(event);
+        }
+        _flushedEvents.addAndGet(events.size());
+        return events.size();
+    }
+
+    private final AppenderAttachableImpl<ILoggingEvent> _appenders = new AppenderAttachableImpl<>();
+    // Guarded by itself
+    private final Map<String, Recording> _recordings = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong _recordedEvents = new AtomicLong();
+    private final AtomicLong _discardedEvents = new AtomicLong();
+    private final AtomicLong _flushedEvents = new AtomicLong();
+    private volatile ObjectName _objectName;
+    private int _bufferSize = DEFAULT_BUFFER_SIZE;
+    private int _maxRecordings = DEFAULT_MAX_RECORDINGS;
+    private String _mdcKey;
+    private Level _recordLevel = Level.DEBUG;
+    private Level _flushLevel = Level.ERROR;
+    private boolean _jmxEnabled = true;
+
+    private static final int DEFAULT_BUFFER_SIZE = 256;
+    private static final int DEFAULT_MAX_RECORDINGS = 1024;
+
+    /**
+     * Circular buffer of the most recent events for one key.
+     */
+    /* package private */ static final class Recording {
+
+        /* package private */ Recording(final int capacity) {
+            _events = new ILoggingEvent[capacity];
+        }
+
+        /**
+         * Add an event, overwriting the oldest if full.
+         *
+         * @param event The event.
+         * @return True if and only if an event was overwritten.
+         */
+        /* package private */ synchronized boolean add(final ILoggingEvent event) {
+            final boolean overwritten = _size == _events.length;
+            _events[(_start + _size) % _events.length] = event;
+            if (overwritten) {
+                _start = (_start + 1) % _events.length;
+            } else {
+                ++_size;
+            }
+            return overwritten;
+        }
+
+        /**
+         * Remove and return the events, oldest first.
+         *
+         * @return The events.
+         */
+        /* package private */ synchronized List<ILoggingEvent> drain() {
+            final List<ILoggingEvent> events = new ArrayList<>(_size);
+            for (int i = 0; i < _size; ++i) {
+                final int index = (_start + i) % _events.length;
+                events.add(_events[index]);
+                _events[index] = null;
+            }
+            _start = 0;
+            _size = 0;
+            return events;
+        }
+
+        /* package private */ synchronized int size() {
+            return _size;
+        }
+
+        private final ILoggingEvent[] _events;
+        private int _start;
+        private int _size;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+/**
+ * Management interface of the {@link FlightRecorderAppender}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public interface FlightRecorderMXBean {
+
+    /**
+     * Write the events recorded for a key to the attached appenders.
+     *
+     * @param key The thread name or MDC value identifying the recording.
+     * @return The number of events written.
+     */
+    int flush(String key);
+
+    /**
+     * Write the events recorded for all keys to the attached appenders.
+     *
+     * @return The number of events written.
+     */
+    int flushAll();
+
+    /**
+     * Retrieve the number of keys with recorded events.
+     *
+     * @return The number of keys.
+     */
+    int getRecordingCount();
+
+    /**
+     * Retrieve the number of events recorded since the appender was created.
+     *
+     * @return The number of events.
+     */
+    long getRecordedEvents();
+
+    /**
+     * Retrieve the number of recorded events overwritten or evicted without
+     * being written since the appender was created.
+     *
+     * @return The number of events.
+     */
+    long getDiscardedEvents();
+
+    /**
+     * Retrieve the number of recorded events written to the attached
+     * appenders since the appender was created.
+     *
+     * @return The number of events.
+     */
+    long getFlushedEvents();
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Matches keys against a set of glob patterns compiled into a single
+ * deterministic automaton. In a pattern {@code *} matches any sequence of
+ * characters, {@code ?} matches any one character and {@code \} escapes the
+ * following character; all other characters match themselves ignoring case.
+ * Exact names, prefixes ({@code auth*}), suffixes ({@code *_token}) and
+ * general globs are therefore all expressed as patterns.
+ *
+ * Matching a key takes one table lookup per character regardless of the
+ * number of patterns and does not allocate.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class KeyMatcher implements Serializable {
+
+    /**
+     * Compile a set of patterns.
+     *
+     * @param patterns The patterns.
+     * @return The matcher.
+     * @throws IllegalArgumentException If the patterns require more than
+     * {@code MAX_STATES} states.
+     */
+    /* package private */ static KeyMatcher compile(final Collection<String> patterns) {
+        // Each pattern is a sequence of tokens; its positions in the combined
+        // nondeterministic automaton are its token indices and its length
+        final List<int[]> tokenLists = new ArrayList<>();
+        final TreeSet<Character> literals = new TreeSet<>();
+        int positionCount = 0;
+        for (final String pattern : patterns) {
+            final int[] tokens = parse(pattern);
+            for (final int token : tokens) {
+                if (token >= 0) {
+                    literals.add((char) token);
+                }
+            }
+            tokenLists.add(tokens);
+            positionCount += tokens.length + 1;
+        }
+        final int[] tokens = new int[positionCount];
+        final BitSet starts = new BitSet(positionCount);
+        int offset = 0;
+        for (final int[] tokenList : tokenLists) {
+            starts.set(offset);
+            System.arraycopy(tokenList, 0, tokens, offset, tokenList.length);
+            tokens[offset + tokenList.length] = END;
+            offset += tokenList.length + 1;
+        }
+
+        // Class zero is any character which does not appear in a pattern
+        final char[] chars = new char[literals.size()];
+        int index = 0;
+        for (final Character literal : literals) {
+            chars[index++] = literal;
+        }
+        final int classCount = chars.length + 1;
+
+        // Subset construction
+        final Map<BitSet, Integer> states = new HashMap<>();
+        final List<BitSet> stateSets = new ArrayList<>();
+        final Deque<Integer> pending = new ArrayDeque<>();
+        final BitSet start = closure(starts, tokens);
+        states.put(start, 0);
+        stateSets.add(start);
+        pending.add(0);
+        final List<int[]> transitions = new ArrayList<>();
+        while (!pending.isEmpty()) {
+            final int state = pending.remove();
+            final BitSet stateSet = stateSets.get(state);
+            final int[] stateTransitions = new int[classCount];
+            for (int characterClass = 0; characterClass < classCount; ++characterClass) {
+                final BitSet next = closure(step(stateSet, tokens, characterClass == 0 ? NONE : chars[characterClass - 1]), tokens);
+                if (next.isEmpty()) {
+                    stateTransitions[characterClass] = DEAD;
+                    continue;
+                }
+                Integer nextState = states.get(next);
+                if (nextState == null) {
+                    if (stateSets.size() == MAX_STATES) {
+                        throw new IllegalArgumentException("Patterns require more than " + MAX_STATES + " states");
+                    }
+                    nextState = stateSets.size();
+                    states.put(next, nextState);
+                    stateSets.add(next);
+                    pending.add(nextState);
+                }
+                stateTransitions[characterClass] = nextState;
+            }
+            // States are processed in the order they are created
+            transitions.add(stateTransitions);
+        }
+
+        final int[] table = new int[stateSets.size() * classCount];
+        final boolean[] accepting = new boolean[stateSets.size()];
+        for (int state = 0; state < stateSets.size(); ++state) {
+            System.arraycopy(transitions.get(state), 0, table, state * classCount, classCount);
+            final BitSet stateSet = stateSets.get(state);
+            for (int position = stateSet.nextSetBit(0); position >= 0; position = stateSet.nextSetBit(position + 1)) {
+                if (tokens[position] == END) {
+                    accepting[state] = true;
+                    break;
+                }
+            }
+        }
+        return new KeyMatcher(chars, table, accepting);
+    }
+
+    /**
+     * Determine whether a key matches any of the patterns.
+     *
+     * @param key The key.
+     * @return True if and only if the key matches.
+     */
+    /* package private */ boolean matches(final CharSequence key) {
+        int state = 0;
+        for (int i = 0; i < key.length(); ++i) {
+            state = _table[state * _classCount + getClass(Character.toLowerCase(key.charAt(i)))];
+            if (state == DEAD) {
+                return false;
+            }
+        }
+        return _accepting[state];
+    }
+
+    private KeyMatcher(final char[] chars, final int[] table, final boolean[] accepting) {
+        _chars = chars;
+        _classCount = chars.length + 1;
+        _table = table;
+        _accepting = accepting;
+        _asciiClasses = new int[ASCII];
+        for (int i = 0; i < chars.length && chars[i] < ASCII; ++i) {
+            _asciiClasses[chars[i]] = i + 1;
+        }
+    }
+
+    private int getClass(final char c) {
+        if (c < ASCII) {
+            return _asciiClasses[c];
+        }
+        final int index = Arrays.binarySearch(_chars, c);
+        return index < 0 ? 0 : index + 1;
+    }
+
+    private static int[] parse(final String pattern) {
+        final int[] tokens = new int[pattern.length()];
+        int length = 0;
+        for (int i = 0; i < pattern.length(); ++i) {
+            final char c = pattern.charAt(i);
+            if (c == '\\' && i + 1 < pattern.length()) {
+                tokens[length++] = Character.toLowerCase(pattern.charAt(++i));
+            } else if (c == '*') {
+                // Consecutive wildcards are equivalent to one
+                if (length == 0 || tokens[length - 1] != ANY_SEQUENCE) {
+                    tokens[length++] = ANY_SEQUENCE;
+                }
+            } else if (c == '?') {
+                tokens[length++] = ANY_CHARACTER;
+            } else {
+                tokens[length++] = Character.toLowerCase(c);
+            }
+        }
+        return Arrays.copyOf(tokens, length);
+    }
+
+    private static BitSet step(final BitSet positions, final int[] tokens, final int c) {
+        final BitSet next = new BitSet(tokens.length);
+        for (int position = positions.nextSetBit(0); position >= 0; position = positions.nextSetBit(position + 1)) {
+            final int token = tokens[position];
+            if (token == ANY_SEQUENCE) {
+                next.set(position);
+            } else if (token == ANY_CHARACTER || token == c) {
+                next.set(position + 1);
+            }
+        }
+        return next;
+    }
+
+    private static BitSet closure(final BitSet positions, final int[] tokens) {
+        // A wildcard sequence may also match nothing
+        final BitSet closure = (BitSet) positions.clone();
+        for (int position = closure.nextSetBit(0); position >= 0; position = closure.nextSetBit(position + 1)) {
+            if (tokens[position] == ANY_SEQUENCE) {
+                closure.set(position + 1);
+            }
+        }
+        return closure;
+    }
+
+    private final char[] _chars;
+    private final int _classCount;
+    private final int[] _table;
+    private final boolean[] _accepting;
+    private final int[] _asciiClasses;
+
+    private static final int ANY_SEQUENCE = -1;
+    private static final int ANY_CHARACTER = -2;
+    private static final int END = -3;
+    private static final int NONE = -4;
+    private static final int DEAD = -1;
+    private static final int ASCII = 128;
+    private static final int MAX_STATES = 4096;
+    private static final long serialVersionUID = 1L;
+}
@@ -17,6 +17,7 @@ package com.arpnetworking.logback;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import com.arpnetworking.logback.serialization.keyvalue.KeyValueSerializationHelper;
+import com.arpnetworking.logback.serialization.steno.StenoSerializationHelper;
 
 import java.io.StringWriter;
 import java.util.Collections;
@@ -165,11 +166,12 @@ public class KeyValueEncoder extends BaseLoggingEncoder {
             throws EncodingException {
 
         try {
+            final Object value = StenoSerializationHelper.resolveValue(data);
             return createMessage(
                     event,
                     eventName,
                     new String[]{"data"},
-                    escapeStringValues(new Object[]{data == null ? null : data.toString()}));
+                    escapeStringValues(new Object[]{value == null ? null : value.toString()}));
             // CHECKSTYLE.OFF: IllegalCatch: Ensure any exception or error is caught to prevent Appender death.
         } catch (final Throwable t) {
             // CHECKSTYLE.ON: IllegalCatch
@@ -294,7 +296,8 @@ public class KeyValueEncoder extends BaseLoggingEncoder {
     }
 
     /**
-     * Escape all {@link String} instances.
+     * Escape all {@link String} instances. Values supplied lazily are resolved
+     * before being escaped.
      *
      * @param values Arguments to encode.
      * @return Encoded arguments.
@@ -302,10 +305,12 @@ public class KeyValueEncoder extends BaseLoggingEncoder {
     protected Object[] escapeStringValues(final Object[] values) {
         final Object[] escapedValues = new Object[values.length];
         for (int i = 0; i < values.length; i++) {
-            Object value = values[i];
+            Object value = StenoSerializationHelper.resolveValue(values[i]);
             // Instance of check implies value is not null
             if (value instanceof String) {
-                value = ((String) value).replaceAll("\"", "\\\\\"");
+                // Literal replacement; avoids compiling a pattern per value and
+                // returns the string itself when there is nothing to escape
+                value = ((String) value).replace("\"", "\\\"");
             }
             escapedValues[i] = value;
         }
@@ -319,7 +324,10 @@ public class KeyValueEncoder extends BaseLoggingEncoder {
             @Nullable final Object[] values) {
 
         final String formatString = buildFormatString(eventName, keys);
-        final LoggingEventWrapper eventWrapper = new LoggingEventWrapper(event, formatString, values);
+        final LoggingEventWrapper eventWrapper = new LoggingEventWrapper(
+                event,
+                formatString,
+                StenoSerializationHelper.resolveValues(values));
         return layout.doLayout(eventWrapper);
     }
 
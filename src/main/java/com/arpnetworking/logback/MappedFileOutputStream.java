@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An {@link OutputStream} which writes to a file through fixed size memory
+ * mapped regions. Whenever the write cursor enters a new region the region
+ * after it is mapped as well so that the next crossing does not need to wait
+ * for the mapping.
+ *
+ * Writes and close are serialized on the stream; a write must never touch a
+ * mapping after close has truncated the file under it, which would fault
+ * the process. The stream is intended to be used under the lock of its
+ * appender, so the stream lock is uncontended.
+ *
+ * Mapping a region extends the file to the end of that region. The file is
+ * truncated back to the logical length (the bytes actually written) when the
+ * stream is closed. If the process dies without closing the stream the file
+ * is left with trailing zero bytes which are trimmed when the file is next
+ * opened for append.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class MappedFileOutputStream extends OutputStream {
+
+    /**
+     * Package private constructor.
+     *
+     * @param file The file to write to.
+     * @param append True if writes should be appended to existing content.
+     * @param regionSize The size of each mapped region in bytes.
+     * @throws IOException if the file cannot be opened or mapped.
+     */
+    /* package private */ MappedFileOutputStream(final File file, final boolean append, final long regionSize) throws IOException {
+        if (regionSize <= 0 || regionSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Region size must be positive and at most 2GB; regionSize=" + regionSize);
+        }
+        _regionSize = regionSize;
+        _channel = FileChannel.open(
+                file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            final long start;
+            if (append) {
+                start = findLogicalEnd(_channel);
+            } else {
+                _channel.truncate(0);
+                start = 0;
+            }
+            _position = start;
+            _current = map(start / _regionSize);
+            _ahead = map(_current._index + 1);
+        } catch (final IOException e) {
+            _channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (length == 0) {
+            return;
+        }
+        if (_closed) {
+            throw new IOException("Stream closed");
+        }
+        int remaining = length;
+        int sourceOffset = offset;
+        while (remaining > 0) {
+            final Region region = regionFor(_position / _regionSize);
+            final int regionOffset = (int) (_position - region._index * _regionSize);
+            final int chunk = (int) Math.min(remaining, _regionSize - regionOffset);
+            region._buffer.put(regionOffset, bytes, sourceOffset, chunk);
+            _position += chunk;
+            sourceOffset += chunk;
+            remaining -= chunk;
+        }
+    }
+
+    @Override
+    public void flush() {
+        // Writes to a mapped region are visible to readers of the file as
+        // soon as they are made; there is nothing buffered in the stream.
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (_closed) {
+            return;
+        }
+        _closed = true;
+        try {
+            _current._buffer.force();
+            _ahead._buffer.force();
+            _current = null;
+            _ahead = null;
+            _channel.truncate(_position);
+        } finally {
+            _channel.close();
+        }
+    }
+
+    /**
+     * Return the number of bytes written to the file; this excludes any
+     * mapped but unused space at the end of the file.
+     *
+     * @return The logical length of the file in bytes.
+     */
+    /* package private */ synchronized long getLogicalLength() {
+        return _position;
+    }
+
+    private Region regionFor(final long index) throws IOException {
+        if (_current._index == index) {
+            return _current;
+        }
+        if (_ahead._index == index) {
+            _current = _ahead;
+        } else {
+            // A single write spanned more than one full region.
+            _current = map(index);
+        }
+        _ahead = map(index + 1);
+        return _current;
+    }
+
+    private Region map(final long index) throws IOException {
+        return new Region(index, _channel.map(FileChannel.MapMode.READ_WRITE, index * _regionSize, _regionSize));
+    }
+
+    private static long findLogicalEnd(final FileChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(TRIM_BUFFER_SIZE);
+        long end = channel.size();
+        while (end > 0) {
+            final int length = (int) Math.min(TRIM_BUFFER_SIZE, end);
+            final long start = end - length;
+            buffer.clear().limit(length);
+            int read = 0;
+            while (read < length) {
+                final int count = channel.read(buffer, start + read);
+                if (count < 0) {
+                    break;
+                }
+                read += count;
+            }
+            for (int i = read - 1; i >= 0; --i) {
+                if (buffer.get(i) != 0) {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+
+    private final long _regionSize;
+    private final FileChannel _channel;
+    private long _position;
+    private Region _current;
+    private Region _ahead;
+    private boolean _closed = false;
+
+    private static final int TRIM_BUFFER_SIZE = 8192;
+
+    private static final class Region {
+
+        private Region(final long index, final MappedByteBuffer buffer) {
+            _index = index;
+            _buffer = buffer;
+        }
+
+        private final long _index;
+        private final MappedByteBuffer _buffer;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.util.FileSize;
+import ch.qos.logback.core.util.FileUtil;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Rolling file appender which writes the active file through memory mapped
+ * regions instead of a buffered file stream. Encoded events are copied into
+ * the page cache without a write system call per event. The file is mapped
+ * in fixed size regions (see {@link #setRegionSize(FileSize)}) and truncated
+ * to the number of bytes actually written when it is closed, which includes
+ * each roll over. Rolling and triggering policies are configured exactly as
+ * for {@link RollingFileAppender}.
+ *
+ * Because the active file is extended to the end of the last mapped region
+ * its length on disk is not the number of bytes written until it is closed.
+ * Size based triggering is unaffected since the size and time based
+ * triggering policies count the bytes written through the appender rather
+ * than reading the length of the file. Prudent mode is not supported.
+ *
+ * @param <E> The event type.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public class MemoryMappedRollingFileAppender<E> extends RollingFileAppender<E> {
+
+    @Override
+    public void start() {
+        if (isPrudent()) {
+            addError("Prudent mode is not supported by " + getClass().getSimpleName());
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public void openFile(final String fileName) throws IOException {
+        streamWriteLock.lock();
+        try {
+            final File file = new File(fileName);
+            if (!FileUtil.createMissingParentDirectories(file)) {
+                addError("Failed to create parent directories for [" + file.getAbsolutePath() + "]");
+            }
+            final MappedFileOutputStream outputStream = new MappedFileOutputStream(file, isAppend(), _regionSize.getSize());
+            _outputStream = outputStream;
+            setOutputStream(outputStream);
+        } finally {
+            streamWriteLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the number of bytes written to the active file.
+     *
+     * @return The number of bytes written to the active file.
+     */
+    public long getLogicalLength() {
+        final MappedFileOutputStream outputStream = _outputStream;
+        return outputStream == null ? 0 : outputStream.getLogicalLength();
+    }
+
+    /**
+     * Retrieve the size of each mapped region.
+     *
+     * @return The size of each mapped region.
+     */
+    public FileSize getRegionSize() {
+        return _regionSize;
+    }
+
+    /**
+     * Set the size of each mapped region. Larger regions remap less often
+     * but extend the file further beyond the bytes written. The default is
+     * 32 MB and the maximum is 2 GB.
+     *
+     * @param value The size of each mapped region.
+     */
+    public void setRegionSize(final FileSize value) {
+        if (value.getSize() <= 0 || value.getSize() > Integer.MAX_VALUE) {
+            addError("Region size must be positive and at most 2GB; regionSize=" + value);
+            return;
+        }
+        _regionSize = value;
+    }
+
+    private volatile MappedFileOutputStream _outputStream;
+    private FileSize _regionSize = new FileSize(DEFAULT_REGION_SIZE);
+
+    private static final long DEFAULT_REGION_SIZE = 32L * FileSize.MB_COEFFICIENT;
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.FileSize;
+import ch.qos.logback.core.util.FileUtil;
+import com.arpnetworking.logback.serialization.steno.StenoSerializationHelper;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * Console appender which never blocks logging threads on a slow or stalled
+ * standard output for longer than {@code maxBlockInMillis}. Encoded events
+ * are queued in a user space buffer of {@code bufferSize} bytes and written
+ * to standard output in batches, with gathering writes, by a background
+ * thread. When the buffer is full, for example because the container
+ * runtime stopped reading the log pipe, the logging thread waits at most
+ * {@code maxBlockInMillis} (zero by default) for space, after which the
+ * event is appended to the {@code spillFile} if one is configured or
+ * otherwise dropped.
+ *
+ * Dropped and spilled bytes and lines are available from the accessors and
+ * are reported every {@code reportIntervalInMillis} in which any occurred as
+ * a {@value #DROPPED_EVENT_NAME} Steno event written to standard output, with
+ * the counts since the previous report as data, and as a status message.
+ *
+ * The encoder is invoked on the logging thread and must therefore be safe
+ * for concurrent use; the {@link StenoEncoder} and {@link KeyValueEncoder}
+ * are.
+ *
+ * @param <E> The event type.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public class NonBlockingConsoleAppender<E> extends UnsynchronizedAppenderBase<E> {
+
+    /**
+     * Public constructor.
+     */
+    public NonBlockingConsoleAppender() {
+        this(HostProvider.DEFAULT);
+    }
+
+    /* package private */ NonBlockingConsoleAppender(final HostProvider hostProvider) {
+        _hostProvider = hostProvider;
+    }
+
+    @Override
+    public void start() {
+        if (_encoder == null) {
+            addError("No encoder set for the appender named [" + name + "]");
+            return;
+        }
+        if (_spillFile != null) {
+            final File file = new File(_spillFile);
+            if (!FileUtil.createMissingParentDirectories(file)) {
+                addError("Failed to create parent directories for [" + file.getAbsolutePath() + "]");
+            }
+            try {
+                _spill = new BufferedOutputStream(new FileOutputStream(file, true));
+            } catch (final IOException e) {
+                addError("Failed to open spill file [" + _spillFile + "]", e);
+                return;
+            }
+        }
+        if (_channel == null) {
+            _channel = new FileOutputStream(FileDescriptor.out).getChannel();
+        }
+        _queue = new BoundedByteQueue(_bufferSize.getSize());
+        _writer = new Thread(this::drain, "steno-console-" + name);
+        _writer.setDaemon(true);
+        _writer.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        _queue.close();
+        try {
+            _writer.join(SHUTDOWN_TIMEOUT_IN_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (_writer.isAlive()) {
+            // The writer is not interrupted; that would close the channel and with it standard output
+            addWarn("Timed out writing buffered events to standard output; continuing in the background");
+        }
+        final OutputStream spill = _spill;
+        if (spill != null) {
+            synchronized (spill) {
+                try {
+                    spill.close();
+                } catch (final IOException e) {
+                    addError("Failed to close spill file [" + _spillFile + "]", e);
+                }
+            }
+            _spill = null;
+        }
+    }
+
+    @Override
+    protected void append(final E event) {
+        final byte[] bytes = _encoder.encode(event);
+        if (!_queue.offer(bytes, TimeUnit.MILLISECONDS.toNanos(_maxBlockInMillis))) {
+            overflow(bytes);
+        }
+    }
+
+    /**
+     * Retrieve the encoder.
+     *
+     * @return The encoder.
+     */
+    @Nullable
+    public Encoder<E> getEncoder() {
+        return _encoder;
+    }
+
+    /**
+     * Set the encoder.
+     *
+     * @param value The encoder.
+     */
+    public void setEncoder(final Encoder<E> value) {
+        _encoder = value;
+    }
+
+    /**
+     * Retrieve the size of the buffer between logging threads and standard
+     * output.
+     *
+     * @return The buffer size.
+     */
+    public FileSize getBufferSize() {
+        return _bufferSize;
+    }
+
+    /**
+     * Set the size of the buffer between logging threads and standard
+     * output. The default is 8 MB.
+     *
+     * @param value The buffer size.
+     */
+    public void setBufferSize(final FileSize value) {
+        if (value.getSize() <= 0) {
+            addError("Buffer size must be positive; bufferSize=" + value);
+            return;
+        }
+        _bufferSize = value;
+    }
+
+    /**
+     * Retrieve the longest a logging thread waits for space in a full
+     * buffer.
+     *
+     * @return The time in milliseconds.
+     */
+    public long getMaxBlockInMillis() {
+        return _maxBlockInMillis;
+    }
+
+    /**
+     * Set the longest a logging thread waits for space in a full buffer
+     * before spilling or dropping the event. The default is zero, which
+     * never waits.
+     *
+     * @param value The time in milliseconds.
+     */
+    public void setMaxBlockInMillis(final long value) {
+        if (value < 0) {
+            addError("Maximum block time must not be negative; maxBlockInMillis=" + value);
+            return;
+        }
+        _maxBlockInMillis = value;
+    }
+
+    /**
+     * Retrieve the file events are appended to when the buffer is full.
+     *
+     * @return The spill file name.
+     */
+    @Nullable
+    public String getSpillFile() {
+        return _spillFile;
+    }
+
+    /**
+     * Set the file events are appended to when the buffer is full. Optional;
+     * if not set such events are dropped.
+     *
+     * @param value The spill file name.
+     */
+    public void setSpillFile(@Nullable final String value) {
+        _spillFile = value;
+    }
+
+    /**
+     * Retrieve the interval at which dropped and spilled events are
+     * reported.
+     *
+     * @return The interval in milliseconds.
+     */
+    public long getReportIntervalInMillis() {
+        return _reportIntervalInMillis;
+    }
+
+    /**
+     * Set the interval at which dropped and spilled events are reported. The
+     * default is one minute.
+     *
+     * @param value The interval in milliseconds.
+     */
+    public void setReportIntervalInMillis(final long value) {
+        if (value <= 0) {
+            addError("Report interval must be positive; reportIntervalInMillis=" + value);
+            return;
+        }
+        _reportIntervalInMillis = value;
+    }
+
+    /**
+     * Retrieve the number of encoded bytes dropped since the appender was
+     * created.
+     *
+     * @return The number of bytes.
+     */
+    public long getDroppedBytes() {
+        return _droppedBytes.get();
+    }
+
+    /**
+     * Retrieve the number of events dropped since the appender was created.
+     *
+     * @return The number of events.
+     */
+    public long getDroppedLines() {
+        return _droppedLines.get();
+    }
+
+    /**
+     * Retrieve the number of encoded bytes spilled since the appender was
+     * created.
+     *
+     * @return The number of bytes.
+     */
+    public long getSpilledBytes() {
+        return _spilledBytes.get();
+    }
+
+    /**
+     * Retrieve the number of events spilled since the appender was created.
+     *
+     * @return The number of events.
+     */
+    public long getSpilledLines() {
+        return _spilledLines.get();
+    }
+
+    /* package private */ void setChannel(final GatheringByteChannel value) {
+        _channel = value;
+    }
+
+    /* package private */ Thread getWriter() {
+        return _writer;
+    }
+
+    private void overflow(final byte[] bytes) {
+        final OutputStream spill = _spill;
+        if (spill != null) {
+            synchronized (spill) {
+                try {
+                    spill.write(bytes);
+                    spill.flush();
+                    _spilledBytes.addAndGet(bytes.length);
+                    _spilledLines.incrementAndGet();
+                    return;
+                } catch (final IOException e) {
+                    addError("Failed to write to spill file [" + _spillFile + "]", e);
+                }
+            }
+        }
+        _droppedBytes.addAndGet(bytes.length);
+        _droppedLines.incrementAndGet();
+    }
+
+    private void drain() {
+        final long reportIntervalInNanos = TimeUnit.MILLISECONDS.toNanos(_reportIntervalInMillis);
+        long nextReportNanos = System.nanoTime() + reportIntervalInNanos;
+        try {
+            List<byte[]> batch = _queue.poll(reportIntervalInNanos);
+            while (batch != null) {
+                _queue.release(write(batch));
+                if (System.nanoTime() - nextReportNanos >= 0) {
+                    report();
+                    nextReportNanos = System.nanoTime() + reportIntervalInNanos;
+                }
+                batch = _queue.poll(nextReportNanos - System.nanoTime());
+            }
+            report();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long write(final List<byte[]> batch) {
+        final ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        long length = 0;
+        for (int i = 0; i < buffers.length; ++i) {
+            buffers[i] = ByteBuffer.wrap(batch.get(i));
+            length += buffers[i].remaining();
+        }
+        try {
+            write(buffers, length);
+        } catch (final IOException e) {
+            long unwrittenBytes = 0;
+            long unwrittenLines = 0;
+            for (final ByteBuffer buffer : buffers) {
+                if (buffer.hasRemaining()) {
+                    unwrittenBytes += buffer.remaining();
+                    ++unwrittenLines;
+                }
+            }
+            _droppedBytes.addAndGet(unwrittenBytes);
+            _droppedLines.addAndGet(unwrittenLines);
+        }
+        return length;
+    }
+
+    private void write(final ByteBuffer[] buffers, final long length) throws IOException {
+        long written = 0;
+        try {
+            while (written < length) {
+                written += _channel.write(buffers);
+            }
+            _writeFailed = false;
+        } catch (final IOException e) {
+            if (!_writeFailed) {
+                addError("Failed to write to standard output; dropping events until writes succeed", e);
+                _writeFailed = true;
+            }
+            throw e;
+        }
+    }
+
+    private void report() {
+        final long droppedBytes = _droppedBytes.get();
+        final long droppedLines = _droppedLines.get();
+        final long spilledBytes = _spilledBytes.get();
+        final long spilledLines = _spilledLines.get();
+        if (droppedLines == _reportedDroppedLines && spilledLines == _reportedSpilledLines) {
+            return;
+        }
+        final String data = String.format(
+                "\"droppedBytes\":%d,\"droppedLines\":%d,\"spilledBytes\":%d,\"spilledLines\":%d",
+                droppedBytes - _reportedDroppedBytes,
+                droppedLines - _reportedDroppedLines,
+                spilledBytes - _reportedSpilledBytes,
+                spilledLines - _reportedSpilledLines);
+        _reportedDroppedBytes = droppedBytes;
+        _reportedDroppedLines = droppedLines;
+        _reportedSpilledBytes = spilledBytes;
+        _reportedSpilledLines = spilledLines;
+        addWarn("Standard output could not keep up; " + data.replace("\"", ""));
+
+        final byte[] line = ("{\"time\":\"" + TIME_FORMATTER.format(Instant.now())
+                + "\",\"name\":\"" + DROPPED_EVENT_NAME + "\",\"level\":\"warn\",\"data\":{" + data + "}"
+                + ",\"context\":{\"host\":" + new TextNode(getHost()).toString()
+                + ",\"processId\":" + new TextNode(ProcessProvider.DEFAULT.get()).toString()
+                + ",\"threadId\":" + new TextNode(Thread.currentThread().getName()).toString()
+                + "},\"id\":\"" + StenoSerializationHelper.createId() + "\",\"version\":\"0\"}\n")
+                .getBytes(StandardCharsets.UTF_8);
+        try {
+            write(new ByteBuffer[]{ByteBuffer.wrap(line)}, line.length);
+        } catch (final IOException e) {
+            // The failure is reported by write and the counts by the status message
+        }
+    }
+
+    private String getHost() {
+        try {
+            return _hostProvider.get();
+        } catch (final UnknownHostException e) {
+            return "<UNKNOWN>";
+        }
+    }
+
+    private final HostProvider _hostProvider;
+    private final AtomicLong _droppedBytes = new AtomicLong();
+    private final AtomicLong _droppedLines = new AtomicLong();
+    private final AtomicLong _spilledBytes = new AtomicLong();
+    private final AtomicLong _spilledLines = new AtomicLong();
+    private volatile BoundedByteQueue _queue;
+    private Thread _writer;
+    private GatheringByteChannel _channel;
+    private volatile OutputStream _spill;
+    private boolean _writeFailed;
+    private long _reportedDroppedBytes;
+    private long _reportedDroppedLines;
+    private long _reportedSpilledBytes;
+    private long _reportedSpilledLines;
+    private Encoder<E> _encoder;
+    private FileSize _bufferSize = new FileSize(DEFAULT_BUFFER_SIZE);
+    private long _maxBlockInMillis = 0;
+    private String _spillFile;
+    private long _reportIntervalInMillis = DEFAULT_REPORT_INTERVAL_IN_MILLIS;
+
+    /**
+     * The name of the event reporting dropped and spilled events.
+     */
+    public static final String DROPPED_EVENT_NAME = "steno_dropped";
+
+    private static final long DEFAULT_BUFFER_SIZE = 8 * FileSize.MB_COEFFICIENT;
+    private static final long DEFAULT_REPORT_INTERVAL_IN_MILLIS = 60000;
+    private static final long SHUTDOWN_TIMEOUT_IN_MILLIS = 5000;
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.RolloverFailure;
+import ch.qos.logback.core.rolling.TimeBasedFileNamingAndTriggeringPolicy;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import ch.qos.logback.core.rolling.TriggeringPolicy;
+import ch.qos.logback.core.util.FileUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
+
+/**
+ * Rolling file appender which keeps the logging thread that triggers a roll
+ * over from paying for it. The next active file is created and opened on a
+ * background thread shortly before the roll over is due (see
+ * {@link #setPrepareAheadInMillis(long)}). When the roll over is triggered
+ * the writer only swaps the open file handle; closing the previous file,
+ * renaming it to its archive name (and any compression or clean up done by
+ * the rolling policy) and moving the new file into place all happen on the
+ * background thread. Events written meanwhile go to the new file.
+ *
+ * The time the triggering thread spends in the roll over, during which all
+ * other writers are blocked, is tracked; see
+ * {@link #getMaxRolloverStallInNanos()}.
+ *
+ * The appender requires the {@code file} property to be set and the file
+ * system to allow renaming open files; if the {@code file} property is not
+ * set roll overs are performed in-line as by {@link RollingFileAppender}.
+ * While the new file is being moved into place it is named after the active
+ * file with a {@code .next} suffix. When used with a
+ * {@link SizeAndRandomizedTimeBasedFNATP} no size triggered roll over occurs
+ * until the previous one has completed. Prudent mode is not supported.
+ *
+ * @param <E> The event type.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public class NonBlockingRollingFileAppender<E> extends RollingFileAppender<E> {
+
+    @Override
+    public void start() {
+        if (isPrudent()) {
+            addError("Prudent mode is not supported by " + getClass().getSimpleName());
+            return;
+        }
+        _executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "steno-rollover-" + getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        _executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        super.start();
+        if (!isStarted()) {
+            _executor.shutdownNow();
+            return;
+        }
+        final TimeBasedFileNamingAndTriggeringPolicy<E> fnatp = getTimeBasedFileNamingAndTriggeringPolicy();
+        if (fnatp instanceof SizeAndRandomizedTimeBasedFNATP) {
+            ((SizeAndRandomizedTimeBasedFNATP<E>) fnatp).setSizeTriggerSuppressed(this::isRolloverPending);
+        }
+        schedulePrepare();
+    }
+
+    @Override
+    public void stop() {
+        final ScheduledThreadPoolExecutor executor = _executor;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                    addWarn("Timed out waiting for pending roll over to complete");
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        discardPrepared();
+        super.stop();
+    }
+
+    @Override
+    public void openFile(final String fileName) throws IOException {
+        streamWriteLock.lock();
+        try {
+            setOutputStream(new SwappableOutputStream(open(new File(fileName), isAppend())));
+        } finally {
+            streamWriteLock.unlock();
+        }
+    }
+
+    @Override
+    public void rollover() {
+        final String activeFileName = getFile();
+        final SwappableOutputStream outputStream = _outputStream;
+        if (activeFileName == null || outputStream == null) {
+            super.rollover();
+            return;
+        }
+        final long startNanos = System.nanoTime();
+        Prepared next = _prepared.getAndSet(null);
+        if (next == null) {
+            // The roll over came before the next file was ready (e.g. a size
+            // triggered roll over); open it here.
+            try {
+                next = prepare(activeFileName);
+            } catch (final IOException e) {
+                addError("Failed to open next file; rolling over in-line", e);
+                super.rollover();
+                return;
+            }
+        }
+        _pendingRollovers.incrementAndGet();
+        final OutputStream previous = outputStream.swap(next._outputStream);
+        final Prepared completed = next;
+        _executor.execute(() -> {
+            try {
+                completeRollover(previous, completed, activeFileName);
+            } finally {
+                _pendingRollovers.decrementAndGet();
+            }
+        });
+        recordStall(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public void setOutputStream(final OutputStream outputStream) {
+        _outputStream = outputStream instanceof SwappableOutputStream ? (SwappableOutputStream) outputStream : null;
+        super.setOutputStream(outputStream);
+    }
+
+    /**
+     * Retrieve the longest time in nanoseconds that a writer spent in a roll
+     * over since the appender started. All other writers are blocked for
+     * this duration.
+     *
+     * @return The longest roll over stall in nanoseconds.
+     */
+    public long getMaxRolloverStallInNanos() {
+        return _maxStallInNanos.get();
+    }
+
+    /**
+     * Retrieve the time in nanoseconds that a writer spent in the most
+     * recent roll over.
+     *
+     * @return The most recent roll over stall in nanoseconds.
+     */
+    public long getLastRolloverStallInNanos() {
+        return _lastStallInNanos.get();
+    }
+
+    /**
+     * Retrieve how long before the next scheduled roll over the next file is
+     * opened.
+     *
+     * @return The time in milliseconds.
+     */
+    public long getPrepareAheadInMillis() {
+        return _prepareAheadInMillis;
+    }
+
+    /**
+     * Set how long before the next scheduled roll over the next file is
+     * opened. The default is 60 seconds. When size based triggering is in use
+     * the next file is always opened right after each roll over.
+     *
+     * @param value The time in milliseconds.
+     */
+    public void setPrepareAheadInMillis(final long value) {
+        _prepareAheadInMillis = value;
+    }
+
+    /* package private */ boolean isPrepared() {
+        return _prepared.get() != null;
+    }
+
+    private void completeRollover(final OutputStream previous, final Prepared next, final String activeFileName) {
+        try {
+            previous.close();
+        } catch (final IOException e) {
+            addWarn("Failed to close previous file", e);
+        }
+        try {
+            getRollingPolicy().rollover();
+        } catch (final RolloverFailure e) {
+            addWarn("Roll over failed; the previous file was not archived", e);
+        }
+        final Path target = new File(activeFileName).toPath();
+        try {
+            try {
+                Files.move(next._file.toPath(), target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(next._file.toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException e) {
+            addError("Failed to move " + next._file + " to " + target + "; events are written to " + next._file, e);
+        }
+        addInfo(String.format(
+                "Rolled over %s; writer stall %d ns (max %d ns)",
+                activeFileName,
+                _lastStallInNanos.get(),
+                _maxStallInNanos.get()));
+        schedulePrepare();
+    }
+
+    private void schedulePrepare() {
+        final long delayInMillis = computePrepareDelayInMillis();
+        try {
+            _executor.schedule(this::prepareNext, delayInMillis, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            // The appender is stopping
+        }
+    }
+
+    private void prepareNext() {
+        final String activeFileName = getFile();
+        if (activeFileName == null || _prepared.get() != null) {
+            return;
+        }
+        try {
+            _prepared.set(prepare(activeFileName));
+        } catch (final IOException e) {
+            addWarn("Failed to open next file ahead of roll over", e);
+        }
+    }
+
+    private boolean isRolloverPending() {
+        return _pendingRollovers.get() > 0;
+    }
+
+    private long computePrepareDelayInMillis() {
+        final TimeBasedFileNamingAndTriggeringPolicy<E> fnatp = getTimeBasedFileNamingAndTriggeringPolicy();
+        if (fnatp instanceof RandomizedTimeBasedFNATP) {
+            final long nextCheck = ((RandomizedTimeBasedFNATP<E>) fnatp).getNextCheck();
+            return Math.max(0, nextCheck - _prepareAheadInMillis - fnatp.getCurrentTime());
+        }
+        // The next roll over time is not known (e.g. it may be size triggered)
+        return 0;
+    }
+
+    @Nullable
+    private TimeBasedFileNamingAndTriggeringPolicy<E> getTimeBasedFileNamingAndTriggeringPolicy() {
+        final TriggeringPolicy<E> triggeringPolicy = getTriggeringPolicy();
+        if (triggeringPolicy instanceof TimeBasedRollingPolicy) {
+            return ((TimeBasedRollingPolicy<E>) triggeringPolicy).getTimeBasedFileNamingAndTriggeringPolicy();
+        }
+        return null;
+    }
+
+    private Prepared prepare(final String activeFileName) throws IOException {
+        final File file = new File(activeFileName + NEXT_SUFFIX + _sequence.incrementAndGet());
+        return new Prepared(file, open(file, false));
+    }
+
+    private void discardPrepared() {
+        final Prepared prepared = _prepared.getAndSet(null);
+        if (prepared != null) {
+            try {
+                prepared._outputStream.close();
+                Files.deleteIfExists(prepared._file.toPath());
+            } catch (final IOException e) {
+                addWarn("Failed to remove unused file " + prepared._file, e);
+            }
+        }
+    }
+
+    private OutputStream open(final File file, final boolean append) throws IOException {
+        if (!FileUtil.createMissingParentDirectories(file)) {
+            addError("Failed to create parent directories for [" + file.getAbsolutePath() + "]");
+        }
+        return new BufferedOutputStream(new FileOutputStream(file, append), (int) getBufferSize().getSize());
+    }
+
+    private void recordStall(final long stallInNanos) {
+        _lastStallInNanos.set(stallInNanos);
+        _maxStallInNanos.accumulateAndGet(stallInNanos, Math::max);
+    }
+
+    private volatile ScheduledThreadPoolExecutor _executor;
+    private volatile SwappableOutputStream _outputStream;
+    private volatile long _prepareAheadInMillis = DEFAULT_PREPARE_AHEAD_IN_MILLIS;
+    private final AtomicReference<Prepared> _prepared = new AtomicReference<>();
+    private final AtomicLong _sequence = new AtomicLong();
+    private final AtomicInteger _pendingRollovers = new AtomicInteger();
+    private final AtomicLong _lastStallInNanos = new AtomicLong();
+    private final AtomicLong _maxStallInNanos = new AtomicLong();
+
+    private static final String NEXT_SUFFIX = ".next";
+    private static final long DEFAULT_PREPARE_AHEAD_IN_MILLIS = 60000;
+    private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 30;
+
+    private static final class Prepared {
+
+        private Prepared(final File file, final OutputStream outputStream) {
+            _file = file;
+            _outputStream = outputStream;
+        }
+
+        private final File _file;
+        private final OutputStream _outputStream;
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import javax.annotation.Nullable;
+
+/**
+ * Compresses a file into a gzip archive by splitting it into fixed size
+ * blocks which are deflated in parallel and written, in order, as independent
+ * gzip members. Concatenated members are a valid gzip file which standard
+ * tools (e.g. {@code gzip}, {@code zcat} and {@link java.util.zip.GZIPInputStream})
+ * decompress as a single stream.
+ *
+ * Each member header carries an extra field (RFC 1952 section 2.3.1.1) with
+ * subfield identifier {@code SZ} holding the total length of the member as an
+ * eight byte little endian integer. This allows the member offsets to be
+ * recovered without inflating the archive; see {@link #readMemberOffsets(Path)}.
+ * Each member may then be inflated independently.
+ *
+ * At most twice the configured parallelism of blocks are held in memory per
+ * file being compressed.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public final class ParallelGzipCompressor {
+
+    /**
+     * Public constructor.
+     *
+     * @param executor The executor to deflate blocks on.
+     * @param parallelism The number of blocks to deflate concurrently.
+     * @param blockSize The uncompressed size of each block in bytes.
+     * @param level The deflate compression level; see {@link Deflater}.
+     */
+    public ParallelGzipCompressor(
+            final ExecutorService executor,
+            final int parallelism,
+            final int blockSize,
+            final int level) {
+        this(executor, parallelism, blockSize, level, new CompressionPacer(0, 0, 0, CpuLoadProvider.DEFAULT));
+    }
+
+    /**
+     * Package private constructor.
+     *
+     * @param executor The executor to deflate blocks on.
+     * @param parallelism The number of blocks to deflate concurrently.
+     * @param blockSize The uncompressed size of each block in bytes.
+     * @param level The deflate compression level; see {@link Deflater}.
+     * @param pacer The pacer to acquire each block from before it is read.
+     */
+    /* package private */ ParallelGzipCompressor(
+            final ExecutorService executor,
+            final int parallelism,
+            final int blockSize,
+            final int level,
+            final CompressionPacer pacer) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive; parallelism=" + parallelism);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive; blockSize=" + blockSize);
+        }
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level; level=" + level);
+        }
+        _executor = executor;
+        _maxBlocksInFlight = parallelism * 2;
+        _blockSize = blockSize;
+        _level = level;
+        _pacer = pacer;
+    }
+
+    /**
+     * Compress the source file into the target file. The archive is written
+     * to a temporary file next to the target and moved into place once
+     * complete; the source file is then deleted.
+     *
+     * @param source The file to compress.
+     * @param target The archive to create.
+     * @return The size of the archive in bytes.
+     * @throws IOException if the source cannot be read or the archive written.
+     */
+    public long compress(final Path source, final Path target) throws IOException {
+        final Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        final long length;
+        try (FileChannel input = FileChannel.open(source, StandardOpenOption.READ);
+             OutputStream output = Files.newOutputStream(temporary)) {
+            length = compress(input, output);
+        } catch (final IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.delete(source);
+        return length;
+    }
+
+    /**
+     * Read the offsets of the members of an archive created by this class.
+     *
+     * @param archive The archive to read.
+     * @return The offset of each member in bytes in file order.
+     * @throws IOException if the archive cannot be read or was not created
+     * by this class.
+     */
+    public static List<Long> readMemberOffsets(final Path archive) throws IOException {
+        final List<Long> offsets = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            long offset = 0;
+            while (offset < size) {
+                header.clear();
+                while (header.hasRemaining()) {
+                    if (channel.read(header, offset + header.position()) < 0) {
+                        throw new IOException("Truncated member header at offset " + offset);
+                    }
+                }
+                final long memberLength = parseMemberLength(header);
+                if (memberLength < HEADER_LENGTH + TRAILER_LENGTH || offset + memberLength > size) {
+                    throw new IOException("Invalid member length " + memberLength + " at offset " + offset);
+                }
+                offsets.add(offset);
+                offset += memberLength;
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Retrieve the uncompressed size of each block.
+     *
+     * @return The block size in bytes.
+     */
+    public int getBlockSize() {
+        return _blockSize;
+    }
+
+    /* package private */ long compress(final FileChannel input, final OutputStream output) throws IOException {
+        final Deque<Future<byte[]>> pending = new ArrayDeque<>(_maxBlocksInFlight);
+        long length = 0;
+        boolean empty = true;
+        try {
+            while (true) {
+                final byte[] block = readBlock(input);
+                if (block == null) {
+                    break;
+                }
+                empty = false;
+                if (pending.size() >= _maxBlocksInFlight) {
+                    length += writeMember(pending.removeFirst(), output);
+                }
+                pending.addLast(_executor.submit(() -> createMember(block, _level)));
+            }
+            while (!pending.isEmpty()) {
+                length += writeMember(pending.removeFirst(), output);
+            }
+            if (empty) {
+                // A gzip file must contain at least one member
+                final byte[] member = createMember(new byte[0], _level);
+                output.write(member);
+                length += member.length;
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+        return length;
+    }
+
+    /* package private */ static byte[] createMember(final byte[] block, final int level) {
+        final Deflater deflater = new Deflater(level, true);
+        final ByteArrayOutputStream member = new ByteArrayOutputStream(block.length / 2 + HEADER_LENGTH + TRAILER_LENGTH);
+        try {
+            // Reserve the header; it is written once the member length is known
+            member.write(new byte[HEADER_LENGTH], 0, HEADER_LENGTH);
+            deflater.setInput(block);
+            deflater.finish();
+            final byte[] buffer = new byte[DEFLATE_BUFFER_SIZE];
+            while (!deflater.finished()) {
+                final int count = deflater.deflate(buffer);
+                member.write(buffer, 0, count);
+            }
+        } finally {
+            deflater.end();
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(block, 0, block.length);
+        final ByteBuffer trailer = ByteBuffer.allocate(TRAILER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        trailer.putInt((int) crc.getValue());
+        trailer.putInt(block.length);
+        member.write(trailer.array(), 0, TRAILER_LENGTH);
+
+        final byte[] bytes = member.toByteArray();
+        final ByteBuffer header = ByteBuffer.wrap(bytes, 0, HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(GZIP_MAGIC_1);
+        header.put(GZIP_MAGIC_2);
+        header.put(CM_DEFLATE);
+        header.put(FLG_FEXTRA);
+        header.putInt(0); // MTIME
+        header.put((byte) 0); // XFL
+        header.put(OS_UNKNOWN);
+        header.putShort(XLEN);
+        header.put(SUBFIELD_ID_1);
+        header.put(SUBFIELD_ID_2);
+        header.putShort(SUBFIELD_LENGTH);
+        header.putLong(bytes.length);
+        return bytes;
+    }
+
+    private static long parseMemberLength(final ByteBuffer header) throws IOException {
+        header.flip();
+        if (header.get() != GZIP_MAGIC_1
+                || header.get() != GZIP_MAGIC_2
+                || header.get() != CM_DEFLATE
+                || header.get() != FLG_FEXTRA) {
+            throw new IOException("Not a block compressed gzip member");
+        }
+        header.position(XLEN_OFFSET);
+        if (header.getShort() != XLEN
+                || header.get() != SUBFIELD_ID_1
+                || header.get() != SUBFIELD_ID_2
+                || header.getShort() != SUBFIELD_LENGTH) {
+            throw new IOException("Missing member length subfield");
+        }
+        return header.getLong();
+    }
+
+    @Nullable
+    private byte[] readBlock(final FileChannel input) throws IOException {
+        final long remaining = input.size() - input.position();
+        try {
+            if (remaining > 0) {
+                _pacer.acquire((int) Math.min(_blockSize, remaining));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing");
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(_blockSize);
+        while (buffer.hasRemaining()) {
+            if (input.read(buffer) < 0) {
+                break;
+            }
+        }
+        if (buffer.position() == 0) {
+            return null;
+        }
+        if (buffer.position() == _blockSize) {
+            return buffer.array();
+        }
+        final byte[] block = new byte[buffer.position()];
+        System.arraycopy(buffer.array(), 0, block, 0, block.length);
+        return block;
+    }
+
+    private static long writeMember(final Future<byte[]> future, final OutputStream output) throws IOException {
+        final byte[] member;
+        try {
+            member = future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing");
+        } catch (final ExecutionException e) {
+            throw new IOException("Failed to compress block", e.getCause());
+        }
+        output.write(member);
+        return member.length;
+    }
+
+    private final ExecutorService _executor;
+    private final int _maxBlocksInFlight;
+    private final int _blockSize;
+    private final int _level;
+    private final CompressionPacer _pacer;
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int DEFLATE_BUFFER_SIZE = 64 * 1024;
+    private static final byte GZIP_MAGIC_1 = (byte) 0x1f;
+    private static final byte GZIP_MAGIC_2 = (byte) 0x8b;
+    private static final byte CM_DEFLATE = 8;
+    private static final byte FLG_FEXTRA = 4;
+    private static final byte OS_UNKNOWN = (byte) 255;
+    private static final byte SUBFIELD_ID_1 = 'S';
+    private static final byte SUBFIELD_ID_2 = 'Z';
+    private static final short SUBFIELD_LENGTH = 8;
+    private static final short XLEN = 4 + SUBFIELD_LENGTH;
+    private static final int XLEN_OFFSET = 10;
+    private static final int HEADER_LENGTH = XLEN_OFFSET + 2 + XLEN;
+    private static final int TRAILER_LENGTH = 8;
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.core.rolling.RolloverFailure;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import ch.qos.logback.core.rolling.helper.CompressionMode;
+import ch.qos.logback.core.util.FileSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+
+/**
+ * Extends {@link TimeBasedRollingPolicy} to compress rolled files with a
+ * {@link ParallelGzipCompressor} instead of Logback's single threaded
+ * compressor. Compression is enabled as usual by a {@code fileNamePattern}
+ * ending in {@code .gz}; for other patterns the policy behaves exactly like
+ * {@link TimeBasedRollingPolicy}.
+ *
+ * Rolled files are compressed one at a time, in the order they were rolled,
+ * with the blocks of each file deflated on a pool of
+ * {@code compressionThreads} threads. A burst of roll overs therefore queues
+ * rather than oversubscribing the host.
+ *
+ * To limit the impact of compression on the application the compression
+ * threads run at {@code compressionThreadPriority}, reading of rolled files
+ * may be limited to {@code maxCompressionRate} bytes per second and reading
+ * backs off while the process CPU load exceeds {@code maxCpuLoad}; see
+ * {@link CompressionPacer}. Progress is available from the
+ * {@code getCompression*} accessors.
+ *
+ * Rolled files which already start with the gzip magic bytes, such as those
+ * written by {@link CompressingRollingFileAppender}, are not compressed again
+ * but only renamed to the compressed file name.
+ *
+ * @param <E> The event type.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public class ParallelGzipTimeBasedRollingPolicy<E> extends TimeBasedRollingPolicy<E> {
+
+    @Override
+    public void start() {
+        super.start();
+        if (isStarted() && getCompressionMode() == CompressionMode.GZ) {
+            _blockExecutor = Executors.newFixedThreadPool(
+                    _compressionThreads,
+                    createThreadFactory("steno-compress-block-", _compressionThreadPriority));
+            _fileExecutor = Executors.newSingleThreadExecutor(createThreadFactory("steno-compress-", _compressionThreadPriority));
+            _pacer = new CompressionPacer(
+                    _maxCompressionRate.getSize(),
+                    _maxCpuLoad,
+                    _maxCpuBackoffInMillis,
+                    _cpuLoadProvider);
+            _compressor = new ParallelGzipCompressor(
+                    _blockExecutor,
+                    _compressionThreads,
+                    (int) _compressionBlockSize.getSize(),
+                    _compressionLevel,
+                    _pacer);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (_fileExecutor != null) {
+            _fileExecutor.shutdown();
+            try {
+                if (!_fileExecutor.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                    addWarn("Timed out waiting for compression of rolled files to complete");
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            _blockExecutor.shutdownNow();
+            _fileExecutor = null;
+            _blockExecutor = null;
+            _compressor = null;
+        }
+        super.stop();
+    }
+
+    @Override
+    public void rollover() throws RolloverFailure {
+        final ParallelGzipCompressor compressor = _compressor;
+        if (compressor == null) {
+            super.rollover();
+            return;
+        }
+        final String elapsedPeriodsFileName = getTimeBasedFileNamingAndTriggeringPolicy().getElapsedPeriodsFileName();
+
+        // Let the base policy rename the active file and clean up old
+        // archives without compressing; compression is done here instead.
+        compressionMode = CompressionMode.NONE;
+        try {
+            super.rollover();
+        } finally {
+            compressionMode = CompressionMode.GZ;
+        }
+        _pendingCompressions.incrementAndGet();
+        _fileExecutor.execute(() -> {
+            try {
+                compress(compressor, Paths.get(elapsedPeriodsFileName));
+            } finally {
+                _pendingCompressions.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Retrieve the number of threads deflating blocks of a rolled file.
+     *
+     * @return The number of threads.
+     */
+    public int getCompressionThreads() {
+        return _compressionThreads;
+    }
+
+    /**
+     * Set the number of threads deflating blocks of a rolled file. The
+     * default is half the number of available processors.
+     *
+     * @param value The number of threads.
+     */
+    public void setCompressionThreads(final int value) {
+        if (value < 1) {
+            addError("Compression threads must be positive; compressionThreads=" + value);
+            return;
+        }
+        _compressionThreads = value;
+    }
+
+    /**
+     * Retrieve the uncompressed size of each independently deflated block.
+     *
+     * @return The block size.
+     */
+    public FileSize getCompressionBlockSize() {
+        return _compressionBlockSize;
+    }
+
+    /**
+     * Set the uncompressed size of each independently deflated block. Larger
+     * blocks compress slightly better; smaller blocks allow finer grained
+     * parallel reads of the archive. The default is 1 MB.
+     *
+     * @param value The block size.
+     */
+    public void setCompressionBlockSize(final FileSize value) {
+        if (value.getSize() <= 0 || value.getSize() > MAX_BLOCK_SIZE) {
+            addError("Compression block size must be positive and at most 64MB; compressionBlockSize=" + value);
+            return;
+        }
+        _compressionBlockSize = value;
+    }
+
+    /**
+     * Retrieve the deflate compression level.
+     *
+     * @return The compression level.
+     */
+    public int getCompressionLevel() {
+        return _compressionLevel;
+    }
+
+    /**
+     * Set the deflate compression level from 0 (none) to 9 (best), or -1 for
+     * the default level.
+     *
+     * @param value The compression level.
+     */
+    public void setCompressionLevel(final int value) {
+        if (value < Deflater.DEFAULT_COMPRESSION || value > Deflater.BEST_COMPRESSION) {
+            addError("Compression level must be between -1 and 9; compressionLevel=" + value);
+            return;
+        }
+        _compressionLevel = value;
+    }
+
+    /**
+     * Retrieve the priority of the compression threads.
+     *
+     * @return The thread priority.
+     */
+    public int getCompressionThreadPriority() {
+        return _compressionThreadPriority;
+    }
+
+    /**
+     * Set the priority of the compression threads. The default is
+     * {@link Thread#MIN_PRIORITY}. Note that on Linux the JVM only applies
+     * thread priorities when started with {@code -XX:ThreadPriorityPolicy=1}
+     * and sufficient privileges.
+     *
+     * @param value The thread priority.
+     */
+    public void setCompressionThreadPriority(final int value) {
+        if (value < Thread.MIN_PRIORITY || value > Thread.MAX_PRIORITY) {
+            addError("Compression thread priority must be between 1 and 10; compressionThreadPriority=" + value);
+            return;
+        }
+        _compressionThreadPriority = value;
+    }
+
+    /**
+     * Retrieve the maximum rate at which rolled files are read for
+     * compression, per second.
+     *
+     * @return The maximum rate per second.
+     */
+    public FileSize getMaxCompressionRate() {
+        return _maxCompressionRate;
+    }
+
+    /**
+     * Set the maximum rate at which rolled files are read for compression,
+     * per second. Zero, the default, is unlimited.
+     *
+     * @param value The maximum rate per second.
+     */
+    public void setMaxCompressionRate(final FileSize value) {
+        _maxCompressionRate = value;
+    }
+
+    /**
+     * Retrieve the process CPU load above which compression backs off.
+     *
+     * @return The CPU load.
+     */
+    public double getMaxCpuLoad() {
+        return _maxCpuLoad;
+    }
+
+    /**
+     * Set the process CPU load, between 0 and 1, above which compression
+     * backs off. Zero, the default, disables the back off.
+     *
+     * @param value The CPU load.
+     */
+    public void setMaxCpuLoad(final double value) {
+        if (value < 0 || value >= 1) {
+            addError("Maximum CPU load must be at least 0 and less than 1; maxCpuLoad=" + value);
+            return;
+        }
+        _maxCpuLoad = value;
+    }
+
+    /**
+     * Retrieve the longest compression backs off per block due to CPU load.
+     *
+     * @return The time in milliseconds.
+     */
+    public long getMaxCpuBackoffInMillis() {
+        return _maxCpuBackoffInMillis;
+    }
+
+    /**
+     * Set the longest compression backs off per block due to CPU load; once
+     * exceeded the block is compressed regardless so that archiving always
+     * makes progress. The default is 5 seconds.
+     *
+     * @param value The time in milliseconds.
+     */
+    public void setMaxCpuBackoffInMillis(final long value) {
+        _maxCpuBackoffInMillis = value;
+    }
+
+    /**
+     * Retrieve the number of rolled files waiting for or undergoing
+     * compression.
+     *
+     * @return The number of files.
+     */
+    public int getCompressionPendingFiles() {
+        return _pendingCompressions.get();
+    }
+
+    /**
+     * Retrieve the number of rolled files compressed since the policy
+     * started.
+     *
+     * @return The number of files.
+     */
+    public long getCompressionCompletedFiles() {
+        return _completedCompressions.get();
+    }
+
+    /**
+     * Retrieve the number of uncompressed bytes read for compression since
+     * the policy started.
+     *
+     * @return The number of bytes.
+     */
+    public long getCompressionBytesRead() {
+        final CompressionPacer pacer = _pacer;
+        return pacer == null ? 0 : pacer.getBytes();
+    }
+
+    /**
+     * Retrieve the time compression has waited for the rate limit or backed
+     * off due to CPU load since the policy started.
+     *
+     * @return The time in milliseconds.
+     */
+    public long getCompressionDelayInMillis() {
+        final CompressionPacer pacer = _pacer;
+        return pacer == null ? 0 : TimeUnit.NANOSECONDS.toMillis(pacer.getThrottledNanos() + pacer.getBackoffNanos());
+    }
+
+    /* package private */ void setCpuLoadProvider(final CpuLoadProvider value) {
+        _cpuLoadProvider = value;
+    }
+
+    private void compress(final ParallelGzipCompressor compressor, final Path source) {
+        final Path target = Paths.get(source + GZ_SUFFIX);
+        if (!Files.exists(source)) {
+            addWarn("Rolled file [" + source + "] does not exist; skipping compression");
+            return;
+        }
+        final long startNanos = System.nanoTime();
+        try {
+            if (isCompressed(source)) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+                _completedCompressions.incrementAndGet();
+                addInfo("Rolled file [" + source + "] is already compressed; renamed to [" + target + "]");
+                return;
+            }
+            final long uncompressedSize = Files.size(source);
+            final long compressedSize = compressor.compress(source, target);
+            _completedCompressions.incrementAndGet();
+            addInfo(String.format(
+                    "Compressed [%s] to [%s] (%s to %s) in %d ms",
+                    source,
+                    target,
+                    new FileSize(uncompressedSize),
+                    new FileSize(compressedSize),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+        } catch (final IOException e) {
+            addError("Failed to compress [" + source + "]; the rolled file was left uncompressed", e);
+        }
+    }
+
+    /* package private */ static boolean isCompressed(final Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return inputStream.read() == GZIP_MAGIC_FIRST && inputStream.read() == GZIP_MAGIC_SECOND;
+        }
+    }
+
+    private static ThreadFactory createThreadFactory(final String prefix, final int priority) {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        };
+    }
+
+    private volatile ParallelGzipCompressor _compressor;
+    private volatile CompressionPacer _pacer;
+    private final AtomicInteger _pendingCompressions = new AtomicInteger();
+    private final AtomicLong _completedCompressions = new AtomicLong();
+    private CpuLoadProvider _cpuLoadProvider = CpuLoadProvider.DEFAULT;
+    private ExecutorService _fileExecutor;
+    private ExecutorService _blockExecutor;
+    private int _compressionThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private FileSize _compressionBlockSize = new FileSize(DEFAULT_BLOCK_SIZE);
+    private int _compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private int _compressionThreadPriority = Thread.MIN_PRIORITY;
+    private FileSize _maxCompressionRate = new FileSize(0);
+    private double _maxCpuLoad = 0;
+    private long _maxCpuBackoffInMillis = DEFAULT_MAX_CPU_BACKOFF_IN_MILLIS;
+
+    private static final String GZ_SUFFIX = ".gz";
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+    private static final long DEFAULT_BLOCK_SIZE = FileSize.MB_COEFFICIENT;
+    private static final long MAX_BLOCK_SIZE = 64 * FileSize.MB_COEFFICIENT;
+    private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 30;
+    private static final long DEFAULT_MAX_CPU_BACKOFF_IN_MILLIS = 5000;
+}
@@ -61,6 +61,16 @@ public class RandomizedTimeBasedFNATP<E> extends DefaultTimeBasedFileNamingAndTr
         _randomNumber = random.nextDouble();
     }
 
+    /**
+     * Package private constructor for policies which must share the roll
+     * schedule of another instance (e.g. the shards of one appender).
+     *
+     * @param randomNumber The random number in [0, 1) used to derive the offset.
+     */
+    /* package private */ RandomizedTimeBasedFNATP(final double randomNumber) {
+        _randomNumber = randomNumber;
+    }
+
     @Override
     public void start() {
         super.start();
@@ -90,6 +100,10 @@ public class RandomizedTimeBasedFNATP<E> extends DefaultTimeBasedFileNamingAndTr
         return rc.getNextTriggeringDate(Instant.ofEpochMilli(timestamp)).toEpochMilli() + _randomOffsetInMillis;
     }
 
+    /* package private */ double getRandomNumber() {
+        return _randomNumber;
+    }
+
     /* package private */ long getNextCheck() {
         return atomicNextCheck.get();
     }
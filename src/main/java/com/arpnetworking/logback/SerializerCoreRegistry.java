@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import com.arpnetworking.logback.jackson.LogValueCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of the serializer cores shared by started {@link StenoEncoder}
+ * instances with the same serialization settings. A core is the object
+ * mapper, with its cache of serializers, and the cache of encoded
+ * representations of a prototype encoder which holds a copy of those
+ * settings and is never reconfigured. Cores are keyed by the
+ * {@link StenoEncoder#getSerializerFingerprint()} of the encoders, created
+ * when first acquired and discarded when the last encoder releases them.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class SerializerCoreRegistry {
+
+    /**
+     * Acquire the core for the serialization settings of an encoder.
+     *
+     * @param encoder The encoder.
+     * @return The core.
+     */
+    /* package private */ static synchronized Core acquire(final StenoEncoder encoder) {
+        final List<Object> fingerprint = encoder.getSerializerFingerprint();
+        Core core = CORES.get(fingerprint);
+        if (core == null) {
+            core = new Core(fingerprint, encoder.createSerializerPrototype());
+            CORES.put(fingerprint, core);
+        }
+        ++core._references;
+        return core;
+    }
+
+    /**
+     * Release a core acquired with {@link #acquire(StenoEncoder)}.
+     *
+     * @param core The core.
+     */
+    /* package private */ static synchronized void release(final Core core) {
+        if (--core._references == 0) {
+            CORES.remove(core._fingerprint);
+        }
+    }
+
+    /* package private */ static synchronized int size() {
+        return CORES.size();
+    }
+
+    private SerializerCoreRegistry() {}
+
+    private static final Map<List<Object>, Core> CORES = new HashMap<>();
+
+    /**
+     * Serializers shared by the encoders with one fingerprint.
+     */
+    /* package private */ static final class Core {
+
+        private Core(final List<Object> fingerprint, final StenoEncoder prototype) {
+            _fingerprint = fingerprint;
+            _prototype = prototype;
+        }
+
+        /* package private */ ObjectMapper getObjectMapper() {
+            return _prototype.getObjectMapper();
+        }
+
+        /* package private */ LogValueCache getLogValueCache() {
+            return _prototype.getLogValueCache();
+        }
+
+        /* package private */ int getReferences() {
+            synchronized (SerializerCoreRegistry.class) {
+                return _references;
+            }
+        }
+
+        private final List<Object> _fingerprint;
+        private final StenoEncoder _prototype;
+        private int _references;
+    }
+}
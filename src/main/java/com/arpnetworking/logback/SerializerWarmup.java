@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.slf4j.Marker;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import javax.annotation.Nullable;
+
+/**
+ * Builds the serializers of the warm-up classes and packages of a
+ * {@link StenoEncoder} and encodes a synthetic event of each kind, so that
+ * Jackson's serializer cache, the {@code @Loggable} introspection and the
+ * serialization strategies are ready before the first events are logged.
+ * The serializers are cached by the object mapper and reused for instances
+ * of the same classes; the synthetic events are discarded and are not
+ * recorded in the startup latency of the encoder. Classes and packages which
+ * cannot be loaded are reported as warnings and skipped.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class SerializerWarmup implements Runnable {
+
+    /**
+     * Package private constructor.
+     *
+     * @param encoder The encoder.
+     * @param objectMapper The object mapper used by the encoder.
+     * @param classLoader The class loader of the warm-up classes.
+     * @param classNames The fully qualified names of the warm-up classes.
+     * @param packageNames The names of the warm-up packages.
+     */
+    /* package private */ SerializerWarmup(
+            final StenoEncoder encoder,
+            final ObjectMapper objectMapper,
+            final ClassLoader classLoader,
+            final List<String> classNames,
+            final List<String> packageNames) {
+        _encoder = encoder;
+        _objectMapper = objectMapper;
+        _classLoader = classLoader;
+        _classNames = classNames;
+        _packageNames = packageNames;
+    }
+
+    @Override
+    public void run() {
+        final long startNanos = System.nanoTime();
+        final Set<String> classNames = new LinkedHashSet<>(_classNames);
+        for (final String packageName : _packageNames) {
+            classNames.addAll(findClassNames(packageName));
+        }
+
+        final SerializerProvider serializerProvider = _objectMapper.getSerializerProviderInstance();
+        int classes = 0;
+        for (final String className : classNames) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            if (warmup(serializerProvider, className)) {
+                ++classes;
+            }
+        }
+
+        for (final ILoggingEvent event : createEvents()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            _encoder.encodeEvent(event);
+        }
+
+        _encoder.addInfo(String.format(
+                "Warmed up serializers; classes=%d, elapsedInMillis=%d",
+                classes,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+    }
+
+    /**
+     * Find the names of the classes directly in a package, in directories
+     * and jar files of the class loader.
+     *
+     * @param packageName The package name.
+     * @return The fully qualified class names.
+     */
+    /* package private */ List<String> findClassNames(final String packageName) {
+        final String path = packageName.replace('.', '/');
+        final List<String> classNames = new ArrayList<>();
+        try {
+            final Enumeration<URL> resources = _classLoader.getResources(path);
+            while (resources.hasMoreElements()) {
+                final URL url = resources.nextElement();
+                final URLConnection connection = url.openConnection();
+                if (connection instanceof JarURLConnection) {
+                    // Open a jar file of our own, since the cached one is shared with the class loader
+                    connection.setUseCaches(false);
+                    try (JarFile jarFile = ((JarURLConnection) connection).getJarFile()) {
+                        final Enumeration<JarEntry> entries = jarFile.entries();
+                        while (entries.hasMoreElements()) {
+                            final String name = entries.nextElement().getName();
+                            if (name.startsWith(path + "/") && name.indexOf('/', path.length() + 1) < 0) {
+                                addClassName(classNames, packageName, name.substring(path.length() + 1));
+                            }
+                        }
+                    }
+                } else if ("file".equals(url.getProtocol())) {
+                    try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(url.toURI()), "*.class")) {
+                        for (final Path file : files) {
+                            addClassName(classNames, packageName, file.getFileName().toString());
+                        }
+                    }
+                } else {
+                    _encoder.addWarn("Unsupported location for warm-up package [" + packageName + "]; url=" + url);
+                }
+            }
+        } catch (final IOException | URISyntaxException e) {
+            _encoder.addWarn("Failed to find classes of warm-up package [" + packageName + "]", e);
+        }
+        if (classNames.isEmpty()) {
+            _encoder.addWarn("No classes found in warm-up package [" + packageName + "]");
+        }
+        return classNames;
+    }
+
+    private boolean warmup(final SerializerProvider serializerProvider, final String className) {
+        final Class<?> clazz;
+        try {
+            clazz = Class.forName(className, false, _classLoader);
+        } catch (final ClassNotFoundException | LinkageError e) {
+            _encoder.addWarn("Failed to load warm-up class [" + className + "]", e);
+            return false;
+        }
+        // Serializers are looked up by the runtime class of a value, which is never abstract
+        if (Modifier.isAbstract(clazz.getModifiers())) {
+            return false;
+        }
+        try {
+            serializerProvider.findValueSerializer(clazz);
+            return true;
+            // CHECKSTYLE.OFF: IllegalCatch - A class which cannot be serialized must not end the warm-up.
+        } catch (final Throwable t) {
+            // CHECKSTYLE.ON: IllegalCatch
+            _encoder.addWarn("Failed to build serializer of warm-up class [" + className + "]", t);
+            return false;
+        }
+    }
+
+    private static void addClassName(final List<String> classNames, final String packageName, final String fileName) {
+        // Skip package-info, module-info and other files which are not classes
+        if (fileName.endsWith(".class") && fileName.indexOf('-') < 0) {
+            classNames.add(packageName + "." + fileName.substring(0, fileName.length() - ".class".length()));
+        }
+    }
+
+    private static List<ILoggingEvent> createEvents() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("string", "value");
+        map.put("number", 1);
+        map.put("boolean", true);
+        map.put("list", Arrays.asList("a", "b"));
+        final Map<String, String> jsonMap = Collections.singletonMap("json", "{\"number\":1}");
+        final String[] keys = {"string", "number"};
+
+        final LoggingEvent standardEvent = createEvent(null, "warmup {}", new Object[]{"value"});
+        standardEvent.setThrowableProxy(new ThrowableProxy(new IllegalStateException("warmup")));
+        return Arrays.asList(
+                standardEvent,
+                createEvent(StenoMarker.ARRAY_MARKER, "warmup", new Object[]{keys, new Object[]{"value", 1}}),
+                createEvent(StenoMarker.ARRAY_JSON_MARKER, "warmup", new Object[]{keys, new String[]{"\"value\"", "1"}}),
+                createEvent(StenoMarker.MAP_MARKER, "warmup", new Object[]{map}),
+                createEvent(StenoMarker.MAP_JSON_MARKER, "warmup", new Object[]{jsonMap}),
+                createEvent(StenoMarker.OBJECT_MARKER, "warmup", new Object[]{map}),
+                createEvent(StenoMarker.OBJECT_JSON_MARKER, "warmup", new Object[]{"{\"number\":1}"}),
+                createEvent(
+                        StenoMarker.LISTS_MARKER,
+                        "warmup",
+                        new Object[]{
+                                Arrays.asList(keys),
+                                Arrays.<Object>asList("value", map),
+                                Collections.singletonList("context"),
+                                Collections.<Object>singletonList("value")}));
+    }
+
+    private static LoggingEvent createEvent(@Nullable final Marker marker, final String message, final Object[] arguments) {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.setLoggerName(SerializerWarmup.class.getName());
+        event.setThreadName(Thread.currentThread().getName());
+        event.setTimeStamp(System.currentTimeMillis());
+        event.setMessage(message);
+        event.setArgumentArray(arguments);
+        event.setMDCPropertyMap(Collections.emptyMap());
+        event.setCallerData(new StackTraceElement[0]);
+        if (marker != null) {
+            event.addMarker(marker);
+        }
+        return event;
+    }
+
+    private final StenoEncoder _encoder;
+    private final ObjectMapper _objectMapper;
+    private final ClassLoader _classLoader;
+    private final List<String> _classNames;
+    private final List<String> _packageNames;
+}
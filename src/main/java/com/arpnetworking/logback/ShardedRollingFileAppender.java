@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Appender which spreads events across a fixed number of rolling files
+ * (shards) selected by the logging thread. Each shard is an independent
+ * {@link RollingFileAppender} with its own lock, so threads logging to
+ * different shards never contend with each other. Within a shard events are
+ * written in the order they are appended.
+ *
+ * Every shard uses a {@link TimeBasedRollingPolicy} with a
+ * {@link RandomizedTimeBasedFNATP} and all shards share the same random
+ * offset, so the shards of one appender roll on the same schedule. The
+ * {@code file} and {@code fileNamePattern} must contain the token
+ * {@value #SHARD_TOKEN} which is replaced by the shard index. Use
+ * {@link StenoShardMerger} to reconstruct a single ordered stream from the
+ * shards.
+ *
+ * The encoder is shared by all shards and must therefore be safe for
+ * concurrent use; the {@link StenoEncoder} and {@link KeyValueEncoder} are.
+ * Do not wrap this appender in an asynchronous appender since all events
+ * would then be appended by a single thread and land in a single shard.
+ *
+ * @param <E> The event type.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public class ShardedRollingFileAppender<E> extends UnsynchronizedAppenderBase<E> {
+
+    @Override
+    public void start() {
+        if (_encoder == null) {
+            addError("No encoder set for the appender named [" + name + "]");
+            return;
+        }
+        if (_fileNamePattern == null || !_fileNamePattern.contains(SHARD_TOKEN)) {
+            addError("The fileNamePattern must contain " + SHARD_TOKEN + "; fileNamePattern=" + _fileNamePattern);
+            return;
+        }
+        if (_file != null && !_file.contains(SHARD_TOKEN)) {
+            addError("The file must contain " + SHARD_TOKEN + "; file=" + _file);
+            return;
+        }
+
+        // All shards share the random number so that they roll together
+        final double randomNumber = new RandomizedTimeBasedFNATP<E>().getRandomNumber();
+        final List<RollingFileAppender<E>> shards = new ArrayList<>(_shardCount);
+        for (int i = 0; i < _shardCount; ++i) {
+            final RollingFileAppender<E> shard = createShard(i, randomNumber);
+            if (!shard.isStarted()) {
+                addError("Failed to start shard " + i + " of appender named [" + name + "]");
+                shards.forEach(RollingFileAppender::stop);
+                return;
+            }
+            shards.add(shard);
+        }
+        _shards = Collections.unmodifiableList(shards);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        _shards.forEach(RollingFileAppender::stop);
+    }
+
+    @Override
+    protected void append(final E event) {
+        final List<RollingFileAppender<E>> shards = _shards;
+        shards.get(shardIndex(Thread.currentThread().getId(), shards.size())).doAppend(event);
+    }
+
+    /**
+     * Retrieve the number of shards.
+     *
+     * @return The number of shards.
+     */
+    public int getShards() {
+        return _shardCount;
+    }
+
+    /**
+     * Set the number of shards. The default is the number of available
+     * processors.
+     *
+     * @param value The number of shards.
+     */
+    public void setShards(final int value) {
+        if (value < 1) {
+            addError("The number of shards must be positive; shards=" + value);
+            return;
+        }
+        _shardCount = value;
+    }
+
+    /**
+     * Retrieve the active file name template.
+     *
+     * @return The active file name template.
+     */
+    @Nullable
+    public String getFile() {
+        return _file;
+    }
+
+    /**
+     * Set the active file name template. The name must contain
+     * {@value #SHARD_TOKEN}. Optional; if not set each shard writes directly
+     * to the file named by the file name pattern.
+     *
+     * @param value The active file name template.
+     */
+    public void setFile(@Nullable final String value) {
+        _file = value;
+    }
+
+    /**
+     * Retrieve the rolled file name pattern template.
+     *
+     * @return The rolled file name pattern template.
+     */
+    @Nullable
+    public String getFileNamePattern() {
+        return _fileNamePattern;
+    }
+
+    /**
+     * Set the rolled file name pattern template. The pattern must contain
+     * {@value #SHARD_TOKEN} and otherwise follows the conventions of
+     * {@link TimeBasedRollingPolicy}.
+     *
+     * @param value The rolled file name pattern template.
+     */
+    public void setFileNamePattern(@Nullable final String value) {
+        _fileNamePattern = value;
+    }
+
+    /**
+     * Retrieve the maximum number of rolled periods to keep per shard.
+     *
+     * @return The maximum number of rolled periods to keep.
+     */
+    public int getMaxHistory() {
+        return _maxHistory;
+    }
+
+    /**
+     * Set the maximum number of rolled periods to keep per shard. The
+     * default is zero which keeps all rolled files.
+     *
+     * @param value The maximum number of rolled periods to keep.
+     */
+    public void setMaxHistory(final int value) {
+        _maxHistory = value;
+    }
+
+    /**
+     * Retrieve the maximum random offset in milliseconds applied to the roll
+     * schedule.
+     *
+     * @return The maximum offset in milliseconds.
+     */
+    public int getMaxOffsetInMillis() {
+        return _maxOffsetInMillis;
+    }
+
+    /**
+     * Set the maximum random offset in milliseconds applied to the roll
+     * schedule; see {@link RandomizedTimeBasedFNATP#setMaxOffsetInMillis(int)}.
+     *
+     * @param value The maximum offset in milliseconds.
+     */
+    public void setMaxOffsetInMillis(final int value) {
+        _maxOffsetInMillis = value;
+    }
+
+    /**
+     * Retrieve the encoder shared by all shards.
+     *
+     * @return The encoder.
+     */
+    @Nullable
+    public Encoder<E> getEncoder() {
+        return _encoder;
+    }
+
+    /**
+     * Set the encoder shared by all shards.
+     *
+     * @param value The encoder.
+     */
+    public void setEncoder(final Encoder<E> value) {
+        _encoder = value;
+    }
+
+    /* package private */ List<RollingFileAppender<E>> getShardAppenders() {
+        return _shards;
+    }
+
+    /* package private */ static int shardIndex(final long threadId, final int shardCount) {
+        // Thread identifiers are sequential; mix the bits so that threads
+        // created together do not favor a subset of the shards.
+        long hash = threadId * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) Math.floorMod(hash, (long) shardCount);
+    }
+
+    private RollingFileAppender<E> createShard(final int index, final double randomNumber) {
+        final RollingFileAppender<E> shard = new RollingFileAppender<>();
+        shard.setContext(getContext());
+        shard.setName(name + "-shard-" + index);
+        shard.setEncoder(_encoder);
+        if (_file != null) {
+            shard.setFile(_file.replace(SHARD_TOKEN, String.valueOf(index)));
+        }
+
+        final RandomizedTimeBasedFNATP<E> triggeringPolicy = new RandomizedTimeBasedFNATP<>(randomNumber);
+        triggeringPolicy.setContext(getContext());
+        triggeringPolicy.setMaxOffsetInMillis(_maxOffsetInMillis);
+
+        final TimeBasedRollingPolicy<E> rollingPolicy = new TimeBasedRollingPolicy<>();
+        rollingPolicy.setContext(getContext());
+        rollingPolicy.setFileNamePattern(_fileNamePattern.replace(SHARD_TOKEN, String.valueOf(index)));
+        rollingPolicy.setMaxHistory(_maxHistory);
+        rollingPolicy.setTimeBasedFileNamingAndTriggeringPolicy(triggeringPolicy);
+        rollingPolicy.setParent(shard);
+        rollingPolicy.start();
+
+        shard.setRollingPolicy(rollingPolicy);
+        shard.start();
+        return shard;
+    }
+
+    private volatile List<RollingFileAppender<E>> _shards = Collections.emptyList();
+    private Encoder<E> _encoder;
+    private String _file;
+    private String _fileNamePattern;
+    private int _shardCount = Runtime.getRuntime().availableProcessors();
+    private int _maxHistory = 0;
+    private int _maxOffsetInMillis = DEFAULT_MAX_OFFSET;
+
+    /**
+     * The token in the file name and file name pattern which is replaced by
+     * the shard index.
+     */
+    public static final String SHARD_TOKEN = "{shard}";
+
+    private static final int DEFAULT_MAX_OFFSET = 3600000; // 1 hour
+}
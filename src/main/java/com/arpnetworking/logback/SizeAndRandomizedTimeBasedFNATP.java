@@ -23,7 +23,10 @@ import ch.qos.logback.core.rolling.helper.ArchiveRemover;
 import ch.qos.logback.core.rolling.helper.CustomSizeAndTimeBasedArchiveRemover;
 import ch.qos.logback.core.rolling.helper.FileNamePattern;
 
+import java.io.File;
 import java.time.Instant;
+import java.util.function.BooleanSupplier;
+import javax.annotation.Nullable;
 
 /**
  * Extends {@link RandomizedTimeBasedFNATP} to also support file rolling
@@ -118,6 +121,30 @@ public class SizeAndRandomizedTimeBasedFNATP<E> extends SizeAndTimeBasedFNATP<E>
         super.setTimeBasedRollingPolicy(tbrp);
     }
 
+    @Override
+    public boolean isTriggeringEvent(final File activeFile, final E event) {
+        final BooleanSupplier sizeTriggerSuppressed = _sizeTriggerSuppressed;
+        if (sizeTriggerSuppressed != null
+                && sizeTriggerSuppressed.getAsBoolean()
+                && getCurrentTime() < atomicNextCheck.get()) {
+            return false;
+        }
+        return super.isTriggeringEvent(activeFile, event);
+    }
+
+    /**
+     * Set a condition under which no size triggered roll over is made (e.g.
+     * while an appender is still completing the previous roll over in the
+     * background). The time based roll over is unaffected. The size itself is
+     * the number of bytes counted by {@link SizeAndTimeBasedFNATP} as they are
+     * written by the appender, not the length of the file on disk.
+     *
+     * @param sizeTriggerSuppressed Returns {@code true} while size triggered roll overs are suppressed or {@code null} for none.
+     */
+    /* package private */ void setSizeTriggerSuppressed(@Nullable final BooleanSupplier sizeTriggerSuppressed) {
+        _sizeTriggerSuppressed = sizeTriggerSuppressed;
+    }
+
     @Override
     protected long computeNextCheck(final long timestamp) {
         // This is the important override. It is invoked by isTriggerEvent from SizeAndTimeBasedFNATP
@@ -134,4 +161,5 @@ public class SizeAndRandomizedTimeBasedFNATP<E> extends SizeAndTimeBasedFNATP<E>
     }
 
     private final RandomizedTimeBasedFNATP<E> _randomizedTimeBasedFNATP;
+    private volatile BooleanSupplier _sizeTriggerSuppressed;
 }
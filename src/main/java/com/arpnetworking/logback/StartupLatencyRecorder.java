@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records how long encoding takes for the events encoded shortly after an
+ * encoder is started, when serializers and other lazily created state are
+ * still being built, and how long after the start the first event was
+ * encoded. Recording ends when the window elapses or the sample capacity is
+ * reached, after which recording an event costs a volatile read. Recording
+ * does not lock; each event claims its own slot with an atomic increment.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class StartupLatencyRecorder {
+
+    /**
+     * Package private constructor.
+     *
+     * @param startNanos The start of the window, from {@link System#nanoTime()}.
+     * @param windowNanos The length of the window in nanoseconds.
+     * @param capacity The maximum number of latencies recorded.
+     */
+    /* package private */ StartupLatencyRecorder(final long startNanos, final long windowNanos, final int capacity) {
+        _startNanos = startNanos;
+        _windowNanos = windowNanos;
+        final long[] latencies = new long[capacity];
+        Arrays.fill(latencies, UNRECORDED);
+        _latencies = new AtomicLongArray(latencies);
+    }
+
+    /**
+     * Determine whether latencies are still being recorded.
+     *
+     * @return True if and only if latencies are still being recorded.
+     */
+    /* package private */ boolean isRecording() {
+        return _index.get() < _latencies.length();
+    }
+
+    /**
+     * Record the latency of encoding one event. Exactly one call returns
+     * true, the one which ended the recording.
+     *
+     * @param startNanos When encoding started, from {@link System#nanoTime()}.
+     * @param endNanos When encoding ended, from {@link System#nanoTime()}.
+     * @return True if and only if this ended the recording.
+     */
+    /* package private */ boolean record(final long startNanos, final long endNanos) {
+        final long sinceStartNanos = endNanos - _startNanos;
+        _firstLatency.compareAndSet(UNRECORDED, sinceStartNanos);
+        if (sinceStartNanos >= _windowNanos) {
+            // Claim the remaining slots; this ends the recording unless the last slot was already claimed
+            return _index.getAndSet(_latencies.length()) < _latencies.length();
+        }
+        final int index = claim();
+        if (index < _latencies.length()) {
+            _latencies.set(index, endNanos - startNanos);
+        }
+        return index == _latencies.length() - 1;
+    }
+
+    /**
+     * Claim the next slot for a latency. The slot is skipped by readers
+     * until its latency is written.
+     *
+     * @return The index of the slot; at least the capacity if the recording ended.
+     */
+    /* package private */ int claim() {
+        return _index.getAndIncrement();
+    }
+
+    /**
+     * Retrieve the number of latencies recorded.
+     *
+     * @return The number of latencies.
+     */
+    /* package private */ int getCount() {
+        return getLatencies().length;
+    }
+
+    /**
+     * Retrieve how long after the start of the window the first event was
+     * encoded.
+     *
+     * @return The latency in nanoseconds, or -1 if no event was recorded.
+     */
+    /* package private */ long getFirstLatency() {
+        return _firstLatency.get();
+    }
+
+    /**
+     * Retrieve a percentile of the recorded latencies, using the nearest
+     * rank.
+     *
+     * @param percentile The percentile between 0 (exclusive) and 100.
+     * @return The latency in nanoseconds, or -1 if no event was recorded.
+     */
+    /* package private */ long getPercentile(final double percentile) {
+        final long[] sorted = getLatencies();
+        if (sorted.length == 0) {
+            return -1;
+        }
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private long[] getLatencies() {
+        // Slots which are claimed but not yet written are skipped
+        final int claimed = Math.min(_index.get(), _latencies.length());
+        final long[] latencies = new long[claimed];
+        int size = 0;
+        for (int i = 0; i < claimed; ++i) {
+            final long latency = _latencies.get(i);
+            if (latency != UNRECORDED) {
+                latencies[size++] = latency;
+            }
+        }
+        return Arrays.copyOf(latencies, size);
+    }
+
+    private final long _startNanos;
+    private final long _windowNanos;
+    private final AtomicLongArray _latencies;
+    private final AtomicInteger _index = new AtomicInteger();
+    private final AtomicLong _firstLatency = new AtomicLong(UNRECORDED);
+
+    private static final long UNRECORDED = -1;
+}
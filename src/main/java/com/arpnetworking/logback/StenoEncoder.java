@@ -16,9 +16,15 @@
 package com.arpnetworking.logback;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.util.FileSize;
+import com.arpnetworking.logback.jackson.KeyRedactionFilter;
+import com.arpnetworking.logback.jackson.LogValueCache;
+import com.arpnetworking.logback.jackson.PayloadLimitSerializerModifier;
+import com.arpnetworking.logback.jackson.RawJsonSerializer;
 import com.arpnetworking.logback.jackson.RedactionFilter;
 import com.arpnetworking.logback.jackson.StenoAnnotationIntrospector;
 import com.arpnetworking.logback.jackson.StenoBeanSerializerModifier;
+import com.arpnetworking.logback.jackson.StenoSerializerFactory;
 import com.arpnetworking.logback.jackson.ThrowableMixIn;
 import com.arpnetworking.logback.serialization.steno.ArrayOfJsonSerialziationStrategy;
 import com.arpnetworking.logback.serialization.steno.ArraySerialziationStrategy;
@@ -30,12 +36,12 @@ import com.arpnetworking.logback.serialization.steno.ObjectSerialziationStrategy
 import com.arpnetworking.logback.serialization.steno.SafeSerializationHelper;
 import com.arpnetworking.logback.serialization.steno.StandardSerializationStrategy;
 import com.arpnetworking.logback.serialization.steno.StenoSerializationHelper;
+import com.arpnetworking.steno.RawJson;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
@@ -45,12 +51,15 @@ import java.io.Serializable;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 
 /**
@@ -144,9 +153,8 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
      * Public constructor.
      */
     public StenoEncoder() {
-        // Each instance of StenoEncoder requires its own ObjectMapper instance
-        // in order to apply the correct filtering settings to support redaction.
-        this(new ObjectMapper());
+        // The object mapper is created when first used; encoders sharing serializers
+        // use the object mapper of the shared core and never create their own.
     }
 
     /* package private */ StenoEncoder(final ObjectMapper objectMapper) {
@@ -157,48 +165,63 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
 
     @SuppressWarnings("this-escape")
     /* package private */ StenoEncoder(final JsonFactory jsonFactory, final ObjectMapper objectMapper) {
-
-        // Initialize object mapper;
+        configureObjectMapper(objectMapper);
+        _jsonFactory = jsonFactory;
         _objectMapper = objectMapper;
-        _objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(_objectMapper));
-        final SimpleFilterProvider simpleFilterProvider = new SimpleFilterProvider();
-        simpleFilterProvider.addFilter(RedactionFilter.REDACTION_FILTER_ID, new RedactionFilter(!DEFAULT_REDACT_NULL));
-        // Initialize this here based on the above code, if it was initialized at the declaration site then things
-        // could get out of sync
-        _redactEnabled = true;
-        _objectMapper.setFilterProvider(simpleFilterProvider);
-
-        // Setup writing of Date/DateTime values
-        _objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        _objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
-        _objectMapper.setDateFormat(new StdDateFormat());
-
-        // Simple module with customizations
-        final SimpleModule module = new SimpleModule();
-        module.setSerializerModifier(new StenoBeanSerializerModifier(this));
-        _objectMapper.registerModule(module);
-
-        // Throwable mix-in
-        _objectMapper.setMixIns(Collections.singletonMap(Throwable.class, ThrowableMixIn.class));
+    }
 
-        // After burner to improve data-bind performance
-        _objectMapper.registerModule(new AfterburnerModule());
+    @Override
+    public void start() {
+        // Serialize with the object mapper shared by encoders with the same serialization settings;
+        // otherwise add configured Jackson modules to the object mapper of this encoder
+        if (_sharedSerializers) {
+            final SerializerCoreRegistry.Core serializerCore = SerializerCoreRegistry.acquire(this);
+            _serializerCore = serializerCore;
+            final ObjectMapper objectMapper = serializerCore.getObjectMapper();
+            _strategies = new SerializationStrategies(this, objectMapper.getFactory(), objectMapper);
+        } else {
+            getObjectMapper().registerModules(_jacksonModules);
+        }
 
-        // Serialization strategies
-        _listsSerialziationStrategy = new ListsSerialziationStrategy(this, jsonFactory, _objectMapper);
-        _objectAsJsonSerialziationStrategy = new ObjectAsJsonSerialziationStrategy(this, jsonFactory, _objectMapper);
-        _objectSerialziationStrategy = new ObjectSerialziationStrategy(this, jsonFactory, _objectMapper);
-        _mapOfJsonSerialziationStrategy = new MapOfJsonSerialziationStrategy(this, jsonFactory, _objectMapper);
-        _mapSerialziationStrategy = new MapSerialziationStrategy(this, jsonFactory, _objectMapper);
-        _arrayOfJsonSerialziationStrategy = new ArrayOfJsonSerialziationStrategy(this, jsonFactory, _objectMapper);
-        _arraySerialziationStrategy = new ArraySerialziationStrategy(this, jsonFactory, _objectMapper);
-        _standardSerializationStrategy = new StandardSerializationStrategy(this, jsonFactory, _objectMapper);
+        // Record the latency of the first events if requested
+        _startupLatencyRecorder = _recordStartupLatency
+                ? new StartupLatencyRecorder(System.nanoTime(), STARTUP_WINDOW_IN_NANOS, STARTUP_LATENCY_CAPACITY)
+                : null;
+
+        // Build the serializers of the configured classes and exercise the strategies in the background
+        if (!_warmupClasses.isEmpty() || !_warmupPackages.isEmpty()) {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                classLoader = StenoEncoder.class.getClassLoader();
+            }
+            final Thread thread = new Thread(
+                    new SerializerWarmup(
+                            this,
+                            getStrategies().getObjectMapper(),
+                            classLoader,
+                            new ArrayList<>(_warmupClasses),
+                            new ArrayList<>(_warmupPackages)),
+                    "steno-warmup");
+            thread.setDaemon(true);
+            thread.start();
+            _warmupThread = thread;
+        }
     }
 
     @Override
-    public void start() {
-        // Add configured Jackson modules
-        _objectMapper.registerModules(_jacksonModules);
+    public void stop() {
+        final Thread warmupThread = _warmupThread;
+        if (warmupThread != null) {
+            _warmupThread = null;
+            warmupThread.interrupt();
+        }
+        final SerializerCoreRegistry.Core serializerCore = _serializerCore;
+        if (serializerCore != null) {
+            _serializerCore = null;
+            SerializerCoreRegistry.release(serializerCore);
+            _strategies = null;
+        }
+        super.stop();
     }
 
     /**
@@ -210,15 +233,8 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
      * @since 1.1.0
      */
     public void setRedactEnabled(final boolean redactEnabled) {
-        final SimpleFilterProvider simpleFilterProvider = new SimpleFilterProvider();
-        if (redactEnabled) {
-            simpleFilterProvider.addFilter(RedactionFilter.REDACTION_FILTER_ID, new RedactionFilter(!_redactNull));
-        } else {
-            simpleFilterProvider.addFilter(RedactionFilter.REDACTION_FILTER_ID,
-                    SimpleBeanPropertyFilter.serializeAllExcept(Collections.<String>emptySet()));
-        }
-        _objectMapper.setFilterProvider(simpleFilterProvider);
         _redactEnabled = redactEnabled;
+        _logValueCache.clear();
     }
 
     /**
@@ -243,12 +259,8 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
      * @since 1.1.0
      */
     public void setRedactNull(final boolean redactNull) {
-        if (_redactEnabled) {
-            final SimpleFilterProvider simpleFilterProvider = new SimpleFilterProvider();
-            simpleFilterProvider.addFilter(RedactionFilter.REDACTION_FILTER_ID, new RedactionFilter(!redactNull));
-            _objectMapper.setFilterProvider(simpleFilterProvider);
-        }
         _redactNull = redactNull;
+        _logValueCache.clear();
     }
 
     /**
@@ -264,6 +276,70 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
         return _redactNull;
     }
 
+    /**
+     * Add a pattern for data and context keys, including the keys of maps
+     * nested in values, whose values are redacted. In a pattern {@code *}
+     * matches any sequence of characters, {@code ?} matches any one
+     * character and {@code \} escapes the following character; matching
+     * ignores case. For example, {@code password}, {@code auth*} and
+     * {@code *_token}. The keys are only redacted if 'redactEnabled' is true
+     * and null values are only redacted if 'redactNull' is true. Patterns
+     * should be added before the encoder is started; maps nested in values
+     * are only filtered by key if a pattern existed when their serializer
+     * was created.
+     *
+     * @param pattern The key pattern.
+     *
+     * @since 2.2.1
+     */
+    public void addRedactKey(final String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            addError("Redact key must not be empty; redactKey=" + pattern);
+            return;
+        }
+        final Set<String> redactKeys = new LinkedHashSet<>(_redactKeys);
+        redactKeys.add(pattern);
+        try {
+            _keyMatcher = KeyMatcher.compile(redactKeys);
+        } catch (final IllegalArgumentException e) {
+            addError("Redact keys are too complex; redactKey=" + pattern, e);
+            return;
+        }
+        _redactKeys = redactKeys;
+        _logValueCache.clear();
+    }
+
+    /**
+     * Which key patterns are redacted.
+     *
+     * @return The iterator over the key patterns.
+     *
+     * @since 2.2.1
+     */
+    public Iterator<String> iteratorForRedactKey() {
+        return _redactKeys.iterator();
+    }
+
+    /**
+     * Determine whether the value of a key is redacted; that is, redaction
+     * is enabled, the key matches a redacted key pattern and the value is
+     * not null or null values are redacted.
+     *
+     * @param key The data, context or map key.
+     * @param value The value.
+     * @return True if and only if the value is redacted.
+     *
+     * @since 2.2.1
+     */
+    public boolean isRedactedKey(@Nullable final String key, @Nullable final Object value) {
+        final KeyMatcher keyMatcher = _keyMatcher;
+        return keyMatcher != null
+                && _redactEnabled
+                && key != null
+                && (value != null || _redactNull)
+                && keyMatcher.matches(key);
+    }
+
     /**
      * Sets the log event name. This is used in place of the default log event name for logging events which do not
      * specify a {@link com.arpnetworking.logback.StenoMarker} Marker.
@@ -635,17 +711,497 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
         return _injectBeanIdentifier;
     }
 
+    /**
+     * Write events directly without Jackson when the event has no exception
+     * and every data and context value is {@code null} or a {@link String},
+     * {@link Boolean}, {@link Integer}, {@link Long}, {@link Short},
+     * {@link Byte}, {@link Double}, {@link Float},
+     * {@link java.math.BigInteger}, {@link java.math.BigDecimal} or
+     * {@link java.util.UUID}. The output is identical to that of Jackson with
+     * its default serializers for these types; disable this if a registered
+     * Jackson module replaces any of them. Applies to standard, array and
+     * lists events. By default this is true.
+     *
+     * @since 2.2.1
+     *
+     * @param value Whether to write simple events directly.
+     */
+    public void setDirectWriter(final boolean value) {
+        _directWriter = value;
+    }
+
+    /**
+     * Whether simple events are written directly without Jackson. By default
+     * this is true.
+     *
+     * @since 2.2.1
+     *
+     * @return True if and only if simple events are written directly.
+     */
+    public boolean isDirectWriter() {
+        return _directWriter;
+    }
+
+    /**
+     * Read the properties of beans annotated with
+     * {@link com.arpnetworking.logback.annotations.Loggable} through
+     * accessors generated at runtime when their serializer is first built
+     * instead of through reflection. Properties whose getter cannot be
+     * accessed this way, fields and properties already optimized by another
+     * module are read as before. Must be set before the first event is
+     * encoded. By default this is true.
+     *
+     * @since 2.2.1
+     *
+     * @param value Whether to generate accessors for loggable beans.
+     */
+    public void setAcceleratedAccessors(final boolean value) {
+        _acceleratedAccessors = value;
+    }
+
+    /**
+     * Whether accessors are generated for loggable beans. By default this is
+     * true.
+     *
+     * @since 2.2.1
+     *
+     * @return True if and only if accessors are generated for loggable beans.
+     */
+    public boolean isAcceleratedAccessors() {
+        return _acceleratedAccessors;
+    }
+
+    /**
+     * Set the maximum length in characters of {@link RawJson} values which
+     * are validated before being written as-is. A value which is not exactly
+     * one valid JSON value is written as a string instead. Longer values are
+     * written as-is without validation. Set to zero to disable validation.
+     * By default this is zero; validation parses the value and costs about
+     * as much as serializing it.
+     *
+     * @since 2.2.1
+     *
+     * @param value The maximum length in characters to validate.
+     */
+    public void setRawJsonValidationLimit(final int value) {
+        _rawJsonValidationLimit = value;
+    }
+
+    /**
+     * The maximum length in characters of {@link RawJson} values which are
+     * validated. By default this is zero; validation is disabled.
+     *
+     * @since 2.2.1
+     *
+     * @return The maximum length in characters to validate.
+     */
+    public int getRawJsonValidationLimit() {
+        return _rawJsonValidationLimit;
+    }
+
+    /**
+     * Set the maximum length in characters of string values in the data and
+     * context. A longer value is written as an object with
+     * {@code "_truncated":true}, its original length as {@code _size} and its
+     * prefix as {@code _value}. Set to zero for no limit. By default there is
+     * no limit.
+     *
+     * The payload limits determine which serializers Jackson creates and
+     * must be set before the first event is encoded.
+     *
+     * @since 2.2.1
+     *
+     * @param value The maximum length in characters.
+     */
+    public void setMaxStringLength(final int value) {
+        if (value < 0) {
+            addError("Maximum string length must not be negative; maxStringLength=" + value);
+            return;
+        }
+        _maxStringLength = value;
+    }
+
+    /**
+     * The maximum length in characters of string values in the data and
+     * context; zero for no limit. By default there is no limit.
+     *
+     * @since 2.2.1
+     *
+     * @return The maximum length in characters.
+     */
+    public int getMaxStringLength() {
+        return _maxStringLength;
+    }
+
+    /**
+     * Set the maximum number of elements of collections, arrays and maps in
+     * the data and context. Only the first elements of a larger value are
+     * written followed by a marker, which for collections and arrays is an
+     * additional element {@code {"_truncated":true,"_size":n}} and for maps
+     * is the additional fields {@code "_truncated":true,"_size":n}. Set to
+     * zero for no limit. By default there is no limit.
+     *
+     * @since 2.2.1
+     *
+     * @param value The maximum number of elements.
+     */
+    public void setMaxCollectionSize(final int value) {
+        if (value < 0) {
+            addError("Maximum collection size must not be negative; maxCollectionSize=" + value);
+            return;
+        }
+        _maxCollectionSize = value;
+    }
+
+    /**
+     * The maximum number of elements of collections, arrays and maps in the
+     * data and context; zero for no limit. By default there is no limit.
+     *
+     * @since 2.2.1
+     *
+     * @return The maximum number of elements.
+     */
+    public int getMaxCollectionSize() {
+        return _maxCollectionSize;
+    }
+
+    /**
+     * Set the maximum nesting depth of beans, collections, arrays and maps
+     * in each data and context value. A value nested deeper is written as
+     * {@code {"_truncated":true,"_class":"..."}}. Set to zero for no limit.
+     * By default there is no limit.
+     *
+     * @since 2.2.1
+     *
+     * @param value The maximum depth.
+     */
+    public void setMaxDepth(final int value) {
+        if (value < 0) {
+            addError("Maximum depth must not be negative; maxDepth=" + value);
+            return;
+        }
+        _maxDepth = value;
+    }
+
+    /**
+     * The maximum nesting depth of each data and context value; zero for no
+     * limit. By default there is no limit.
+     *
+     * @since 2.2.1
+     *
+     * @return The maximum depth.
+     */
+    public int getMaxDepth() {
+        return _maxDepth;
+    }
+
+    /**
+     * Set the maximum size of an encoded event. An event which encodes to
+     * more bytes is replaced by an {@code OversizedEvent} event recording
+     * {@code "_truncated":true} and the original size as {@code _size}. The
+     * check is made once the event is encoded; use the other payload limits
+     * to stop serialization of large values early. By default there is no
+     * limit.
+     *
+     * @since 2.2.1
+     *
+     * @param value The maximum size.
+     */
+    public void setMaxEventSize(@Nullable final FileSize value) {
+        if (value != null && value.getSize() < 1) {
+            addError("Maximum event size must be positive; maxEventSize=" + value);
+            return;
+        }
+        _maxEventSize = value == null ? 0 : value.getSize();
+    }
+
+    /**
+     * The maximum size of an encoded event; {@code null} for no limit. By
+     * default there is no limit.
+     *
+     * @since 2.2.1
+     *
+     * @return The maximum size.
+     */
+    @Nullable
+    public FileSize getMaxEventSize() {
+        return _maxEventSize == 0 ? null : new FileSize(_maxEventSize);
+    }
+
+    /**
+     * Detect cycles in the data and context. A bean, collection, array or
+     * map which contains itself, directly or indirectly, is written in place
+     * of the repetition as {@code {"_cycle":true,"_id":"...","_class":"..."}}.
+     * Jackson otherwise only detects a bean directly referencing itself. By
+     * default this is false.
+     *
+     * @since 2.2.1
+     *
+     * @param value Whether to detect cycles.
+     */
+    public void setDetectCycles(final boolean value) {
+        _detectCycles = value;
+    }
+
+    /**
+     * Whether cycles in the data and context are detected. By default this
+     * is false.
+     *
+     * @since 2.2.1
+     *
+     * @return True if and only if cycles are detected.
+     */
+    public boolean isDetectCycles() {
+        return _detectCycles;
+    }
+
+    /**
+     * Set the maximum total size of the encoded representations cached by
+     * this encoder for instances of classes whose
+     * {@link com.arpnetworking.logback.annotations.LogValue} method is
+     * {@code cacheable}. Representations are cached per instance, held only
+     * as long as the instance, and the least recently used are evicted
+     * first. The payload limits are applied when an instance is first
+     * encoded and the cache is cleared when the redaction settings change.
+     * Representations are not cached while a maximum depth or cycle
+     * detection is configured, since those depend on where the instance is
+     * written. A size of zero disables the cache. The default is 1 MB.
+     *
+     * @since 2.2.1
+     *
+     * @param value The maximum size.
+     */
+    public void setLogValueCacheSize(final FileSize value) {
+        _logValueCacheSize = value.getSize();
+        _logValueCache.setMaxSize(_logValueCacheSize);
+    }
+
+    /**
+     * The maximum total size of the cached encoded representations. The
+     * default is 1 MB.
+     *
+     * @since 2.2.1
+     *
+     * @return The maximum size.
+     */
+    public FileSize getLogValueCacheSize() {
+        return new FileSize(_logValueCacheSize);
+    }
+
+    /**
+     * The cache of encoded representations, including its hit and miss
+     * counts.
+     *
+     * @since 2.2.1
+     *
+     * @return The cache.
+     */
+    public LogValueCache getLogValueCache() {
+        final SerializerCoreRegistry.Core serializerCore = _serializerCore;
+        return serializerCore == null ? _logValueCache : serializerCore.getLogValueCache();
+    }
+
+    /**
+     * Share the Jackson object mapper, and with it its cache of serializers
+     * and the cache of encoded representations, with the other started
+     * encoders in the class loader which have the same serialization
+     * settings: safe, redaction, bean identifier injection, accelerated
+     * accessors, raw JSON validation, payload limits, log value cache size
+     * and the same Jackson module instances. The settings of the event
+     * envelope, such as the event name and context injection, remain per
+     * encoder. The serialization settings are captured when the encoder is
+     * started; changes made while it is started do not apply until it is
+     * restarted. A started encoder which shares serializers does not create
+     * an object mapper of its own. By default this is false.
+     *
+     * @since 2.2.1
+     *
+     * @param value Whether to share serializers with other encoders.
+     */
+    public void setSharedSerializers(final boolean value) {
+        _sharedSerializers = value;
+    }
+
+    /**
+     * Whether serializers are shared with other encoders with the same
+     * serialization settings. By default this is false.
+     *
+     * @since 2.2.1
+     *
+     * @return True if and only if serializers are shared.
+     */
+    public boolean isSharedSerializers() {
+        return _sharedSerializers;
+    }
+
+    /**
+     * Add a class whose serializer is built in the background when the
+     * encoder is started, instead of while encoding the first event with an
+     * instance of it. Configuring any warm-up class or package also encodes
+     * a synthetic event of each kind in the background, so the strategies
+     * and serializers common to all events are ready as well.
+     *
+     * @since 2.2.1
+     *
+     * @param className The fully qualified class name.
+     */
+    public void addWarmupClass(final String className) {
+        _warmupClasses.add(className);
+    }
+
+    /**
+     * Add a package whose concrete classes, not including those of its
+     * subpackages, have their serializers built in the background when the
+     * encoder is started. See {@link #addWarmupClass(String)}.
+     *
+     * @since 2.2.1
+     *
+     * @param packageName The package name.
+     */
+    public void addWarmupPackage(final String packageName) {
+        _warmupPackages.add(packageName);
+    }
+
+    /**
+     * Whether the serializer of a class is built when the encoder is started.
+     *
+     * @since 2.2.1
+     *
+     * @param className The fully qualified class name.
+     * @return True if and only if the class was added as a warm-up class.
+     */
+    public boolean isWarmupClass(final String className) {
+        return _warmupClasses.contains(className);
+    }
+
+    /**
+     * Whether the serializers of the classes in a package are built when the
+     * encoder is started.
+     *
+     * @since 2.2.1
+     *
+     * @param packageName The package name.
+     * @return True if and only if the package was added as a warm-up package.
+     */
+    public boolean isWarmupPackage(final String packageName) {
+        return _warmupPackages.contains(packageName);
+    }
+
+    /**
+     * Record how long encoding takes for the events encoded in the first
+     * minute, up to the first 10000 events, after the encoder is started
+     * and how long after the start the first event is encoded. These are
+     * reported as a status message once recording ends. Takes effect when
+     * the encoder is next started. By default this is false.
+     *
+     * @since 2.2.1
+     *
+     * @param value Whether to record the startup latency.
+     */
+    public void setRecordStartupLatency(final boolean value) {
+        _recordStartupLatency = value;
+    }
+
+    /**
+     * Whether the startup latency is recorded. By default this is false.
+     *
+     * @since 2.2.1
+     *
+     * @return True if and only if the startup latency is recorded.
+     */
+    public boolean isRecordStartupLatency() {
+        return _recordStartupLatency;
+    }
+
+    /**
+     * Retrieve how long after the encoder was started the first event was
+     * encoded, when the startup latency is recorded.
+     *
+     * @since 2.2.1
+     *
+     * @return The latency in nanoseconds, or -1 if no event was encoded or
+     * the startup latency is not recorded.
+     */
+    public long getFirstEventLatencyInNanos() {
+        final StartupLatencyRecorder recorder = _startupLatencyRecorder;
+        return recorder == null ? -1 : recorder.getFirstLatency();
+    }
+
+    /**
+     * Retrieve the 99th percentile of how long encoding took for the events
+     * encoded in the first minute, up to the first 10000 events, since the
+     * encoder was started, when the startup latency is recorded.
+     *
+     * @since 2.2.1
+     *
+     * @return The latency in nanoseconds, or -1 if no event was encoded or
+     * the startup latency is not recorded.
+     */
+    public long getStartupP99LatencyInNanos() {
+        final StartupLatencyRecorder recorder = _startupLatencyRecorder;
+        return recorder == null ? -1 : recorder.getPercentile(99);
+    }
+
+    @Override
+    public byte[] encode(final ILoggingEvent event) {
+        final StartupLatencyRecorder recorder = _startupLatencyRecorder;
+        if (recorder == null || !recorder.isRecording()) {
+            return encodeEvent(event);
+        }
+        final long startNanos = System.nanoTime();
+        final byte[] encoded = encodeEvent(event);
+        if (recorder.record(startNanos, System.nanoTime())) {
+            addInfo(String.format(
+                    "Encoded first events; count=%d, firstEventLatencyInMicros=%d, p99LatencyInMicros=%d",
+                    recorder.getCount(),
+                    TimeUnit.NANOSECONDS.toMicros(recorder.getFirstLatency()),
+                    TimeUnit.NANOSECONDS.toMicros(recorder.getPercentile(99))));
+        }
+        return encoded;
+    }
+
+    /**
+     * Encode an event without recording its latency.
+     *
+     * @param event The event.
+     * @return The encoded event.
+     */
+    /* package private */ byte[] encodeEvent(final ILoggingEvent event) {
+        final byte[] encoded = super.encode(event);
+        if (_maxEventSize > 0 && encoded.length > _maxEventSize) {
+            return encodeString(encodeOversized(event, encoded.length));
+        }
+        return encoded;
+    }
+
     @Override
     protected String encodeAsString(final ILoggingEvent event, final EncodingException ee) {
         final StringBuilder encoder = new StringBuilder()
                 .append("{\"time\":\"")
                 .append(ISO_DATE_TIME_FORMATTER.format(Instant.ofEpochMilli(event.getTimeStamp())))
                 .append("\",\"name\":\"EncodingException\",\"level\":\"warn\",\"data\":{\"originalMessage\":");
-        SafeSerializationHelper.safeEncodeValue(encoder, event.getMessage());
+        SafeSerializationHelper.safeEncodeValue(encoder, event.getMessage(), this);
         encoder.append("},\"exception\":");
-        SafeSerializationHelper.safeEncodeValue(encoder, ee);
+        SafeSerializationHelper.safeEncodeValue(encoder, ee, this);
         encoder.append(",\"context\":");
-        SafeSerializationHelper.safeEncodeValue(encoder, ee.getContext());
+        SafeSerializationHelper.safeEncodeContext(encoder, ee.getContext(), this);
+        encoder.append(",\"id\":\"")
+                .append(StenoSerializationHelper.createId())
+                .append("\",\"version\":\"0\"}\n");
+        return encoder.toString();
+    }
+
+    private String encodeOversized(final ILoggingEvent event, final int size) {
+        final StringBuilder encoder = new StringBuilder()
+                .append("{\"time\":\"")
+                .append(ISO_DATE_TIME_FORMATTER.format(Instant.ofEpochMilli(event.getTimeStamp())))
+                .append("\",\"name\":\"OversizedEvent\",\"level\":\"warn\",\"data\":{\"_truncated\":true,\"_size\":")
+                .append(size)
+                .append("},\"context\":");
+        SafeSerializationHelper.safeEncodeContext(
+                encoder,
+                SafeSerializationHelper.createSafeContext(this, event, getStrategies().getObjectMapper()),
+                this);
         encoder.append(",\"id\":\"")
                 .append(StenoSerializationHelper.createId())
                 .append("\",\"version\":\"0\"}\n");
@@ -655,11 +1211,11 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
     @Override
     protected String buildStandardMessage(final ILoggingEvent event) throws EncodingException {
         try {
-            return _standardSerializationStrategy.serialize(event, _logEventName);
+            return getStrategies().getStandardStrategy().serialize(event, _logEventName);
             // CHECKSTYLE.OFF: IllegalCatch: Ensure any exception or error is caught to prevent Appender death.
         } catch (final Throwable t) {
             // CHECKSTYLE.ON: IllegalCatch
-            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, _objectMapper), t);
+            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, getStrategies().getObjectMapper()), t);
         }
     }
 
@@ -672,7 +1228,7 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
             throws EncodingException {
 
         try {
-            return _arraySerialziationStrategy.serialize(
+            return getStrategies().getArrayStrategy().serialize(
                     event,
                     firstNonNull(eventName, _logEventName),
                     keys,
@@ -680,7 +1236,7 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
             // CHECKSTYLE.OFF: IllegalCatch: Ensure any exception or error is caught to prevent Appender death.
         } catch (final Throwable t) {
             // CHECKSTYLE.ON: IllegalCatch
-            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, _objectMapper), t);
+            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, getStrategies().getObjectMapper()), t);
         }
     }
 
@@ -693,7 +1249,7 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
             throws EncodingException {
 
         try {
-            return _arrayOfJsonSerialziationStrategy.serialize(
+            return getStrategies().getArrayOfJsonStrategy().serialize(
                     event,
                     firstNonNull(eventName, _logEventName),
                     keys,
@@ -701,7 +1257,7 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
             // CHECKSTYLE.OFF: IllegalCatch: Ensure any exception or error is caught to prevent Appender death.
         } catch (final Throwable t) {
             // CHECKSTYLE.ON: IllegalCatch
-            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, _objectMapper), t);
+            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, getStrategies().getObjectMapper()), t);
         }
     }
 
@@ -713,14 +1269,14 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
             throws EncodingException {
 
         try {
-            return _mapSerialziationStrategy.serialize(
+            return getStrategies().getMapStrategy().serialize(
                     event,
                     firstNonNull(eventName, _logEventName),
                     map);
             // CHECKSTYLE.OFF: IllegalCatch: Ensure any exception or error is caught to prevent Appender death.
         } catch (final Throwable t) {
             // CHECKSTYLE.ON: IllegalCatch
-            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, _objectMapper), t);
+            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, getStrategies().getObjectMapper()), t);
         }
     }
 
@@ -732,14 +1288,14 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
             throws EncodingException {
 
         try {
-            return _mapOfJsonSerialziationStrategy.serialize(
+            return getStrategies().getMapOfJsonStrategy().serialize(
                     event,
                     firstNonNull(eventName, _logEventName),
                     map);
             // CHECKSTYLE.OFF: IllegalCatch: Ensure any exception or error is caught to prevent Appender death.
         } catch (final Throwable t) {
             // CHECKSTYLE.ON: IllegalCatch
-            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, _objectMapper), t);
+            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, getStrategies().getObjectMapper()), t);
         }
     }
 
@@ -751,7 +1307,7 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
             throws EncodingException {
 
         try {
-            return _objectSerialziationStrategy.serialize(
+            return getStrategies().getObjectStrategy().serialize(
                     event,
                     firstNonNull(eventName, _logEventName),
                     // TODO(ville): This is where the switch for null as-is for object marker should go [issue #4]
@@ -759,7 +1315,7 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
             // CHECKSTYLE.OFF: IllegalCatch: Ensure any exception or error is caught to prevent Appender death.
         } catch (final Throwable t) {
             // CHECKSTYLE.ON: IllegalCatch
-            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, _objectMapper), t);
+            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, getStrategies().getObjectMapper()), t);
         }
     }
 
@@ -771,14 +1327,14 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
             throws EncodingException {
 
         try {
-            return _objectAsJsonSerialziationStrategy.serialize(
+            return getStrategies().getObjectAsJsonStrategy().serialize(
                     event,
                     firstNonNull(eventName, _logEventName),
                     jsonData);
             // CHECKSTYLE.OFF: IllegalCatch: Ensure any exception or error is caught to prevent Appender death.
         } catch (final Throwable t) {
             // CHECKSTYLE.ON: IllegalCatch
-            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, _objectMapper), t);
+            throw new EncodingException(SafeSerializationHelper.createSafeContext(this, event, getStrategies().getObjectMapper()), t);
         }
     }
 
@@ -793,7 +1349,7 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
             throws EncodingException {
 
         try {
-            return _listsSerialziationStrategy.serialize(
+            return getStrategies().getListsStrategy().serialize(
                     event,
                     firstNonNull(eventName, _logEventName),
                     dataKeys,
@@ -807,13 +1363,144 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
                     SafeSerializationHelper.createSafeContext(
                             this,
                             event,
-                            _objectMapper,
+                            getStrategies().getObjectMapper(),
                             contextKeys,
                             contextValues),
                     t);
         }
     }
 
+    /**
+     * The settings which determine how values are serialized; encoders with
+     * equal fingerprints may share serializers. Modules are compared by
+     * identity.
+     *
+     * @return The fingerprint.
+     */
+    /* package private */ List<Object> getSerializerFingerprint() {
+        return Arrays.asList(
+                _safe,
+                _injectBeanIdentifier,
+                _redactEnabled,
+                _redactNull,
+                _redactKeys,
+                _acceleratedAccessors,
+                _rawJsonValidationLimit,
+                _maxStringLength,
+                _maxCollectionSize,
+                _maxDepth,
+                _detectCycles,
+                _logValueCacheSize,
+                new ArrayList<>(_jacksonModules));
+    }
+
+    /**
+     * Create an encoder with a copy of the serialization settings of this
+     * encoder and the same Jackson modules registered. It is never
+     * reconfigured, so its object mapper may be shared by encoders with the
+     * same fingerprint.
+     *
+     * @return The new encoder.
+     */
+    /* package private */ StenoEncoder createSerializerPrototype() {
+        final StenoEncoder prototype = new StenoEncoder();
+        prototype._safe = _safe;
+        prototype._injectBeanIdentifier = _injectBeanIdentifier;
+        prototype._redactEnabled = _redactEnabled;
+        prototype._redactNull = _redactNull;
+        prototype._redactKeys = _redactKeys;
+        prototype._keyMatcher = _keyMatcher;
+        prototype._acceleratedAccessors = _acceleratedAccessors;
+        prototype._rawJsonValidationLimit = _rawJsonValidationLimit;
+        prototype._maxStringLength = _maxStringLength;
+        prototype._maxCollectionSize = _maxCollectionSize;
+        prototype._maxDepth = _maxDepth;
+        prototype._detectCycles = _detectCycles;
+        prototype._logValueCacheSize = _logValueCacheSize;
+        prototype._logValueCache.setMaxSize(_logValueCacheSize);
+        prototype._jacksonModules.addAll(_jacksonModules);
+        return prototype;
+    }
+
+    /* package private */ synchronized ObjectMapper getObjectMapper() {
+        ObjectMapper objectMapper = _objectMapper;
+        if (objectMapper == null) {
+            // Each instance of StenoEncoder requires its own ObjectMapper instance
+            // in order to apply the correct filtering settings to support redaction.
+            objectMapper = new ObjectMapper();
+            configureObjectMapper(objectMapper);
+            objectMapper.registerModules(_jacksonModules);
+            _objectMapper = objectMapper;
+        }
+        return objectMapper;
+    }
+
+    /* package private */ boolean isObjectMapperCreated() {
+        return _objectMapper != null;
+    }
+
+    @Nullable
+    /* package private */ Thread getWarmupThread() {
+        return _warmupThread;
+    }
+
+    /* package private */ void setStartupLatencyRecorder(final StartupLatencyRecorder value) {
+        _startupLatencyRecorder = value;
+    }
+
+    private SerializationStrategies getStrategies() {
+        // Encoders created without an object mapper and not attached to a shared core create theirs here
+        SerializationStrategies strategies = _strategies;
+        if (strategies == null) {
+            final ObjectMapper objectMapper = getObjectMapper();
+            final JsonFactory jsonFactory = _jsonFactory;
+            strategies = new SerializationStrategies(
+                    this,
+                    jsonFactory == null ? objectMapper.getFactory() : jsonFactory,
+                    objectMapper);
+            _strategies = strategies;
+        }
+        return strategies;
+    }
+
+    private void configureObjectMapper(final ObjectMapper objectMapper) {
+        objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(objectMapper));
+
+        // Annotated properties are redacted by the property writers installed by the bean serializer
+        // modifier while map entries are redacted by key by the filter it installs on map serializers
+        final SimpleFilterProvider simpleFilterProvider = new SimpleFilterProvider();
+        simpleFilterProvider.addFilter(RedactionFilter.REDACTION_FILTER_ID, new KeyRedactionFilter(this));
+        objectMapper.setFilterProvider(simpleFilterProvider);
+
+        // Setup writing of Date/DateTime values
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        objectMapper.setDateFormat(new StdDateFormat());
+
+        // Non-loggable beans under safe encoding are written by identifier without introspection; the
+        // factory is set before the modules are registered since they add their modifiers to it
+        objectMapper.setSerializerFactory(new StenoSerializerFactory(null, this));
+
+        // Payload limits; a separate module since a module has one modifier. It is registered first
+        // since modifiers are applied in reverse order of registration and the limits wrap the
+        // serializers produced by the other modifier.
+        final SimpleModule payloadLimitModule = new SimpleModule("StenoPayloadLimits");
+        payloadLimitModule.setSerializerModifier(new PayloadLimitSerializerModifier(this));
+        objectMapper.registerModule(payloadLimitModule);
+
+        // Simple module with customizations
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new StenoBeanSerializerModifier(this));
+        module.addSerializer(RawJson.class, new RawJsonSerializer(this));
+        objectMapper.registerModule(module);
+
+        // Throwable mix-in
+        objectMapper.setMixIns(Collections.singletonMap(Throwable.class, ThrowableMixIn.class));
+
+        // After burner to improve data-bind performance
+        objectMapper.registerModule(new AfterburnerModule());
+    }
+
     /* package private */ static <T> T firstNonNull(@Nullable final T first, @Nullable final T second) {
         if (first != null) {
             return first;
@@ -825,24 +1512,25 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
 
     @java.io.Serial
     /* package private */ Object readResolve() throws ObjectStreamException {
-        _objectMapper = new ObjectMapper();
         _jacksonModules = new LinkedHashSet<>();
+        _logValueCache = new LogValueCache(_logValueCacheSize);
         return this;
     }
 
-    private transient ObjectMapper _objectMapper;
-    private final ListsSerialziationStrategy _listsSerialziationStrategy;
-    private final ObjectAsJsonSerialziationStrategy _objectAsJsonSerialziationStrategy;
-    private final ObjectSerialziationStrategy _objectSerialziationStrategy;
-    private final MapOfJsonSerialziationStrategy _mapOfJsonSerialziationStrategy;
-    private final MapSerialziationStrategy _mapSerialziationStrategy;
-    private final ArrayOfJsonSerialziationStrategy _arrayOfJsonSerialziationStrategy;
-    private final ArraySerialziationStrategy _arraySerialziationStrategy;
-    private final StandardSerializationStrategy _standardSerializationStrategy;
+    @Nullable
+    private transient volatile ObjectMapper _objectMapper;
+    @Nullable
+    private transient JsonFactory _jsonFactory;
+    @Nullable
+    private transient SerializerCoreRegistry.Core _serializerCore;
+    private transient volatile SerializationStrategies _strategies;
 
     private String _logEventName = STANDARD_LOG_EVENT_NAME;
-    private boolean _redactEnabled;
+    private boolean _redactEnabled = true;
     private boolean _redactNull = DEFAULT_REDACT_NULL;
+    private Set<String> _redactKeys = Collections.emptySet();
+    @Nullable
+    private KeyMatcher _keyMatcher;
     private boolean _injectContextProcess = true;
     private boolean _injectContextHost = true;
     private boolean _injectContextThread = true;
@@ -856,10 +1544,138 @@ public class StenoEncoder extends BaseLoggingEncoder implements Serializable {
     private transient Set<Module> _jacksonModules = new LinkedHashSet<>();
     private boolean _safe = true;
     private boolean _injectBeanIdentifier = false;
+    private boolean _directWriter = true;
+    private boolean _acceleratedAccessors = true;
+    private int _rawJsonValidationLimit = DEFAULT_RAW_JSON_VALIDATION_LIMIT;
+    private int _maxStringLength;
+    private int _maxCollectionSize;
+    private int _maxDepth;
+    private long _maxEventSize;
+    private boolean _detectCycles;
+    private long _logValueCacheSize = DEFAULT_LOG_VALUE_CACHE_SIZE;
+    private transient LogValueCache _logValueCache = new LogValueCache(DEFAULT_LOG_VALUE_CACHE_SIZE);
+    private boolean _sharedSerializers = false;
+    private boolean _recordStartupLatency = false;
+    private final LinkedHashSet<String> _warmupClasses = new LinkedHashSet<>();
+    private final LinkedHashSet<String> _warmupPackages = new LinkedHashSet<>();
+    @Nullable
+    private transient volatile Thread _warmupThread;
+    @Nullable
+    private transient volatile StartupLatencyRecorder _startupLatencyRecorder;
 
     private static final boolean DEFAULT_REDACT_NULL = true;
+    private static final int DEFAULT_RAW_JSON_VALIDATION_LIMIT = 0;
+    private static final long DEFAULT_LOG_VALUE_CACHE_SIZE = 1024 * 1024;
     private static final String STANDARD_LOG_EVENT_NAME = "log";
+    private static final long STARTUP_WINDOW_IN_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int STARTUP_LATENCY_CAPACITY = 10000;
     private static final DateTimeFormatter ISO_DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZZZZZ").withZone(ZoneId.of("UTC"));
     private static final long serialVersionUID = -1803222342605243667L;
+
+    /**
+     * The serialization strategies of an encoder for one object mapper. Each
+     * strategy is created when first used, so an encoder only holds the
+     * strategies for the kinds of events it encodes. The strategies have only
+     * final fields, so one created concurrently by two threads is harmless.
+     */
+    private static final class SerializationStrategies {
+
+        /* package private */ SerializationStrategies(
+                final StenoEncoder encoder,
+                final JsonFactory jsonFactory,
+                final ObjectMapper objectMapper) {
+            _encoder = encoder;
+            _jsonFactory = jsonFactory;
+            _objectMapper = objectMapper;
+        }
+
+        /* package private */ ObjectMapper getObjectMapper() {
+            return _objectMapper;
+        }
+
+        /* package private */ StandardSerializationStrategy getStandardStrategy() {
+            StandardSerializationStrategy strategy = _standardStrategy;
+            if (strategy == null) {
+                strategy = new StandardSerializationStrategy(_encoder, _jsonFactory, _objectMapper);
+                _standardStrategy = strategy;
+            }
+            return strategy;
+        }
+
+        /* package private */ ArraySerialziationStrategy getArrayStrategy() {
+            ArraySerialziationStrategy strategy = _arrayStrategy;
+            if (strategy == null) {
+                strategy = new ArraySerialziationStrategy(_encoder, _jsonFactory, _objectMapper);
+                _arrayStrategy = strategy;
+            }
+            return strategy;
+        }
+
+        /* package private */ ArrayOfJsonSerialziationStrategy getArrayOfJsonStrategy() {
+            ArrayOfJsonSerialziationStrategy strategy = _arrayOfJsonStrategy;
+            if (strategy == null) {
+                strategy = new ArrayOfJsonSerialziationStrategy(_encoder, _jsonFactory, _objectMapper);
+                _arrayOfJsonStrategy = strategy;
+            }
+            return strategy;
+        }
+
+        /* package private */ MapSerialziationStrategy getMapStrategy() {
+            MapSerialziationStrategy strategy = _mapStrategy;
+            if (strategy == null) {
+                strategy = new MapSerialziationStrategy(_encoder, _jsonFactory, _objectMapper);
+                _mapStrategy = strategy;
+            }
+            return strategy;
+        }
+
+        /* package private */ MapOfJsonSerialziationStrategy getMapOfJsonStrategy() {
+            MapOfJsonSerialziationStrategy strategy = _mapOfJsonStrategy;
+            if (strategy == null) {
+                strategy = new MapOfJsonSerialziationStrategy(_encoder, _jsonFactory, _objectMapper);
+                _mapOfJsonStrategy = strategy;
+            }
+            return strategy;
+        }
+
+        /* package private */ ObjectSerialziationStrategy getObjectStrategy() {
+            ObjectSerialziationStrategy strategy = _objectStrategy;
+            if (strategy == null) {
+                strategy = new ObjectSerialziationStrategy(_encoder, _jsonFactory, _objectMapper);
+                _objectStrategy = strategy;
+            }
+            return strategy;
+        }
+
+        /* package private */ ObjectAsJsonSerialziationStrategy getObjectAsJsonStrategy() {
+            ObjectAsJsonSerialziationStrategy strategy = _objectAsJsonStrategy;
+            if (strategy == null) {
+                strategy = new ObjectAsJsonSerialziationStrategy(_encoder, _jsonFactory, _objectMapper);
+                _objectAsJsonStrategy = strategy;
+            }
+            return strategy;
+        }
+
+        /* package private */ ListsSerialziationStrategy getListsStrategy() {
+            ListsSerialziationStrategy strategy = _listsStrategy;
+            if (strategy == null) {
+                strategy = new ListsSerialziationStrategy(_encoder, _jsonFactory, _objectMapper);
+                _listsStrategy = strategy;
+            }
+            return strategy;
+        }
+
+        private final StenoEncoder _encoder;
+        private final JsonFactory _jsonFactory;
+        private final ObjectMapper _objectMapper;
+        private StandardSerializationStrategy _standardStrategy;
+        private ArraySerialziationStrategy _arrayStrategy;
+        private ArrayOfJsonSerialziationStrategy _arrayOfJsonStrategy;
+        private MapSerialziationStrategy _mapStrategy;
+        private MapOfJsonSerialziationStrategy _mapOfJsonStrategy;
+        private ObjectSerialziationStrategy _objectStrategy;
+        private ObjectAsJsonSerialziationStrategy _objectAsJsonStrategy;
+        private ListsSerialziationStrategy _listsStrategy;
+    }
 }
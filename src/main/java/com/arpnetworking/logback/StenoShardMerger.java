@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.zip.GZIPInputStream;
+import javax.annotation.Nullable;
+
+/**
+ * Merges steno files written by the shards of a
+ * {@link ShardedRollingFileAppender} into a single stream ordered by the
+ * steno {@code time} field. Events with the same time are ordered by shard
+ * and then by their sequence number within the shard, which is the position
+ * of the event in the shard file. Events within a shard are never reordered
+ * with respect to each other; a line without a readable {@code time} field
+ * takes the time of the line before it in the same shard.
+ *
+ * Files ending in {@code .gz} are decompressed. Only the shard files covering
+ * the same period should be merged together; for example the rolled files
+ * of each shard for a single hour.
+ *
+ * Usage: {@code java com.arpnetworking.logback.StenoShardMerger shard-0.log shard-1.log ... > merged.log}
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public final class StenoShardMerger {
+
+    /**
+     * Merge the files named on the command line to standard out.
+     *
+     * @param args The paths of the shard files.
+     * @throws IOException if any file cannot be read or the output written.
+     */
+    public static void main(final String[] args) throws IOException {
+        final List<Path> shards = new ArrayList<>(args.length);
+        for (final String arg : args) {
+            shards.add(Paths.get(arg));
+        }
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        merge(shards, writer);
+        writer.flush();
+    }
+
+    /**
+     * Merge the shard files into the writer. Each event is written as a
+     * single line terminated by a new line. The writer is not closed.
+     *
+     * @param shards The paths of the shard files.
+     * @param writer The destination of the merged events.
+     * @return The number of events written.
+     * @throws IOException if any file cannot be read or the output written.
+     */
+    public static long merge(final List<Path> shards, final Writer writer) throws IOException {
+        final List<ShardCursor> cursors = new ArrayList<>(shards.size());
+        try {
+            final PriorityQueue<ShardCursor> queue = new PriorityQueue<>(Math.max(1, shards.size()), CURSOR_COMPARATOR);
+            for (int i = 0; i < shards.size(); ++i) {
+                final ShardCursor cursor = new ShardCursor(i, open(shards.get(i)));
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+            long count = 0;
+            ShardCursor cursor = queue.poll();
+            while (cursor != null) {
+                writer.write(cursor._line);
+                writer.write('\n');
+                ++count;
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+                cursor = queue.poll();
+            }
+            return count;
+        } finally {
+            for (final ShardCursor cursor : cursors) {
+                cursor._reader.close();
+            }
+        }
+    }
+
+    /**
+     * Extract the value of the {@code time} field from a steno line.
+     *
+     * @param line The steno line.
+     * @return The value of the {@code time} field or {@code null} if not found.
+     */
+    @Nullable
+    /* package private */ static String extractTime(final String line) {
+        final int fieldIndex = line.indexOf(TIME_FIELD);
+        if (fieldIndex < 0) {
+            return null;
+        }
+        final int start = fieldIndex + TIME_FIELD.length();
+        final int end = line.indexOf('"', start);
+        if (end < 0) {
+            return null;
+        }
+        return line.substring(start, end);
+    }
+
+    private static BufferedReader open(final Path path) throws IOException {
+        InputStream inputStream = Files.newInputStream(path);
+        if (path.getFileName().toString().endsWith(".gz")) {
+            try {
+                inputStream = new GZIPInputStream(inputStream);
+            } catch (final IOException e) {
+                inputStream.close();
+                throw e;
+            }
+        }
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    private StenoShardMerger() {}
+
+    private static final String TIME_FIELD = "\"time\":\"";
+    // The steno time is always formatted in UTC with a fixed width and
+    // therefore compares correctly as a string.
+    private static final Comparator<ShardCursor> CURSOR_COMPARATOR = Comparator
+            .comparing((ShardCursor cursor) -> cursor._time)
+            .thenComparingInt(cursor -> cursor._shard)
+            .thenComparingLong(cursor -> cursor._sequence);
+
+    private static final class ShardCursor {
+
+        private ShardCursor(final int shard, final BufferedReader reader) {
+            _shard = shard;
+            _reader = reader;
+        }
+
+        private boolean advance() throws IOException {
+            String line = _reader.readLine();
+            while (line != null && line.isEmpty()) {
+                line = _reader.readLine();
+            }
+            if (line == null) {
+                return false;
+            }
+            _line = line;
+            ++_sequence;
+            final String time = extractTime(line);
+            if (time != null) {
+                _time = time;
+            }
+            return true;
+        }
+
+        private final int _shard;
+        private final BufferedReader _reader;
+        private String _line;
+        private String _time = "";
+        private long _sequence = -1;
+    }
+}
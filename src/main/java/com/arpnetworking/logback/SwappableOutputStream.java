@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} which delegates to another stream that can be
+ * replaced at any time. Replacing the delegate waits only for a write in
+ * progress to complete; the previous delegate is returned to the caller
+ * which is responsible for flushing and closing it.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class SwappableOutputStream extends OutputStream {
+
+    /**
+     * Package private constructor.
+     *
+     * @param delegate The initial delegate.
+     */
+    /* package private */ SwappableOutputStream(final OutputStream delegate) {
+        _delegate = delegate;
+    }
+
+    /**
+     * Replace the delegate.
+     *
+     * @param delegate The new delegate.
+     * @return The previous delegate.
+     */
+    /* package private */ synchronized OutputStream swap(final OutputStream delegate) {
+        final OutputStream previous = _delegate;
+        _delegate = delegate;
+        return previous;
+    }
+
+    @Override
+    public synchronized void write(final int b) throws IOException {
+        _delegate.write(b);
+    }
+
+    @Override
+    public synchronized void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        _delegate.write(bytes, offset, length);
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        _delegate.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        _delegate.close();
+    }
+
+    private OutputStream _delegate;
+}
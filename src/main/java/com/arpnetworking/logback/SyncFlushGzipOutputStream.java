@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * An {@link OutputStream} which writes a single gzip member and sync flushes
+ * the deflater whenever a number of uncompressed bytes have been written or
+ * an interval has elapsed since the last sync flush. After a sync flush all
+ * bytes written so far can be inflated from the underlying stream, so a file
+ * written this way is readable up to the last flush even while it is open;
+ * the member is completed with its trailer on {@link #close()}.
+ *
+ * Calling {@link #flush()} does not force a sync flush (which would hurt the
+ * compression ratio if done per event) but performs one if the interval has
+ * elapsed; see also {@link #flushIfDue()}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class SyncFlushGzipOutputStream extends OutputStream {
+
+    /**
+     * Package private constructor. Writes the gzip header.
+     *
+     * @param out The stream to write compressed bytes to.
+     * @param level The deflate compression level.
+     * @param flushBytes The uncompressed bytes after which to sync flush.
+     * @param flushIntervalInNanos The time after which to sync flush.
+     * @param clock The source of the current time in nanoseconds.
+     * @throws IOException if the header cannot be written.
+     */
+    /* package private */ SyncFlushGzipOutputStream(
+            final OutputStream out,
+            final int level,
+            final long flushBytes,
+            final long flushIntervalInNanos,
+            final LongSupplier clock) throws IOException {
+        _out = out;
+        _deflater = new Deflater(level, true);
+        _flushBytes = flushBytes;
+        _flushIntervalInNanos = flushIntervalInNanos;
+        _clock = clock;
+        _lastSyncFlushNanos = clock.getAsLong();
+        _out.write(HEADER);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        ensureOpen();
+        _crc.update(bytes, offset, length);
+        _deflater.setInput(bytes, offset, length);
+        while (!_deflater.needsInput()) {
+            deflate(Deflater.NO_FLUSH);
+        }
+        _uncompressedBytes += length;
+        _pendingBytes += length;
+        if (_pendingBytes >= _flushBytes) {
+            syncFlush();
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        flushIfDue();
+        _out.flush();
+    }
+
+    /**
+     * Sync flush if there are bytes written since the last sync flush and the
+     * interval has elapsed.
+     *
+     * @throws IOException if the flushed bytes cannot be written.
+     */
+    /* package private */ synchronized void flushIfDue() throws IOException {
+        if (!_closed && _pendingBytes > 0 && _clock.getAsLong() - _lastSyncFlushNanos >= _flushIntervalInNanos) {
+            syncFlush();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (_closed) {
+            return;
+        }
+        _closed = true;
+        try {
+            _deflater.finish();
+            while (!_deflater.finished()) {
+                deflate(Deflater.NO_FLUSH);
+            }
+            final long crc = _crc.getValue();
+            _out.write(new byte[]{
+                    (byte) crc,
+                    (byte) (crc >> 8),
+                    (byte) (crc >> 16),
+                    (byte) (crc >> 24),
+                    (byte) _uncompressedBytes,
+                    (byte) (_uncompressedBytes >> 8),
+                    (byte) (_uncompressedBytes >> 16),
+                    (byte) (_uncompressedBytes >> 24)});
+        } finally {
+            _deflater.end();
+            _out.close();
+        }
+    }
+
+    private void syncFlush() throws IOException {
+        int count;
+        do {
+            count = deflate(Deflater.SYNC_FLUSH);
+        } while (count == _buffer.length);
+        _out.flush();
+        _pendingBytes = 0;
+        _lastSyncFlushNanos = _clock.getAsLong();
+    }
+
+    private int deflate(final int flush) throws IOException {
+        final int count = _deflater.deflate(_buffer, 0, _buffer.length, flush);
+        if (count > 0) {
+            _out.write(_buffer, 0, count);
+        }
+        return count;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (_closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private final OutputStream _out;
+    private final Deflater _deflater;
+    private final CRC32 _crc = new CRC32();
+    private final byte[] _buffer = new byte[BUFFER_SIZE];
+    private final long _flushBytes;
+    private final long _flushIntervalInNanos;
+    private final LongSupplier _clock;
+    private long _lastSyncFlushNanos;
+    private long _uncompressedBytes;
+    private long _pendingBytes;
+    private boolean _closed;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] HEADER = new byte[]{
+            (byte) 0x1f, // Magic
+            (byte) 0x8b, // Magic
+            8, // Deflate
+            0, // Flags
+            0, 0, 0, 0, // Modification time
+            0, // Extra flags
+            (byte) 255, // Operating system (unknown)
+    };
+}
@@ -0,0 +1,498 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.FileSize;
+import ch.qos.logback.core.util.FileUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * Appender which streams encoded events to a local log agent over a Unix
+ * domain socket instead of writing them to disk for the agent to read back.
+ * Each event is sent as a frame of a four byte big endian length followed
+ * by the encoded event. Events are queued in a buffer of {@code bufferSize}
+ * bytes and sent in batches, with gathering writes, by a background thread.
+ *
+ * When the buffer is full the logging thread waits at most
+ * {@code maxBlockInMillis} (zero by default) for space after which the
+ * event is dropped. While the agent is unavailable the appender reconnects
+ * with exponential backoff between {@code minReconnectDelayInMillis} and
+ * {@code maxReconnectDelayInMillis}; in the meantime events are appended to
+ * the {@code fallbackFile} if one is configured, or otherwise held in the
+ * buffer until it fills. A frame interrupted by a lost connection is resent
+ * in full on the next connection, so the agent may receive it twice if it
+ * processed the partial frame.
+ *
+ * The encoder is invoked on the logging thread and must therefore be safe
+ * for concurrent use; the {@link StenoEncoder} and {@link KeyValueEncoder}
+ * are.
+ *
+ * @param <E> The event type.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public class UnixSocketAppender<E> extends UnsynchronizedAppenderBase<E> {
+
+    @Override
+    public void start() {
+        if (_encoder == null) {
+            addError("No encoder set for the appender named [" + name + "]");
+            return;
+        }
+        if (_socketPath == null) {
+            addError("No socket path set for the appender named [" + name + "]");
+            return;
+        }
+        if (_fallbackFile != null) {
+            final File file = new File(_fallbackFile);
+            if (!FileUtil.createMissingParentDirectories(file)) {
+                addError("Failed to create parent directories for [" + file.getAbsolutePath() + "]");
+            }
+            try {
+                _fallback = new BufferedOutputStream(new FileOutputStream(file, true));
+            } catch (final IOException e) {
+                addError("Failed to open fallback file [" + _fallbackFile + "]", e);
+                return;
+            }
+        }
+        _address = UnixDomainSocketAddress.of(_socketPath);
+        _reconnectDelayInMillis = _minReconnectDelayInMillis;
+        _nextConnectNanos = System.nanoTime();
+        _queue = new BoundedByteQueue(_bufferSize.getSize());
+        _writer = new Thread(this::run, "steno-unix-socket-" + name);
+        _writer.setDaemon(true);
+        _writer.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        _queue.close();
+        try {
+            _writer.join(SHUTDOWN_TIMEOUT_IN_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (_writer.isAlive()) {
+            addWarn("Timed out sending buffered events to [" + _socketPath + "]");
+            _writer.interrupt();
+        }
+    }
+
+    @Override
+    protected void append(final E event) {
+        final byte[] bytes = _encoder.encode(event);
+        if (!_queue.offer(bytes, TimeUnit.MILLISECONDS.toNanos(_maxBlockInMillis))) {
+            _droppedBytes.addAndGet(bytes.length);
+            _droppedFrames.incrementAndGet();
+        }
+    }
+
+    /**
+     * Retrieve the encoder.
+     *
+     * @return The encoder.
+     */
+    @Nullable
+    public Encoder<E> getEncoder() {
+        return _encoder;
+    }
+
+    /**
+     * Set the encoder.
+     *
+     * @param value The encoder.
+     */
+    public void setEncoder(final Encoder<E> value) {
+        _encoder = value;
+    }
+
+    /**
+     * Retrieve the path of the agent's socket.
+     *
+     * @return The socket path.
+     */
+    @Nullable
+    public String getSocketPath() {
+        return _socketPath;
+    }
+
+    /**
+     * Set the path of the agent's socket. Required.
+     *
+     * @param value The socket path.
+     */
+    public void setSocketPath(@Nullable final String value) {
+        _socketPath = value;
+    }
+
+    /**
+     * Retrieve the size of the buffer between logging threads and the
+     * socket.
+     *
+     * @return The buffer size.
+     */
+    public FileSize getBufferSize() {
+        return _bufferSize;
+    }
+
+    /**
+     * Set the size of the buffer between logging threads and the socket.
+     * The default is 8 MB.
+     *
+     * @param value The buffer size.
+     */
+    public void setBufferSize(final FileSize value) {
+        if (value.getSize() <= 0) {
+            addError("Buffer size must be positive; bufferSize=" + value);
+            return;
+        }
+        _bufferSize = value;
+    }
+
+    /**
+     * Retrieve the longest a logging thread waits for space in a full
+     * buffer.
+     *
+     * @return The time in milliseconds.
+     */
+    public long getMaxBlockInMillis() {
+        return _maxBlockInMillis;
+    }
+
+    /**
+     * Set the longest a logging thread waits for space in a full buffer
+     * before dropping the event. The default is zero, which never waits.
+     *
+     * @param value The time in milliseconds.
+     */
+    public void setMaxBlockInMillis(final long value) {
+        if (value < 0) {
+            addError("Maximum block time must not be negative; maxBlockInMillis=" + value);
+            return;
+        }
+        _maxBlockInMillis = value;
+    }
+
+    /**
+     * Retrieve the file events are appended to while the agent is
+     * unavailable.
+     *
+     * @return The fallback file name.
+     */
+    @Nullable
+    public String getFallbackFile() {
+        return _fallbackFile;
+    }
+
+    /**
+     * Set the file events are appended to while the agent is unavailable.
+     * Optional; if not set events are held in the buffer.
+     *
+     * @param value The fallback file name.
+     */
+    public void setFallbackFile(@Nullable final String value) {
+        _fallbackFile = value;
+    }
+
+    /**
+     * Retrieve the delay before the first reconnection attempt.
+     *
+     * @return The delay in milliseconds.
+     */
+    public long getMinReconnectDelayInMillis() {
+        return _minReconnectDelayInMillis;
+    }
+
+    /**
+     * Set the delay before the first reconnection attempt; the delay doubles
+     * with each failed attempt. The default is 100 milliseconds.
+     *
+     * @param value The delay in milliseconds.
+     */
+    public void setMinReconnectDelayInMillis(final long value) {
+        if (value <= 0) {
+            addError("Minimum reconnect delay must be positive; minReconnectDelayInMillis=" + value);
+            return;
+        }
+        _minReconnectDelayInMillis = value;
+    }
+
+    /**
+     * Retrieve the longest delay between reconnection attempts.
+     *
+     * @return The delay in milliseconds.
+     */
+    public long getMaxReconnectDelayInMillis() {
+        return _maxReconnectDelayInMillis;
+    }
+
+    /**
+     * Set the longest delay between reconnection attempts. The default is 30
+     * seconds.
+     *
+     * @param value The delay in milliseconds.
+     */
+    public void setMaxReconnectDelayInMillis(final long value) {
+        if (value <= 0) {
+            addError("Maximum reconnect delay must be positive; maxReconnectDelayInMillis=" + value);
+            return;
+        }
+        _maxReconnectDelayInMillis = value;
+    }
+
+    /**
+     * Determine whether the appender is connected to the agent.
+     *
+     * @return True if and only if connected.
+     */
+    public boolean isConnected() {
+        return _channel != null;
+    }
+
+    /**
+     * Retrieve the number of events sent to the agent since the appender
+     * was created.
+     *
+     * @return The number of events.
+     */
+    public long getSentFrames() {
+        return _sentFrames.get();
+    }
+
+    /**
+     * Retrieve the number of events written to the fallback file since the
+     * appender was created.
+     *
+     * @return The number of events.
+     */
+    public long getFallbackFrames() {
+        return _fallbackFrames.get();
+    }
+
+    /**
+     * Retrieve the number of events dropped since the appender was created.
+     *
+     * @return The number of events.
+     */
+    public long getDroppedFrames() {
+        return _droppedFrames.get();
+    }
+
+    /**
+     * Retrieve the number of encoded bytes dropped since the appender was
+     * created.
+     *
+     * @return The number of bytes.
+     */
+    public long getDroppedBytes() {
+        return _droppedBytes.get();
+    }
+
+    private void run() {
+        try {
+            List<byte[]> pending = _queue.poll(POLL_TIMEOUT_IN_NANOS);
+            while (pending != null) {
+                if (!pending.isEmpty()) {
+                    pending = send(pending);
+                }
+                if (pending.isEmpty()) {
+                    pending = _queue.poll(POLL_TIMEOUT_IN_NANOS);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            disconnect();
+            closeFallback();
+        }
+    }
+
+    private List<byte[]> send(final List<byte[]> events) throws InterruptedException {
+        List<byte[]> unsent = events;
+        if (connect()) {
+            unsent = sendFrames(events);
+        }
+        if (unsent.isEmpty()) {
+            return unsent;
+        }
+        if (_fallback != null) {
+            writeFallback(unsent);
+        } else if (_queue.isClosed()) {
+            _droppedFrames.addAndGet(unsent.size());
+            _droppedBytes.addAndGet(release(unsent));
+        } else {
+            // Hold the events, and so the buffer space, until reconnected
+            _queue.awaitClose(Math.max(1, _nextConnectNanos - System.nanoTime()));
+            return unsent;
+        }
+        return Collections.emptyList();
+    }
+
+    private boolean connect() {
+        if (_channel != null) {
+            return true;
+        }
+        if (!_queue.isClosed() && System.nanoTime() - _nextConnectNanos < 0) {
+            return false;
+        }
+        try {
+            final SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+            try {
+                channel.connect(_address);
+            } catch (final IOException e) {
+                channel.close();
+                throw e;
+            }
+            _channel = channel;
+            _reconnectDelayInMillis = _minReconnectDelayInMillis;
+            _connectFailures = 0;
+            addInfo("Connected to [" + _socketPath + "]");
+            return true;
+        } catch (final IOException e) {
+            if (_connectFailures++ == 0) {
+                addWarn("Failed to connect to [" + _socketPath + "]; retrying with backoff", e);
+            }
+            _nextConnectNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(_reconnectDelayInMillis);
+            _reconnectDelayInMillis = Math.min(_reconnectDelayInMillis * 2, _maxReconnectDelayInMillis);
+            return false;
+        }
+    }
+
+    private List<byte[]> sendFrames(final List<byte[]> events) {
+        final ByteBuffer headers = ByteBuffer.allocate(events.size() * Integer.BYTES);
+        final ByteBuffer[] buffers = new ByteBuffer[events.size() * 2];
+        for (int i = 0; i < events.size(); ++i) {
+            final byte[] event = events.get(i);
+            headers.putInt(i * Integer.BYTES, event.length);
+            buffers[i * 2] = headers.slice(i * Integer.BYTES, Integer.BYTES);
+            buffers[i * 2 + 1] = ByteBuffer.wrap(event);
+        }
+        int offset = 0;
+        try {
+            while (offset < buffers.length) {
+                _channel.write(buffers, offset, buffers.length - offset);
+                while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+                    ++offset;
+                }
+            }
+        } catch (final IOException e) {
+            addWarn("Lost connection to [" + _socketPath + "]; reconnecting", e);
+            disconnect();
+            _nextConnectNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(_reconnectDelayInMillis);
+        }
+        // Frames are complete once their payload is; a partial frame is resent
+        final int sent = offset / 2;
+        _sentFrames.addAndGet(sent);
+        release(events.subList(0, sent));
+        return events.subList(sent, events.size());
+    }
+
+    private void writeFallback(final List<byte[]> events) {
+        try {
+            for (final byte[] event : events) {
+                _fallback.write(event);
+            }
+            _fallback.flush();
+            _fallbackFrames.addAndGet(events.size());
+            release(events);
+        } catch (final IOException e) {
+            addError("Failed to write to fallback file [" + _fallbackFile + "]", e);
+            _droppedFrames.addAndGet(events.size());
+            _droppedBytes.addAndGet(release(events));
+        }
+    }
+
+    private long release(final List<byte[]> events) {
+        long bytes = 0;
+        for (final byte[] event : events) {
+            bytes += event.length;
+        }
+        _queue.release(bytes);
+        return bytes;
+    }
+
+    private void disconnect() {
+        final SocketChannel channel = _channel;
+        if (channel != null) {
+            _channel = null;
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                addWarn("Failed to close connection to [" + _socketPath + "]", e);
+            }
+        }
+    }
+
+    private void closeFallback() {
+        final OutputStream fallback = _fallback;
+        if (fallback != null) {
+            _fallback = null;
+            try {
+                fallback.close();
+            } catch (final IOException e) {
+                addError("Failed to close fallback file [" + _fallbackFile + "]", e);
+            }
+        }
+    }
+
+    private final AtomicLong _sentFrames = new AtomicLong();
+    private final AtomicLong _fallbackFrames = new AtomicLong();
+    private final AtomicLong _droppedFrames = new AtomicLong();
+    private final AtomicLong _droppedBytes = new AtomicLong();
+    private volatile BoundedByteQueue _queue;
+    private volatile SocketChannel _channel;
+    private Thread _writer;
+    private UnixDomainSocketAddress _address;
+    private OutputStream _fallback;
+    private long _nextConnectNanos;
+    private long _reconnectDelayInMillis;
+    private int _connectFailures;
+    private Encoder<E> _encoder;
+    private String _socketPath;
+    private String _fallbackFile;
+    private FileSize _bufferSize = new FileSize(DEFAULT_BUFFER_SIZE);
+    private long _maxBlockInMillis = 0;
+    private long _minReconnectDelayInMillis = DEFAULT_MIN_RECONNECT_DELAY_IN_MILLIS;
+    private long _maxReconnectDelayInMillis = DEFAULT_MAX_RECONNECT_DELAY_IN_MILLIS;
+
+    private static final long DEFAULT_BUFFER_SIZE = 8 * FileSize.MB_COEFFICIENT;
+    private static final long DEFAULT_MIN_RECONNECT_DELAY_IN_MILLIS = 100;
+    private static final long DEFAULT_MAX_RECONNECT_DELAY_IN_MILLIS = 30000;
+    private static final long POLL_TIMEOUT_IN_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_IN_MILLIS = 5000;
+}
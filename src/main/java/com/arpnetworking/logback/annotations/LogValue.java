@@ -57,5 +57,16 @@ public @interface LogValue {
      * @return {@code True} if and only if fallback is enabled.
      */
     boolean fallback() default true;
+
+    /**
+     * Optional argument defines whether the encoded representation of an
+     * instance may be cached and reused by the encoder. Only use this for
+     * immutable classes; the representation is encoded once per instance
+     * while it remains in the cache of each encoder.
+     *
+     * @return {@code True} if and only if the representation may be cached.
+     * @since 2.2.1
+     */
+    boolean cacheable() default false;
     // CHECKSTYLE.ON: JavadocMethod
 }
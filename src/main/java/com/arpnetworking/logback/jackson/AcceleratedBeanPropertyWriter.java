@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Property writer which reads the value of a getter through a
+ * {@link Function} generated with {@link LambdaMetafactory} when the
+ * serializer is built, in place of the reflective access of
+ * {@link BeanPropertyWriter}. The generated class is defined as a hidden
+ * class nested in the class declaring the getter so any getter the encoder
+ * may open is accessible, and once the call site is warm the getter is
+ * invoked directly and may be inlined. Writing the value is otherwise
+ * identical to {@link BeanPropertyWriter}.
+ *
+ * It is installed by the {@link StenoBeanSerializerModifier} for properties
+ * of {@link com.arpnetworking.logback.annotations.Loggable} beans so it
+ * composes with the {@link RedactingBeanPropertyWriter} and the bean
+ * identifier writers.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class AcceleratedBeanPropertyWriter extends BeanPropertyWriter {
+
+    /**
+     * Create a writer reading the property through a generated accessor.
+     * The writer is returned as-is if it is not a plain
+     * {@link BeanPropertyWriter} (e.g. it is virtual or was already
+     * optimized by another module), if the property is not read with a
+     * getter, or if the getter cannot be accessed (e.g. its package is not
+     * open to this library).
+     *
+     * @param writer The {@link BeanPropertyWriter} built by Jackson.
+     * @return The accelerated {@link BeanPropertyWriter} or the original.
+     */
+    /* package private */ static BeanPropertyWriter accelerate(final BeanPropertyWriter writer) {
+        if (writer.getClass() != BeanPropertyWriter.class) {
+            return writer;
+        }
+        final Member member = writer.getMember().getMember();
+        if (!(member instanceof Method)) {
+            return writer;
+        }
+        final Function<Object, Object> accessor = createAccessor((Method) member);
+        if (accessor == null) {
+            return writer;
+        }
+        return new AcceleratedBeanPropertyWriter(writer, accessor);
+    }
+
+    private AcceleratedBeanPropertyWriter(final BeanPropertyWriter base, final Function<Object, Object> accessor) {
+        super(base);
+        _accessor = accessor;
+    }
+
+    private AcceleratedBeanPropertyWriter(
+            final BeanPropertyWriter base,
+            final PropertyName name,
+            final Function<Object, Object> accessor) {
+        super(base, name);
+        _accessor = accessor;
+    }
+
+    @Override
+    public void serializeAsField(final Object bean, final JsonGenerator gen, final SerializerProvider prov) throws Exception {
+        final Object value = _accessor.apply(bean);
+        if (value == null) {
+            if (_suppressableValue != null && prov.includeFilterSuppressNulls(_suppressableValue)) {
+                return;
+            }
+            if (_nullSerializer != null) {
+                gen.writeFieldName(_name);
+                _nullSerializer.serialize(null, gen, prov);
+            }
+            return;
+        }
+        final JsonSerializer<Object> serializer = findSerializer(value, prov);
+        if (isSuppressed(value, serializer, prov)) {
+            return;
+        }
+        if (value == bean && _handleSelfReference(bean, gen, prov, serializer)) {
+            return;
+        }
+        gen.writeFieldName(_name);
+        serializeValue(value, serializer, gen, prov);
+    }
+
+    @Override
+    public void serializeAsElement(final Object bean, final JsonGenerator gen, final SerializerProvider prov) throws Exception {
+        final Object value = _accessor.apply(bean);
+        if (value == null) {
+            // Entries cannot be suppressed in tabular output
+            if (_nullSerializer != null) {
+                _nullSerializer.serialize(null, gen, prov);
+            } else {
+                gen.writeNull();
+            }
+            return;
+        }
+        final JsonSerializer<Object> serializer = findSerializer(value, prov);
+        if (isSuppressed(value, serializer, prov)) {
+            serializeAsPlaceholder(bean, gen, prov);
+            return;
+        }
+        if (value == bean && _handleSelfReference(bean, gen, prov, serializer)) {
+            return;
+        }
+        serializeValue(value, serializer, gen, prov);
+    }
+
+    @Override
+    protected BeanPropertyWriter _new(final PropertyName newName) {
+        return new AcceleratedBeanPropertyWriter(this, newName, _accessor);
+    }
+
+    private JsonSerializer<Object> findSerializer(final Object value, final SerializerProvider prov) throws Exception {
+        if (_serializer != null) {
+            return _serializer;
+        }
+        final Class<?> type = value.getClass();
+        final PropertySerializerMap serializers = _dynamicSerializers;
+        final JsonSerializer<Object> serializer = serializers.serializerFor(type);
+        if (serializer != null) {
+            return serializer;
+        }
+        return _findAndAddDynamic(serializers, type, prov);
+    }
+
+    private boolean isSuppressed(final Object value, final JsonSerializer<Object> serializer, final SerializerProvider prov) {
+        if (_suppressableValue == null) {
+            return false;
+        }
+        if (MARKER_FOR_EMPTY == _suppressableValue) {
+            return serializer.isEmpty(prov, value);
+        }
+        return _suppressableValue.equals(value);
+    }
+
+    private void serializeValue(
+            final Object value,
+            final JsonSerializer<Object> serializer,
+            final JsonGenerator gen,
+            final SerializerProvider prov) throws Exception {
+        if (_typeSerializer == null) {
+            serializer.serialize(value, gen, prov);
+        } else {
+            serializer.serializeWithType(value, gen, prov, _typeSerializer);
+        }
+    }
+
+    /**
+     * Create a {@link Function} invoking a getter through a call site bound
+     * with {@link LambdaMetafactory}. Exceptions thrown by the getter,
+     * including checked exceptions, propagate from the function as-is.
+     *
+     * @param method The getter.
+     * @return The accessor or null if the getter cannot be accessed.
+     */
+    @SuppressWarnings("unchecked")
+    /* package private */ static @Nullable Function<Object, Object> createAccessor(final Method method) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            final MethodHandle getter = lookup.unreflect(method);
+            final CallSite callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    ACCESSOR_FACTORY_TYPE,
+                    ACCESSOR_TYPE,
+                    getter,
+                    getter.type().wrap());
+            return (Function<Object, Object>) callSite.getTarget().invoke();
+            // CHECKSTYLE.OFF: IllegalCatch - Any failure leaves the property with reflective access.
+        } catch (final Throwable t) {
+            // CHECKSTYLE.ON: IllegalCatch
+            return null;
+        }
+    }
+
+    private final transient Function<Object, Object> _accessor;
+
+    private static final MethodType ACCESSOR_FACTORY_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final long serialVersionUID = 1L;
+}
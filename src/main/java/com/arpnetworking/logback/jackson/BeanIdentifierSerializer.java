@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializer which writes only the {@code _id} and {@code _class} of a bean;
+ * the representation of beans which are not annotated with
+ * {@link com.arpnetworking.logback.annotations.Loggable} under safe encoding.
+ *
+ * It is chosen by the {@link StenoSerializerFactory} in place of a bean
+ * serializer so the properties of the bean are never introspected.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class BeanIdentifierSerializer extends StdSerializer<Object> {
+
+    /**
+     * Package private constructor.
+     */
+    /* package private */ BeanIdentifierSerializer() {
+        super(Object.class);
+    }
+
+    @Override
+    public void serialize(
+            final Object value,
+            final JsonGenerator generator,
+            final SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(value);
+        LogValueMapSerializer.writeIdentifiers(value, generator);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(
+            final Object value,
+            final JsonGenerator generator,
+            final SerializerProvider provider,
+            final TypeSerializer typeSerializer)
+            throws IOException {
+        final WritableTypeId typeId = typeSerializer.writeTypePrefix(
+                generator,
+                typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        LogValueMapSerializer.writeIdentifiers(value, generator);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+    }
+
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.std.MapProperty;
+
+/**
+ * Jackson property filter that replaces values of map entries whose keys
+ * are redacted by the {@link StenoEncoder} with a string value of
+ * "&lt;REDACTED&gt;". All other properties are written as-is.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public final class KeyRedactionFilter extends SimpleBeanPropertyFilter {
+
+    /**
+     * Public constructor.
+     *
+     * @param stenoEncoder The {@link StenoEncoder} with the redacted keys.
+     */
+    public KeyRedactionFilter(final StenoEncoder stenoEncoder) {
+        _stenoEncoder = stenoEncoder;
+    }
+
+    @Override
+    public void serializeAsField(
+            final Object pojo,
+            final JsonGenerator jgen,
+            final SerializerProvider prov,
+            final PropertyWriter writer) throws Exception {
+        if (writer instanceof MapProperty && _stenoEncoder.isRedactedKey(writer.getName(), ((MapProperty) writer).getValue())) {
+            jgen.writeStringField(writer.getName(), RedactionFilter.REDACTION_STRING);
+        } else {
+            super.serializeAsField(pojo, jgen, prov, writer);
+        }
+    }
+
+    private final StenoEncoder _stenoEncoder;
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.steno.LogReferenceOnly;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link LogReferenceOnly} which writes the identifiers of
+ * the wrapped instance directly, with the same output as its
+ * {@link LogReferenceOnly#toLogValue()} representation but without creating
+ * it: {@code _id} and {@code _class} when the encoder injects bean
+ * identifiers and otherwise an empty object.
+ *
+ * It is installed by the {@link StenoBeanSerializerModifier}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class LogReferenceOnlySerializer extends StdSerializer<LogReferenceOnly> {
+
+    /**
+     * Package private constructor.
+     *
+     * @param stenoEncoder The instance of {@link StenoEncoder}.
+     */
+    /* package private */ LogReferenceOnlySerializer(final StenoEncoder stenoEncoder) {
+        super(LogReferenceOnly.class);
+        _stenoEncoder = stenoEncoder;
+    }
+
+    @Override
+    public void serialize(
+            final LogReferenceOnly value,
+            final JsonGenerator generator,
+            final SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(value);
+        serializeFields(value, generator);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(
+            final LogReferenceOnly value,
+            final JsonGenerator generator,
+            final SerializerProvider provider,
+            final TypeSerializer typeSerializer)
+            throws IOException {
+        final WritableTypeId typeId = typeSerializer.writeTypePrefix(
+                generator,
+                typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        serializeFields(value, generator);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+    }
+
+    private void serializeFields(final LogReferenceOnly value, final JsonGenerator generator) throws IOException {
+        if (_stenoEncoder.isInjectBeanIdentifier()) {
+            LogValueMapSerializer.writeIdentifiers(value.getTarget(), generator);
+        }
+    }
+
+    private final StenoEncoder _stenoEncoder;
+
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+
+/**
+ * Cache of the encoded representations of instances of classes whose
+ * {@link com.arpnetworking.logback.annotations.LogValue} method is
+ * {@code cacheable}. Instances are held by weak reference and compared by
+ * identity, so an entry never outlives its instance and equal but distinct
+ * instances are encoded separately. The cache is bounded by the total size
+ * of the UTF-8 encoded representations; a representation larger than the
+ * cache is not cached.
+ *
+ * The entries are striped across segments by the identity of the instance
+ * so that concurrent lookups of different instances rarely contend. Each
+ * segment evicts its least recently used entry first and the segments are
+ * evicted from in turn.
+ *
+ * Each {@link com.arpnetworking.logback.StenoEncoder} has its own cache so
+ * the representations always reflect the redaction and other settings of
+ * the encoder using them.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public final class LogValueCache {
+
+    /**
+     * Public constructor.
+     *
+     * @param maxSize The maximum total size of the cached representations in bytes.
+     */
+    public LogValueCache(final long maxSize) {
+        this(maxSize, SEGMENT_COUNT);
+    }
+
+    /**
+     * Retrieve the maximum total size of the cached representations.
+     *
+     * @return The size in bytes.
+     */
+    public long getMaxSize() {
+        return _maxSize;
+    }
+
+    /**
+     * Set the maximum total size of the cached representations; zero
+     * disables the cache. Entries are evicted to fit the new size.
+     *
+     * @param value The size in bytes.
+     */
+    public void setMaxSize(final long value) {
+        _maxSize = value;
+        evict();
+    }
+
+    /**
+     * Retrieve the total size of the cached representations.
+     *
+     * @return The size in bytes.
+     */
+    public long getSize() {
+        for (final Segment segment : _segments) {
+            segment.expunge();
+        }
+        return _size.get();
+    }
+
+    /**
+     * Retrieve the number of lookups which found a representation.
+     *
+     * @return The number of hits.
+     */
+    public long getHits() {
+        return _hits.sum();
+    }
+
+    /**
+     * Retrieve the number of lookups which did not find a representation.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return _misses.sum();
+    }
+
+    /**
+     * Retrieve the number of representations evicted to make space.
+     *
+     * @return The number of evictions.
+     */
+    public long getEvictions() {
+        return _evictions.sum();
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+        for (final Segment segment : _segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Determine whether representations are cached.
+     *
+     * @return True if and only if the maximum size is positive.
+     */
+    /* package private */ boolean isEnabled() {
+        return _maxSize > 0;
+    }
+
+    /**
+     * Look up the representation of an instance.
+     *
+     * @param value The instance.
+     * @return The representation or null if it is not cached.
+     */
+    /* package private */ @Nullable SerializedString get(final Object value) {
+        final SerializedString encoded = segmentFor(value).get(value);
+        if (encoded == null) {
+            _misses.increment();
+        } else {
+            _hits.increment();
+        }
+        return encoded;
+    }
+
+    /**
+     * Cache the representation of an instance.
+     *
+     * @param value The instance.
+     * @param encoded The representation.
+     */
+    /* package private */ void put(final Object value, final SerializedString encoded) {
+        final int size = encoded.asUnquotedUTF8().length;
+        if (size > _maxSize) {
+            return;
+        }
+        segmentFor(value).put(value, encoded, size);
+        evict();
+    }
+
+    /**
+     * Package private constructor.
+     *
+     * @param maxSize The maximum total size of the cached representations in bytes.
+     * @param segmentCount The number of segments; a power of two.
+     */
+    /* package private */ LogValueCache(final long maxSize, final int segmentCount) {
+        _maxSize = maxSize;
+        _segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; ++i) {
+            _segments[i] = new Segment();
+        }
+    }
+
+    private Segment segmentFor(final Object value) {
+        final int hashCode = System.identityHashCode(value);
+        return _segments[(hashCode ^ (hashCode >>> 16)) & (_segments.length - 1)];
+    }
+
+    private void evict() {
+        while (_size.get() > _maxSize) {
+            _segments[Math.floorMod(_evictionIndex.getAndIncrement(), _segments.length)].evictEldest();
+        }
+    }
+
+    private final Segment[] _segments;
+    private final AtomicLong _size = new AtomicLong();
+    private final AtomicInteger _evictionIndex = new AtomicInteger();
+    private final LongAdder _hits = new LongAdder();
+    private final LongAdder _misses = new LongAdder();
+    private final LongAdder _evictions = new LongAdder();
+    private volatile long _maxSize;
+
+    private static final int SEGMENT_COUNT = 16;
+
+    /**
+     * Entries of the instances whose identity maps to the segment, ordered
+     * from least to most recently used.
+     */
+    private final class Segment {
+
+        private synchronized @Nullable SerializedString get(final Object value) {
+            expunge();
+            return _entries.get(new IdentityReference(value, null));
+        }
+
+        private synchronized void put(final Object value, final SerializedString encoded, final int size) {
+            expunge();
+            final SerializedString previous = _entries.put(new IdentityReference(value, _queue), encoded);
+            if (previous != null) {
+                _size.addAndGet(-previous.asUnquotedUTF8().length);
+            }
+            _size.addAndGet(size);
+        }
+
+        private synchronized void evictEldest() {
+            final Iterator<SerializedString> iterator = _entries.values().iterator();
+            if (iterator.hasNext()) {
+                _size.addAndGet(-iterator.next().asUnquotedUTF8().length);
+                iterator.remove();
+                _evictions.increment();
+            }
+        }
+
+        private synchronized void clear() {
+            for (final SerializedString encoded : _entries.values()) {
+                _size.addAndGet(-encoded.asUnquotedUTF8().length);
+            }
+            _entries.clear();
+            expunge();
+        }
+
+        private synchronized void expunge() {
+            Reference<?> reference = _queue.poll();
+            while (reference != null) {
+                // The reference of an instance cached again after its entry was
+                // evicted or replaced is no longer in the cache
+                final SerializedString encoded = _entries.remove(reference);
+                if (encoded != null) {
+                    _size.addAndGet(-encoded.asUnquotedUTF8().length);
+                }
+                reference = _queue.poll();
+            }
+        }
+
+        private final LinkedHashMap<IdentityReference, SerializedString> _entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final ReferenceQueue<Object> _queue = new ReferenceQueue<>();
+    }
+
+    /**
+     * Weak reference compared by the identity of its referent. A cleared
+     * reference is only equal to itself.
+     */
+    private static final class IdentityReference extends WeakReference<Object> {
+
+        private IdentityReference(final Object referent, @Nullable final ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            _hashCode = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityReference)) {
+                return false;
+            }
+            final Object referent = get();
+            return referent != null && referent == ((IdentityReference) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return _hashCode;
+        }
+
+        private final int _hashCode;
+    }
+}
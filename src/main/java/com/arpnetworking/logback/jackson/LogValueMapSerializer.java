@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.steno.LogValueMapFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import javax.annotation.Nullable;
+
+/**
+ * Serializer for {@link LogValueMapFactory.LogValueMap} which streams the
+ * entries directly from its arrays in place of the bean serializer and its
+ * {@link com.fasterxml.jackson.annotation.JsonAnyGetter} map. The output is
+ * that of the bean serializer: the {@code _id} and {@code _class} of the
+ * target only when the encoder injects bean identifiers, followed by the
+ * entries with values of redacted keys replaced and, when the encoder limits
+ * the collection size, truncated with the same markers as a map.
+ *
+ * It is installed by the {@link StenoBeanSerializerModifier}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class LogValueMapSerializer extends StdSerializer<LogValueMapFactory.LogValueMap> {
+
+    /**
+     * Package private constructor.
+     *
+     * @param stenoEncoder The instance of {@link StenoEncoder}.
+     */
+    /* package private */ LogValueMapSerializer(final StenoEncoder stenoEncoder) {
+        super(LogValueMapFactory.LogValueMap.class);
+        _stenoEncoder = stenoEncoder;
+    }
+
+    @Override
+    public void serialize(
+            final LogValueMapFactory.LogValueMap value,
+            final JsonGenerator generator,
+            final SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(value);
+        serializeFields(value, generator, provider);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(
+            final LogValueMapFactory.LogValueMap value,
+            final JsonGenerator generator,
+            final SerializerProvider provider,
+            final TypeSerializer typeSerializer)
+            throws IOException {
+        final WritableTypeId typeId = typeSerializer.writeTypePrefix(
+                generator,
+                typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        serializeFields(value, generator, provider);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+    }
+
+    private void serializeFields(
+            final LogValueMapFactory.LogValueMap value,
+            final JsonGenerator generator,
+            final SerializerProvider provider)
+            throws IOException {
+        if (_stenoEncoder.isInjectBeanIdentifier()) {
+            writeIdentifiers(value.getTarget().orElse(null), generator);
+        }
+        final int size = value.size();
+        final int maxCollectionSize = _stenoEncoder.getMaxCollectionSize();
+        final int count = maxCollectionSize > 0 ? Math.min(size, maxCollectionSize) : size;
+        for (int i = 0; i < count; ++i) {
+            final String key = value.getKey(i);
+            final Object entryValue = value.getValue(i);
+            if (_stenoEncoder.isRedactedKey(key, entryValue)) {
+                generator.writeStringField(key, RedactionFilter.REDACTION_STRING);
+            } else {
+                provider.defaultSerializeField(key, entryValue, generator);
+            }
+        }
+        if (count < size) {
+            generator.writeBooleanField("_truncated", true);
+            generator.writeNumberField("_size", size);
+        }
+    }
+
+    /**
+     * Write the {@code _id} and {@code _class} attributes identifying the
+     * target of a representation.
+     *
+     * @param target The target or null if absent.
+     * @param generator The generator.
+     * @throws IOException If writing fails.
+     */
+    /* package private */ static void writeIdentifiers(@Nullable final Object target, final JsonGenerator generator)
+            throws IOException {
+        // Representations are identified by the target
+        if (target != null) {
+            generator.writeStringField("_id", Integer.toHexString(System.identityHashCode(target)));
+            generator.writeStringField("_class", target.getClass().getName());
+        } else {
+            generator.writeNullField("_id");
+            generator.writeNullField("_class");
+        }
+    }
+
+    private final StenoEncoder _stenoEncoder;
+
+    private static final long serialVersionUID = 1L;
+}
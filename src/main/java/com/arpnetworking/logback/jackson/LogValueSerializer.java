@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.JsonValueSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Serializer for classes with an enabled
+ * {@link com.arpnetworking.logback.annotations.LogValue} method which
+ * invokes the method through a {@link Function} generated once when the
+ * serializer is built, in place of the reflective invocation of Jackson's
+ * {@link JsonValueSerializer}. The returned value is written with the
+ * serializer for its runtime type; for a
+ * {@link com.arpnetworking.steno.LogValueMapFactory.LogValueMap} that is the
+ * {@link LogValueMapSerializer}. Values written with type information are
+ * delegated to the {@link JsonValueSerializer}.
+ *
+ * When the method is {@code cacheable} the encoded representation of each
+ * instance is kept in the {@link LogValueCache} of the encoder and written
+ * as raw JSON while it remains cached. The representation is encoded with
+ * a generator from the factory of the mapper writing the value, so it has
+ * the same features; values written by a generator without a mapper are
+ * not cached.
+ *
+ * It is installed by the {@link StenoBeanSerializerModifier}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class LogValueSerializer extends StdSerializer<Object> implements ContextualSerializer {
+
+    /**
+     * Create a serializer invoking the log value method through a generated
+     * accessor. The {@link JsonValueSerializer} is returned as-is if the
+     * method cannot be accessed (e.g. its package is not open to this
+     * library) or is not a getter.
+     *
+     * @param delegate The {@link JsonValueSerializer} built by Jackson.
+     * @param method The log value method.
+     * @param cache The cache of encoded representations or null if the method is not cacheable.
+     * @return The {@link LogValueSerializer} or the original.
+     */
+    /* package private */ static JsonSerializer<?> create(
+            final JsonValueSerializer delegate,
+            final Method method,
+            @Nullable final LogValueCache cache) {
+        final Function<Object, Object> accessor = AcceleratedBeanPropertyWriter.createAccessor(method);
+        if (accessor == null) {
+            return delegate;
+        }
+        return new LogValueSerializer(delegate, method.getName(), accessor, cache, null);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(
+            final SerializerProvider provider,
+            @Nullable final BeanProperty property)
+            throws JsonMappingException {
+        final JsonSerializer<?> delegate = _delegate.createContextual(provider, property);
+        return new LogValueSerializer((JsonValueSerializer) delegate, _name, _accessor, _cache, property);
+    }
+
+    @Override
+    public void serialize(
+            final Object bean,
+            final JsonGenerator generator,
+            final SerializerProvider provider)
+            throws IOException {
+        final ObjectCodec codec = generator.getCodec();
+        if (_cache != null && _cache.isEnabled() && codec != null) {
+            SerializedString encoded = _cache.get(bean);
+            if (encoded == null) {
+                encoded = encode(bean, codec, provider);
+                _cache.put(bean, encoded);
+            }
+            generator.writeRawValue(encoded);
+        } else {
+            serializeValue(bean, generator, provider);
+        }
+    }
+
+    @Override
+    public void serializeWithType(
+            final Object bean,
+            final JsonGenerator generator,
+            final SerializerProvider provider,
+            final TypeSerializer typeSerializer)
+            throws IOException {
+        _delegate.serializeWithType(bean, generator, provider, typeSerializer);
+    }
+
+    private SerializedString encode(final Object bean, final ObjectCodec codec, final SerializerProvider provider) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = codec.getFactory().createGenerator(writer)) {
+            serializeValue(bean, generator, provider);
+        }
+        return new SerializedString(writer.toString());
+    }
+
+    private void serializeValue(
+            final Object bean,
+            final JsonGenerator generator,
+            final SerializerProvider provider)
+            throws IOException {
+        Object value;
+        try {
+            value = _accessor.apply(bean);
+            // CHECKSTYLE.OFF: IllegalCatch - The accessor may throw any exception thrown by the method.
+        } catch (final Exception e) {
+            // CHECKSTYLE.ON: IllegalCatch
+            value = null;
+            wrapAndThrow(provider, e, bean, _name + "()");
+        }
+        if (value == null) {
+            provider.defaultSerializeNull(generator);
+        } else {
+            provider.findValueSerializer(value.getClass(), _property).serialize(value, generator, provider);
+        }
+    }
+
+    private LogValueSerializer(
+            final JsonValueSerializer delegate,
+            final String name,
+            final Function<Object, Object> accessor,
+            @Nullable final LogValueCache cache,
+            @Nullable final BeanProperty property) {
+        super(Object.class);
+        _delegate = delegate;
+        _name = name;
+        _accessor = accessor;
+        _cache = cache;
+        _property = property;
+    }
+
+    private final JsonValueSerializer _delegate;
+    private final String _name;
+    private final transient Function<Object, Object> _accessor;
+    @Nullable
+    private final transient LogValueCache _cache;
+    @Nullable
+    private final BeanProperty _property;
+
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.serialization.steno.StenoSerializationHelper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.JsonValueSerializer;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Modifier for Jackson's serializers which enforces the payload limits of
+ * the {@link StenoEncoder}: the maximum string length, the maximum number of
+ * elements of collections, arrays and maps, the maximum depth and cycle
+ * detection. Serializers are wrapped when they are created, and only for
+ * the limits configured at that time, so that serialization stops as soon
+ * as a limit is reached and there is no cost when no limit is configured.
+ * The limits themselves are read on each use.
+ * <p>
+ * The depth and the containing values are tracked per call to Jackson as
+ * an attribute of the {@link SerializerProvider}. Byte and character arrays
+ * are written by Jackson as strings and are not limited.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public final class PayloadLimitSerializerModifier extends BeanSerializerModifier {
+
+    /**
+     * Public constructor.
+     *
+     * @param stenoEncoder The instance of {@link StenoEncoder}.
+     */
+    public PayloadLimitSerializerModifier(final StenoEncoder stenoEncoder) {
+        _stenoEncoder = stenoEncoder;
+    }
+
+    @Override
+    public JsonSerializer<?> modifySerializer(
+            final SerializationConfig config,
+            final BeanDescription beanDesc,
+            final JsonSerializer<?> serializer) {
+        if (String.class.equals(beanDesc.getBeanClass())) {
+            return _stenoEncoder.getMaxStringLength() > 0 ? wrap(serializer, Kind.STRING) : serializer;
+        } else if (serializer instanceof BeanSerializerBase
+                || serializer instanceof LogValueMapSerializer
+                || serializer instanceof LogReferenceOnlySerializer
+                || serializer instanceof BeanIdentifierSerializer) {
+            return isStructureLimited() ? wrap(serializer, Kind.BEAN) : serializer;
+        } else if (serializer instanceof JsonValueSerializer || serializer instanceof LogValueSerializer) {
+            return _stenoEncoder.isDetectCycles() ? wrap(serializer, Kind.VALUE) : serializer;
+        }
+        return serializer;
+    }
+
+    @Override
+    public JsonSerializer<?> modifyArraySerializer(
+            final SerializationConfig config,
+            final ArrayType valueType,
+            final BeanDescription beanDesc,
+            final JsonSerializer<?> serializer) {
+        final Class<?> arrayClass = valueType.getRawClass();
+        if (arrayClass == byte[].class || arrayClass == char[].class) {
+            return serializer;
+        }
+        return isContainerLimited() ? wrap(serializer, Kind.ARRAY) : serializer;
+    }
+
+    @Override
+    public JsonSerializer<?> modifyCollectionSerializer(
+            final SerializationConfig config,
+            final CollectionType valueType,
+            final BeanDescription beanDesc,
+            final JsonSerializer<?> serializer) {
+        return isContainerLimited() ? wrap(serializer, Kind.COLLECTION) : serializer;
+    }
+
+    @Override
+    public JsonSerializer<?> modifyMapSerializer(
+            final SerializationConfig config,
+            final MapType valueType,
+            final BeanDescription beanDesc,
+            final JsonSerializer<?> serializer) {
+        return isContainerLimited() ? wrap(serializer, Kind.MAP) : serializer;
+    }
+
+    private boolean isStructureLimited() {
+        return _stenoEncoder.getMaxDepth() > 0 || _stenoEncoder.isDetectCycles();
+    }
+
+    private boolean isContainerLimited() {
+        return isStructureLimited() || _stenoEncoder.getMaxCollectionSize() > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonSerializer<?> wrap(final JsonSerializer<?> serializer, final Kind kind) {
+        return new LimitedSerializer(_stenoEncoder, (JsonSerializer<Object>) serializer, kind);
+    }
+
+    private final StenoEncoder _stenoEncoder;
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The kind of value a {@link LimitedSerializer} writes.
+     */
+    /* package private */ enum Kind {
+        STRING,
+        BEAN,
+        VALUE,
+        ARRAY,
+        COLLECTION,
+        MAP
+    }
+
+    /**
+     * The depth and the containing values of the value being written.
+     */
+    private static final class State {
+
+        private final Set<Object> _path = Collections.newSetFromMap(new IdentityHashMap<>());
+        private int _depth;
+    }
+
+    /**
+     * Serializer which enforces the payload limits before delegating to the
+     * serializer created by Jackson.
+     */
+    /* package private */ static final class LimitedSerializer extends JsonSerializer<Object>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        /* package private */ LimitedSerializer(
+                final StenoEncoder stenoEncoder,
+                final JsonSerializer<Object> delegate,
+                final Kind kind) {
+            _stenoEncoder = stenoEncoder;
+            _delegate = delegate;
+            _kind = kind;
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            if (_delegate instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) _delegate).resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(
+                final SerializerProvider provider,
+                final BeanProperty property)
+                throws JsonMappingException {
+            if (_delegate instanceof ContextualSerializer) {
+                final JsonSerializer<?> contextual = ((ContextualSerializer) _delegate).createContextual(provider, property);
+                if (contextual != _delegate) {
+                    return new LimitedSerializer(_stenoEncoder, (JsonSerializer<Object>) contextual, _kind);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public void serialize(
+                final Object value,
+                final JsonGenerator generator,
+                final SerializerProvider provider)
+                throws IOException {
+            serializeLimited(value, generator, provider, null);
+        }
+
+        @Override
+        public void serializeWithType(
+                final Object value,
+                final JsonGenerator generator,
+                final SerializerProvider provider,
+                final TypeSerializer typeSerializer)
+                throws IOException {
+            serializeLimited(value, generator, provider, typeSerializer);
+        }
+
+        @Override
+        public boolean isEmpty(final SerializerProvider provider, final Object value) {
+            return _delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public boolean usesObjectId() {
+            return _delegate.usesObjectId();
+        }
+
+        @Override
+        public boolean isUnwrappingSerializer() {
+            return _delegate.isUnwrappingSerializer();
+        }
+
+        @Override
+        public JsonSerializer<Object> unwrappingSerializer(final NameTransformer unwrapper) {
+            return _delegate.unwrappingSerializer(unwrapper);
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return _delegate.handledType();
+        }
+
+        @Override
+        public JsonSerializer<?> getDelegatee() {
+            return _delegate;
+        }
+
+        private void serializeLimited(
+                final Object value,
+                final JsonGenerator generator,
+                final SerializerProvider provider,
+                @Nullable final TypeSerializer typeSerializer)
+                throws IOException {
+            if (_kind == Kind.STRING) {
+                serializeString((String) value, generator, provider, typeSerializer);
+                return;
+            }
+
+            final State state = getState(provider);
+            final boolean counted = _kind != Kind.VALUE;
+            final int maxDepth = _stenoEncoder.getMaxDepth();
+            if (counted && maxDepth > 0 && state._depth >= maxDepth) {
+                generator.writeStartObject();
+                generator.writeBooleanField("_truncated", true);
+                generator.writeStringField("_class", value.getClass().getName());
+                generator.writeEndObject();
+                return;
+            }
+            final boolean tracked = _stenoEncoder.isDetectCycles();
+            if (tracked && !state._path.add(value)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("_cycle", true);
+                generator.writeStringField("_id", Integer.toHexString(System.identityHashCode(value)));
+                generator.writeStringField("_class", value.getClass().getName());
+                generator.writeEndObject();
+                return;
+            }
+            if (counted) {
+                ++state._depth;
+            }
+            try {
+                serializeContainer(value, generator, provider, typeSerializer);
+            } finally {
+                if (counted) {
+                    --state._depth;
+                }
+                if (tracked) {
+                    state._path.remove(value);
+                }
+            }
+        }
+
+        private void serializeString(
+                final String value,
+                final JsonGenerator generator,
+                final SerializerProvider provider,
+                @Nullable final TypeSerializer typeSerializer)
+                throws IOException {
+            final int maxStringLength = _stenoEncoder.getMaxStringLength();
+            if (maxStringLength > 0 && value.length() > maxStringLength) {
+                generator.writeStartObject();
+                generator.writeBooleanField("_truncated", true);
+                generator.writeNumberField("_size", value.length());
+                generator.writeStringField("_value", StenoSerializationHelper.truncate(value, maxStringLength));
+                generator.writeEndObject();
+            } else {
+                delegate(value, generator, provider, typeSerializer);
+            }
+        }
+
+        private void serializeContainer(
+                final Object value,
+                final JsonGenerator generator,
+                final SerializerProvider provider,
+                @Nullable final TypeSerializer typeSerializer)
+                throws IOException {
+            final int maxCollectionSize = _stenoEncoder.getMaxCollectionSize();
+            if (maxCollectionSize > 0) {
+                if (_kind == Kind.ARRAY && Array.getLength(value) > maxCollectionSize) {
+                    generator.writeStartArray();
+                    for (int i = 0; i < maxCollectionSize; ++i) {
+                        provider.defaultSerializeValue(Array.get(value, i), generator);
+                    }
+                    writeTruncatedElement(Array.getLength(value), generator);
+                    generator.writeEndArray();
+                    return;
+                } else if (_kind == Kind.COLLECTION && ((Collection<?>) value).size() > maxCollectionSize) {
+                    generator.writeStartArray();
+                    int count = 0;
+                    for (final Object element : (Collection<?>) value) {
+                        if (count++ == maxCollectionSize) {
+                            break;
+                        }
+                        provider.defaultSerializeValue(element, generator);
+                    }
+                    writeTruncatedElement(((Collection<?>) value).size(), generator);
+                    generator.writeEndArray();
+                    return;
+                } else if (_kind == Kind.MAP && ((Map<?, ?>) value).size() > maxCollectionSize) {
+                    generator.writeStartObject();
+                    int count = 0;
+                    for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                        if (count++ == maxCollectionSize) {
+                            break;
+                        }
+                        final String key = String.valueOf(entry.getKey());
+                        if (_stenoEncoder.isRedactedKey(key, entry.getValue())) {
+                            generator.writeStringField(key, RedactionFilter.REDACTION_STRING);
+                        } else {
+                            generator.writeFieldName(key);
+                            provider.defaultSerializeValue(entry.getValue(), generator);
+                        }
+                    }
+                    generator.writeBooleanField("_truncated", true);
+                    generator.writeNumberField("_size", ((Map<?, ?>) value).size());
+                    generator.writeEndObject();
+                    return;
+                }
+            }
+            delegate(value, generator, provider, typeSerializer);
+        }
+
+        private void delegate(
+                final Object value,
+                final JsonGenerator generator,
+                final SerializerProvider provider,
+                @Nullable final TypeSerializer typeSerializer)
+                throws IOException {
+            if (typeSerializer == null) {
+                _delegate.serialize(value, generator, provider);
+            } else {
+                _delegate.serializeWithType(value, generator, provider, typeSerializer);
+            }
+        }
+
+        private static void writeTruncatedElement(final int size, final JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeBooleanField("_truncated", true);
+            generator.writeNumberField("_size", size);
+            generator.writeEndObject();
+        }
+
+        private static State getState(final SerializerProvider provider) {
+            State state = (State) provider.getAttribute(State.class);
+            if (state == null) {
+                state = new State();
+                provider.setAttribute(State.class, state);
+            }
+            return state;
+        }
+
+        private final StenoEncoder _stenoEncoder;
+        private final JsonSerializer<Object> _delegate;
+        private final Kind _kind;
+    }
+}
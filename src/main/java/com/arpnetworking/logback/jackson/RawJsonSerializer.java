@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.steno.RawJson;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer which writes {@link RawJson} values as-is. If the
+ * encoder's raw JSON validation limit is set, values up to that length are
+ * first parsed and, if they are not exactly one valid JSON value, are written
+ * as a string instead so that the event remains valid JSON.
+ *
+ * The encoder serializes events as characters, so a value created from bytes
+ * is decoded into a string here and encoded again when the event is written.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public final class RawJsonSerializer extends StdSerializer<RawJson> {
+
+    /**
+     * Public constructor.
+     *
+     * @param stenoEncoder The instance of {@link StenoEncoder}.
+     */
+    public RawJsonSerializer(final StenoEncoder stenoEncoder) {
+        super(RawJson.class);
+        _stenoEncoder = stenoEncoder;
+    }
+
+    @Override
+    public void serialize(
+            final RawJson value,
+            final JsonGenerator generator,
+            final SerializerProvider provider)
+            throws IOException {
+        final String json = value.toString();
+        final int limit = _stenoEncoder.getRawJsonValidationLimit();
+        if (limit > 0 && json.length() <= limit && !isValid(json)) {
+            generator.writeString(json);
+        } else {
+            generator.writeRawValue(json);
+        }
+    }
+
+    /* package private */ static boolean isValid(final String json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() == null) {
+                return false;
+            }
+            parser.skipChildren();
+            return parser.nextToken() == null;
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private final StenoEncoder _stenoEncoder;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final long serialVersionUID = 1L;
+}
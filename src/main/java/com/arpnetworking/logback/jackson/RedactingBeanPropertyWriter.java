@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * Property writer for a property annotated with
+ * {@link com.arpnetworking.logback.annotations.LogRedact}. It is installed by
+ * the {@link StenoBeanSerializerModifier} when the serializer is built and
+ * replaces the value with {@link RedactionFilter#REDACTION_STRING}. Whether
+ * the value is redacted, and whether null values are, is read from the
+ * {@link StenoEncoder} on each write so changing the settings does not
+ * require the serializers to be rebuilt.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class RedactingBeanPropertyWriter extends BeanPropertyWriter {
+
+    /* package private */ RedactingBeanPropertyWriter(final BeanPropertyWriter delegate, final StenoEncoder stenoEncoder) {
+        super(delegate);
+        _delegate = delegate;
+        _stenoEncoder = stenoEncoder;
+    }
+
+    @Override
+    public void serializeAsField(final Object bean, final JsonGenerator gen, final SerializerProvider prov) throws Exception {
+        if (isRedacted(bean)) {
+            gen.writeFieldName(_name);
+            gen.writeString(RedactionFilter.REDACTION_STRING);
+        } else {
+            _delegate.serializeAsField(bean, gen, prov);
+        }
+    }
+
+    @Override
+    public void serializeAsElement(final Object bean, final JsonGenerator gen, final SerializerProvider prov) throws Exception {
+        if (isRedacted(bean)) {
+            gen.writeString(RedactionFilter.REDACTION_STRING);
+        } else {
+            _delegate.serializeAsElement(bean, gen, prov);
+        }
+    }
+
+    @Override
+    public BeanPropertyWriter rename(final NameTransformer transformer) {
+        return new RedactingBeanPropertyWriter(_delegate.rename(transformer), _stenoEncoder);
+    }
+
+    @Override
+    public BeanPropertyWriter unwrappingWriter(final NameTransformer unwrapper) {
+        return new RedactingBeanPropertyWriter(_delegate.unwrappingWriter(unwrapper), _stenoEncoder);
+    }
+
+    @Override
+    public void assignSerializer(final JsonSerializer<Object> ser) {
+        super.assignSerializer(ser);
+        _delegate.assignSerializer(ser);
+    }
+
+    @Override
+    public void assignNullSerializer(final JsonSerializer<Object> nullSer) {
+        super.assignNullSerializer(nullSer);
+        _delegate.assignNullSerializer(nullSer);
+    }
+
+    @Override
+    public void assignTypeSerializer(final TypeSerializer typeSer) {
+        super.assignTypeSerializer(typeSer);
+        _delegate.assignTypeSerializer(typeSer);
+    }
+
+    @Override
+    public void fixAccess(final SerializationConfig config) {
+        super.fixAccess(config);
+        _delegate.fixAccess(config);
+    }
+
+    private boolean isRedacted(final Object bean) throws Exception {
+        if (!_stenoEncoder.isRedactEnabled()) {
+            return false;
+        }
+        // Null values are written as-is unless null values are also redacted
+        return _stenoEncoder.isRedactNull() || _delegate.get(bean) != null;
+    }
+
+    private final BeanPropertyWriter _delegate;
+    private final StenoEncoder _stenoEncoder;
+
+    private static final long serialVersionUID = 1L;
+}
@@ -15,12 +15,10 @@
  */
 package com.arpnetworking.logback.jackson;
 
-import com.arpnetworking.logback.annotations.LogRedact;
 import com.arpnetworking.logback.annotations.LogValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
-import com.fasterxml.jackson.databind.introspect.AnnotatedClassResolver;
 import com.fasterxml.jackson.databind.introspect.AnnotatedField;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
@@ -52,22 +50,10 @@ public class StenoAnnotationIntrospector extends JacksonAnnotationIntrospector {
     @Override
     public Object findFilterId(final Annotated annotated) {
         if (annotated instanceof AnnotatedClass) {
-            final AnnotatedClass annotatedClass = (AnnotatedClass) annotated;
-
-            // Check methods
-            for (final AnnotatedMethod annotatedMethod : annotatedClass.memberMethods()) {
-                @Nullable final LogRedact methodAnnotation = _findAnnotation(annotatedMethod, LogRedact.class);
-                if (methodAnnotation != null) {
-                    return RedactionFilter.REDACTION_FILTER_ID;
-                }
-            }
-
-            // Check fields
-            for (final AnnotatedField annotatedField : annotatedClass.fields()) {
-                @Nullable final LogRedact fieldAnnotation = _findAnnotation(annotatedField, LogRedact.class);
-                if (fieldAnnotation != null) {
-                    return RedactionFilter.REDACTION_FILTER_ID;
-                }
+            @Nullable final Object filterId = StenoClassMetadata.of(_objectMapper.getSerializationConfig(), annotated.getRawType())
+                    .getFilterId();
+            if (filterId != null) {
+                return filterId;
             }
         }
         // Do we need to consider a case where we are called only for the method or field?
@@ -101,19 +87,11 @@ public class StenoAnnotationIntrospector extends JacksonAnnotationIntrospector {
         } else {
             return super.hasAsValue(annotated);
         }
-        final AnnotatedClass annotatedClass = AnnotatedClassResolver.resolve(
-                _objectMapper.getSerializationConfig(),
-                _objectMapper.constructType(clazz),
-                _objectMapper.getSerializationConfig());
-        for (final AnnotatedMethod otherAnnotatedMethod : annotatedClass.memberMethods()) {
-            final LogValue annotation = _findAnnotation(otherAnnotatedMethod, LogValue.class);
-            if (annotation != null) {
-                if (annotation.enabled()) {
-                    return null;
-                } else if (!annotation.fallback()) {
-                    return false;
-                }
-            }
+        final StenoClassMetadata metadata = StenoClassMetadata.of(_objectMapper.getSerializationConfig(), clazz);
+        if (metadata.getLogValueMethod() != null) {
+            return null;
+        } else if (metadata.isValueSuppressed()) {
+            return false;
         }
 
         // Otherwise use default logic (e.g respect @JsonValue)
@@ -16,12 +16,15 @@
 package com.arpnetworking.logback.jackson;
 
 import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.annotations.LogRedact;
 import com.arpnetworking.logback.annotations.Loggable;
+import com.arpnetworking.steno.LogReferenceOnly;
 import com.arpnetworking.steno.LogValueMapFactory;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.PropertyMetadata;
 import com.fasterxml.jackson.databind.PropertyName;
 import com.fasterxml.jackson.databind.SerializationConfig;
@@ -33,15 +36,18 @@ import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.introspect.TypeResolutionContext;
 import com.fasterxml.jackson.databind.introspect.VirtualAnnotatedMember;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerBuilder;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.databind.ser.VirtualBeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.JsonValueSerializer;
+import com.fasterxml.jackson.databind.ser.std.MapSerializer;
+import com.fasterxml.jackson.databind.type.MapType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.databind.util.Annotations;
 import com.fasterxml.jackson.databind.util.SimpleBeanPropertyDefinition;
 
+import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Modified for Jackson's BeanSerializer.
@@ -49,7 +55,16 @@ import java.util.concurrent.ConcurrentHashMap;
  * First, allows injection of bean identifying properties, namely its instance and class, either when configured to
  * do so by the {@link StenoEncoder} or when the bean is not annotated with {@link Loggable}.
  * <p>
- * Second, if the bean is not annotated with {@link Loggable} any fields discovered by Jackson should be
+ * Second, properties annotated with {@link LogRedact} are written by a {@link RedactingBeanPropertyWriter} in
+ * place of the {@link RedactionFilter}, and map serializers use the redaction filter registered by the
+ * {@link StenoEncoder} which redacts entries by key. Properties of beans annotated with {@link Loggable} are
+ * read through accessors generated by the {@link AcceleratedBeanPropertyWriter} unless disabled.
+ * <p>
+ * Third, methods annotated with {@link com.arpnetworking.logback.annotations.LogValue} are invoked by the
+ * {@link LogValueSerializer}, and {@link LogValueMapFactory.LogValueMap} and {@link LogReferenceOnly} instances
+ * are written by the {@link LogValueMapSerializer} and {@link LogReferenceOnlySerializer} respectively.
+ * <p>
+ * Fourth, if the bean is not annotated with {@link Loggable} any fields discovered by Jackson should be
  * suppressed. Since this acts only on the {@link com.fasterxml.jackson.databind.ser.BeanSerializer} it is already
  * ensured that:
  *
@@ -60,6 +75,9 @@ import java.util.concurrent.ConcurrentHashMap;
  *     <li>The type does not have a @LogValue or @JsonValue annotation.</li>
  *     <li>The type does not have a custom serializer registered.</li>
  * </ul>
+ * The {@link StenoSerializerFactory} installed by the {@link StenoEncoder} writes such beans with the
+ * {@link BeanIdentifierSerializer} before their properties are introspected, so this applies only to object
+ * mappers configured without it.
  *
  * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
  * @since 1.9.0
@@ -84,11 +102,7 @@ public final class StenoBeanSerializerModifier extends BeanSerializerModifier {
         final List<BeanPropertyWriter> beanPropertyWriters = super.changeProperties(config, beanDesc, beanProperties);
 
         // Determine if the bean is annotated with @Loggable
-        Boolean isLoggable = LOGGABLE_CLASSES.get(beanDesc.getBeanClass());
-        if (isLoggable == null) {
-            isLoggable = beanDesc.getBeanClass().getAnnotation(Loggable.class) != null;
-            LOGGABLE_CLASSES.put(beanDesc.getBeanClass(), isLoggable);
-        }
+        final boolean isLoggable = StenoClassMetadata.of(config, beanDesc.getBeanClass()).isLoggable();
 
         // Non-loggable beans under safe encoding should not log properties
         final boolean clearProperties = !isLoggable && _stenoEncoder.isSafe();
@@ -96,6 +110,20 @@ public final class StenoBeanSerializerModifier extends BeanSerializerModifier {
             beanProperties.clear();
         }
 
+        // Properties of loggable beans are read with generated accessors and
+        // properties annotated with @LogRedact are written by redacting writers
+        final boolean accelerate = isLoggable && _stenoEncoder.isAcceleratedAccessors();
+        for (int i = 0; i < beanPropertyWriters.size(); ++i) {
+            BeanPropertyWriter beanPropertyWriter = beanPropertyWriters.get(i);
+            if (accelerate) {
+                beanPropertyWriter = AcceleratedBeanPropertyWriter.accelerate(beanPropertyWriter);
+            }
+            if (beanPropertyWriter.getAnnotation(LogRedact.class) != null) {
+                beanPropertyWriter = new RedactingBeanPropertyWriter(beanPropertyWriter, _stenoEncoder);
+            }
+            beanPropertyWriters.set(i, beanPropertyWriter);
+        }
+
         // Beans with cleared properties or with bean identifier injection enabled should include identifiers
         if (clearProperties || _stenoEncoder.isInjectBeanIdentifier()) {
             beanPropertyWriters.add(0, new BeanIdentifierPropertyWriter(config));
@@ -105,9 +133,66 @@ public final class StenoBeanSerializerModifier extends BeanSerializerModifier {
         return beanPropertyWriters;
     }
 
+    @Override
+    public BeanSerializerBuilder updateBuilder(
+            final SerializationConfig config,
+            final BeanDescription beanDesc,
+            final BeanSerializerBuilder builder) {
+        // Redaction is applied by the property writers; the filter is not required
+        if (RedactionFilter.REDACTION_FILTER_ID.equals(builder.getFilterId())) {
+            builder.setFilterId(null);
+        }
+        return super.updateBuilder(config, beanDesc, builder);
+    }
+
+    @Override
+    public JsonSerializer<?> modifySerializer(
+            final SerializationConfig config,
+            final BeanDescription beanDesc,
+            final JsonSerializer<?> serializer) {
+        // Log value maps are streamed and log value methods are invoked through generated accessors
+        if (LogValueMapFactory.LogValueMap.class.equals(beanDesc.getBeanClass())) {
+            return new LogValueMapSerializer(_stenoEncoder);
+        } else if (LogReferenceOnly.class.equals(beanDesc.getBeanClass())) {
+            return new LogReferenceOnlySerializer(_stenoEncoder);
+        } else if (serializer instanceof JsonValueSerializer) {
+            final StenoClassMetadata metadata = StenoClassMetadata.of(config, beanDesc.getBeanClass());
+            final Method logValueMethod = metadata.getLogValueMethod();
+            if (logValueMethod != null) {
+                return LogValueSerializer.create(
+                        (JsonValueSerializer) serializer,
+                        logValueMethod,
+                        isLogValueCacheable(metadata) ? _stenoEncoder.getLogValueCache() : null);
+            }
+        }
+        return super.modifySerializer(config, beanDesc, serializer);
+    }
+
+    @Override
+    public JsonSerializer<?> modifyMapSerializer(
+            final SerializationConfig config,
+            final MapType valueType,
+            final BeanDescription beanDesc,
+            final JsonSerializer<?> serializer) {
+        // Map entries are redacted by key by the filter registered by the encoder
+        // if any key patterns are configured; maps with a filter of their own keep it
+        if (serializer instanceof MapSerializer
+                && _stenoEncoder.iteratorForRedactKey().hasNext()
+                && config.getAnnotationIntrospector().findFilterId(beanDesc.getClassInfo()) == null) {
+            return ((MapSerializer) serializer).withFilterId(RedactionFilter.REDACTION_FILTER_ID);
+        }
+        return super.modifyMapSerializer(config, valueType, beanDesc, serializer);
+    }
+
+    private boolean isLogValueCacheable(final StenoClassMetadata metadata) {
+        // The depth and the enclosing values differ wherever an instance is written
+        return metadata.isLogValueCacheable()
+                && _stenoEncoder.getMaxDepth() <= 0
+                && !_stenoEncoder.isDetectCycles();
+    }
+
     private final StenoEncoder _stenoEncoder;
 
-    private static final Map<Class<?>, Boolean> LOGGABLE_CLASSES = new ConcurrentHashMap<>();
     private static final Annotations EMPTY_ANNOTATION_MAP = new AnnotationMap();
     private static final JavaType STRING_JAVA_TYPE = TypeFactory.defaultInstance().constructType(String.class);
     private static final long serialVersionUID = 1L;
@@ -152,7 +237,7 @@ public final class StenoBeanSerializerModifier extends BeanSerializerModifier {
                 }
             } else {
                 // Standard beans are identified by the instance
-                gen.writeStringField("_id", Integer.toHexString(System.identityHashCode(this)));
+                gen.writeStringField("_id", Integer.toHexString(System.identityHashCode(bean)));
             }
         }
 
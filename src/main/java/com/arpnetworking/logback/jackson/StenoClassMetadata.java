@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.annotations.LogRedact;
+import com.arpnetworking.logback.annotations.LogValue;
+import com.arpnetworking.logback.annotations.Loggable;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClassResolver;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.Nullable;
+
+/**
+ * Steno annotation metadata of a class computed once and shared by the
+ * {@link StenoAnnotationIntrospector} and the {@link StenoBeanSerializerModifier}.
+ * The metadata is held in a {@link ClassValue} so it does not prevent the
+ * class, or its class loader, from being unloaded.
+ *
+ * The members considered are those Jackson considers: the fields and member
+ * methods of the {@link AnnotatedClass} resolved with the mapper's
+ * configuration, so annotations on overridden methods and on mix-ins apply.
+ * {@link Loggable} is not inherited and is read from the class and its own
+ * mix-in only. Since mix-ins are configured per mapper, the metadata is
+ * cached for each combination of mix-ins of the class and its supertypes.
+ * The mix-ins are only weakly referenced; a mix-in is often loaded by a
+ * different class loader than the class it applies to (e.g. a mix-in for
+ * {@link Throwable}) and must not prevent that class loader from being
+ * unloaded. Entries whose mix-ins have been unloaded are discarded.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class StenoClassMetadata {
+
+    /**
+     * Retrieve the metadata of a class.
+     *
+     * @param config The mapper configuration.
+     * @param clazz The class.
+     * @return The metadata.
+     */
+    /* package private */ static StenoClassMetadata of(final SerializationConfig config, final Class<?> clazz) {
+        final List<Class<?>> mixIns = getMixIns(config, clazz);
+        final List<Entry> entries = METADATA.get(clazz);
+        for (final Entry entry : entries) {
+            if (entry.matches(mixIns)) {
+                return entry._metadata;
+            }
+        }
+        final StenoClassMetadata metadata = new StenoClassMetadata(config, clazz);
+        entries.removeIf(Entry::isStale);
+        entries.add(new Entry(mixIns, metadata));
+        return metadata;
+    }
+
+    /**
+     * Determine whether the class is annotated with {@link Loggable}.
+     *
+     * @return True if and only if the class is loggable.
+     */
+    /* package private */ boolean isLoggable() {
+        return _loggable;
+    }
+
+    /**
+     * Retrieve the names of the fields and methods annotated with
+     * {@link LogRedact}.
+     *
+     * @return The member names.
+     */
+    /* package private */ Set<String> getRedactedMembers() {
+        return _redactedMembers;
+    }
+
+    /**
+     * Retrieve the filter identifier of the class; the redaction filter's
+     * identifier if any member is annotated with {@link LogRedact}.
+     *
+     * @return The filter identifier or null.
+     */
+    @Nullable
+    /* package private */ Object getFilterId() {
+        return _redactedMembers.isEmpty() ? null : RedactionFilter.REDACTION_FILTER_ID;
+    }
+
+    /**
+     * Retrieve the method annotated with an enabled {@link LogValue}.
+     *
+     * @return The method or null.
+     */
+    @Nullable
+    /* package private */ Method getLogValueMethod() {
+        return _logValueMethod;
+    }
+
+    /**
+     * Determine whether the encoded representation returned by the
+     * {@link LogValue} method may be cached.
+     *
+     * @return True if and only if the representation may be cached.
+     */
+    /* package private */ boolean isLogValueCacheable() {
+        return _logValueCacheable;
+    }
+
+    /**
+     * Determine whether a method is annotated with a disabled
+     * {@link LogValue} which does not fall back to {@link com.fasterxml.jackson.annotation.JsonValue}.
+     *
+     * @return True if and only if the value annotations are suppressed.
+     */
+    /* package private */ boolean isValueSuppressed() {
+        return _valueSuppressed;
+    }
+
+    private StenoClassMetadata(final SerializationConfig config, final Class<?> clazz) {
+        @Nullable final Class<?> mixIn = config.findMixInClassFor(clazz);
+        _loggable = clazz.getAnnotation(Loggable.class) != null
+                || mixIn != null && mixIn.getAnnotation(Loggable.class) != null;
+
+        final AnnotatedClass annotatedClass = AnnotatedClassResolver.resolve(config, config.constructType(clazz), config);
+        final Set<String> redactedMembers = new LinkedHashSet<>();
+        for (final AnnotatedField field : annotatedClass.fields()) {
+            if (field.hasAnnotation(LogRedact.class)) {
+                redactedMembers.add(field.getName());
+            }
+        }
+        Method logValueMethod = null;
+        boolean logValueCacheable = false;
+        boolean valueSuppressed = false;
+        for (final AnnotatedMethod method : annotatedClass.memberMethods()) {
+            if (method.hasAnnotation(LogRedact.class)) {
+                redactedMembers.add(method.getName());
+            }
+            @Nullable final LogValue logValue = method.getAnnotation(LogValue.class);
+            if (logValue != null) {
+                if (logValue.enabled()) {
+                    if (logValueMethod == null) {
+                        logValueMethod = method.getAnnotated();
+                        logValueCacheable = logValue.cacheable();
+                    }
+                } else if (!logValue.fallback()) {
+                    valueSuppressed = true;
+                }
+            }
+        }
+        _redactedMembers = Collections.unmodifiableSet(redactedMembers);
+        _logValueMethod = logValueMethod;
+        _logValueCacheable = logValueCacheable;
+        _valueSuppressed = valueSuppressed;
+    }
+
+    private static List<Class<?>> getMixIns(final SerializationConfig config, final Class<?> clazz) {
+        if (config.mixInCount() == 0) {
+            return Collections.emptyList();
+        }
+        final List<Class<?>> mixIns = new ArrayList<>();
+        for (final Class<?> type : getTypes(clazz)) {
+            mixIns.add(config.findMixInClassFor(type));
+        }
+        return mixIns;
+    }
+
+    private static List<Class<?>> getTypes(final Class<?> clazz) {
+        // The class first, followed by its superclasses and then its interfaces
+        final List<Class<?>> types = new ArrayList<>();
+        final Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+            if (type.isInterface()) {
+                interfaces.add(type);
+            } else {
+                types.add(type);
+            }
+            addInterfaces(type, interfaces);
+        }
+        types.addAll(interfaces);
+        return types;
+    }
+
+    private static void addInterfaces(final Class<?> clazz, final Set<Class<?>> interfaces) {
+        for (final Class<?> type : clazz.getInterfaces()) {
+            if (interfaces.add(type)) {
+                addInterfaces(type, interfaces);
+            }
+        }
+    }
+
+    private final boolean _loggable;
+    private final Set<String> _redactedMembers;
+    @Nullable
+    private final Method _logValueMethod;
+    private final boolean _logValueCacheable;
+    private final boolean _valueSuppressed;
+
+    private static final ClassValue<List<Entry>> METADATA = new ClassValue<List<Entry>>() {
+        @Override
+        protected List<Entry> computeValue(final Class<?> type) {
+            return new CopyOnWriteArrayList<>();
+        }
+    };
+
+    private static final class Entry {
+
+        private Entry(final List<Class<?>> mixIns, final StenoClassMetadata metadata) {
+            _mixIns = new ArrayList<>(mixIns.size());
+            for (final Class<?> mixIn : mixIns) {
+                _mixIns.add(mixIn == null ? null : new WeakReference<>(mixIn));
+            }
+            _metadata = metadata;
+        }
+
+        private boolean matches(final List<Class<?>> mixIns) {
+            if (mixIns.size() != _mixIns.size()) {
+                return false;
+            }
+            for (int i = 0; i < mixIns.size(); ++i) {
+                @Nullable final WeakReference<Class<?>> reference = _mixIns.get(i);
+                @Nullable final Class<?> mixIn = mixIns.get(i);
+                if (reference == null ? mixIn != null : mixIn == null || reference.get() != mixIn) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isStale() {
+            for (final WeakReference<Class<?>> reference : _mixIns) {
+                if (reference != null && reference.get() == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private final List<WeakReference<Class<?>>> _mixIns;
+        private final StenoClassMetadata _metadata;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.SerializerFactoryConfig;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+
+import javax.annotation.Nullable;
+
+/**
+ * Serializer factory which, under safe encoding, writes beans not annotated
+ * with {@link com.arpnetworking.logback.annotations.Loggable} with the
+ * {@link BeanIdentifierSerializer} instead of constructing a bean serializer.
+ *
+ * Jackson asks for a bean serializer only once it has ruled out every other
+ * representation: simple and container types, {@link com.fasterxml.jackson.annotation.JsonValue}
+ * and {@link com.arpnetworking.logback.annotations.LogValue} methods,
+ * {@link com.fasterxml.jackson.databind.annotation.JsonSerialize} annotations
+ * and serializers registered by modules. Short-circuiting at that point
+ * applies the same rules as clearing the properties in the
+ * {@link StenoBeanSerializerModifier}, but without introspecting and
+ * caching serializers for the properties of a bean that are never written.
+ * Serializer modifiers, such as the payload limits, still apply.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public final class StenoSerializerFactory extends BeanSerializerFactory {
+
+    /**
+     * Public constructor.
+     *
+     * @param config The factory configuration or null for the default.
+     * @param stenoEncoder The instance of {@link StenoEncoder}.
+     */
+    public StenoSerializerFactory(@Nullable final SerializerFactoryConfig config, final StenoEncoder stenoEncoder) {
+        super(config);
+        _stenoEncoder = stenoEncoder;
+    }
+
+    @Override
+    public SerializerFactory withConfig(final SerializerFactoryConfig config) {
+        if (_factoryConfig == config) {
+            return this;
+        }
+        return new StenoSerializerFactory(config, _stenoEncoder);
+    }
+
+    @Override
+    protected JsonSerializer<Object> constructBeanOrAddOnSerializer(
+            final SerializerProvider provider,
+            final JavaType type,
+            final BeanDescription beanDesc,
+            final boolean staticTyping)
+            throws JsonMappingException {
+        // Plain objects, unsupported types and Jackson's own types keep their serializers
+        final Class<?> beanClass = beanDesc.getBeanClass();
+        if (_stenoEncoder.isSafe()
+                && beanClass != Object.class
+                && !StenoClassMetadata.of(provider.getConfig(), beanClass).isLoggable()
+                && _findUnsupportedTypeSerializer(provider, type, beanDesc) == null
+                && !_isUnserializableJacksonType(provider, type)) {
+            return BEAN_IDENTIFIER_SERIALIZER;
+        }
+        return super.constructBeanOrAddOnSerializer(provider, type, beanDesc, staticTyping);
+    }
+
+    private final StenoEncoder _stenoEncoder;
+
+    private static final BeanIdentifierSerializer BEAN_IDENTIFIER_SERIALIZER = new BeanIdentifierSerializer();
+    private static final long serialVersionUID = 1L;
+}
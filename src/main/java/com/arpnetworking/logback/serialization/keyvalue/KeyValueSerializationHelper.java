@@ -22,6 +22,7 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import com.arpnetworking.logback.HostConverter;
 import com.arpnetworking.logback.KeyValueEncoder;
 import com.arpnetworking.logback.ProcessConverter;
+import com.arpnetworking.logback.serialization.steno.StenoSerializationHelper;
 
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -60,7 +61,9 @@ public final class KeyValueSerializationHelper {
             final int contextValuesLength = contextValues == null ? 0 : contextValues.size();
             for (int i = 0; i < contextKeys.size(); ++i) {
                 final String key = contextKeys.get(i);
-                final Object value = i < contextValuesLength ? contextValues.get(i) : null;
+                final Object value = i < contextValuesLength
+                        ? StenoSerializationHelper.resolveValue(contextValues.get(i))
+                        : null;
                 context.put(
                         key,
                         value);
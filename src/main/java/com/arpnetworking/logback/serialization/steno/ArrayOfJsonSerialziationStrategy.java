@@ -17,6 +17,7 @@ package com.arpnetworking.logback.serialization.steno;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.jackson.RedactionFilter;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -77,7 +78,9 @@ public class ArrayOfJsonSerialziationStrategy implements Serializable {
         final int argsLength = jsonValues == null ? 0 : jsonValues.length;
         if (keys != null) {
             for (int i = 0; i < keys.length; i++) {
-                if (i >= argsLength) {
+                if (_encoder.isRedactedKey(keys[i], i < argsLength ? jsonValues[i] : null)) {
+                    jsonGenerator.writeStringField(keys[i], RedactionFilter.REDACTION_STRING);
+                } else if (i >= argsLength) {
                     jsonGenerator.writeObjectField(keys[i], null);
                 } else {
                     jsonGenerator.writeFieldName(keys[i]);
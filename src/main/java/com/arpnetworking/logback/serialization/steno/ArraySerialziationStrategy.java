@@ -17,6 +17,7 @@ package com.arpnetworking.logback.serialization.steno;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.jackson.RedactionFilter;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -67,6 +68,14 @@ public class ArraySerialziationStrategy implements Serializable {
             @Nullable final Object[] values)
             throws IOException {
 
+        final Object[] resolvedValues = StenoSerializationHelper.resolveValues(values);
+        if (_encoder.isDirectWriter()) {
+            final String directOutput = StenoJsonWriter.write(_encoder, event, eventName, _objectMapper, keys, resolvedValues);
+            if (directOutput != null) {
+                return directOutput;
+            }
+        }
+
         final StringWriter jsonWriter = new StringWriter();
         final JsonGenerator jsonGenerator = _jsonFactory.createGenerator(jsonWriter);
 
@@ -75,18 +84,20 @@ public class ArraySerialziationStrategy implements Serializable {
 
         // Write event data
         jsonGenerator.writeObjectFieldStart("data");
-        final int argsLength = values == null ? 0 : values.length;
+        final int argsLength = resolvedValues == null ? 0 : resolvedValues.length;
         if (keys != null) {
             for (int i = 0; i < keys.length; i++) {
-                if (i >= argsLength) {
+                if (_encoder.isRedactedKey(keys[i], i < argsLength ? resolvedValues[i] : null)) {
+                    jsonGenerator.writeStringField(keys[i], RedactionFilter.REDACTION_STRING);
+                } else if (i >= argsLength) {
                     jsonGenerator.writeObjectField(keys[i], null);
-                } else if (StenoSerializationHelper.isSimpleType(values[i])) {
-                    jsonGenerator.writeObjectField(keys[i], values[i]);
+                } else if (StenoSerializationHelper.isSimpleType(resolvedValues[i])) {
+                    jsonGenerator.writeObjectField(keys[i], resolvedValues[i]);
                 } else {
                     jsonGenerator.writeFieldName(keys[i]);
                     _objectMapper.writeValue(
                             jsonGenerator,
-                            values[i]);
+                            resolvedValues[i]);
                 }
             }
         }
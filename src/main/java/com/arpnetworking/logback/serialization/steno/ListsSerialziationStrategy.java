@@ -72,6 +72,23 @@ public class ListsSerialziationStrategy implements Serializable {
             @Nullable final List<Object> contextValues)
             throws IOException {
 
+        final List<Object> resolvedDataValues = StenoSerializationHelper.resolveValues(dataValues);
+        final List<Object> resolvedContextValues = StenoSerializationHelper.resolveValues(contextValues);
+        if (_encoder.isDirectWriter()) {
+            final String directOutput = StenoJsonWriter.write(
+                    _encoder,
+                    event,
+                    eventName,
+                    _objectMapper,
+                    dataKeys,
+                    resolvedDataValues,
+                    contextKeys,
+                    resolvedContextValues);
+            if (directOutput != null) {
+                return directOutput;
+            }
+        }
+
         final StringWriter jsonWriter = new StringWriter();
         final JsonGenerator jsonGenerator = _jsonFactory.createGenerator(jsonWriter);
 
@@ -80,14 +97,21 @@ public class ListsSerialziationStrategy implements Serializable {
 
         // Write event data
         jsonGenerator.writeObjectFieldStart("data");
-        StenoSerializationHelper.writeKeyValuePairs(dataKeys, dataValues, jsonGenerator, _objectMapper, _encoder);
+        StenoSerializationHelper.writeKeyValuePairs(dataKeys, resolvedDataValues, jsonGenerator, _objectMapper, _encoder);
         jsonGenerator.writeEndObject(); // End 'data' field
 
         // Output throwable
         StenoSerializationHelper.writeThrowable(event.getThrowableProxy(), jsonGenerator, _objectMapper);
 
         // End wrapper
-        StenoSerializationHelper.endStenoWrapper(event, eventName, contextKeys, contextValues, jsonGenerator, _objectMapper, _encoder);
+        StenoSerializationHelper.endStenoWrapper(
+                event,
+                eventName,
+                contextKeys,
+                resolvedContextValues,
+                jsonGenerator,
+                _objectMapper,
+                _encoder);
 
         return jsonWriter.toString();
     }
@@ -17,6 +17,7 @@ package com.arpnetworking.logback.serialization.steno;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.jackson.RedactionFilter;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -75,7 +76,9 @@ public class MapOfJsonSerialziationStrategy implements Serializable {
         jsonGenerator.writeObjectFieldStart("data");
         if (map != null) {
             for (final Map.Entry<String, String> entry : map.entrySet()) {
-                if (entry.getValue() == null) {
+                if (_encoder.isRedactedKey(entry.getKey(), entry.getValue())) {
+                    jsonGenerator.writeStringField(entry.getKey(), RedactionFilter.REDACTION_STRING);
+                } else if (entry.getValue() == null) {
                     jsonGenerator.writeObjectField(entry.getKey(), null);
                 } else {
                     jsonGenerator.writeFieldName(entry.getKey());
@@ -17,6 +17,7 @@ package com.arpnetworking.logback.serialization.steno;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.jackson.RedactionFilter;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -75,13 +76,16 @@ public class MapSerialziationStrategy implements Serializable {
         jsonGenerator.writeObjectFieldStart("data");
         if (map != null) {
             for (final Map.Entry<String, ? extends Object> entry : map.entrySet()) {
-                if (StenoSerializationHelper.isSimpleType(entry.getValue())) {
-                    jsonGenerator.writeObjectField(entry.getKey(), entry.getValue());
+                final Object value = StenoSerializationHelper.resolveValue(entry.getValue());
+                if (_encoder.isRedactedKey(entry.getKey(), value)) {
+                    jsonGenerator.writeStringField(entry.getKey(), RedactionFilter.REDACTION_STRING);
+                } else if (StenoSerializationHelper.isSimpleType(value)) {
+                    jsonGenerator.writeObjectField(entry.getKey(), value);
                 } else {
                     jsonGenerator.writeFieldName(entry.getKey());
                     _objectMapper.writeValue(
                             jsonGenerator,
-                            entry.getValue());
+                            value);
                 }
             }
         }
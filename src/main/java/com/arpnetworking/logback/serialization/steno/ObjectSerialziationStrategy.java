@@ -61,7 +61,7 @@ public class ObjectSerialziationStrategy implements Serializable {
             final String eventName,
             @Nullable final Object data)
             throws IOException {
-        final String jsonData = _objectMapper.writeValueAsString(data);
+        final String jsonData = _objectMapper.writeValueAsString(StenoSerializationHelper.resolveValue(data));
         return _objectAsJsonStrategy.serialize(
                 event,
                 eventName,
@@ -17,6 +17,7 @@ package com.arpnetworking.logback.serialization.steno;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.jackson.RedactionFilter;
 import com.arpnetworking.steno.LogReferenceOnly;
 import com.arpnetworking.steno.LogValueMapFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,10 +30,12 @@ import com.fasterxml.jackson.databind.node.TextNode;
 
 import java.lang.reflect.Array;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.annotation.Nullable;
 
 /**
@@ -87,18 +90,69 @@ public final class SafeSerializationHelper {
      * @param value The {@link Object} instance to safely serialize.
      */
     public static void safeEncodeValue(final StringBuilder encoder, @Nullable final Object value) {
+        safeEncodeValue(encoder, value, Limits.NONE, 0);
+    }
+
+    /**
+     * Safely serialize a value enforcing the payload limits of the
+     * {@link StenoEncoder}; that is, the maximum string length, the maximum
+     * number of collection, array and map elements, the maximum depth and
+     * cycle detection.
+     *
+     * @since 2.2.1
+     * @param encoder The {@link StringBuilder} to serialize to.
+     * @param value The {@link Object} instance to safely serialize.
+     * @param stenoEncoder The {@link StenoEncoder} instance.
+     */
+    public static void safeEncodeValue(
+            final StringBuilder encoder,
+            @Nullable final Object value,
+            final StenoEncoder stenoEncoder) {
+        safeEncodeValue(encoder, value, new Limits(stenoEncoder), 0);
+    }
+
+    /**
+     * Safely serialize an event context enforcing the payload limits of the
+     * {@link StenoEncoder} on each value; as when encoding with Jackson, the
+     * limits do not apply to the context itself.
+     *
+     * @since 2.2.1
+     * @param encoder The {@link StringBuilder} to serialize to.
+     * @param context The context to safely serialize.
+     * @param stenoEncoder The {@link StenoEncoder} instance.
+     */
+    public static void safeEncodeContext(
+            final StringBuilder encoder,
+            final Map<String, Object> context,
+            final StenoEncoder stenoEncoder) {
+        final Limits limits = new Limits(stenoEncoder);
+        encoder.append("{");
+        for (final Map.Entry<String, Object> entry : context.entrySet()) {
+            encoder.append(new TextNode(String.valueOf(entry.getKey())).toString())
+                    .append(":");
+            safeEncodeEntryValue(encoder, entry.getKey(), entry.getValue(), limits, 0);
+            encoder.append(",");
+        }
+        if (context.isEmpty()) {
+            encoder.append("}");
+        } else {
+            encoder.setCharAt(encoder.length() - 1, '}');
+        }
+    }
+
+    private static void safeEncodeValue(
+            final StringBuilder encoder,
+            @Nullable final Object value,
+            final Limits limits,
+            final int depth) {
         if (value == null) {
             encoder.append("null");
-        } else if (value instanceof Map) {
-            safeEncodeMap(encoder, (Map<?, ?>) value);
-        } else if (value instanceof List) {
-            safeEncodeList(encoder, (List<?>) value);
-        } else if (value.getClass().isArray()) {
-            safeEncodeArray(encoder, value);
+        } else if (value instanceof Map || value instanceof List || value.getClass().isArray()) {
+            safeEncodeContainer(encoder, value, limits, depth);
         } else if (value instanceof LogValueMapFactory.LogValueMap) {
             safeEncodeLogValueMap(encoder, (LogValueMapFactory.LogValueMap) value);
         } else if (value instanceof Throwable) {
-            safeEncodeThrowable(encoder, (Throwable) value);
+            safeEncodeThrowable(encoder, (Throwable) value, limits);
         } else if (StenoSerializationHelper.isSimpleType(value)) {
             if (value instanceof Boolean) {
                 encoder.append(BooleanNode.valueOf((Boolean) value).toString());
@@ -111,21 +165,80 @@ public final class SafeSerializationHelper {
             } else if (value instanceof Integer) {
                 encoder.append(IntNode.valueOf((Integer) value).toString());
             } else {
-                encoder.append(new TextNode(value.toString()).toString());
+                safeEncodeString(encoder, value.toString(), limits);
             }
         } else {
-            safeEncodeValue(encoder, LogReferenceOnly.of(value).toLogValue());
+            safeEncodeValue(encoder, LogReferenceOnly.of(value).toLogValue(), limits, depth);
+        }
+    }
+
+    private static void safeEncodeEntryValue(
+            final StringBuilder encoder,
+            @Nullable final String key,
+            @Nullable final Object value,
+            final Limits limits,
+            final int depth) {
+        if (limits._stenoEncoder != null && limits._stenoEncoder.isRedactedKey(key, value)) {
+            encoder.append(REDACTED_VALUE);
+        } else {
+            safeEncodeValue(encoder, value, limits, depth);
+        }
+    }
+
+    private static void safeEncodeString(final StringBuilder encoder, final String value, final Limits limits) {
+        if (limits._maxStringLength > 0 && value.length() > limits._maxStringLength) {
+            encoder.append("{\"_truncated\":true,\"_size\":")
+                    .append(value.length())
+                    .append(",\"_value\":")
+                    .append(new TextNode(StenoSerializationHelper.truncate(value, limits._maxStringLength)).toString())
+                    .append("}");
+        } else {
+            encoder.append(new TextNode(value).toString());
+        }
+    }
+
+    private static void safeEncodeContainer(
+            final StringBuilder encoder,
+            final Object value,
+            final Limits limits,
+            final int depth) {
+        if (limits._maxDepth > 0 && depth >= limits._maxDepth) {
+            encoder.append("{\"_truncated\":true,\"_class\":")
+                    .append(new TextNode(value.getClass().getName()).toString())
+                    .append("}");
+            return;
+        }
+        if (limits._path != null && !limits._path.add(value)) {
+            encoder.append("{\"_cycle\":true,\"_id\":\"")
+                    .append(Integer.toHexString(System.identityHashCode(value)))
+                    .append("\",\"_class\":")
+                    .append(new TextNode(value.getClass().getName()).toString())
+                    .append("}");
+            return;
+        }
+        if (value instanceof Map) {
+            safeEncodeMap(encoder, (Map<?, ?>) value, limits, depth + 1);
+        } else if (value instanceof List) {
+            safeEncodeList(encoder, (List<?>) value, limits, depth + 1);
+        } else {
+            safeEncodeArray(encoder, value, limits, depth + 1);
+        }
+        if (limits._path != null) {
+            limits._path.remove(value);
         }
     }
 
-    /* package private */ static void safeEncodeThrowable(final StringBuilder encoder, final Throwable throwable) {
+    /* package private */ static void safeEncodeThrowable(
+            final StringBuilder encoder,
+            final Throwable throwable,
+            final Limits limits) {
         encoder.append("{\"type\":\"")
                 .append(throwable.getClass().getName())
                 .append("\",\"message\":");
-        safeEncodeValue(encoder, throwable.getMessage());
+        safeEncodeValue(encoder, throwable.getMessage(), limits, 0);
         encoder.append(",\"backtrace\":[");
         for (final StackTraceElement ste : throwable.getStackTrace()) {
-            safeEncodeValue(encoder, ste.toString());
+            safeEncodeValue(encoder, ste.toString(), limits, 0);
             encoder.append(",");
         }
         if (throwable.getStackTrace().length == 0) {
@@ -137,7 +250,7 @@ public final class SafeSerializationHelper {
         if (throwable.getSuppressed().length > 0) {
             encoder.append("\"suppressed\":[");
             for (final Throwable suppressed : throwable.getSuppressed()) {
-                safeEncodeThrowable(encoder, suppressed);
+                safeEncodeThrowable(encoder, suppressed, limits);
                 encoder.append(",");
             }
             encoder.setCharAt(encoder.length() - 1, ']');
@@ -145,7 +258,7 @@ public final class SafeSerializationHelper {
         }
         if (throwable.getCause() != null) {
             encoder.append("\"cause\":");
-            safeEncodeThrowable(encoder, throwable.getCause());
+            safeEncodeThrowable(encoder, throwable.getCause(), limits);
             encoder.append(",");
         }
         if (encoder.charAt(encoder.length() - 1) == ',') {
@@ -156,13 +269,25 @@ public final class SafeSerializationHelper {
         encoder.append("}");
     }
 
-    /* package private */ static void safeEncodeMap(final StringBuilder encoder, final Map<?, ?> valueAsMap) {
+    /* package private */ static void safeEncodeMap(
+            final StringBuilder encoder,
+            final Map<?, ?> valueAsMap,
+            final Limits limits,
+            final int depth) {
         encoder.append("{");
+        int count = 0;
         for (Map.Entry<?, ?> entry : valueAsMap.entrySet()) {
+            if (limits._maxCollectionSize > 0 && count++ == limits._maxCollectionSize) {
+                encoder.append("\"_truncated\":true,\"_size\":")
+                        .append(valueAsMap.size())
+                        .append(",");
+                break;
+            }
+            final String key = entry.getKey().toString();
             encoder.append("\"")
-                    .append(entry.getKey().toString())
+                    .append(key)
                     .append("\":");
-            safeEncodeValue(encoder, entry.getValue());
+            safeEncodeEntryValue(encoder, key, entry.getValue(), limits, depth);
             encoder.append(",");
         }
         if (valueAsMap.isEmpty()) {
@@ -172,10 +297,19 @@ public final class SafeSerializationHelper {
         }
     }
 
-    /* package private */ static void safeEncodeList(final StringBuilder encoder, final List<?> valueAsList) {
+    /* package private */ static void safeEncodeList(
+            final StringBuilder encoder,
+            final List<?> valueAsList,
+            final Limits limits,
+            final int depth) {
         encoder.append("[");
+        int count = 0;
         for (Object listValue : valueAsList) {
-            safeEncodeValue(encoder, listValue);
+            if (limits._maxCollectionSize > 0 && count++ == limits._maxCollectionSize) {
+                appendTruncatedElement(encoder, valueAsList.size());
+                break;
+            }
+            safeEncodeValue(encoder, listValue, limits, depth);
             encoder.append(",");
         }
         if (valueAsList.isEmpty()) {
@@ -185,13 +319,22 @@ public final class SafeSerializationHelper {
         }
     }
 
-    /* package private */ static void safeEncodeArray(final StringBuilder encoder, final Object value) {
+    /* package private */ static void safeEncodeArray(
+            final StringBuilder encoder,
+            final Object value,
+            final Limits limits,
+            final int depth) {
         encoder.append("[");
-        for (int i = 0; i < Array.getLength(value); ++i) {
-            safeEncodeValue(encoder, Array.get(value, i));
+        final int length = Array.getLength(value);
+        for (int i = 0; i < length; ++i) {
+            if (limits._maxCollectionSize > 0 && i == limits._maxCollectionSize) {
+                appendTruncatedElement(encoder, length);
+                break;
+            }
+            safeEncodeValue(encoder, Array.get(value, i), limits, depth);
             encoder.append(",");
         }
-        if (Array.getLength(value) == 0) {
+        if (length == 0) {
             encoder.append("]");
         } else {
             encoder.setCharAt(encoder.length() - 1, ']');
@@ -208,5 +351,49 @@ public final class SafeSerializationHelper {
         safeEncodeValue(encoder, safeLogValueMap);
     }
 
+    private static void appendTruncatedElement(final StringBuilder encoder, final int size) {
+        encoder.append("{\"_truncated\":true,\"_size\":")
+                .append(size)
+                .append("},");
+    }
+
     private SafeSerializationHelper() {}
+
+    private static final String REDACTED_VALUE = new TextNode(RedactionFilter.REDACTION_STRING).toString();
+
+    /**
+     * The payload limits of a single serialization.
+     */
+    /* package private */ static final class Limits {
+
+        /* package private */ Limits(final StenoEncoder stenoEncoder) {
+            this(
+                    stenoEncoder,
+                    stenoEncoder.getMaxStringLength(),
+                    stenoEncoder.getMaxCollectionSize(),
+                    stenoEncoder.getMaxDepth(),
+                    stenoEncoder.isDetectCycles());
+        }
+
+        private Limits(
+                @Nullable final StenoEncoder stenoEncoder,
+                final int maxStringLength,
+                final int maxCollectionSize,
+                final int maxDepth,
+                final boolean detectCycles) {
+            _stenoEncoder = stenoEncoder;
+            _maxStringLength = maxStringLength;
+            _maxCollectionSize = maxCollectionSize;
+            _maxDepth = maxDepth;
+            _path = detectCycles ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+        }
+
+        @Nullable private final StenoEncoder _stenoEncoder;
+        private final int _maxStringLength;
+        private final int _maxCollectionSize;
+        private final int _maxDepth;
+        @Nullable private final Set<Object> _path;
+
+        /* package private */ static final Limits NONE = new Limits(null, 0, 0, 0, false);
+    }
 }
@@ -61,6 +61,18 @@ public class StandardSerializationStrategy implements Serializable {
         final ILoggingEvent event,
         final String eventName) throws IOException {
 
+        if (_encoder.isDirectWriter()) {
+            final String directOutput = StenoJsonWriter.write(
+                    _encoder,
+                    event,
+                    eventName,
+                    _objectMapper,
+                    event.getFormattedMessage());
+            if (directOutput != null) {
+                return directOutput;
+            }
+        }
+
         final StringWriter jsonWriter = new StringWriter();
         final JsonGenerator jsonGenerator = _jsonFactory.createGenerator(jsonWriter);
 
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.serialization.steno;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.jackson.RedactionFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.Nullable;
+
+/**
+ * Writes the Steno JSON wrapper directly for events without an exception
+ * whose data and context values are all simple, avoiding the creation of a
+ * Jackson generator and the serializer lookup for each value. The output is
+ * identical to that of the Jackson based serialization strategies with the
+ * default serializers, including the escaping of strings. Events with any
+ * other value return {@code null} from the {@code write} methods and are
+ * serialized by Jackson instead.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+/* package private */ final class StenoJsonWriter {
+
+    /**
+     * Write an event with a message as its only data.
+     *
+     * @param encoder Instance of {@link StenoEncoder}.
+     * @param event The event.
+     * @param eventName The event name.
+     * @param objectMapper Instance of {@link ObjectMapper}.
+     * @param message The message.
+     * @return The serialized event or {@code null} if it cannot be written directly.
+     */
+    /* package private */ static @Nullable String write(
+            final StenoEncoder encoder,
+            final ILoggingEvent event,
+            final String eventName,
+            final ObjectMapper objectMapper,
+            @Nullable final String message) {
+        final StenoSerializationHelper.StenoLevel level = getLevel(event);
+        if (level == null) {
+            return null;
+        }
+        final Map<String, Object> context = StenoSerializationHelper.createContext(encoder, event, objectMapper, null, null);
+        if (!isDirect(context)) {
+            return null;
+        }
+        final StenoJsonWriter writer = new StenoJsonWriter(encoder, event, eventName, level);
+        writer.writeField("message", message);
+        return writer.end(context);
+    }
+
+    /**
+     * Write an event with array data.
+     *
+     * @param encoder Instance of {@link StenoEncoder}.
+     * @param event The event.
+     * @param eventName The event name.
+     * @param objectMapper Instance of {@link ObjectMapper}.
+     * @param keys The data keys.
+     * @param values The resolved data values.
+     * @return The serialized event or {@code null} if it cannot be written directly.
+     */
+    /* package private */ static @Nullable String write(
+            final StenoEncoder encoder,
+            final ILoggingEvent event,
+            final String eventName,
+            final ObjectMapper objectMapper,
+            @Nullable final String[] keys,
+            @Nullable final Object[] values) {
+        final StenoSerializationHelper.StenoLevel level = getLevel(event);
+        if (level == null) {
+            return null;
+        }
+        final int keysLength = keys == null ? 0 : keys.length;
+        final int valuesLength = values == null ? 0 : values.length;
+        for (int i = 0; i < keysLength; ++i) {
+            if (keys[i] == null || i < valuesLength && !isDirect(values[i])) {
+                return null;
+            }
+        }
+        final Map<String, Object> context = StenoSerializationHelper.createContext(encoder, event, objectMapper, null, null);
+        if (!isDirect(context)) {
+            return null;
+        }
+        final StenoJsonWriter writer = new StenoJsonWriter(encoder, event, eventName, level);
+        for (int i = 0; i < keysLength; ++i) {
+            writer.writeField(keys[i], i < valuesLength ? values[i] : null);
+        }
+        return writer.end(context);
+    }
+
+    /**
+     * Write an event with lists of data and context.
+     *
+     * @param encoder Instance of {@link StenoEncoder}.
+     * @param event The event.
+     * @param eventName The event name.
+     * @param objectMapper Instance of {@link ObjectMapper}.
+     * @param dataKeys The data keys.
+     * @param dataValues The resolved data values.
+     * @param contextKeys The context keys.
+     * @param contextValues The resolved context values.
+     * @return The serialized event or {@code null} if it cannot be written directly.
+     */
+    /* package private */ static @Nullable String write(
+            final StenoEncoder encoder,
+            final ILoggingEvent event,
+            final String eventName,
+            final ObjectMapper objectMapper,
+            @Nullable final List<String> dataKeys,
+            @Nullable final List<Object> dataValues,
+            @Nullable final List<String> contextKeys,
+            @Nullable final List<Object> contextValues) {
+        final StenoSerializationHelper.StenoLevel level = getLevel(event);
+        if (level == null || !isDirect(dataKeys, dataValues)) {
+            return null;
+        }
+        final Map<String, Object> context = StenoSerializationHelper.createContext(
+                encoder,
+                event,
+                objectMapper,
+                contextKeys,
+                contextValues);
+        if (!isDirect(context)) {
+            return null;
+        }
+        final StenoJsonWriter writer = new StenoJsonWriter(encoder, event, eventName, level);
+        if (dataKeys != null) {
+            final int dataValuesSize = dataValues == null ? 0 : dataValues.size();
+            for (int i = 0; i < dataKeys.size(); ++i) {
+                writer.writeField(dataKeys.get(i), i < dataValuesSize ? dataValues.get(i) : null);
+            }
+        }
+        return writer.end(context);
+    }
+
+    /**
+     * Determine whether a value is written directly. Only exact classes are
+     * accepted since Jackson selects serializers by class.
+     *
+     * @param value The value.
+     * @return True if and only if the value is written directly.
+     */
+    /* package private */ static boolean isDirect(@Nullable final Object value) {
+        if (value == null) {
+            return true;
+        }
+        final Class<?> valueClass = value.getClass();
+        return valueClass == String.class
+                || valueClass == Integer.class
+                || valueClass == Long.class
+                || valueClass == Boolean.class
+                || valueClass == Double.class
+                || valueClass == Float.class
+                || valueClass == Short.class
+                || valueClass == Byte.class
+                || valueClass == BigInteger.class
+                || valueClass == BigDecimal.class
+                || valueClass == UUID.class;
+    }
+
+    private static boolean isDirect(@Nullable final List<String> keys, @Nullable final List<Object> values) {
+        if (keys == null) {
+            return true;
+        }
+        final int valuesSize = values == null ? 0 : values.size();
+        for (int i = 0; i < keys.size(); ++i) {
+            if (keys.get(i) == null || i < valuesSize && !isDirect(values.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDirect(final Map<String, Object> context) {
+        for (final Map.Entry<String, Object> entry : context.entrySet()) {
+            if (entry.getKey() == null || !isDirect(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static @Nullable StenoSerializationHelper.StenoLevel getLevel(final ILoggingEvent event) {
+        if (event.getThrowableProxy() != null) {
+            return null;
+        }
+        return StenoSerializationHelper.StenoLevel.findByLogbackLevel(event.getLevel());
+    }
+
+    private StenoJsonWriter(
+            final StenoEncoder encoder,
+            final ILoggingEvent event,
+            final String eventName,
+            final StenoSerializationHelper.StenoLevel level) {
+        _encoder = encoder;
+        _maxStringLength = encoder.getMaxStringLength();
+        _builder.append("{\"time\":");
+        writeString(StenoSerializationHelper.ISO_DATE_TIME_FORMATTER.format(Instant.ofEpochMilli(event.getTimeStamp())));
+        _builder.append(",\"name\":");
+        writeString(eventName);
+        _builder.append(",\"level\":\"").append(level.name()).append("\",\"data\":{");
+    }
+
+    private String end(final Map<String, Object> context) {
+        _builder.append("},\"context\":{");
+        _first = true;
+        for (final Map.Entry<String, Object> entry : context.entrySet()) {
+            writeField(entry.getKey(), entry.getValue());
+        }
+        _builder.append("},\"id\":\"")
+                .append(StenoSerializationHelper.createId())
+                .append("\",\"version\":\"0\"}\n");
+        return _builder.toString();
+    }
+
+    private void writeField(final String key, @Nullable final Object value) {
+        if (_first) {
+            _first = false;
+        } else {
+            _builder.append(',');
+        }
+        writeString(key);
+        _builder.append(':');
+        if (_encoder.isRedactedKey(key, value)) {
+            writeString(RedactionFilter.REDACTION_STRING);
+        } else {
+            writeValue(value);
+        }
+    }
+
+    private void writeValue(@Nullable final Object value) {
+        if (value == null) {
+            _builder.append("null");
+        } else if (value instanceof String) {
+            final String stringValue = (String) value;
+            if (_maxStringLength > 0 && stringValue.length() > _maxStringLength) {
+                _builder.append("{\"_truncated\":true,\"_size\":").append(stringValue.length()).append(",\"_value\":");
+                writeString(StenoSerializationHelper.truncate(stringValue, _maxStringLength));
+                _builder.append('}');
+            } else {
+                writeString(stringValue);
+            }
+        } else if (value instanceof Double) {
+            final double doubleValue = (Double) value;
+            if (Double.isFinite(doubleValue)) {
+                _builder.append(Double.toString(doubleValue));
+            } else {
+                writeString(Double.toString(doubleValue));
+            }
+        } else if (value instanceof Float) {
+            final float floatValue = (Float) value;
+            if (Float.isFinite(floatValue)) {
+                _builder.append(Float.toString(floatValue));
+            } else {
+                writeString(Float.toString(floatValue));
+            }
+        } else if (value instanceof UUID) {
+            writeString(value.toString());
+        } else {
+            // Integer, Long, Short, Byte, BigInteger, BigDecimal and Boolean
+            _builder.append(value);
+        }
+    }
+
+    private void writeString(final String value) {
+        _builder.append('"');
+        final int length = value.length();
+        int start = 0;
+        int index = indexOfEscape(value, 0, length);
+        while (index >= 0) {
+            _builder.append(value, start, index).append('\\');
+            final char c = value.charAt(index);
+            final char escape = ESCAPES[c];
+            if (escape == 'u') {
+                _builder.append("u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            } else {
+                _builder.append(escape);
+            }
+            start = index + 1;
+            index = indexOfEscape(value, start, length);
+        }
+        _builder.append(value, start, length).append('"');
+    }
+
+    /**
+     * Find the first character which must be escaped so that the clean run
+     * before it can be appended in one call.
+     *
+     * @param value The string.
+     * @param from The index to start at.
+     * @param to The index to end before.
+     * @return The index of the first character to escape or -1 if none.
+     */
+    /* package private */ static int indexOfEscape(final String value, final int from, final int to) {
+        for (int i = from; i < to; ++i) {
+            final char c = value.charAt(i);
+            if (c < ESCAPES.length && ESCAPES[c] != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private final StenoEncoder _encoder;
+    private final int _maxStringLength;
+    private final StringBuilder _builder = new StringBuilder(INITIAL_CAPACITY);
+    private boolean _first = true;
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    // Matches the default output escapes of Jackson: control characters,
+    // quotation mark and reverse solidus; everything else is written as-is.
+    private static final char[] ESCAPES = new char[128];
+
+    static {
+        for (int i = 0; i < 0x20; ++i) {
+            ESCAPES[i] = 'u';
+        }
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+    }
+}
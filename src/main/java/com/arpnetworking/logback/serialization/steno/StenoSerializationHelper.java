@@ -30,6 +30,9 @@ import com.arpnetworking.logback.StenoEncoder;
 import com.arpnetworking.logback.StenoFileOfCallerConverter;
 import com.arpnetworking.logback.StenoLineOfCallerConverter;
 import com.arpnetworking.logback.StenoMethodOfCallerConverter;
+import com.arpnetworking.logback.jackson.RedactionFilter;
+import com.arpnetworking.steno.MemoizingSupplier;
+import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -38,6 +41,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -45,6 +49,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
 /**
@@ -76,10 +81,12 @@ public final class StenoSerializationHelper {
         final StenoSerializationHelper.StenoLevel level = StenoSerializationHelper.StenoLevel.findByLogbackLevel(
                 event.getLevel());
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObjectField("time",
+        // The wrapper fields are not values and are written without the
+        // value serializers so that payload limits do not apply to them
+        jsonGenerator.writeStringField("time",
                 ISO_DATE_TIME_FORMATTER.format(Instant.ofEpochMilli(event.getTimeStamp())));
-        jsonGenerator.writeObjectField("name", eventName);
-        jsonGenerator.writeObjectField("level", level.name());
+        jsonGenerator.writeStringField("name", eventName);
+        jsonGenerator.writeStringField("level", level.name());
     }
 
     /**
@@ -135,17 +142,29 @@ public final class StenoSerializationHelper {
             final StenoEncoder encoder)
             throws IOException {
 
-        jsonGenerator.writeFieldName("context");
-        objectMapper.writeValue(
-                jsonGenerator,
-                StenoSerializationHelper.createContext(
-                        encoder,
-                        event,
-                        objectMapper,
-                        contextKeys,
-                        contextValues));
-        jsonGenerator.writeObjectField("id", StenoSerializationHelper.createId());
-        jsonGenerator.writeObjectField("version", "0");
+        // Each context value is written separately so that payload limits
+        // apply to the values and not to the context itself
+        final Map<String, Object> context = StenoSerializationHelper.createContext(
+                encoder,
+                event,
+                objectMapper,
+                contextKeys,
+                contextValues);
+        jsonGenerator.writeObjectFieldStart("context");
+        for (final Map.Entry<String, Object> entry : context.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new JsonGenerationException("Null key for a Map not allowed in JSON", jsonGenerator);
+            }
+            if (encoder.isRedactedKey(entry.getKey(), entry.getValue())) {
+                jsonGenerator.writeStringField(entry.getKey(), RedactionFilter.REDACTION_STRING);
+            } else {
+                jsonGenerator.writeFieldName(entry.getKey());
+                objectMapper.writeValue(jsonGenerator, entry.getValue());
+            }
+        }
+        jsonGenerator.writeEndObject();
+        jsonGenerator.writeStringField("id", StenoSerializationHelper.createId());
+        jsonGenerator.writeStringField("version", "0");
         jsonGenerator.writeEndObject(); // End log message
         jsonGenerator.writeRaw('\n');
         jsonGenerator.flush();
@@ -174,10 +193,16 @@ public final class StenoSerializationHelper {
             for (int i = 0; i < keys.size(); ++i) {
                 final String key = keys.get(i);
                 if (i >= contextValuesLength) {
-                    jsonGenerator.writeObjectField(key, null);
+                    if (encoder.isRedactedKey(key, null)) {
+                        jsonGenerator.writeStringField(key, RedactionFilter.REDACTION_STRING);
+                    } else {
+                        jsonGenerator.writeObjectField(key, null);
+                    }
                 } else {
-                    final Object value = values.get(i);
-                    if (isSimpleType(value)) {
+                    final Object value = resolveValue(values.get(i));
+                    if (encoder.isRedactedKey(key, value)) {
+                        jsonGenerator.writeStringField(key, RedactionFilter.REDACTION_STRING);
+                    } else if (isSimpleType(value)) {
                         jsonGenerator.writeObjectField(key, value);
                     } else {
                         jsonGenerator.writeFieldName(key);
@@ -321,13 +346,109 @@ public final class StenoSerializationHelper {
             final int contextValuesLength = contextValues == null ? 0 : contextValues.size();
             for (int i = 0; i < contextKeys.size(); ++i) {
                 final String key = contextKeys.get(i);
-                final Object value = i < contextValuesLength ? contextValues.get(i) : null;
+                final Object value = i < contextValuesLength ? resolveValue(contextValues.get(i)) : null;
                 context.put(key, value);
             }
         }
         return context;
     }
 
+    /**
+     * Resolve a data or context value which may be supplied lazily. If the
+     * value is a {@link MemoizingSupplier} it is evaluated and any exception it throws
+     * is replaced by a map describing the failure under the
+     * {@code _supplierException} key with the exception type and message.
+     * All other values, including other implementations of {@link Supplier},
+     * are returned as-is.
+     *
+     * @since 2.2.1
+     * @param value The value to resolve.
+     * @return The resolved value.
+     */
+    public static @Nullable Object resolveValue(@Nullable final Object value) {
+        if (!(value instanceof MemoizingSupplier)) {
+            return value;
+        }
+        try {
+            return ((MemoizingSupplier<?>) value).get();
+            // CHECKSTYLE.OFF: IllegalCatch: Ensure a failing supplier does not fail the event.
+        } catch (final Throwable t) {
+            // CHECKSTYLE.ON: IllegalCatch
+            final Map<String, Object> failure = new LinkedHashMap<>();
+            failure.put("type", t.getClass().getName());
+            failure.put("message", t.getMessage());
+            return Collections.singletonMap(SUPPLIER_EXCEPTION_KEY, failure);
+        }
+    }
+
+    /**
+     * Resolve the data or context values which may be supplied lazily.
+     *
+     * @since 2.2.1
+     * @param values The values to resolve.
+     * @return The values if none is a {@link MemoizingSupplier}, or otherwise a copy
+     * with each {@link MemoizingSupplier} resolved by {@link #resolveValue(Object)}.
+     */
+    public static @Nullable Object[] resolveValues(@Nullable final Object[] values) {
+        if (values == null) {
+            return null;
+        }
+        Object[] resolvedValues = values;
+        for (int i = 0; i < values.length; ++i) {
+            if (values[i] instanceof MemoizingSupplier) {
+                if (resolvedValues == values) {
+                    resolvedValues = values.clone();
+                }
+                resolvedValues[i] = resolveValue(values[i]);
+            }
+        }
+        return resolvedValues;
+    }
+
+    /**
+     * Resolve the data or context values which may be supplied lazily.
+     *
+     * @since 2.2.1
+     * @param values The values to resolve.
+     * @return The values if none is a {@link MemoizingSupplier}, or otherwise a copy
+     * with each {@link MemoizingSupplier} resolved by {@link #resolveValue(Object)}.
+     */
+    public static @Nullable List<Object> resolveValues(@Nullable final List<Object> values) {
+        if (values == null) {
+            return null;
+        }
+        for (int i = 0; i < values.size(); ++i) {
+            if (values.get(i) instanceof MemoizingSupplier) {
+                final List<Object> resolvedValues = new ArrayList<>(values.size());
+                for (final Object value : values) {
+                    resolvedValues.add(resolveValue(value));
+                }
+                return resolvedValues;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Truncate a string to at most the specified number of characters without
+     * splitting a surrogate pair.
+     *
+     * @since 2.2.1
+     * @param value The value to truncate.
+     * @param maxLength The maximum number of characters.
+     * @return The value if not longer than the maximum, otherwise its prefix.
+     */
+    public static String truncate(final String value, final int maxLength) {
+        if (value.length() <= maxLength) {
+            return value;
+        }
+        int length = maxLength;
+        if (length > 0 && Character.isHighSurrogate(value.charAt(length - 1))) {
+            --length;
+        }
+        return value.substring(0, length);
+    }
+
     /**
      * Create a Steno compatible identifier.
      *
@@ -367,6 +488,11 @@ public final class StenoSerializationHelper {
         return false;
     }
 
+    /**
+     * Key of the value encoded in place of a {@link MemoizingSupplier} which failed.
+     * @since 2.2.1
+     */
+    public static final String SUPPLIER_EXCEPTION_KEY = "_supplierException";
     /**
      * Converter for host.
      * @since 1.7.0
@@ -489,6 +615,6 @@ public final class StenoSerializationHelper {
 
     private StenoSerializationHelper() {}
 
-    private static final DateTimeFormatter ISO_DATE_TIME_FORMATTER =
+    /* package private */ static final DateTimeFormatter ISO_DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZZZZZ").withZone(ZoneId.of("UTC"));
 }
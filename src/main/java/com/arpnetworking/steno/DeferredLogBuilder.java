@@ -15,6 +15,9 @@
  */
 package com.arpnetworking.steno;
 
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
 /**
  * Interface for classes which assemble log messages where the actual logging
  * is deferred.
@@ -74,4 +77,34 @@ public interface DeferredLogBuilder {
      * @return This instance as {@code <T>}.
      */
     DeferredLogBuilder addContext(String name, Object value);
+
+    /**
+     * Add data key-value pair whose value is evaluated only when the event is
+     * encoded and at most once per event. An exception thrown by the
+     * {@link Supplier} is encoded in place of the value.
+     *
+     * @since 2.2.1
+     *
+     * @param name The key.
+     * @param value The {@link Supplier} of the value.
+     * @return This instance as {@code <T>}.
+     */
+    default DeferredLogBuilder addData(final String name, @Nullable final Supplier<?> value) {
+        return addData(name, (Object) MemoizingSupplier.memoize(value));
+    }
+
+    /**
+     * Add context key-value pair whose value is evaluated only when the event
+     * is encoded and at most once per event. An exception thrown by the
+     * {@link Supplier} is encoded in place of the value.
+     *
+     * @since 2.2.1
+     *
+     * @param name The key.
+     * @param value The {@link Supplier} of the value.
+     * @return This instance as {@code <T>}.
+     */
+    default DeferredLogBuilder addContext(final String name, @Nullable final Supplier<?> value) {
+        return addContext(name, (Object) MemoizingSupplier.memoize(value));
+    }
 }
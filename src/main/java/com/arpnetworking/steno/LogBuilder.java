@@ -15,6 +15,7 @@
  */
 package com.arpnetworking.steno;
 
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
 /**
@@ -82,6 +83,39 @@ public interface LogBuilder extends DeferredLogBuilder {
     @Override
     LogBuilder addContext(String name, @Nullable Object value);
 
+    /**
+     * Add data key-value pair whose value is evaluated only when the event is
+     * encoded and at most once per event. An exception thrown by the
+     * {@link Supplier} is encoded in place of the value.
+     *
+     * @since 2.2.1
+     *
+     * @param name The key.
+     * @param value The {@link Supplier} of the value. See the README in the project root for the constraints on the
+     *              supplied value's type and the corresponding log content.
+     * @return This instance as {@code <T>}.
+     */
+    @Override
+    default LogBuilder addData(final String name, @Nullable final Supplier<?> value) {
+        return addData(name, (Object) MemoizingSupplier.memoize(value));
+    }
+
+    /**
+     * Add context key-value pair whose value is evaluated only when the event
+     * is encoded and at most once per event. An exception thrown by the
+     * {@link Supplier} is encoded in place of the value.
+     *
+     * @since 2.2.1
+     *
+     * @param name The key.
+     * @param value The {@link Supplier} of the value.
+     * @return This instance as {@code <T>}.
+     */
+    @Override
+    default LogBuilder addContext(final String name, @Nullable final Supplier<?> value) {
+        return addContext(name, (Object) MemoizingSupplier.memoize(value));
+    }
+
     /**
      * Log this message.
      *
@@ -16,11 +16,13 @@
 package com.arpnetworking.steno;
 
 import com.arpnetworking.logback.annotations.LogValue;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * Log an {@link Object} only with its reference id and class. This is
  * useful for logging instances of classes that are not naturally serializable
- * by Jackson.
+ * by Jackson. The {@code StenoEncoder} writes instances directly without
+ * creating their {@link #toLogValue()} representation.
  *
  * @since 1.7.0
  *
@@ -51,6 +53,17 @@ public final class LogReferenceOnly {
         return LogValueMapFactory.builder(_object).build();
     }
 
+    /**
+     * The wrapped {@link Object}.
+     *
+     * @since 2.2.1
+     * @return The wrapped {@link Object}.
+     */
+    @JsonIgnore
+    public Object getTarget() {
+        return _object;
+    }
+
     @Override
     public String toString() {
         return "{id=" + Integer.toHexString(System.identityHashCode(_object))
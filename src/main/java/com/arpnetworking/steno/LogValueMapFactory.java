@@ -21,7 +21,11 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -75,9 +79,7 @@ public final class LogValueMapFactory {
      * @return New {@link LogValueMap}.
      */
     public static LogValueMap of(final String k1, final Object v1) {
-        return builder()
-                .put(k1, v1)
-                .build();
+        return create(new String[]{k1}, new Object[]{v1});
     }
 
     /**
@@ -95,10 +97,7 @@ public final class LogValueMapFactory {
     public static LogValueMap of(
             final String k1, final Object v1,
             final String k2, final Object v2) {
-        return builder()
-                .put(k1, v1)
-                .put(k2, v2)
-                .build();
+        return create(new String[]{k1, k2}, new Object[]{v1, v2});
     }
 
     /**
@@ -119,11 +118,7 @@ public final class LogValueMapFactory {
             final String k1, final Object v1,
             final String k2, final Object v2,
             final String k3, final Object v3) {
-        return builder()
-                .put(k1, v1)
-                .put(k2, v2)
-                .put(k3, v3)
-                .build();
+        return create(new String[]{k1, k2, k3}, new Object[]{v1, v2, v3});
     }
 
     /**
@@ -148,12 +143,7 @@ public final class LogValueMapFactory {
             final String k2, final Object v2,
             final String k3, final Object v3,
             final String k4, final Object v4) {
-        return builder()
-                .put(k1, v1)
-                .put(k2, v2)
-                .put(k3, v3)
-                .put(k4, v4)
-                .build();
+        return create(new String[]{k1, k2, k3, k4}, new Object[]{v1, v2, v3, v4});
     }
     // CHECKSTYLE.ON: ParameterNumber
 
@@ -182,20 +172,58 @@ public final class LogValueMapFactory {
             final String k3, final Object v3,
             final String k4, final Object v4,
             final String k5, final Object v5) {
-        return builder()
-                .put(k1, v1)
-                .put(k2, v2)
-                .put(k3, v3)
-                .put(k4, v4)
-                .put(k5, v5)
-                .build();
+        return create(new String[]{k1, k2, k3, k4, k5}, new Object[]{v1, v2, v3, v4, v5});
     }
     // CHECKSTYLE.ON: ParameterNumber
 
+    private static LogValueMap create(final String[] keys, final Object[] values) {
+        // The entries are compacted in place; each suppressed entry leaves
+        // space for the marker recording its suppression
+        int size = 0;
+        boolean nullKeys = false;
+        boolean nullValues = false;
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] == null) {
+                nullKeys = true;
+            } else if (values[i] == null) {
+                nullValues = true;
+            } else {
+                size = put(keys, values, size, keys[i], values[i]);
+            }
+        }
+        if (nullKeys) {
+            size = put(keys, values, size, NULL_KEYS, Boolean.TRUE);
+        }
+        if (nullValues) {
+            size = put(keys, values, size, NULL_VALUES, Boolean.TRUE);
+        }
+        if (size == keys.length) {
+            return new LogValueMap(Optional.empty(), keys, values);
+        }
+        return new LogValueMap(Optional.empty(), Arrays.copyOf(keys, size), Arrays.copyOf(values, size));
+    }
+
+    private static int put(final String[] keys, final Object[] values, final int size, final String key, final Object value) {
+        // Maps representing a value are small so a scan is cheaper than hashing
+        for (int i = 0; i < size; ++i) {
+            if (keys[i].equals(key)) {
+                values[i] = value;
+                return size;
+            }
+        }
+        keys[size] = key;
+        values[size] = value;
+        return size + 1;
+    }
+
     private LogValueMapFactory() {}
 
+    private static final String NULL_KEYS = "_nullKeys";
+    private static final String NULL_VALUES = "_nullValues";
+
     /**
-     * Custom {@link Map} implementation for custom serialization.
+     * Custom {@link Map} implementation for custom serialization. The
+     * entries are held in insertion order in compact parallel arrays.
      *
      * @since 1.9.0
      */
@@ -210,7 +238,14 @@ public final class LogValueMapFactory {
          */
         public LogValueMap(final Optional<Object> target, final Map<String, Object> data) {
             _target = target;
-            _data = new LinkedHashMap<>(data);
+            _keys = new String[data.size()];
+            _values = new Object[data.size()];
+            int index = 0;
+            for (final Map.Entry<String, Object> entry : data.entrySet()) {
+                _keys[index] = entry.getKey();
+                _values[index] = entry.getValue();
+                ++index;
+            }
         }
 
         @JsonIgnore
@@ -218,9 +253,56 @@ public final class LogValueMapFactory {
             return _target;
         }
 
+        /**
+         * The representation of the target instance as an unmodifiable map.
+         * A new map is created on each call; use {@link #size()},
+         * {@link #getKey(int)} and {@link #getValue(int)} to read the
+         * entries without creating one.
+         *
+         * @return The representation.
+         */
         @JsonAnyGetter
         public Map<String, Object> getData() {
-            return _data;
+            final Map<String, Object> data = new LinkedHashMap<>();
+            for (int i = 0; i < _keys.length; ++i) {
+                data.put(_keys[i], _values[i]);
+            }
+            return Collections.unmodifiableMap(data);
+        }
+
+        /**
+         * The number of entries.
+         *
+         * @since 2.2.1
+         *
+         * @return The number of entries.
+         */
+        public int size() {
+            return _keys.length;
+        }
+
+        /**
+         * The key of an entry.
+         *
+         * @since 2.2.1
+         *
+         * @param index The index of the entry in insertion order.
+         * @return The key.
+         */
+        public String getKey(final int index) {
+            return _keys[index];
+        }
+
+        /**
+         * The value of an entry.
+         *
+         * @since 2.2.1
+         *
+         * @param index The index of the entry in insertion order.
+         * @return The value.
+         */
+        public Object getValue(final int index) {
+            return _values[index];
         }
 
         @Override
@@ -234,28 +316,61 @@ public final class LogValueMapFactory {
                         .append(_target.get().getClass().getName())
                         .append(" ");
             }
-            for (final Map.Entry<String, Object> entry : _data.entrySet()) {
-                builder.append(entry.getKey())
+            for (int i = 0; i < _keys.length; ++i) {
+                builder.append(_keys[i])
                         .append("=")
-                        .append(entry.getValue().toString())
+                        .append(_values[i].toString())
                         .append(" ");
             }
-            if (_target.isPresent() || !_data.isEmpty()) {
+            if (_target.isPresent() || _keys.length > 0) {
                 builder.setLength(builder.length() - 1);
             }
             builder.append("}");
             return builder.toString();
         }
 
+        private LogValueMap(final Optional<Object> target, final String[] keys, final Object[] values) {
+            _target = target;
+            _keys = keys;
+            _values = values;
+        }
+
+        // The serialized form remains the map of entries written by earlier versions
+        private void writeObject(final ObjectOutputStream out) throws IOException {
+            final ObjectOutputStream.PutField fields = out.putFields();
+            final LinkedHashMap<String, Object> data = new LinkedHashMap<>();
+            for (int i = 0; i < _keys.length; ++i) {
+                data.put(_keys[i], _values[i]);
+            }
+            fields.put("_data", data);
+            out.writeFields();
+        }
+
+        @SuppressWarnings("unchecked")
         private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
-            in.defaultReadObject();
+            final ObjectInputStream.GetField fields = in.readFields();
+            final Map<String, Object> data = (Map<String, Object>) fields.get("_data", Collections.emptyMap());
+            _keys = new String[data.size()];
+            _values = new Object[data.size()];
+            int index = 0;
+            for (final Map.Entry<String, Object> entry : data.entrySet()) {
+                _keys[index] = entry.getKey();
+                _values[index] = entry.getValue();
+                ++index;
+            }
             _target = Optional.empty();
         }
 
         private transient Optional<Object> _target = Optional.empty();
-        private final LinkedHashMap<String, Object> _data;
+        private transient String[] _keys;
+        private transient Object[] _values;
 
         private static final long serialVersionUID = -2817278417438085513L;
+        // CHECKSTYLE.OFF: ConstantName - The name is defined by serialization.
+        private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("_data", LinkedHashMap.class),
+        };
+        // CHECKSTYLE.ON: ConstantName
     }
 
     /**
@@ -285,12 +400,12 @@ public final class LogValueMapFactory {
          */
         public LogValueMap build() {
             if (_nullKeys) {
-                put("_nullKeys", true);
+                put(NULL_KEYS, Boolean.TRUE);
             }
             if (_nullValues) {
-                put("_nullValues", true);
+                put(NULL_VALUES, Boolean.TRUE);
             }
-            return new LogValueMap(_target, _data);
+            return new LogValueMap(_target, Arrays.copyOf(_keys, _size), Arrays.copyOf(_values, _size));
         }
 
         /**
@@ -315,13 +430,21 @@ public final class LogValueMapFactory {
                 _nullValues = true;
                 return this;
             }
-            _data.put(key, value);
+            if (_size == _keys.length) {
+                _keys = Arrays.copyOf(_keys, _size * 2);
+                _values = Arrays.copyOf(_values, _size * 2);
+            }
+            _size = LogValueMapFactory.put(_keys, _values, _size, key, value);
             return this;
         }
 
         private final Optional<Object> _target;
-        private final Map<String, Object> _data = new LinkedHashMap<>();
+        private String[] _keys = new String[INITIAL_CAPACITY];
+        private Object[] _values = new Object[INITIAL_CAPACITY];
+        private int _size = 0;
         private boolean _nullKeys = false;
         private boolean _nullValues = false;
+
+        private static final int INITIAL_CAPACITY = 8;
     }
 }
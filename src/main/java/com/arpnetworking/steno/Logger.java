@@ -31,6 +31,11 @@ import javax.annotation.Nullable;
  * injection for Steno versus the general marker methods in the SFL4J
  * implementation.
  *
+ * Data values passed through the array methods may be wrapped with
+ * {@link MemoizingSupplier#memoize(java.util.function.Supplier)}, in which
+ * case the value is evaluated only when the event is encoded and at most
+ * once per event.
+ *
  * @since 1.3.0
  *
  * @author Stuart Siegrist (fsiegrist at groupon dot com)
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.steno;
+
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Wraps a lazily evaluated data or context value so that it is evaluated at
+ * most once per event even when the event is encoded by several appenders.
+ * Only values wrapped in this class are evaluated when the event is encoded;
+ * the {@code addData} and {@code addContext} methods of
+ * {@link DeferredLogBuilder} taking a {@link Supplier} wrap it, and values
+ * passed through the array, map or lists methods may be wrapped with
+ * {@link #memoize(Supplier)}. Other values which implement {@link Supplier}
+ * are logged as they are.
+ * A {@link RuntimeException} thrown by the wrapped {@link Supplier} is also
+ * remembered and thrown again to each caller so that every encoder reports
+ * the same failure.
+ *
+ * @param <T> The type of value supplied.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @since 2.2.1
+ */
+public final class MemoizingSupplier<T> implements Supplier<T> {
+
+    /**
+     * Wrap a {@link Supplier}.
+     *
+     * @since 2.2.1
+     *
+     * @param supplier The {@link Supplier} to wrap.
+     * @return The wrapped {@link Supplier} or {@code null} if it is {@code null}.
+     */
+    public static @Nullable Supplier<?> memoize(@Nullable final Supplier<?> supplier) {
+        if (supplier == null || supplier instanceof MemoizingSupplier) {
+            return supplier;
+        }
+        return new MemoizingSupplier<>(supplier);
+    }
+
+    @Override
+    public synchronized T get() {
+        if (_supplier != null) {
+            try {
+                _value = _supplier.get();
+                // CHECKSTYLE.OFF: IllegalCatch - The failure is rethrown to every caller.
+            } catch (final RuntimeException e) {
+                // CHECKSTYLE.ON: IllegalCatch
+                _failure = e;
+            }
+            _supplier = null;
+        }
+        if (_failure != null) {
+            throw _failure;
+        }
+        return _value;
+    }
+
+    private MemoizingSupplier(final Supplier<? extends T> supplier) {
+        _supplier = supplier;
+    }
+
+    private Supplier<? extends T> _supplier;
+    private T _value;
+    private RuntimeException _failure;
+}
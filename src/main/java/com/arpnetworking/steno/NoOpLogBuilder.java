@@ -15,6 +15,7 @@
  */
 package com.arpnetworking.steno;
 
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
 /**
@@ -49,6 +50,16 @@ public class NoOpLogBuilder implements LogBuilder {
         return this;
     }
 
+    @Override
+    public LogBuilder addData(final String name, @Nullable final Supplier<?> value) {
+        return this;
+    }
+
+    @Override
+    public LogBuilder addContext(final String name, @Nullable final Supplier<?> value) {
+        return this;
+    }
+
     @Override
     public void log() {
         // Nothing to do.
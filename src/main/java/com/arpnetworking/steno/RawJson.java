@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.steno;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nullable;
+
+/**
+ * Log a value which is already serialized as JSON, for example a proxied
+ * response body, as-is instead of as a string. The value may be used
+ * anywhere data or context is accepted.
+ *
+ * When created from bytes the value is neither copied nor decoded until the
+ * event is encoded; the bytes must therefore be UTF-8 and must not be
+ * modified until then. The {@code StenoEncoder} serializes events as
+ * characters, so the bytes are then decoded and encoded again rather than
+ * copied into the output. Values are written without validation unless the
+ * {@code StenoEncoder} {@code rawJsonValidationLimit} is set, in which case
+ * values up to that length which are not valid JSON are written as strings.
+ *
+ * @since 2.2.1
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class RawJson {
+
+    /**
+     * Wrap serialized JSON.
+     *
+     * @since 2.2.1
+     * @param json The serialized JSON.
+     * @return Raw JSON instance.
+     */
+    public static RawJson of(final String json) {
+        return new RawJson(json, null);
+    }
+
+    /**
+     * Wrap serialized JSON encoded as UTF-8.
+     *
+     * @since 2.2.1
+     * @param json The serialized JSON.
+     * @return Raw JSON instance.
+     */
+    public static RawJson of(final byte[] json) {
+        return of(json, 0, json.length);
+    }
+
+    /**
+     * Wrap a range of serialized JSON encoded as UTF-8.
+     *
+     * @since 2.2.1
+     * @param json The serialized JSON.
+     * @param offset The offset of the first byte.
+     * @param length The number of bytes.
+     * @return Raw JSON instance.
+     */
+    public static RawJson of(final byte[] json, final int offset, final int length) {
+        return new RawJson(null, ByteBuffer.wrap(json, offset, length).slice());
+    }
+
+    /**
+     * Wrap the remaining bytes of a buffer of serialized JSON encoded as
+     * UTF-8. The position of the buffer is not changed.
+     *
+     * @since 2.2.1
+     * @param json The serialized JSON.
+     * @return Raw JSON instance.
+     */
+    public static RawJson of(final ByteBuffer json) {
+        return new RawJson(null, json.slice());
+    }
+
+    /**
+     * The serialized JSON as UTF-8 bytes. The buffer is a read-only view of
+     * the wrapped bytes if created from bytes.
+     *
+     * @since 2.2.1
+     * @return The serialized JSON.
+     */
+    public ByteBuffer asByteBuffer() {
+        if (_bytes != null) {
+            return _bytes.asReadOnlyBuffer();
+        }
+        return ByteBuffer.wrap(_json.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+    }
+
+    /**
+     * The serialized JSON.
+     *
+     * @return The serialized JSON.
+     */
+    @Override
+    public String toString() {
+        if (_json != null) {
+            return _json;
+        }
+        return StandardCharsets.UTF_8.decode(_bytes.duplicate()).toString();
+    }
+
+    private RawJson(@Nullable final String json, @Nullable final ByteBuffer bytes) {
+        _json = json;
+        _bytes = bytes;
+    }
+
+    @Nullable private final String _json;
+    @Nullable private final ByteBuffer _bytes;
+}
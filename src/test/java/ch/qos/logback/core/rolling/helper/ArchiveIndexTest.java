@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.qos.logback.core.rolling.helper;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+
+/**
+ * Tests for {@link ArchiveIndex}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class ArchiveIndexTest {
+
+    @Test
+    public void testOrderedByLastModified() {
+        final ArchiveIndex index = new ArchiveIndex();
+        index.put(new File("b.log"), 20, 2000);
+        index.put(new File("a.log"), 10, 1000);
+        index.put(new File("c.log"), 30, 2000);
+        Assert.assertEquals(3, index.size());
+        Assert.assertEquals(60, index.getTotalSize());
+
+        final ArchiveIndex.Entry oldest = index.removeOldest();
+        Assert.assertEquals(new File("a.log").getAbsoluteFile(), oldest.getFile());
+        Assert.assertEquals(10, oldest.getSize());
+        Assert.assertEquals(1000, oldest.getLastModified());
+
+        // Ties are broken by path
+        Assert.assertEquals(new File("b.log").getAbsoluteFile(), index.removeOldest().getFile());
+        Assert.assertEquals(new File("c.log").getAbsoluteFile(), index.removeOldest().getFile());
+        Assert.assertEquals(0, index.size());
+        Assert.assertEquals(0, index.getTotalSize());
+    }
+
+    @Test
+    public void testReplace() {
+        final ArchiveIndex index = new ArchiveIndex();
+        index.put(new File("a.log"), 10, 1000);
+        index.put(new File("b.log"), 20, 2000);
+        index.put(new File("a.log"), 15, 3000);
+        Assert.assertEquals(2, index.size());
+        Assert.assertEquals(35, index.getTotalSize());
+        Assert.assertEquals(new File("b.log").getAbsoluteFile(), index.removeOldest().getFile());
+    }
+
+    @Test
+    public void testRemove() {
+        final ArchiveIndex index = new ArchiveIndex();
+        index.put(new File("a.log"), 10, 1000);
+        index.remove(new File("a.log").getAbsolutePath());
+        index.remove(new File("missing.log").getAbsolutePath());
+        Assert.assertEquals(0, index.size());
+        Assert.assertEquals(0, index.getTotalSize());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.qos.logback.core.rolling.helper;
+
+import ch.qos.logback.core.ContextBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Compares enforcing the total size cap over hourly archives by listing each
+ * period against the incremental archive index.
+ *
+ * Execute this using the command:
+ * <pre>
+ *     mvn -DskipCoverage=true -Dtest=CustomSizeAndTimeBasedArchiveRemoverBenchmark test > /dev/null
+ * </pre>
+ *
+ * The test is not named with the conventional "Test" suffix to avoid running it
+ * during normal test execution.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class CustomSizeAndTimeBasedArchiveRemoverBenchmark {
+
+    /**
+     * Create the archives.
+     *
+     * @throws IOException if the archives cannot be created.
+     */
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("custom-size-and-time-based-archive-remover-benchmark");
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH");
+        for (int i = 0; i < ARCHIVES; ++i) {
+            final ZonedDateTime period = START.plusHours(i);
+            final Path archive = _directory.resolve("application-" + formatter.format(period) + ".0.log.gz");
+            Files.write(archive, new byte[ARCHIVE_SIZE]);
+            Files.setLastModifiedTime(archive, FileTime.from(period.plusMinutes(59).toInstant()));
+        }
+    }
+
+    /**
+     * Remove the archives.
+     *
+     * @throws IOException if the archives cannot be removed.
+     */
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(_directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Execute the benchmark.
+     *
+     * @throws IOException if the archives cannot be indexed.
+     */
+    @Test
+    public void test() throws IOException {
+        final Instant now = START.plusHours(ARCHIVES).toInstant();
+        final CustomSizeAndTimeBasedArchiveRemover remover = createRemover();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; ++i) {
+            remover.capTotalSizeByListing(now);
+        }
+        System.err.printf("Listing each period: %f ms per clean%n", (System.nanoTime() - start) / 1000000.0 / ITERATIONS);
+
+        start = System.nanoTime();
+        remover.capTotalSize(now);
+        System.err.printf("Building index: %f ms%n", (System.nanoTime() - start) / 1000000.0);
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; ++i) {
+            remover.capTotalSize(now);
+        }
+        System.err.printf("Incremental index: %f ms per clean%n", (System.nanoTime() - start) / 1000000.0 / ITERATIONS);
+    }
+
+    private CustomSizeAndTimeBasedArchiveRemover createRemover() {
+        final ContextBase context = new ContextBase();
+        final CustomSizeAndTimeBasedArchiveRemover remover = new CustomSizeAndTimeBasedArchiveRemover(
+                new FileNamePattern(_directory.resolve("application-%d{yyyy-MM-dd_HH}.%i.log.gz").toString(), context),
+                new RollingCalendar("yyyy-MM-dd_HH"));
+        remover.setContext(context);
+        remover.setMaxHistory(ARCHIVES);
+        remover.setTotalSizeCap((long) ARCHIVES * ARCHIVE_SIZE);
+        return remover;
+    }
+
+    private Path _directory;
+
+    private static final int ARCHIVES = 10000;
+    private static final int ARCHIVE_SIZE = 1024;
+    private static final int ITERATIONS = 10;
+    private static final ZonedDateTime START = ZonedDateTime.of(2014, 5, 5, 0, 0, 0, 0, ZoneId.systemDefault());
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.qos.logback.core.rolling.helper;
+
+import ch.qos.logback.core.Context;
+import ch.qos.logback.core.ContextBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Tests for {@link CustomSizeAndTimeBasedArchiveRemover}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class CustomSizeAndTimeBasedArchiveRemoverTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("custom-size-and-time-based-archive-remover-test");
+        _context = new ContextBase();
+    }
+
+    @Test
+    public void testCapTotalSize() throws Exception {
+        for (int hour = 0; hour < 6; ++hour) {
+            createArchive(hour, 0);
+        }
+        final CustomSizeAndTimeBasedArchiveRemover remover = createRemover(
+                _directory.resolve("application-%d{yyyy-MM-dd_HH}.%i.log").toString());
+        runCycle(remover, at(6));
+
+        Assert.assertEquals(3, remover.getIndex().size());
+        Assert.assertEquals(300, remover.getIndex().getTotalSize());
+        for (int hour = 0; hour < 3; ++hour) {
+            Assert.assertFalse(Files.exists(archive(hour, 0)));
+        }
+        for (int hour = 3; hour < 6; ++hour) {
+            Assert.assertTrue(Files.exists(archive(hour, 0)));
+        }
+    }
+
+    @Test
+    public void testIndexUpdatedOnRoll() throws Exception {
+        createArchive(0, 0);
+        createArchive(1, 0);
+        createArchive(1, 1);
+        final CustomSizeAndTimeBasedArchiveRemover remover = createRemover(
+                _directory.resolve("application-%d{yyyy-MM-dd_HH}.%i.log").toString());
+        runCycle(remover, at(2));
+        Assert.assertEquals(3, remover.getIndex().size());
+
+        // A new archive in a recent period is picked up without a full scan
+        createArchive(2, 0);
+        runCycle(remover, at(3));
+        Assert.assertEquals(3, remover.getIndex().size());
+        Assert.assertFalse(Files.exists(archive(0, 0)));
+        Assert.assertTrue(Files.exists(archive(2, 0)));
+    }
+
+    @Test
+    public void testNewestArchivesKept() throws Exception {
+        createArchive(0, 0);
+        createArchive(1, 0);
+        final CustomSizeAndTimeBasedArchiveRemover remover = createRemover(
+                _directory.resolve("application-%d{yyyy-MM-dd_HH}.%i.log").toString());
+        remover.setTotalSizeCap(50);
+        runCycle(remover, at(2));
+        Assert.assertTrue(Files.exists(archive(0, 0)));
+        Assert.assertTrue(Files.exists(archive(1, 0)));
+    }
+
+    @Test
+    public void testUnindexableDirectory() throws Exception {
+        final CustomSizeAndTimeBasedArchiveRemover remover = createRemover(
+                _directory.resolve("%d{yyyy-MM-dd, aux}/application-%d{yyyy-MM-dd_HH}.%i.log").toString());
+        runCycle(remover, at(2));
+        Assert.assertNull(remover.getIndex());
+    }
+
+    @Test
+    public void testMissingDirectory() throws Exception {
+        final CustomSizeAndTimeBasedArchiveRemover remover = createRemover(
+                _directory.resolve("missing/application-%d{yyyy-MM-dd_HH}.%i.log").toString());
+        runCycle(remover, at(2));
+        Assert.assertEquals(0, remover.getIndex().size());
+    }
+
+    @Test
+    public void testUncapped() throws Exception {
+        createArchive(0, 0);
+        final CustomSizeAndTimeBasedArchiveRemover remover = createRemover(
+                _directory.resolve("application-%d{yyyy-MM-dd_HH}.%i.log").toString());
+        remover.setTotalSizeCap(0);
+        runCycle(remover, at(2));
+        Assert.assertNull(remover.getIndex());
+        Assert.assertTrue(Files.exists(archive(0, 0)));
+    }
+
+    @Test
+    public void testIndexRebuiltPeriodically() throws Exception {
+        createArchive(0, 0);
+        final CustomSizeAndTimeBasedArchiveRemover remover = createRemover(
+                _directory.resolve("application-%d{yyyy-MM-dd_HH}.%i.log").toString());
+        runCycle(remover, at(2));
+        final ArchiveIndex index = remover.getIndex();
+
+        // The total size is capped once per cycle so the index is rebuilt every 100 cycles
+        for (int cycle = 1; cycle < 100; ++cycle) {
+            runCycle(remover, at(2));
+            Assert.assertSame(index, remover.getIndex());
+        }
+        runCycle(remover, at(2));
+        Assert.assertNotSame(index, remover.getIndex());
+        Assert.assertEquals(1, remover.getIndex().size());
+    }
+
+    private CustomSizeAndTimeBasedArchiveRemover createRemover(final String pattern) {
+        final CustomSizeAndTimeBasedArchiveRemover remover = new CustomSizeAndTimeBasedArchiveRemover(
+                new FileNamePattern(pattern, _context),
+                new RollingCalendar("yyyy-MM-dd_HH"));
+        remover.setContext(_context);
+        remover.setMaxHistory(24);
+        remover.setTotalSizeCap(300);
+        return remover;
+    }
+
+    private void createArchive(final int hour, final int index) throws IOException {
+        final Path archive = archive(hour, index);
+        Files.write(archive, new byte[100]);
+        Files.setLastModifiedTime(archive, FileTime.from(at(hour).plusSeconds(3600 - 60 + index)));
+    }
+
+    private Path archive(final int hour, final int index) {
+        return _directory.resolve(String.format("application-2014-05-05_%02d.%d.log", hour, index));
+    }
+
+    private static void runCycle(final CustomSizeAndTimeBasedArchiveRemover remover, final Instant now) throws Exception {
+        // Cleans and then caps the total size as a rollover does
+        remover.cleanAsynchronously(now).get();
+    }
+
+    private static Instant at(final int hour) {
+        // The rolling calendar and file name pattern use the default time zone
+        return ZonedDateTime.of(2014, 5, 5, hour, 0, 0, 0, ZoneId.systemDefault()).toInstant();
+    }
+
+    private Path _directory;
+    private Context _context;
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link BoundedByteQueue}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class BoundedByteQueueTest {
+
+    @Test
+    public void testOfferAndPoll() throws InterruptedException {
+        final BoundedByteQueue queue = new BoundedByteQueue(4);
+        Assert.assertTrue(queue.poll(0).isEmpty());
+        Assert.assertTrue(queue.offer(new byte[]{1, 2}, 0));
+        Assert.assertTrue(queue.offer(new byte[]{3, 4}, 0));
+        Assert.assertFalse(queue.offer(new byte[]{5}, 0));
+        Assert.assertFalse(queue.offer(new byte[5], Long.MAX_VALUE));
+
+        final List<byte[]> events = queue.poll(0);
+        Assert.assertEquals(2, events.size());
+        Assert.assertArrayEquals(new byte[]{1, 2}, events.get(0));
+        Assert.assertArrayEquals(new byte[]{3, 4}, events.get(1));
+
+        // Space is only released once the taken events are written
+        Assert.assertFalse(queue.offer(new byte[]{5}, 0));
+        queue.release(2);
+        Assert.assertTrue(queue.offer(new byte[]{5}, 0));
+    }
+
+    @Test
+    public void testOfferWaitsForSpace() throws InterruptedException {
+        final BoundedByteQueue queue = new BoundedByteQueue(1);
+        Assert.assertTrue(queue.offer(new byte[1], 0));
+        queue.poll(0);
+        Assert.assertFalse(queue.offer(new byte[1], TimeUnit.MILLISECONDS.toNanos(10)));
+
+        final Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(10);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            queue.release(1);
+        });
+        releaser.start();
+        Assert.assertTrue(queue.offer(new byte[1], TimeUnit.SECONDS.toNanos(5)));
+        releaser.join();
+    }
+
+    @Test
+    public void testOfferInterrupted() {
+        final BoundedByteQueue queue = new BoundedByteQueue(1);
+        Assert.assertTrue(queue.offer(new byte[1], 0));
+        Thread.currentThread().interrupt();
+        Assert.assertFalse(queue.offer(new byte[1], TimeUnit.SECONDS.toNanos(5)));
+        Assert.assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    public void testClose() throws InterruptedException {
+        final BoundedByteQueue queue = new BoundedByteQueue(2);
+        Assert.assertTrue(queue.offer(new byte[1], 0));
+        Assert.assertFalse(queue.isClosed());
+        queue.awaitClose(1);
+        queue.close();
+        Assert.assertTrue(queue.isClosed());
+        queue.awaitClose(Long.MAX_VALUE);
+
+        Assert.assertFalse(queue.offer(new byte[1], 0));
+        Assert.assertEquals(1, queue.poll(Long.MAX_VALUE).size());
+        Assert.assertNull(queue.poll(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testCloseWakesOffer() throws InterruptedException {
+        final BoundedByteQueue queue = new BoundedByteQueue(1);
+        Assert.assertTrue(queue.offer(new byte[1], 0));
+        final Thread closer = new Thread(() -> {
+            try {
+                Thread.sleep(10);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            queue.close();
+        });
+        closer.start();
+        Assert.assertFalse(queue.offer(new byte[1], TimeUnit.SECONDS.toNanos(5)));
+        closer.join();
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.util.FileSize;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Tests for {@link CompressingRollingFileAppender}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class CompressingRollingFileAppenderTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("compressing-rolling-file-appender-test");
+        _file = _directory.resolve("application.log.gz");
+        _context = new LoggerContext();
+
+        _encoder = new PatternLayoutEncoder();
+        _encoder.setContext(_context);
+        _encoder.setPattern("%msg%n");
+        _encoder.start();
+
+        _triggeringPolicy = new RandomizedTimeBasedFNATP<>();
+        _triggeringPolicy.setContext(_context);
+        _triggeringPolicy.setMaxOffsetInMillis(0);
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T00:00:00Z").toInstant().toEpochMilli());
+
+        _appender = new CompressingRollingFileAppender<>();
+        _appender.setContext(_context);
+        _appender.setName("compressing");
+        _appender.setFile(_file.toString());
+        _appender.setEncoder(_encoder);
+
+        _rollingPolicy = new ParallelGzipTimeBasedRollingPolicy<>();
+        _rollingPolicy.setContext(_context);
+        _rollingPolicy.setParent(_appender);
+        _rollingPolicy.setTimeBasedFileNamingAndTriggeringPolicy(_triggeringPolicy);
+        _rollingPolicy.setFileNamePattern(_directory.resolve("application-%d{yyyy-MM-dd_HH}.log.gz").toString());
+    }
+
+    @After
+    public void tearDown() {
+        _appender.stop();
+        _context.stop();
+    }
+
+    @Test
+    public void testRolloverWithoutRecompression() throws IOException {
+        _appender.setFlushSize(new FileSize(1));
+        start();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("before the roll over"));
+        Assert.assertEquals("before the roll over\n", inflatePartial(_file));
+
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T02:00:00Z").toInstant().toEpochMilli());
+        _appender.doAppend(TestLoggingEvents.createEvent("after"));
+        _appender.stop();
+
+        final Path archive = _directory.resolve("application-2014-05-05_00.log.gz");
+        Assert.assertEquals("before the roll over\n", gunzip(archive));
+        Assert.assertEquals(1, _rollingPolicy.getCompressionCompletedFiles());
+        Assert.assertEquals(0, _rollingPolicy.getCompressionBytesRead());
+        Assert.assertFalse(Files.exists(_directory.resolve("application-2014-05-05_00.log")));
+        Assert.assertEquals("after\n", gunzip(_file));
+    }
+
+    @Test
+    public void testFlushByTime() throws Exception {
+        _appender.setFlushIntervalInMillis(10);
+        start();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("hello"));
+        final long deadline = System.nanoTime() + 5000000000L;
+        while (inflatePartial(_file).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals("hello\n", inflatePartial(_file));
+    }
+
+    @Test
+    public void testFlushBySizeOnly() throws IOException {
+        _appender.setFlushIntervalInMillis(0);
+        _appender.setFlushSize(new FileSize(6));
+        start();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("a"));
+        _appender.flushIfDue();
+        Assert.assertEquals("", inflatePartial(_file));
+        _appender.doAppend(TestLoggingEvents.createEvent("bcde"));
+        Assert.assertEquals("a\nbcde\n", inflatePartial(_file));
+    }
+
+    @Test
+    public void testFlushIfDueWithoutFile() {
+        _appender.flushIfDue();
+        Assert.assertFalse(Files.exists(_file));
+    }
+
+    @Test
+    public void testPrudentMode() {
+        _appender.setPrudent(true);
+        _appender.setRollingPolicy(_rollingPolicy);
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testSettings() {
+        Assert.assertEquals(64 * 1024, _appender.getFlushSize().getSize());
+        Assert.assertEquals(1000, _appender.getFlushIntervalInMillis());
+        Assert.assertEquals(-1, _appender.getCompressionLevel());
+
+        _appender.setFlushSize(FileSize.valueOf("1MB"));
+        _appender.setFlushIntervalInMillis(5000);
+        _appender.setCompressionLevel(9);
+        Assert.assertEquals(1024 * 1024, _appender.getFlushSize().getSize());
+        Assert.assertEquals(5000, _appender.getFlushIntervalInMillis());
+        Assert.assertEquals(9, _appender.getCompressionLevel());
+
+        _appender.setFlushSize(new FileSize(0));
+        _appender.setFlushIntervalInMillis(-1);
+        _appender.setCompressionLevel(-2);
+        _appender.setCompressionLevel(10);
+        Assert.assertEquals(1024 * 1024, _appender.getFlushSize().getSize());
+        Assert.assertEquals(5000, _appender.getFlushIntervalInMillis());
+        Assert.assertEquals(9, _appender.getCompressionLevel());
+    }
+
+    private void start() {
+        _rollingPolicy.start();
+        _appender.setRollingPolicy(_rollingPolicy);
+        _appender.start();
+        Assert.assertTrue(_appender.isStarted());
+    }
+
+    private static String inflatePartial(final Path file) throws IOException {
+        // Skip the 10 byte header; the member is incomplete so the trailer is absent
+        final byte[] bytes = Files.readAllBytes(file);
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, 10, bytes.length - 10);
+            final byte[] output = new byte[1024];
+            final int length = inflater.inflate(output);
+            return new String(output, 0, length, StandardCharsets.UTF_8);
+        } catch (final DataFormatException e) {
+            throw new IOException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static String gunzip(final Path file) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private Path _directory;
+    private Path _file;
+    private LoggerContext _context;
+    private PatternLayoutEncoder _encoder;
+    private RandomizedTimeBasedFNATP<ILoggingEvent> _triggeringPolicy;
+    private CompressingRollingFileAppender<ILoggingEvent> _appender;
+    private ParallelGzipTimeBasedRollingPolicy<ILoggingEvent> _rollingPolicy;
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link CompressionPacer}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class CompressionPacerTest {
+
+    @Test
+    public void testUnlimited() throws InterruptedException {
+        final CompressionPacer pacer = new CompressionPacer(0, 0, 0, () -> 1.0, this::now, this::sleep);
+        pacer.acquire(1000);
+        pacer.acquire(1000);
+        Assert.assertEquals(2000, pacer.getBytes());
+        Assert.assertTrue(_sleeps.isEmpty());
+    }
+
+    @Test
+    public void testRateLimit() throws InterruptedException {
+        final CompressionPacer pacer = new CompressionPacer(1000, 0, 0, () -> 1.0, this::now, this::sleep);
+
+        // One second of burst is available immediately
+        pacer.acquire(1000);
+        Assert.assertTrue(_sleeps.isEmpty());
+
+        pacer.acquire(500);
+        Assert.assertEquals(Arrays.asList(TimeUnit.MILLISECONDS.toNanos(500)), _sleeps);
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(500), pacer.getThrottledNanos());
+
+        // Idle time accumulates for at most one second
+        _now += TimeUnit.SECONDS.toNanos(10);
+        _sleeps.clear();
+        pacer.acquire(1000);
+        Assert.assertTrue(_sleeps.isEmpty());
+        pacer.acquire(1000);
+        Assert.assertEquals(Arrays.asList(TimeUnit.SECONDS.toNanos(1)), _sleeps);
+        Assert.assertEquals(3500, pacer.getBytes());
+    }
+
+    @Test
+    public void testCpuBackoff() throws InterruptedException {
+        final Iterator<Double> loads = Arrays.asList(0.9, 0.8, 0.1).iterator();
+        final CompressionPacer pacer = new CompressionPacer(0, 0.5, 5000, loads::next, this::now, this::sleep);
+        pacer.acquire(1000);
+        Assert.assertEquals(
+                Arrays.asList(TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(100)),
+                _sleeps);
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(200), pacer.getBackoffNanos());
+        Assert.assertEquals(1000, pacer.getBytes());
+    }
+
+    @Test
+    public void testCpuBackoffLimit() throws InterruptedException {
+        final CompressionPacer pacer = new CompressionPacer(0, 0.5, 250, () -> 0.9, this::now, this::sleep);
+        pacer.acquire(1000);
+        Assert.assertEquals(
+                Arrays.asList(
+                        TimeUnit.MILLISECONDS.toNanos(100),
+                        TimeUnit.MILLISECONDS.toNanos(100),
+                        TimeUnit.MILLISECONDS.toNanos(50)),
+                _sleeps);
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(250), pacer.getBackoffNanos());
+    }
+
+    @Test
+    public void testCpuLoadUnavailable() throws InterruptedException {
+        final CompressionPacer pacer = new CompressionPacer(0, 0.5, 5000, () -> -1.0, this::now, this::sleep);
+        pacer.acquire(1000);
+        Assert.assertTrue(_sleeps.isEmpty());
+    }
+
+    @Test
+    public void testDefaultClock() throws InterruptedException {
+        final CompressionPacer pacer = new CompressionPacer(1000000, 0.5, 0, CpuLoadProvider.DEFAULT);
+        pacer.acquire(1000);
+        Assert.assertEquals(1000, pacer.getBytes());
+    }
+
+    private long now() {
+        return _now;
+    }
+
+    private void sleep(final long nanos) {
+        _sleeps.add(nanos);
+        _now += nanos;
+    }
+
+    private long _now = 1000000000L;
+    private final List<Long> _sleeps = new ArrayList<>();
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * Tests for {@link CpuLoadProvider}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class CpuLoadProviderTest {
+
+    @Test
+    public void testDefaultCpuLoadProvider() {
+        Assert.assertTrue(CpuLoadProvider.DEFAULT.get() <= 1.0);
+    }
+
+    @Test
+    public void testProcessCpuLoad() {
+        final com.sun.management.OperatingSystemMXBean operatingSystem = Mockito.mock(com.sun.management.OperatingSystemMXBean.class);
+        Mockito.doReturn(0.25).when(operatingSystem).getProcessCpuLoad();
+        Assert.assertEquals(0.25, new CpuLoadProvider.DefaultCpuLoadProvider(operatingSystem).get(), 0.0001);
+    }
+
+    @Test
+    public void testProcessCpuLoadUnavailable() {
+        final com.sun.management.OperatingSystemMXBean operatingSystem = Mockito.mock(com.sun.management.OperatingSystemMXBean.class);
+        Mockito.doReturn(-1.0).when(operatingSystem).getProcessCpuLoad();
+        Mockito.doReturn(3.0).when(operatingSystem).getSystemLoadAverage();
+        Mockito.doReturn(4).when(operatingSystem).getAvailableProcessors();
+        Assert.assertEquals(0.75, new CpuLoadProvider.DefaultCpuLoadProvider(operatingSystem).get(), 0.0001);
+    }
+
+    @Test
+    public void testLoadAverage() {
+        final OperatingSystemMXBean operatingSystem = Mockito.mock(OperatingSystemMXBean.class);
+        Mockito.doReturn(8.0).when(operatingSystem).getSystemLoadAverage();
+        Mockito.doReturn(4).when(operatingSystem).getAvailableProcessors();
+        Assert.assertEquals(1.0, new CpuLoadProvider.DefaultCpuLoadProvider(operatingSystem).get(), 0.0001);
+    }
+
+    @Test
+    public void testLoadAverageUnavailable() {
+        final OperatingSystemMXBean operatingSystem = Mockito.mock(OperatingSystemMXBean.class);
+        Mockito.doReturn(-1.0).when(operatingSystem).getSystemLoadAverage();
+        Assert.assertTrue(new CpuLoadProvider.DefaultCpuLoadProvider(operatingSystem).get() < 0);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * In-process stand-in for a local log agent which accepts connections on a
+ * Unix domain socket and reads the length prefixed frames sent by
+ * {@link UnixSocketAppender}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class FakeLogAgent implements Closeable {
+
+    /**
+     * Public constructor. Binds the socket and starts accepting connections.
+     *
+     * @param socketPath The path of the socket.
+     * @throws IOException if the socket cannot be bound.
+     */
+    public FakeLogAgent(final Path socketPath) throws IOException {
+        _socketPath = socketPath;
+        _server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        _server.bind(UnixDomainSocketAddress.of(socketPath));
+        final Thread acceptor = new Thread(this::accept, "fake-log-agent");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Take the next received frame.
+     *
+     * @param timeoutInMillis The longest time to wait for a frame.
+     * @return The frame or {@code null} if none arrived in time.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Nullable
+    public String take(final long timeoutInMillis) throws InterruptedException {
+        return _frames.poll(timeoutInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Retrieve the number of connections accepted.
+     *
+     * @return The number of connections.
+     */
+    public int getConnections() {
+        return _clients.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        _server.close();
+        for (final SocketChannel client : _clients) {
+            client.close();
+        }
+        Files.deleteIfExists(_socketPath);
+    }
+
+    private void accept() {
+        try {
+            while (true) {
+                final SocketChannel client = _server.accept();
+                _clients.add(client);
+                final Thread reader = new Thread(() -> read(client), "fake-log-agent-client");
+                reader.setDaemon(true);
+                reader.start();
+            }
+        } catch (final IOException e) {
+            // Closed
+        }
+    }
+
+    private void read(final SocketChannel client) {
+        try (DataInputStream inputStream = new DataInputStream(Channels.newInputStream(client))) {
+            while (true) {
+                final byte[] frame = new byte[inputStream.readInt()];
+                inputStream.readFully(frame);
+                _frames.add(new String(frame, StandardCharsets.UTF_8));
+            }
+        } catch (final IOException e) {
+            // Closed
+        }
+    }
+
+    private final Path _socketPath;
+    private final ServerSocketChannel _server;
+    private final List<SocketChannel> _clients = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<String> _frames = new LinkedBlockingQueue<>();
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Tests for {@link FlightRecorderAppender}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class FlightRecorderAppenderTest {
+
+    @Before
+    public void setUp() {
+        _context = new LoggerContext();
+
+        _target = new ListAppender<>();
+        _target.setContext(_context);
+        _target.setName("target");
+        _target.start();
+
+        _appender = new FlightRecorderAppender();
+        _appender.setContext(_context);
+        _appender.setName("flight-recorder-" + System.nanoTime());
+        _appender.addAppender(_target);
+    }
+
+    @After
+    public void tearDown() {
+        _appender.stop();
+        _context.stop();
+    }
+
+    @Test
+    public void testPassThrough() {
+        _appender.start();
+        _appender.doAppend(createEvent(Level.INFO, "info", "main", null));
+        _appender.doAppend(createEvent(Level.WARN, "warn", "main", null));
+        Assert.assertEquals(Arrays.asList("info", "warn"), getMessages());
+        Assert.assertEquals(0, _appender.getRecordedEvents());
+    }
+
+    @Test
+    public void testDiscardedWithoutError() {
+        _appender.start();
+        _appender.doAppend(createEvent(Level.DEBUG, "debug", "main", null));
+        _appender.doAppend(createEvent(Level.TRACE, "trace", "main", null));
+        Assert.assertTrue(getMessages().isEmpty());
+        Assert.assertEquals(2, _appender.getRecordedEvents());
+        Assert.assertEquals(1, _appender.getRecordingCount());
+
+        _appender.stop();
+        Assert.assertEquals(2, _appender.getDiscardedEvents());
+        Assert.assertEquals(0, _appender.getRecordingCount());
+    }
+
+    @Test
+    public void testFlushOnError() {
+        _appender.setBufferSize(2);
+        _appender.start();
+        _appender.doAppend(createEvent(Level.DEBUG, "first", "main", null));
+        _appender.doAppend(createEvent(Level.DEBUG, "second", "main", null));
+        _appender.doAppend(createEvent(Level.DEBUG, "third", "main", null));
+        _appender.doAppend(createEvent(Level.DEBUG, "other thread", "other", null));
+        _appender.doAppend(createEvent(Level.ERROR, "error", "main", null));
+
+        Assert.assertEquals(Arrays.asList("second", "third", "error"), getMessages());
+        Assert.assertEquals(4, _appender.getRecordedEvents());
+        Assert.assertEquals(1, _appender.getDiscardedEvents());
+        Assert.assertEquals(2, _appender.getFlushedEvents());
+        Assert.assertEquals(1, _appender.getRecordingCount());
+    }
+
+    @Test
+    public void testMdcKey() {
+        _appender.setMdcKey("requestId");
+        _appender.start();
+        _appender.doAppend(createEvent(Level.DEBUG, "a1", "worker-1", "a"));
+        _appender.doAppend(createEvent(Level.DEBUG, "b1", "worker-1", "b"));
+        _appender.doAppend(createEvent(Level.DEBUG, "a2", "worker-2", "a"));
+        _appender.doAppend(createEvent(Level.DEBUG, "thread", "worker-2", null));
+        _appender.doAppend(createEvent(Level.ERROR, "a failed", "worker-3", "a"));
+
+        Assert.assertEquals(Arrays.asList("a1", "a2", "a failed"), getMessages());
+        Assert.assertEquals(2, _appender.getRecordingCount());
+        Assert.assertEquals(1, _appender.flush("worker-2"));
+        Assert.assertEquals(0, _appender.flush("worker-2"));
+        Assert.assertEquals(Arrays.asList("a1", "a2", "a failed", "thread"), getMessages());
+    }
+
+    @Test
+    public void testLevels() {
+        _appender.setRecordLevel("INFO");
+        _appender.setFlushLevel("WARN");
+        _appender.start();
+        _appender.doAppend(createEvent(Level.INFO, "info", "main", null));
+        _appender.doAppend(createEvent(Level.WARN, "warn", "main", null));
+        Assert.assertEquals(Arrays.asList("info", "warn"), getMessages());
+    }
+
+    @Test
+    public void testMaxRecordings() {
+        _appender.setMaxRecordings(2);
+        _appender.start();
+        _appender.doAppend(createEvent(Level.DEBUG, "1", "thread-1", null));
+        _appender.doAppend(createEvent(Level.DEBUG, "2", "thread-2", null));
+        _appender.doAppend(createEvent(Level.DEBUG, "3", "thread-3", null));
+        Assert.assertEquals(2, _appender.getRecordingCount());
+        Assert.assertEquals(1, _appender.getDiscardedEvents());
+        Assert.assertEquals(2, _appender.flushAll());
+        Assert.assertEquals(0, _appender.getRecordingCount());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyRecorded() {
+        _appender.setMaxRecordings(2);
+        _appender.start();
+        _appender.doAppend(createEvent(Level.DEBUG, "1", "thread-1", null));
+        _appender.doAppend(createEvent(Level.DEBUG, "2", "thread-2", null));
+        _appender.doAppend(createEvent(Level.DEBUG, "1 again", "thread-1", null));
+        _appender.doAppend(createEvent(Level.DEBUG, "3", "thread-3", null));
+        Assert.assertEquals(1, _appender.getDiscardedEvents());
+        Assert.assertEquals(0, _appender.flush("thread-2"));
+        Assert.assertEquals(2, _appender.flush("thread-1"));
+        Assert.assertEquals(Arrays.asList("1", "1 again"), getMessages());
+    }
+
+    @Test
+    public void testMoreKeysThanMaxRecordings() {
+        _appender.setMdcKey("requestId");
+        _appender.setMaxRecordings(4);
+        _appender.start();
+        for (int request = 0; request < 100; ++request) {
+            _appender.doAppend(createEvent(Level.DEBUG, "request " + request, "worker", String.valueOf(request)));
+            _appender.doAppend(createEvent(Level.DEBUG, "request 0 again", "worker", "0"));
+        }
+        Assert.assertEquals(4, _appender.getRecordingCount());
+        Assert.assertEquals(200, _appender.getRecordedEvents());
+        Assert.assertEquals(96, _appender.getDiscardedEvents());
+
+        // The request recorded to throughout and the three most recent requests are kept
+        Assert.assertEquals(101, _appender.flush("0"));
+        Assert.assertEquals(0, _appender.flush("96"));
+        Assert.assertEquals(1, _appender.flush("97"));
+        Assert.assertEquals(1, _appender.flush("99"));
+    }
+
+    @Test
+    public void testJmx() throws Exception {
+        _appender.start();
+        _appender.doAppend(createEvent(Level.DEBUG, "debug", "main", null));
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName objectName = new ObjectName(
+                "com.arpnetworking.logback:type=FlightRecorder,name=" + ObjectName.quote(_appender.getName()));
+        Assert.assertEquals(1, server.getAttribute(objectName, "RecordingCount"));
+        Assert.assertEquals(1, server.invoke(objectName, "flush", new Object[]{"main"}, new String[]{String.class.getName()}));
+        Assert.assertEquals(Collections.singletonList("debug"), getMessages());
+
+        _appender.stop();
+        Assert.assertFalse(server.isRegistered(objectName));
+    }
+
+    @Test
+    public void testJmxFailures() throws Exception {
+        final FlightRecorderAppender duplicate = new FlightRecorderAppender();
+        duplicate.setContext(_context);
+        duplicate.setName(_appender.getName());
+        _appender.start();
+        duplicate.start();
+        Assert.assertTrue(duplicate.isStarted());
+        duplicate.stop();
+
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(
+                "com.arpnetworking.logback:type=FlightRecorder,name=" + ObjectName.quote(_appender.getName())));
+        _appender.stop();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testJmxDisabled() throws Exception {
+        _appender.setJmxEnabled(false);
+        _appender.start();
+        Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(
+                "com.arpnetworking.logback:type=FlightRecorder,name=" + ObjectName.quote(_appender.getName()))));
+    }
+
+    @Test
+    public void testAppenderAttachable() {
+        Assert.assertTrue(_appender.isAttached(_target));
+        Assert.assertSame(_target, _appender.getAppender("target"));
+        Assert.assertSame(_target, _appender.iteratorForAppenders().next());
+        Assert.assertTrue(_appender.detachAppender("target"));
+        _appender.addAppender(_target);
+        Assert.assertTrue(_appender.detachAppender(_target));
+        _appender.addAppender(_target);
+        _appender.detachAndStopAllAppenders();
+        Assert.assertFalse(_appender.isAttached(_target));
+        Assert.assertFalse(_target.isStarted());
+    }
+
+    @Test
+    public void testSettings() {
+        Assert.assertEquals(256, _appender.getBufferSize());
+        Assert.assertEquals(1024, _appender.getMaxRecordings());
+        Assert.assertNull(_appender.getMdcKey());
+        Assert.assertEquals("DEBUG", _appender.getRecordLevel());
+        Assert.assertEquals("ERROR", _appender.getFlushLevel());
+        Assert.assertTrue(_appender.isJmxEnabled());
+
+        _appender.setBufferSize(16);
+        _appender.setMaxRecordings(8);
+        _appender.setMdcKey("requestId");
+        _appender.setRecordLevel("TRACE");
+        _appender.setFlushLevel("WARN");
+        _appender.setJmxEnabled(false);
+        Assert.assertEquals(16, _appender.getBufferSize());
+        Assert.assertEquals(8, _appender.getMaxRecordings());
+        Assert.assertEquals("requestId", _appender.getMdcKey());
+        Assert.assertEquals("TRACE", _appender.getRecordLevel());
+        Assert.assertEquals("WARN", _appender.getFlushLevel());
+        Assert.assertFalse(_appender.isJmxEnabled());
+
+        _appender.setBufferSize(0);
+        _appender.setMaxRecordings(0);
+        Assert.assertEquals(16, _appender.getBufferSize());
+        Assert.assertEquals(8, _appender.getMaxRecordings());
+    }
+
+    private List<String> getMessages() {
+        return _target.list.stream().map(ILoggingEvent::getFormattedMessage).collect(Collectors.toList());
+    }
+
+    private LoggingEvent createEvent(final Level level, final String message, final String thread, final String requestId) {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(level);
+        event.setLoggerName(getClass().getName());
+        event.setMessage(message);
+        event.setThreadName(thread);
+        event.setTimeStamp(System.currentTimeMillis());
+        final Map<String, String> mdc = requestId == null
+                ? Collections.emptyMap()
+                : Collections.singletonMap("requestId", requestId);
+        event.setMDCPropertyMap(mdc);
+        return event;
+    }
+
+    private LoggerContext _context;
+    private ListAppender<ILoggingEvent> _target;
+    private FlightRecorderAppender _appender;
+}
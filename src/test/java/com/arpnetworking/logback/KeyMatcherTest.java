@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for {@link KeyMatcher}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class KeyMatcherTest {
+
+    @Test
+    public void testExact() {
+        final KeyMatcher matcher = KeyMatcher.compile(Collections.singletonList("password"));
+        Assert.assertTrue(matcher.matches("password"));
+        Assert.assertTrue(matcher.matches("PassWord"));
+        Assert.assertFalse(matcher.matches("passwor"));
+        Assert.assertFalse(matcher.matches("passwords"));
+        Assert.assertFalse(matcher.matches(""));
+    }
+
+    @Test
+    public void testPrefixAndSuffix() {
+        final KeyMatcher matcher = KeyMatcher.compile(Arrays.asList("auth*", "*_token"));
+        Assert.assertTrue(matcher.matches("auth"));
+        Assert.assertTrue(matcher.matches("Authorization"));
+        Assert.assertTrue(matcher.matches("_token"));
+        Assert.assertTrue(matcher.matches("access_token"));
+        Assert.assertTrue(matcher.matches("auth_token"));
+        Assert.assertFalse(matcher.matches("au"));
+        Assert.assertFalse(matcher.matches("token"));
+        Assert.assertFalse(matcher.matches("access_token_id"));
+    }
+
+    @Test
+    public void testGlob() {
+        final KeyMatcher matcher = KeyMatcher.compile(Arrays.asList("x?y", "a**b*c"));
+        Assert.assertTrue(matcher.matches("xay"));
+        Assert.assertFalse(matcher.matches("xy"));
+        Assert.assertFalse(matcher.matches("xaay"));
+        Assert.assertTrue(matcher.matches("abc"));
+        Assert.assertTrue(matcher.matches("aXXbYYc"));
+        Assert.assertTrue(matcher.matches("abbc"));
+        Assert.assertFalse(matcher.matches("acb"));
+    }
+
+    @Test
+    public void testEscape() {
+        final KeyMatcher matcher = KeyMatcher.compile(Arrays.asList("\\*secret", "end\\"));
+        Assert.assertTrue(matcher.matches("*secret"));
+        Assert.assertFalse(matcher.matches("my_secret"));
+        Assert.assertTrue(matcher.matches("end\\"));
+    }
+
+    @Test
+    public void testNonAscii() {
+        final String upper = "caf" + (char) 0xC9;
+        final String lower = "caf" + (char) 0xE9;
+        final KeyMatcher matcher = KeyMatcher.compile(Arrays.asList(upper, "z" + (char) 0x4E00 + "*"));
+        Assert.assertTrue(matcher.matches(lower));
+        Assert.assertTrue(matcher.matches(upper));
+        Assert.assertFalse(matcher.matches("cafe"));
+        Assert.assertFalse(matcher.matches("caf" + (char) 0x4E01));
+        Assert.assertTrue(matcher.matches("z" + (char) 0x4E00 + (char) 0x4E01));
+    }
+
+    @Test
+    public void testEmpty() {
+        Assert.assertFalse(KeyMatcher.compile(Collections.emptyList()).matches("key"));
+        Assert.assertFalse(KeyMatcher.compile(Collections.emptyList()).matches(""));
+        Assert.assertTrue(KeyMatcher.compile(Collections.singletonList("")).matches(""));
+        Assert.assertFalse(KeyMatcher.compile(Collections.singletonList("")).matches("key"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyStates() {
+        final List<String> patterns = new ArrayList<>();
+        final StringBuilder wildcards = new StringBuilder();
+        for (int i = 0; i < 20; ++i) {
+            patterns.add("*a" + wildcards + "b*");
+            wildcards.append('?');
+        }
+        KeyMatcher.compile(patterns);
+    }
+}
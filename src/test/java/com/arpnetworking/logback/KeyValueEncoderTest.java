@@ -22,6 +22,7 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.Layout;
 import com.arpnetworking.logback.widgets.Widget;
+import com.arpnetworking.steno.MemoizingSupplier;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -40,6 +41,7 @@ import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Tests for {@link KeyValueEncoder}.
@@ -91,6 +93,27 @@ public class KeyValueEncoderTest {
         assertOutput("KeyValueEncoderTest.testEncodeArray.log", logOutput);
     }
 
+    @Test
+    public void testEncodeArraySupplierValues() throws Exception {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.ARRAY_MARKER);
+        event.setMessage("logEvent");
+        event.setThreadName("thread");
+        event.setTimeStamp(0);
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        final Object[] argArray = new Object[2];
+        argArray[0] = new String[] {"key1", "key2"};
+        argArray[1] = new Object[] {
+                MemoizingSupplier.memoize(() -> Integer.valueOf(1234)),
+                MemoizingSupplier.memoize(() -> "foo")};
+        event.setArgumentArray(argArray);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is how you do it.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        assertOutput("KeyValueEncoderTest.testEncodeArray.log", logOutput);
+    }
+
     @Test
     public void testEncodeArrayThrowsException() throws Exception {
         final LoggingEvent event = new LoggingEvent();
@@ -460,6 +483,29 @@ public class KeyValueEncoderTest {
         assertOutput("KeyValueEncoderTest.testEncodeLists.log", logOutput);
     }
 
+    @Test
+    public void testEncodeListsSupplierValues() throws Exception {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.LISTS_MARKER);
+        event.setMessage("logEvent");
+        event.setThreadName("thread");
+        event.setTimeStamp(0);
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        final Object[] argArray = new Object[4];
+        argArray[0] = Collections.singletonList("dataKey");
+        argArray[1] = Collections.singletonList(MemoizingSupplier.memoize(() -> "data\"Value"));
+        argArray[2] = Collections.singletonList("contextKey");
+        argArray[3] = Collections.singletonList(MemoizingSupplier.memoize((Supplier<String>) () -> {
+            throw new IllegalStateException("Failed");
+        }));
+        event.setArgumentArray(argArray);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is how you do it.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        assertOutput("KeyValueEncoderTest.testEncodeListsSupplierValues.log", logOutput);
+    }
+
     @Test
     public void testEncodeListsThrowsException() throws Exception {
         final LoggingEvent event = new LoggingEvent();
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link MappedFileOutputStream}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class MappedFileOutputStreamTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("mapped-file-output-stream-test");
+        _file = _directory.resolve("test.log").toFile();
+    }
+
+    @Test
+    public void testWriteAndClose() throws IOException {
+        final MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, false, 1024);
+        outputStream.write("Hello World\n".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(12, outputStream.getLogicalLength());
+        Assert.assertEquals(2048, _file.length());
+        outputStream.flush();
+        outputStream.close();
+        Assert.assertEquals("Hello World\n", read(_file));
+    }
+
+    @Test
+    public void testWriteSingleByte() throws IOException {
+        try (MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, false, 1024)) {
+            outputStream.write('a');
+            outputStream.write('b');
+        }
+        Assert.assertEquals("ab", read(_file));
+    }
+
+    @Test
+    public void testWriteAcrossRegions() throws IOException {
+        final StringBuilder expected = new StringBuilder();
+        try (MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, false, 16)) {
+            for (int i = 0; i < 100; ++i) {
+                final String line = "line " + i + "\n";
+                expected.append(line);
+                outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+            }
+            // Spans several regions in one write
+            final String line = "0123456789012345678901234567890123456789012345678901234567890123456789\n";
+            expected.append(line);
+            outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+        }
+        Assert.assertEquals(expected.toString(), read(_file));
+    }
+
+    @Test
+    public void testConcurrentWriters() throws Exception {
+        final int writers = 8;
+        final int linesPerWriter = 1000;
+        final ExecutorService executor = Executors.newFixedThreadPool(writers);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        try (MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, false, 4096)) {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < writers; ++i) {
+                final byte[] line = String.format("writer-%d\n", i).getBytes(StandardCharsets.UTF_8);
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < linesPerWriter; ++j) {
+                        outputStream.write(line);
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final String[] lines = read(_file).split("\n");
+        Assert.assertEquals(writers * linesPerWriter, lines.length);
+        for (final String line : lines) {
+            Assert.assertTrue(line, line.matches("writer-\\d"));
+        }
+    }
+
+    @Test
+    public void testTruncate() throws IOException {
+        Files.write(_file.toPath(), "Existing content\n".getBytes(StandardCharsets.UTF_8));
+        try (MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, false, 1024)) {
+            outputStream.write("New\n".getBytes(StandardCharsets.UTF_8));
+        }
+        Assert.assertEquals("New\n", read(_file));
+    }
+
+    @Test
+    public void testAppend() throws IOException {
+        Files.write(_file.toPath(), "Existing content\n".getBytes(StandardCharsets.UTF_8));
+        try (MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, true, 1024)) {
+            Assert.assertEquals(17, outputStream.getLogicalLength());
+            outputStream.write("New\n".getBytes(StandardCharsets.UTF_8));
+        }
+        Assert.assertEquals("Existing content\nNew\n", read(_file));
+    }
+
+    @Test
+    public void testAppendTrimsUnclosedRegion() throws IOException {
+        // Simulate a file left behind by a process which exited without closing the stream
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(_file, "rw")) {
+            randomAccessFile.write("Existing content\n".getBytes(StandardCharsets.UTF_8));
+            randomAccessFile.setLength(20000);
+        }
+        try (MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, true, 1024)) {
+            Assert.assertEquals(17, outputStream.getLogicalLength());
+            outputStream.write("New\n".getBytes(StandardCharsets.UTF_8));
+        }
+        Assert.assertEquals("Existing content\nNew\n", read(_file));
+    }
+
+    @Test
+    public void testAppendEmptyFile() throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(_file, "rw")) {
+            randomAccessFile.setLength(100);
+        }
+        try (MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, true, 1024)) {
+            Assert.assertEquals(0, outputStream.getLogicalLength());
+        }
+        Assert.assertEquals(0, _file.length());
+    }
+
+    @Test
+    public void testCloseTwice() throws IOException {
+        final MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, false, 1024);
+        outputStream.write("a".getBytes(StandardCharsets.UTF_8));
+        outputStream.close();
+        outputStream.close();
+        Assert.assertEquals("a", read(_file));
+    }
+
+    @Test(expected = IOException.class)
+    public void testWriteAfterClose() throws IOException {
+        final MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, false, 1024);
+        outputStream.close();
+        outputStream.write("a".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWriteEmpty() throws IOException {
+        try (MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, false, 1024)) {
+            outputStream.write(new byte[0]);
+            Assert.assertEquals(0, outputStream.getLogicalLength());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testWriteOutOfBounds() throws IOException {
+        try (MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, false, 1024)) {
+            outputStream.write(new byte[2], 1, 2);
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testWriteNegativeOffset() throws IOException {
+        try (MappedFileOutputStream outputStream = new MappedFileOutputStream(_file, false, 1024)) {
+            outputStream.write(new byte[2], -1, 1);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRegionSize() throws IOException {
+        new MappedFileOutputStream(_file, false, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegionSizeTooLarge() throws IOException {
+        new MappedFileOutputStream(_file, false, Integer.MAX_VALUE + 1L);
+    }
+
+    private static String read(final File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private Path _directory;
+    private File _file;
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.rolling.TimeBasedFileNamingAndTriggeringPolicy;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import javax.annotation.Nullable;
+
+/**
+ * Tests for {@link MemoryMappedRollingFileAppender}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class MemoryMappedRollingFileAppenderTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("memory-mapped-rolling-file-appender-test");
+        _file = _directory.resolve("application.log").toFile();
+        _context = new LoggerContext();
+
+        _encoder = new PatternLayoutEncoder();
+        _encoder.setContext(_context);
+        _encoder.setPattern("%msg%n");
+        _encoder.start();
+
+        _appender = new MemoryMappedRollingFileAppender<>();
+        _appender.setContext(_context);
+        _appender.setFile(_file.getPath());
+        _appender.setEncoder(_encoder);
+    }
+
+    @After
+    public void tearDown() {
+        _appender.stop();
+        _context.stop();
+    }
+
+    @Test
+    public void testAppendAndStop() throws IOException {
+        _appender.setRollingPolicy(createRollingPolicy(null));
+        _appender.setRegionSize(FileSize.valueOf("1KB"));
+        _appender.start();
+        Assert.assertTrue(_appender.isStarted());
+
+        for (int i = 0; i < 100; ++i) {
+            _appender.doAppend(TestLoggingEvents.createEvent("message " + i));
+        }
+        Assert.assertEquals(1090, _appender.getLogicalLength());
+        Assert.assertTrue(_file.length() > _appender.getLogicalLength());
+
+        _appender.stop();
+        final String[] lines = read(_file).split("\n");
+        Assert.assertEquals(100, lines.length);
+        Assert.assertEquals("message 0", lines[0]);
+        Assert.assertEquals("message 99", lines[99]);
+        Assert.assertEquals(1090, _file.length());
+    }
+
+    @Test
+    public void testRollover() throws IOException {
+        final RandomizedTimeBasedFNATP<ILoggingEvent> triggeringPolicy = new RandomizedTimeBasedFNATP<>();
+        triggeringPolicy.setMaxOffsetInMillis(0);
+        triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T00:00:00Z").toInstant().toEpochMilli());
+        _appender.setRollingPolicy(createRollingPolicy(triggeringPolicy));
+        _appender.start();
+        _appender.doAppend(TestLoggingEvents.createEvent("before"));
+        Assert.assertEquals(7, _appender.getLogicalLength());
+
+        triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T02:00:00Z").toInstant().toEpochMilli());
+        _appender.doAppend(TestLoggingEvents.createEvent("after"));
+        Assert.assertEquals(6, _appender.getLogicalLength());
+        _appender.stop();
+
+        Assert.assertEquals("after\n", read(_file));
+        Assert.assertEquals("before\n", read(_directory.resolve("application-2014-05-05_00.log").toFile()));
+    }
+
+    @Test
+    public void testSizeBasedRollover() throws IOException {
+        final SizeAndRandomizedTimeBasedFNATP<ILoggingEvent> triggeringPolicy = new SizeAndRandomizedTimeBasedFNATP<>();
+        triggeringPolicy.setMaxFileSize(FileSize.valueOf("1KB"));
+        _appender.setRollingPolicy(createRollingPolicy(triggeringPolicy));
+        _appender.setRegionSize(FileSize.valueOf("64KB"));
+        _appender.start();
+
+        // The file on disk is a full region long, but only a few bytes are written
+        final File activeFile = new File(_file.getPath());
+        _appender.doAppend(TestLoggingEvents.createEvent("small"));
+        Assert.assertTrue(activeFile.length() >= 65536);
+        Assert.assertFalse(triggeringPolicy.isTriggeringEvent(activeFile, TestLoggingEvents.createEvent("small")));
+
+        // The bytes written are counted as they are written
+        _appender.doAppend(TestLoggingEvents.createEvent("x".repeat(2048)));
+        Assert.assertTrue(triggeringPolicy.isTriggeringEvent(activeFile, TestLoggingEvents.createEvent("small")));
+    }
+
+    @Test
+    public void testLogicalLengthBeforeStart() {
+        Assert.assertEquals(0, _appender.getLogicalLength());
+    }
+
+    @Test
+    public void testPrudentNotSupported() {
+        _appender.setRollingPolicy(createRollingPolicy(null));
+        _appender.setPrudent(true);
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testRegionSize() {
+        Assert.assertEquals(32L * 1024 * 1024, _appender.getRegionSize().getSize());
+        _appender.setRegionSize(FileSize.valueOf("1MB"));
+        Assert.assertEquals(1024L * 1024, _appender.getRegionSize().getSize());
+    }
+
+    @Test
+    public void testInvalidRegionSize() {
+        _appender.setRegionSize(new FileSize(0));
+        Assert.assertEquals(32L * 1024 * 1024, _appender.getRegionSize().getSize());
+        _appender.setRegionSize(new FileSize(Integer.MAX_VALUE + 1L));
+        Assert.assertEquals(32L * 1024 * 1024, _appender.getRegionSize().getSize());
+    }
+
+    private TimeBasedRollingPolicy<ILoggingEvent> createRollingPolicy(
+            @Nullable final TimeBasedFileNamingAndTriggeringPolicy<ILoggingEvent> triggeringPolicy) {
+        final TimeBasedRollingPolicy<ILoggingEvent> rollingPolicy = new TimeBasedRollingPolicy<>();
+        rollingPolicy.setContext(_context);
+        rollingPolicy.setParent(_appender);
+        if (triggeringPolicy instanceof SizeAndRandomizedTimeBasedFNATP) {
+            rollingPolicy.setFileNamePattern(_directory.resolve("application-%d{yyyy-MM-dd_HH}.%i.log").toString());
+        } else {
+            rollingPolicy.setFileNamePattern(_directory.resolve("application-%d{yyyy-MM-dd_HH}.log").toString());
+        }
+        if (triggeringPolicy != null) {
+            triggeringPolicy.setContext(_context);
+            rollingPolicy.setTimeBasedFileNamingAndTriggeringPolicy(triggeringPolicy);
+        }
+        rollingPolicy.start();
+        return rollingPolicy;
+    }
+
+    private static String read(final File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private Path _directory;
+    private File _file;
+    private LoggerContext _context;
+    private PatternLayoutEncoder _encoder;
+    private MemoryMappedRollingFileAppender<ILoggingEvent> _appender;
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.util.FileSize;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link NonBlockingConsoleAppender}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class NonBlockingConsoleAppenderTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("non-blocking-console-appender-test");
+        _context = new LoggerContext();
+
+        _encoder = new PatternLayoutEncoder();
+        _encoder.setContext(_context);
+        _encoder.setPattern("%msg%n");
+        _encoder.start();
+
+        _pipe = Pipe.open();
+        _output = new ByteArrayOutputStream();
+
+        _appender = new NonBlockingConsoleAppender<>();
+        _appender.setContext(_context);
+        _appender.setName("console");
+        _appender.setEncoder(_encoder);
+        _appender.setChannel(_pipe.sink());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        _appender.stop();
+        _pipe.sink().close();
+        _pipe.source().close();
+        _context.stop();
+    }
+
+    @Test
+    public void testWrite() throws Exception {
+        _appender.start();
+        Assert.assertTrue(_appender.isStarted());
+        startReading();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("hello"));
+        _appender.doAppend(TestLoggingEvents.createEvent("world"));
+        stopReading();
+
+        Assert.assertEquals("hello\nworld\n", _output.toString("UTF-8"));
+        Assert.assertEquals(0, _appender.getDroppedLines());
+    }
+
+    @Test
+    public void testDropWhenFull() throws Exception {
+        _appender.setBufferSize(new FileSize(1024));
+        _appender.setReportIntervalInMillis(10);
+        _appender.start();
+
+        // Nothing reads the pipe so it and then the buffer fill up
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < EVENTS; ++i) {
+            _appender.doAppend(TestLoggingEvents.createEvent(MESSAGE));
+        }
+        Assert.assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(5));
+        Assert.assertTrue(_appender.getDroppedLines() > 0);
+        Assert.assertEquals(_appender.getDroppedLines() * (MESSAGE.length() + 1), _appender.getDroppedBytes());
+
+        startReading();
+        stopReading();
+        final String output = _output.toString("UTF-8");
+        long written = 0;
+        long reported = 0;
+        for (final String line : output.split("\n")) {
+            if (line.equals(MESSAGE)) {
+                ++written;
+            } else {
+                final JsonNode event = OBJECT_MAPPER.readTree(line);
+                Assert.assertEquals("steno_dropped", event.get("name").asText());
+                Assert.assertEquals("warn", event.get("level").asText());
+                Assert.assertEquals("0", event.get("version").asText());
+                Assert.assertFalse(event.get("id").asText().isEmpty());
+                Assert.assertTrue(event.get("context").has("host"));
+                Assert.assertTrue(event.get("context").has("processId"));
+                Assert.assertEquals("steno-console-console", event.get("context").get("threadId").asText());
+                reported += event.get("data").get("droppedLines").asLong();
+            }
+        }
+        Assert.assertEquals(EVENTS, written + _appender.getDroppedLines());
+        Assert.assertEquals(_appender.getDroppedLines(), reported);
+    }
+
+    @Test
+    public void testSpillWhenFull() throws Exception {
+        final Path spillFile = _directory.resolve("spill").resolve("console.log");
+        _appender.setBufferSize(new FileSize(1024));
+        _appender.setSpillFile(spillFile.toString());
+        _appender.start();
+
+        for (int i = 0; i < EVENTS; ++i) {
+            _appender.doAppend(TestLoggingEvents.createEvent(MESSAGE));
+        }
+        startReading();
+        stopReading();
+
+        Assert.assertEquals(0, _appender.getDroppedLines());
+        Assert.assertTrue(_appender.getSpilledLines() > 0);
+        Assert.assertEquals(_appender.getSpilledLines() * (MESSAGE.length() + 1), _appender.getSpilledBytes());
+        Assert.assertEquals(_appender.getSpilledLines(), Files.readAllLines(spillFile).size());
+        Assert.assertTrue(_output.toString("UTF-8").contains("\"spilledLines\":" + _appender.getSpilledLines()));
+    }
+
+    @Test
+    public void testBlockIsBounded() throws Exception {
+        _appender.setBufferSize(new FileSize(MESSAGE.length() + 1));
+        _appender.setMaxBlockInMillis(50);
+        _appender.start();
+
+        long maxNanos = 0;
+        for (int i = 0; i < EVENTS && _appender.getDroppedLines() == 0; ++i) {
+            final long startNanos = System.nanoTime();
+            _appender.doAppend(TestLoggingEvents.createEvent(MESSAGE));
+            maxNanos = Math.max(maxNanos, System.nanoTime() - startNanos);
+        }
+        Assert.assertEquals(1, _appender.getDroppedLines());
+        Assert.assertTrue(maxNanos >= TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertTrue(maxNanos < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void testUnknownHost() throws Exception {
+        _appender = new NonBlockingConsoleAppender<>(() -> {
+            throw new UnknownHostException("Expected");
+        });
+        _appender.setContext(_context);
+        _appender.setName("console");
+        _appender.setEncoder(_encoder);
+        _appender.setChannel(_pipe.sink());
+        _appender.setBufferSize(new FileSize(2));
+        _appender.start();
+        startReading();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("too large"));
+        stopReading();
+        final JsonNode event = OBJECT_MAPPER.readTree(_output.toString("UTF-8"));
+        Assert.assertEquals("<UNKNOWN>", event.get("context").get("host").asText());
+    }
+
+    @Test
+    public void testStopDoesNotCloseChannel() throws Exception {
+        _appender.setBufferSize(new FileSize(1024));
+        _appender.start();
+
+        // Nothing reads the pipe so the writer is still blocked when stop times out
+        for (int i = 0; i < EVENTS; ++i) {
+            _appender.doAppend(TestLoggingEvents.createEvent(MESSAGE));
+        }
+        _appender.stop();
+        Assert.assertTrue(_pipe.sink().isOpen());
+    }
+
+    @Test
+    public void testWriterInterrupted() throws Exception {
+        _appender.start();
+        _appender.getWriter().interrupt();
+        _appender.getWriter().join();
+        Assert.assertTrue(_pipe.sink().isOpen());
+    }
+
+    @Test
+    public void testEventLargerThanBuffer() throws Exception {
+        _appender.setBufferSize(new FileSize(2));
+        _appender.setMaxBlockInMillis(60000);
+        _appender.start();
+        _appender.doAppend(TestLoggingEvents.createEvent("too large"));
+        Assert.assertEquals(1, _appender.getDroppedLines());
+    }
+
+    @Test
+    public void testWriteFailure() throws Exception {
+        final GatheringByteChannel channel = Mockito.mock(GatheringByteChannel.class);
+        Mockito.doThrow(new IOException("Expected")).when(channel).write(Mockito.any(ByteBuffer[].class));
+        _appender.setChannel(channel);
+        _appender.start();
+        _appender.doAppend(TestLoggingEvents.createEvent("first"));
+        _appender.doAppend(TestLoggingEvents.createEvent("second"));
+        _appender.stop();
+        Assert.assertEquals(2, _appender.getDroppedLines());
+        Assert.assertEquals(13, _appender.getDroppedBytes());
+    }
+
+    @Test
+    public void testSpillFileFailure() throws IOException {
+        _appender.setSpillFile(_directory.toString());
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testNoEncoder() {
+        _appender.setEncoder(null);
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+        _appender.stop();
+    }
+
+    @Test
+    public void testSettings() {
+        Assert.assertSame(_encoder, _appender.getEncoder());
+        Assert.assertEquals(8 * 1024 * 1024, _appender.getBufferSize().getSize());
+        Assert.assertEquals(0, _appender.getMaxBlockInMillis());
+        Assert.assertNull(_appender.getSpillFile());
+        Assert.assertEquals(60000, _appender.getReportIntervalInMillis());
+
+        _appender.setBufferSize(FileSize.valueOf("1MB"));
+        _appender.setMaxBlockInMillis(10);
+        _appender.setSpillFile("spill.log");
+        _appender.setReportIntervalInMillis(1000);
+        Assert.assertEquals(1024 * 1024, _appender.getBufferSize().getSize());
+        Assert.assertEquals(10, _appender.getMaxBlockInMillis());
+        Assert.assertEquals("spill.log", _appender.getSpillFile());
+        Assert.assertEquals(1000, _appender.getReportIntervalInMillis());
+
+        _appender.setBufferSize(new FileSize(0));
+        _appender.setMaxBlockInMillis(-1);
+        _appender.setReportIntervalInMillis(0);
+        Assert.assertEquals(1024 * 1024, _appender.getBufferSize().getSize());
+        Assert.assertEquals(10, _appender.getMaxBlockInMillis());
+        Assert.assertEquals(1000, _appender.getReportIntervalInMillis());
+    }
+
+    private void startReading() {
+        _reader = new Thread(() -> {
+            try {
+                Channels.newInputStream(_pipe.source()).transferTo(_output);
+            } catch (final IOException e) {
+                // Closed
+            }
+        });
+        _reader.start();
+    }
+
+    private void stopReading() throws Exception {
+        _appender.stop();
+        _pipe.sink().close();
+        _reader.join();
+    }
+
+    private Path _directory;
+    private LoggerContext _context;
+    private PatternLayoutEncoder _encoder;
+    private Pipe _pipe;
+    private ByteArrayOutputStream _output;
+    private Thread _reader;
+    private NonBlockingConsoleAppender<ILoggingEvent> _appender;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int EVENTS = 5000;
+    private static final String MESSAGE = new String(new char[99]).replace('\0', 'x');
+}
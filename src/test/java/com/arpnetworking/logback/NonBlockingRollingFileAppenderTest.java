@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.rolling.TimeBasedFileNamingAndTriggeringPolicy;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+/**
+ * Tests for {@link NonBlockingRollingFileAppender}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class NonBlockingRollingFileAppenderTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("non-blocking-rolling-file-appender-test");
+        _file = _directory.resolve("application.log").toFile();
+        _context = new LoggerContext();
+
+        _encoder = new PatternLayoutEncoder();
+        _encoder.setContext(_context);
+        _encoder.setPattern("%msg%n");
+        _encoder.start();
+
+        _triggeringPolicy = new RandomizedTimeBasedFNATP<>();
+        _triggeringPolicy.setMaxOffsetInMillis(0);
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T00:00:00Z").toInstant().toEpochMilli());
+
+        _appender = new NonBlockingRollingFileAppender<>();
+        _appender.setContext(_context);
+        _appender.setName("non-blocking");
+        _appender.setFile(_file.getPath());
+        _appender.setEncoder(_encoder);
+    }
+
+    @After
+    public void tearDown() {
+        _appender.stop();
+        _context.stop();
+    }
+
+    @Test
+    public void testRolloverWithPreparedFile() throws Exception {
+        // The roll over is due in an hour; prepare the next file right away
+        _appender.setPrepareAheadInMillis(7200000);
+        _appender.setRollingPolicy(createRollingPolicy(_triggeringPolicy, "application-%d{yyyy-MM-dd_HH}.log"));
+        _appender.start();
+        Assert.assertTrue(_appender.isStarted());
+        awaitPrepared();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("before"));
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T02:00:00Z").toInstant().toEpochMilli());
+        _appender.doAppend(TestLoggingEvents.createEvent("after"));
+        _appender.stop();
+
+        Assert.assertEquals("after\n", read(_file));
+        Assert.assertEquals("before\n", read(_directory.resolve("application-2014-05-05_00.log").toFile()));
+        Assert.assertTrue(_appender.getLastRolloverStallInNanos() > 0);
+        Assert.assertEquals(_appender.getLastRolloverStallInNanos(), _appender.getMaxRolloverStallInNanos());
+        assertNoStagedFiles();
+    }
+
+    @Test
+    public void testRolloverWithoutPreparedFile() throws IOException {
+        _appender.setRollingPolicy(createRollingPolicy(_triggeringPolicy, "application-%d{yyyy-MM-dd_HH}.log"));
+        _appender.start();
+        Assert.assertFalse(_appender.isPrepared());
+
+        _appender.doAppend(TestLoggingEvents.createEvent("before"));
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T02:00:00Z").toInstant().toEpochMilli());
+        _appender.doAppend(TestLoggingEvents.createEvent("after"));
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T04:00:00Z").toInstant().toEpochMilli());
+        _appender.doAppend(TestLoggingEvents.createEvent("later"));
+        _appender.stop();
+
+        Assert.assertEquals("later\n", read(_file));
+        Assert.assertEquals("before\n", read(_directory.resolve("application-2014-05-05_00.log").toFile()));
+        Assert.assertEquals("after\n", read(_directory.resolve("application-2014-05-05_02.log").toFile()));
+        Assert.assertTrue(_appender.getMaxRolloverStallInNanos() >= _appender.getLastRolloverStallInNanos());
+        assertNoStagedFiles();
+    }
+
+    @Test
+    public void testSizeBasedRollover() throws Exception {
+        final SizeAndRandomizedTimeBasedFNATP<ILoggingEvent> triggeringPolicy = new SizeAndRandomizedTimeBasedFNATP<>();
+        triggeringPolicy.setMaxFileSize(FileSize.valueOf("1KB"));
+        _appender.setRollingPolicy(createRollingPolicy(triggeringPolicy, "application-%d{yyyy-MM-dd_HH}.%i.log"));
+        _appender.start();
+
+        // Size based roll overs cannot be predicted; the next file is prepared immediately
+        awaitPrepared();
+        _appender.doAppend(TestLoggingEvents.createEvent("message"));
+
+        // The size check is made against the bytes written through the appender
+        Files.write(_file.toPath(), new byte[2048]);
+        Assert.assertFalse(triggeringPolicy.isTriggeringEvent(_file, TestLoggingEvents.createEvent("message")));
+        _appender.doAppend(TestLoggingEvents.createEvent(LARGE_MESSAGE));
+        Assert.assertTrue(triggeringPolicy.isTriggeringEvent(_file, TestLoggingEvents.createEvent("message")));
+        _appender.stop();
+        assertNoStagedFiles();
+    }
+
+    @Test
+    public void testSizeTriggerSuppressedWhileRolloverPending() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final SizeAndRandomizedTimeBasedFNATP<ILoggingEvent> triggeringPolicy = new SizeAndRandomizedTimeBasedFNATP<>();
+        triggeringPolicy.setMaxFileSize(FileSize.valueOf("1KB"));
+        triggeringPolicy.setMaxOffsetInMillis(0);
+        triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T00:00:00Z").toInstant().toEpochMilli());
+        _appender.setRollingPolicy(createRollingPolicy(
+                new BlockingRollingPolicy(release),
+                triggeringPolicy,
+                "application-%d{yyyy-MM-dd_HH}.%i.log"));
+        _appender.start();
+        awaitPrepared();
+
+        try {
+            // The second event triggers a roll over which cannot complete until released
+            _appender.doAppend(TestLoggingEvents.createEvent(LARGE_MESSAGE));
+            _appender.doAppend(TestLoggingEvents.createEvent(LARGE_MESSAGE));
+
+            // The new file is over the maximum size but the previous roll over is pending
+            Assert.assertFalse(triggeringPolicy.isTriggeringEvent(_file, TestLoggingEvents.createEvent("message")));
+
+            // The time based roll over is not suppressed
+            triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T02:00:00Z").toInstant().toEpochMilli());
+            Assert.assertTrue(triggeringPolicy.isTriggeringEvent(_file, TestLoggingEvents.createEvent("message")));
+        } finally {
+            release.countDown();
+        }
+        _appender.stop();
+        assertNoStagedFiles();
+    }
+
+    @Test
+    public void testRolloverWithoutFile() throws IOException {
+        _appender.setFile(null);
+        _appender.setRollingPolicy(createRollingPolicy(_triggeringPolicy, "application-%d{yyyy-MM-dd_HH}.log"));
+        _appender.start();
+        Assert.assertTrue(_appender.isStarted());
+
+        _appender.doAppend(TestLoggingEvents.createEvent("before"));
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T02:00:00Z").toInstant().toEpochMilli());
+        _appender.doAppend(TestLoggingEvents.createEvent("after"));
+        _appender.stop();
+
+        Assert.assertEquals("before\n", read(_directory.resolve("application-2014-05-05_00.log").toFile()));
+        Assert.assertEquals("after\n", read(_directory.resolve("application-2014-05-05_02.log").toFile()));
+        Assert.assertEquals(0, _appender.getMaxRolloverStallInNanos());
+    }
+
+    @Test
+    public void testPrudentNotSupported() {
+        _appender.setRollingPolicy(createRollingPolicy(_triggeringPolicy, "application-%d{yyyy-MM-dd_HH}.log"));
+        _appender.setPrudent(true);
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testStopWithoutStart() {
+        _appender.stop();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testPrepareAheadInMillis() {
+        Assert.assertEquals(60000, _appender.getPrepareAheadInMillis());
+        _appender.setPrepareAheadInMillis(1000);
+        Assert.assertEquals(1000, _appender.getPrepareAheadInMillis());
+    }
+
+    private void awaitPrepared() throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (!_appender.isPrepared() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(_appender.isPrepared());
+    }
+
+    private void assertNoStagedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(_directory)) {
+            Assert.assertTrue(files.noneMatch(path -> path.getFileName().toString().contains(".next")));
+        }
+    }
+
+    private TimeBasedRollingPolicy<ILoggingEvent> createRollingPolicy(
+            final TimeBasedFileNamingAndTriggeringPolicy<ILoggingEvent> triggeringPolicy,
+            final String fileNamePattern) {
+        return createRollingPolicy(new TimeBasedRollingPolicy<>(), triggeringPolicy, fileNamePattern);
+    }
+
+    private TimeBasedRollingPolicy<ILoggingEvent> createRollingPolicy(
+            final TimeBasedRollingPolicy<ILoggingEvent> rollingPolicy,
+            final TimeBasedFileNamingAndTriggeringPolicy<ILoggingEvent> triggeringPolicy,
+            final String fileNamePattern) {
+        rollingPolicy.setContext(_context);
+        rollingPolicy.setParent(_appender);
+        rollingPolicy.setFileNamePattern(_directory.resolve(fileNamePattern).toString());
+        triggeringPolicy.setContext(_context);
+        rollingPolicy.setTimeBasedFileNamingAndTriggeringPolicy(triggeringPolicy);
+        rollingPolicy.start();
+        return rollingPolicy;
+    }
+
+    private static String read(final File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private Path _directory;
+    private File _file;
+    private LoggerContext _context;
+    private PatternLayoutEncoder _encoder;
+    private RandomizedTimeBasedFNATP<ILoggingEvent> _triggeringPolicy;
+    private NonBlockingRollingFileAppender<ILoggingEvent> _appender;
+
+    private static final String LARGE_MESSAGE = "x".repeat(2048);
+
+    private static final class BlockingRollingPolicy extends TimeBasedRollingPolicy<ILoggingEvent> {
+
+        private BlockingRollingPolicy(final CountDownLatch release) {
+            _release = release;
+        }
+
+        @Override
+        public void rollover() {
+            try {
+                _release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.rollover();
+        }
+
+        private final CountDownLatch _release;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tests for {@link ParallelGzipCompressor}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class ParallelGzipCompressorTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("parallel-gzip-compressor-test");
+        _executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        _executor.shutdownNow();
+    }
+
+    @Test
+    public void testCompress() throws IOException {
+        final byte[] data = createData(10500);
+        final Path source = _directory.resolve("application.log");
+        final Path target = _directory.resolve("application.log.gz");
+        Files.write(source, data);
+
+        final ParallelGzipCompressor compressor = new ParallelGzipCompressor(_executor, 2, 1000, 6);
+        Assert.assertEquals(1000, compressor.getBlockSize());
+        final long length = compressor.compress(source, target);
+
+        Assert.assertFalse(Files.exists(source));
+        Assert.assertFalse(Files.exists(_directory.resolve("application.log.gz.tmp")));
+        Assert.assertEquals(Files.size(target), length);
+        Assert.assertArrayEquals(data, gunzip(Files.readAllBytes(target)));
+    }
+
+    @Test
+    public void testMemberOffsets() throws IOException {
+        final byte[] data = createData(10500);
+        final Path source = _directory.resolve("application.log");
+        final Path target = _directory.resolve("application.log.gz");
+        Files.write(source, data);
+        new ParallelGzipCompressor(_executor, 4, 1000, 6).compress(source, target);
+
+        final List<Long> offsets = ParallelGzipCompressor.readMemberOffsets(target);
+        Assert.assertEquals(11, offsets.size());
+        Assert.assertEquals(Long.valueOf(0), offsets.get(0));
+
+        // Each member inflates independently to its block
+        final byte[] archive = Files.readAllBytes(target);
+        for (int i = 0; i < offsets.size(); ++i) {
+            final int start = offsets.get(i).intValue();
+            final int end = i + 1 < offsets.size() ? offsets.get(i + 1).intValue() : archive.length;
+            final byte[] block = gunzip(Arrays.copyOfRange(archive, start, end));
+            Assert.assertArrayEquals(
+                    Arrays.copyOfRange(data, i * 1000, Math.min(data.length, (i + 1) * 1000)),
+                    block);
+        }
+    }
+
+    @Test
+    public void testCompressEmpty() throws IOException {
+        final Path source = _directory.resolve("application.log");
+        final Path target = _directory.resolve("application.log.gz");
+        Files.write(source, new byte[0]);
+        new ParallelGzipCompressor(_executor, 1, 1000, 1).compress(source, target);
+
+        Assert.assertEquals(0, gunzip(Files.readAllBytes(target)).length);
+        Assert.assertEquals(1, ParallelGzipCompressor.readMemberOffsets(target).size());
+    }
+
+    @Test
+    public void testCompressMissingSource() {
+        final Path target = _directory.resolve("application.log.gz");
+        try {
+            new ParallelGzipCompressor(_executor, 1, 1000, 1).compress(_directory.resolve("missing.log"), target);
+            Assert.fail("Expected exception not thrown");
+        } catch (final IOException e) {
+            Assert.assertFalse(Files.exists(target));
+            Assert.assertFalse(Files.exists(_directory.resolve("application.log.gz.tmp")));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadMemberOffsetsStandardGzip() throws IOException {
+        final Path archive = _directory.resolve("standard.log.gz");
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(archive))) {
+            outputStream.write(createData(1000));
+        }
+        ParallelGzipCompressor.readMemberOffsets(archive);
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadMemberOffsetsTruncated() throws IOException {
+        final Path source = _directory.resolve("application.log");
+        final Path target = _directory.resolve("application.log.gz");
+        Files.write(source, createData(2000));
+        new ParallelGzipCompressor(_executor, 1, 1000, 1).compress(source, target);
+
+        final byte[] archive = Files.readAllBytes(target);
+        Files.write(target, Arrays.copyOf(archive, archive.length - 1));
+        ParallelGzipCompressor.readMemberOffsets(target);
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadMemberOffsetsShortHeader() throws IOException {
+        final Path archive = _directory.resolve("short.log.gz");
+        Files.write(archive, new byte[]{(byte) 0x1f, (byte) 0x8b});
+        ParallelGzipCompressor.readMemberOffsets(archive);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        new ParallelGzipCompressor(_executor, 0, 1000, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBlockSize() {
+        new ParallelGzipCompressor(_executor, 1, 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLevel() {
+        new ParallelGzipCompressor(_executor, 1, 1000, 10);
+    }
+
+    private static byte[] createData(final int length) {
+        // Mix compressible text with random bytes
+        final Random random = new Random(1);
+        final byte[] data = new byte[length];
+        final byte[] text = "{\"name\":\"log\",\"level\":\"info\"}\n".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < length; ++i) {
+            data[i] = i % 3 == 0 ? (byte) random.nextInt() : text[i % text.length];
+        }
+        return data;
+    }
+
+    private static byte[] gunzip(final byte[] archive) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(archive))) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int count;
+            while ((count = inputStream.read(buffer)) >= 0) {
+                outputStream.write(buffer, 0, count);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    private Path _directory;
+    private ExecutorService _executor;
+}
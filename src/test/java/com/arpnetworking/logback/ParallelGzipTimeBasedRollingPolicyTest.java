@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.util.FileSize;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Tests for {@link ParallelGzipTimeBasedRollingPolicy}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class ParallelGzipTimeBasedRollingPolicyTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("parallel-gzip-time-based-rolling-policy-test");
+        _context = new LoggerContext();
+
+        _encoder = new PatternLayoutEncoder();
+        _encoder.setContext(_context);
+        _encoder.setPattern("%msg%n");
+        _encoder.start();
+
+        _triggeringPolicy = new RandomizedTimeBasedFNATP<>();
+        _triggeringPolicy.setContext(_context);
+        _triggeringPolicy.setMaxOffsetInMillis(0);
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T00:00:00Z").toInstant().toEpochMilli());
+
+        _appender = new RollingFileAppender<>();
+        _appender.setContext(_context);
+        _appender.setFile(_directory.resolve("application.log").toString());
+        _appender.setEncoder(_encoder);
+
+        _rollingPolicy = new ParallelGzipTimeBasedRollingPolicy<>();
+        _rollingPolicy.setContext(_context);
+        _rollingPolicy.setParent(_appender);
+        _rollingPolicy.setTimeBasedFileNamingAndTriggeringPolicy(_triggeringPolicy);
+    }
+
+    @After
+    public void tearDown() {
+        _appender.stop();
+        _context.stop();
+    }
+
+    @Test
+    public void testCompressedRollover() throws IOException {
+        _rollingPolicy.setFileNamePattern(_directory.resolve("application-%d{yyyy-MM-dd_HH}.log.gz").toString());
+        _rollingPolicy.setCompressionThreads(2);
+        _rollingPolicy.setCompressionBlockSize(FileSize.valueOf("16"));
+        start();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("before the roll over"));
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T02:00:00Z").toInstant().toEpochMilli());
+        _appender.doAppend(TestLoggingEvents.createEvent("after"));
+        _appender.stop();
+
+        final Path archive = _directory.resolve("application-2014-05-05_00.log.gz");
+        Assert.assertEquals("before the roll over\n", gunzip(archive));
+        Assert.assertEquals(2, ParallelGzipCompressor.readMemberOffsets(archive).size());
+        Assert.assertFalse(Files.exists(_directory.resolve("application-2014-05-05_00.log")));
+        Assert.assertEquals("after\n", new String(Files.readAllBytes(_directory.resolve("application.log")), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testThrottledRollover() throws IOException {
+        _rollingPolicy.setFileNamePattern(_directory.resolve("application-%d{yyyy-MM-dd_HH}.log.gz").toString());
+        _rollingPolicy.setCompressionBlockSize(FileSize.valueOf("4"));
+        _rollingPolicy.setMaxCompressionRate(FileSize.valueOf("1MB"));
+        _rollingPolicy.setMaxCpuLoad(0.5);
+        _rollingPolicy.setMaxCpuBackoffInMillis(1);
+        _rollingPolicy.setCpuLoadProvider(() -> 0.9);
+        Assert.assertEquals(0, _rollingPolicy.getCompressionBytesRead());
+        Assert.assertEquals(0, _rollingPolicy.getCompressionDelayInMillis());
+        start();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("before"));
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T02:00:00Z").toInstant().toEpochMilli());
+        _appender.doAppend(TestLoggingEvents.createEvent("after"));
+        _appender.stop();
+
+        Assert.assertEquals("before\n", gunzip(_directory.resolve("application-2014-05-05_00.log.gz")));
+        Assert.assertEquals(0, _rollingPolicy.getCompressionPendingFiles());
+        Assert.assertEquals(1, _rollingPolicy.getCompressionCompletedFiles());
+        Assert.assertEquals(7, _rollingPolicy.getCompressionBytesRead());
+        // Each of the two blocks backs off for the maximum of 1 ms
+        Assert.assertTrue(_rollingPolicy.getCompressionDelayInMillis() >= 2);
+    }
+
+    @Test
+    public void testCompressedRolloverWithoutFile() throws IOException {
+        _appender.setFile(null);
+        _rollingPolicy.setFileNamePattern(_directory.resolve("application-%d{yyyy-MM-dd_HH}.log.gz").toString());
+        start();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("before"));
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T02:00:00Z").toInstant().toEpochMilli());
+        _appender.doAppend(TestLoggingEvents.createEvent("after"));
+        _appender.stop();
+
+        Assert.assertEquals("before\n", gunzip(_directory.resolve("application-2014-05-05_00.log.gz")));
+    }
+
+    @Test
+    public void testUncompressedRollover() throws IOException {
+        _rollingPolicy.setFileNamePattern(_directory.resolve("application-%d{yyyy-MM-dd_HH}.log").toString());
+        start();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("before"));
+        _triggeringPolicy.setCurrentTime(ZonedDateTime.parse("2014-05-05T02:00:00Z").toInstant().toEpochMilli());
+        _appender.doAppend(TestLoggingEvents.createEvent("after"));
+        _appender.stop();
+
+        Assert.assertEquals(
+                "before\n",
+                new String(Files.readAllBytes(_directory.resolve("application-2014-05-05_00.log")), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testIsCompressed() throws IOException {
+        final Path file = _directory.resolve("magic");
+        Files.write(file, new byte[0]);
+        Assert.assertFalse(ParallelGzipTimeBasedRollingPolicy.isCompressed(file));
+        Files.write(file, new byte[]{0x1f, 0x00});
+        Assert.assertFalse(ParallelGzipTimeBasedRollingPolicy.isCompressed(file));
+        Files.write(file, new byte[]{0x1f, (byte) 0x8b});
+        Assert.assertTrue(ParallelGzipTimeBasedRollingPolicy.isCompressed(file));
+    }
+
+    @Test
+    public void testSettings() {
+        Assert.assertEquals(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), _rollingPolicy.getCompressionThreads());
+        Assert.assertEquals(1024L * 1024, _rollingPolicy.getCompressionBlockSize().getSize());
+        Assert.assertEquals(-1, _rollingPolicy.getCompressionLevel());
+
+        Assert.assertEquals(Thread.MIN_PRIORITY, _rollingPolicy.getCompressionThreadPriority());
+        Assert.assertEquals(0, _rollingPolicy.getMaxCompressionRate().getSize());
+        Assert.assertEquals(0, _rollingPolicy.getMaxCpuLoad(), 0.0001);
+        Assert.assertEquals(5000, _rollingPolicy.getMaxCpuBackoffInMillis());
+
+        _rollingPolicy.setCompressionThreads(3);
+        _rollingPolicy.setCompressionBlockSize(FileSize.valueOf("4MB"));
+        _rollingPolicy.setCompressionLevel(1);
+        _rollingPolicy.setCompressionThreadPriority(Thread.NORM_PRIORITY);
+        _rollingPolicy.setMaxCompressionRate(FileSize.valueOf("10MB"));
+        _rollingPolicy.setMaxCpuLoad(0.75);
+        _rollingPolicy.setMaxCpuBackoffInMillis(1000);
+        Assert.assertEquals(3, _rollingPolicy.getCompressionThreads());
+        Assert.assertEquals(4L * 1024 * 1024, _rollingPolicy.getCompressionBlockSize().getSize());
+        Assert.assertEquals(1, _rollingPolicy.getCompressionLevel());
+        Assert.assertEquals(Thread.NORM_PRIORITY, _rollingPolicy.getCompressionThreadPriority());
+        Assert.assertEquals(10L * 1024 * 1024, _rollingPolicy.getMaxCompressionRate().getSize());
+        Assert.assertEquals(0.75, _rollingPolicy.getMaxCpuLoad(), 0.0001);
+        Assert.assertEquals(1000, _rollingPolicy.getMaxCpuBackoffInMillis());
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        _rollingPolicy.setCompressionThreads(0);
+        _rollingPolicy.setCompressionBlockSize(new FileSize(0));
+        _rollingPolicy.setCompressionBlockSize(FileSize.valueOf("65MB"));
+        _rollingPolicy.setCompressionLevel(-2);
+        _rollingPolicy.setCompressionLevel(10);
+        _rollingPolicy.setCompressionThreadPriority(0);
+        _rollingPolicy.setCompressionThreadPriority(11);
+        _rollingPolicy.setMaxCpuLoad(-0.1);
+        _rollingPolicy.setMaxCpuLoad(1.0);
+        Assert.assertEquals(Thread.MIN_PRIORITY, _rollingPolicy.getCompressionThreadPriority());
+        Assert.assertEquals(0, _rollingPolicy.getMaxCpuLoad(), 0.0001);
+        Assert.assertEquals(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), _rollingPolicy.getCompressionThreads());
+        Assert.assertEquals(1024L * 1024, _rollingPolicy.getCompressionBlockSize().getSize());
+        Assert.assertEquals(-1, _rollingPolicy.getCompressionLevel());
+    }
+
+    private void start() {
+        _rollingPolicy.start();
+        _appender.setRollingPolicy(_rollingPolicy);
+        _appender.start();
+        Assert.assertTrue(_appender.isStarted());
+    }
+
+    private static String gunzip(final Path archive) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(archive))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private Path _directory;
+    private LoggerContext _context;
+    private PatternLayoutEncoder _encoder;
+    private RandomizedTimeBasedFNATP<ILoggingEvent> _triggeringPolicy;
+    private RollingFileAppender<ILoggingEvent> _appender;
+    private ParallelGzipTimeBasedRollingPolicy<ILoggingEvent> _rollingPolicy;
+}
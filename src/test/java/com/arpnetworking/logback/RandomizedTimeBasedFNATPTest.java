@@ -29,6 +29,7 @@ import java.io.File;
 import java.net.UnknownHostException;
 import java.security.SecureRandom;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 
 /**
  * Tests for {@link RandomizedTimeBasedFNATP}.
@@ -139,4 +140,27 @@ public class RandomizedTimeBasedFNATPTest {
         triggeringPolicy.setDateInCurrentPeriod(dateTime.toInstant());
         Assert.assertEquals(dateTime.toInstant(), triggeringPolicy.getDateInCurrentPeriod());
     }
+
+    @Test
+    public void testSharedRandomNumber() {
+        final RandomizedTimeBasedFNATP<LoggingEvent> original = new RandomizedTimeBasedFNATP<>();
+        final RandomizedTimeBasedFNATP<LoggingEvent> shared = new RandomizedTimeBasedFNATP<>(original.getRandomNumber());
+        Assert.assertEquals(original.getRandomNumber(), shared.getRandomNumber(), 0.0);
+
+        original.setMaxOffsetInMillis(30000);
+        shared.setMaxOffsetInMillis(30000);
+        final long timestamp = ZonedDateTime.parse("2014-05-05T00:00:00Z").toInstant().toEpochMilli();
+        for (final RandomizedTimeBasedFNATP<LoggingEvent> triggeringPolicy : Arrays.asList(original, shared)) {
+            final RollingFileAppender<LoggingEvent> fileAppender = new RollingFileAppender<>();
+            fileAppender.setFile("application.log");
+            final TimeBasedRollingPolicy<LoggingEvent> rollingPolicy = new TimeBasedRollingPolicy<>();
+            rollingPolicy.setContext(new LoggerContext());
+            rollingPolicy.setFileNamePattern("application-%d{yyyy-MM-dd_HH}.log");
+            rollingPolicy.setParent(fileAppender);
+            rollingPolicy.setTimeBasedFileNamingAndTriggeringPolicy(triggeringPolicy);
+            triggeringPolicy.setCurrentTime(timestamp);
+            rollingPolicy.start();
+        }
+        Assert.assertEquals(original.getNextCheck(), shared.getNextCheck());
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SerializerCoreRegistry}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class SerializerCoreRegistryTest {
+
+    @Test
+    public void testAcquireAndRelease() {
+        final int size = SerializerCoreRegistry.size();
+        final StenoEncoder first = new StenoEncoder();
+        first.setMaxDepth(7);
+        final StenoEncoder second = new StenoEncoder();
+        second.setMaxDepth(7);
+        second.setLogEventName("other");
+        second.setInjectContextLogger(true);
+
+        final SerializerCoreRegistry.Core core = SerializerCoreRegistry.acquire(first);
+        Assert.assertSame(core, SerializerCoreRegistry.acquire(second));
+        Assert.assertEquals(2, core.getReferences());
+        Assert.assertEquals(size + 1, SerializerCoreRegistry.size());
+
+        SerializerCoreRegistry.release(core);
+        Assert.assertEquals(size + 1, SerializerCoreRegistry.size());
+        SerializerCoreRegistry.release(core);
+        Assert.assertEquals(0, core.getReferences());
+        Assert.assertEquals(size, SerializerCoreRegistry.size());
+
+        // A released core is not reused
+        final SerializerCoreRegistry.Core other = SerializerCoreRegistry.acquire(first);
+        Assert.assertNotSame(core, other);
+        SerializerCoreRegistry.release(other);
+    }
+
+    @Test
+    public void testFingerprint() {
+        final StenoEncoder encoder = new StenoEncoder();
+        final StenoEncoder same = new StenoEncoder();
+        same.setLogEventName("other");
+        same.setDirectWriter(false);
+        same.setInjectContextThread(false);
+        Assert.assertEquals(encoder.getSerializerFingerprint(), same.getSerializerFingerprint());
+
+        final StenoEncoder redacted = new StenoEncoder();
+        redacted.addRedactKey("password");
+        Assert.assertNotEquals(encoder.getSerializerFingerprint(), redacted.getSerializerFingerprint());
+
+        final StenoEncoder unsafe = new StenoEncoder();
+        unsafe.setSafe(false);
+        Assert.assertNotEquals(encoder.getSerializerFingerprint(), unsafe.getSerializerFingerprint());
+
+        // Modules are compared by identity
+        final SimpleModule module = new SimpleModule();
+        final StenoEncoder withModule = new StenoEncoder();
+        withModule.addJacksonModule(module);
+        final StenoEncoder withSameModule = new StenoEncoder();
+        withSameModule.addJacksonModule(module);
+        final StenoEncoder withOtherModule = new StenoEncoder();
+        withOtherModule.addJacksonModule(new SimpleModule());
+        Assert.assertEquals(withModule.getSerializerFingerprint(), withSameModule.getSerializerFingerprint());
+        Assert.assertNotEquals(withModule.getSerializerFingerprint(), withOtherModule.getSerializerFingerprint());
+    }
+
+    @Test
+    public void testPrototype() {
+        final SimpleModule module = new SimpleModule();
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setSafe(false);
+        encoder.setInjectBeanIdentifier(true);
+        encoder.setRedactEnabled(false);
+        encoder.setRedactNull(false);
+        encoder.addRedactKey("password");
+        encoder.setAcceleratedAccessors(false);
+        encoder.setRawJsonValidationLimit(10);
+        encoder.setMaxStringLength(20);
+        encoder.setMaxCollectionSize(30);
+        encoder.setMaxDepth(40);
+        encoder.setDetectCycles(true);
+        encoder.setLogEventName("other");
+        encoder.addJacksonModule(module);
+
+        final StenoEncoder prototype = encoder.createSerializerPrototype();
+        Assert.assertEquals(encoder.getSerializerFingerprint(), prototype.getSerializerFingerprint());
+        Assert.assertEquals("log", prototype.getLogEventName());
+        Assert.assertEquals(encoder.getLogValueCacheSize().getSize(), prototype.getLogValueCache().getMaxSize());
+        Assert.assertTrue(prototype.getObjectMapper().getRegisteredModuleIds().contains(module.getTypeId()));
+    }
+}
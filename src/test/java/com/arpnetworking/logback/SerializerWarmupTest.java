@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.status.Status;
+import com.arpnetworking.logback.widgets.Widget;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for {@link SerializerWarmup}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class SerializerWarmupTest {
+
+    @Before
+    public void setUp() {
+        _context = new LoggerContext();
+        _encoder = new StenoEncoder();
+        _encoder.setContext(_context);
+        _encoder.start();
+    }
+
+    @Test
+    public void testRun() {
+        final ObjectMapper objectMapper = _encoder.getObjectMapper();
+        final int serializers = ((DefaultSerializerProvider) objectMapper.getSerializerProviderInstance()).cachedSerializersCount();
+        new SerializerWarmup(
+                _encoder,
+                objectMapper,
+                getClass().getClassLoader(),
+                List.of(Widget.class.getName(), Number.class.getName(), "com.example.DoesNotExist"),
+                List.of("com.arpnetworking.logback.widgets"))
+                .run();
+
+        Assert.assertTrue(((DefaultSerializerProvider) objectMapper.getSerializerProviderInstance()).cachedSerializersCount()
+                > serializers);
+        final List<String> messages = getMessages();
+        Assert.assertTrue(messages.toString(), messages.contains("Failed to load warm-up class [com.example.DoesNotExist]"));
+        Assert.assertTrue(messages.toString(), messages.stream().anyMatch(m -> m.startsWith("Warmed up serializers; classes=")));
+        Assert.assertFalse(messages.toString(), messages.stream().anyMatch(m -> m.startsWith("Failed to build serializer")));
+    }
+
+    @Test
+    public void testSerializerFailure() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final SimpleModule module = new SimpleModule();
+        module.setSerializers(new FailingSerializers());
+        objectMapper.registerModule(module);
+        new SerializerWarmup(
+                _encoder,
+                objectMapper,
+                getClass().getClassLoader(),
+                List.of(Widget.class.getName()),
+                Collections.emptyList())
+                .run();
+
+        final List<String> messages = getMessages();
+        Assert.assertTrue(
+                messages.toString(),
+                messages.contains("Failed to build serializer of warm-up class [" + Widget.class.getName() + "]"));
+        Assert.assertTrue(messages.toString(), messages.stream().anyMatch(m -> m.startsWith("Warmed up serializers; classes=0,")));
+    }
+
+    @Test
+    public void testInterrupted() {
+        final SerializerWarmup classesWarmup = new SerializerWarmup(
+                _encoder,
+                _encoder.getObjectMapper(),
+                getClass().getClassLoader(),
+                List.of(Widget.class.getName()),
+                Collections.emptyList());
+        final SerializerWarmup eventsWarmup = new SerializerWarmup(
+                _encoder,
+                _encoder.getObjectMapper(),
+                getClass().getClassLoader(),
+                Collections.emptyList(),
+                Collections.emptyList());
+        Thread.currentThread().interrupt();
+        try {
+            classesWarmup.run();
+            eventsWarmup.run();
+        } finally {
+            Assert.assertTrue(Thread.interrupted());
+        }
+        Assert.assertTrue(getMessages().isEmpty());
+    }
+
+    @Test
+    public void testFindClassNamesInDirectory() {
+        final List<String> classNames = createWarmup(getClass().getClassLoader()).findClassNames("com.arpnetworking.logback.widgets");
+        Assert.assertTrue(classNames.contains(Widget.class.getName()));
+        Assert.assertFalse(classNames.contains("com.arpnetworking.logback.widgets.package-info"));
+    }
+
+    @Test
+    public void testFindClassNamesInJar() {
+        final List<String> classNames = createWarmup(getClass().getClassLoader()).findClassNames("org.junit.runner");
+        Assert.assertTrue(classNames.contains(org.junit.runner.JUnitCore.class.getName()));
+        Assert.assertFalse(classNames.contains(org.junit.runner.manipulation.Filter.class.getName()));
+        Assert.assertTrue(getMessages().isEmpty());
+    }
+
+    @Test
+    public void testFindClassNamesNotFound() {
+        Assert.assertTrue(createWarmup(getClass().getClassLoader()).findClassNames("com.example.missing").isEmpty());
+        Assert.assertEquals(Collections.singletonList("No classes found in warm-up package [com.example.missing]"), getMessages());
+    }
+
+    @Test
+    public void testFindClassNamesUnsupported() {
+        final SerializerWarmup warmup = createWarmup(new UnsupportedClassLoader(getClass().getClassLoader()));
+        Assert.assertTrue(warmup.findClassNames("com.example.io").isEmpty());
+        Assert.assertTrue(warmup.findClassNames("com.example.uri").isEmpty());
+        Assert.assertTrue(warmup.findClassNames("com.example.jrt").isEmpty());
+
+        final List<String> messages = getMessages();
+        Assert.assertTrue(messages.toString(), messages.contains("Failed to find classes of warm-up package [com.example.io]"));
+        Assert.assertTrue(messages.toString(), messages.contains("Failed to find classes of warm-up package [com.example.uri]"));
+        Assert.assertTrue(
+                messages.toString(),
+                messages.contains("Unsupported location for warm-up package [com.example.jrt]; url=jrt:/java.base/java/lang"));
+    }
+
+    private SerializerWarmup createWarmup(final ClassLoader classLoader) {
+        return new SerializerWarmup(
+                _encoder,
+                _encoder.getObjectMapper(),
+                classLoader,
+                Collections.emptyList(),
+                Collections.emptyList());
+    }
+
+    private List<String> getMessages() {
+        return _context.getStatusManager().getCopyOfStatusList().stream()
+                .filter(status -> status.getOrigin() == _encoder)
+                .map(Status::getMessage)
+                .collect(Collectors.toList());
+    }
+
+    private LoggerContext _context;
+    private StenoEncoder _encoder;
+
+    private static final class FailingSerializers extends SimpleSerializers {
+
+        @Override
+        public JsonSerializer<?> findSerializer(
+                final SerializationConfig config,
+                final JavaType type,
+                final BeanDescription beanDescription) {
+            throw new IllegalStateException("Serializer failure");
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class UnsupportedClassLoader extends ClassLoader {
+
+        /* package private */ UnsupportedClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(final String name) throws IOException {
+            if (name.equals("com/example/io")) {
+                throw new IOException("Resource failure");
+            } else if (name.equals("com/example/uri")) {
+                return Collections.enumeration(Collections.singletonList(new URL("file:/not a uri")));
+            }
+            return Collections.enumeration(Collections.singletonList(new URL("jrt:/java.base/java/lang")));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Tests for {@link ShardedRollingFileAppender}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class ShardedRollingFileAppenderTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("sharded-rolling-file-appender-test");
+        _context = new LoggerContext();
+
+        _encoder = new StenoEncoder();
+        _encoder.setContext(_context);
+        _encoder.start();
+
+        _appender = new ShardedRollingFileAppender<>();
+        _appender.setContext(_context);
+        _appender.setName("sharded");
+        _appender.setEncoder(_encoder);
+        _appender.setFile(_directory.resolve("application-{shard}.log").toString());
+        _appender.setFileNamePattern(_directory.resolve("application-{shard}-%d{yyyy-MM-dd_HH}.log").toString());
+    }
+
+    @After
+    public void tearDown() {
+        _appender.stop();
+        _context.stop();
+    }
+
+    @Test
+    public void testShardedWriteAndMerge() throws Exception {
+        _appender.setShards(4);
+        _appender.start();
+        Assert.assertTrue(_appender.isStarted());
+        Assert.assertEquals(4, _appender.getShardAppenders().size());
+
+        final int threads = 8;
+        final int eventsPerThread = 100;
+        final List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < threads; ++i) {
+            final Thread writer = new Thread(() -> {
+                for (int j = 0; j < eventsPerThread; ++j) {
+                    _appender.doAppend(TestLoggingEvents.createEvent("message " + j));
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        for (final Thread writer : writers) {
+            writer.join();
+        }
+        _appender.stop();
+
+        final List<Path> shards = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            final Path shard = _directory.resolve("application-" + i + ".log");
+            Assert.assertTrue(Files.exists(shard));
+            shards.add(shard);
+        }
+        final StringWriter writer = new StringWriter();
+        Assert.assertEquals(threads * eventsPerThread, StenoShardMerger.merge(shards, writer));
+        for (final String line : writer.toString().split("\n")) {
+            Assert.assertNotNull(StenoShardMerger.extractTime(line));
+        }
+    }
+
+    @Test
+    public void testShardsShareRollSchedule() {
+        _appender.setShards(3);
+        _appender.setMaxOffsetInMillis(1800000);
+        _appender.setMaxHistory(5);
+        _appender.start();
+
+        final Set<Long> nextChecks = new HashSet<>();
+        for (final RollingFileAppender<ILoggingEvent> shard : _appender.getShardAppenders()) {
+            final TimeBasedRollingPolicy<ILoggingEvent> rollingPolicy = (TimeBasedRollingPolicy<ILoggingEvent>) shard.getRollingPolicy();
+            Assert.assertEquals(5, rollingPolicy.getMaxHistory());
+            final RandomizedTimeBasedFNATP<ILoggingEvent> triggeringPolicy =
+                    (RandomizedTimeBasedFNATP<ILoggingEvent>) rollingPolicy.getTimeBasedFileNamingAndTriggeringPolicy();
+            Assert.assertEquals(1800000, triggeringPolicy.getMaxOffsetInMillis());
+            nextChecks.add(triggeringPolicy.getNextCheck());
+        }
+        Assert.assertEquals(1, nextChecks.size());
+    }
+
+    @Test
+    public void testWithoutFile() throws IOException {
+        _appender.setFile(null);
+        _appender.setShards(2);
+        _appender.start();
+        Assert.assertTrue(_appender.isStarted());
+        _appender.doAppend(TestLoggingEvents.createEvent("message"));
+        _appender.stop();
+        try (Stream<Path> files = Files.list(_directory)) {
+            Assert.assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void testMissingEncoder() {
+        final ShardedRollingFileAppender<ILoggingEvent> appender = new ShardedRollingFileAppender<>();
+        appender.setContext(_context);
+        appender.setFileNamePattern(_directory.resolve("application-{shard}-%d{yyyy-MM-dd_HH}.log").toString());
+        appender.start();
+        Assert.assertFalse(appender.isStarted());
+    }
+
+    @Test
+    public void testFileNamePatternWithoutShard() {
+        _appender.setFileNamePattern(_directory.resolve("application-%d{yyyy-MM-dd_HH}.log").toString());
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testMissingFileNamePattern() {
+        _appender.setFileNamePattern(null);
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testFileWithoutShard() {
+        _appender.setFile(_directory.resolve("application.log").toString());
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testShardFailsToStart() throws IOException {
+        // A regular file where the shard directory should be prevents the shard from opening its file
+        Files.createFile(_directory.resolve("blocked"));
+        _appender.setFile(_directory.resolve("blocked/application-{shard}.log").toString());
+        _appender.setShards(2);
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testSettings() {
+        Assert.assertEquals(Runtime.getRuntime().availableProcessors(), _appender.getShards());
+        _appender.setShards(0);
+        Assert.assertEquals(Runtime.getRuntime().availableProcessors(), _appender.getShards());
+        _appender.setShards(7);
+        Assert.assertEquals(7, _appender.getShards());
+        Assert.assertEquals(0, _appender.getMaxHistory());
+        Assert.assertEquals(3600000, _appender.getMaxOffsetInMillis());
+        Assert.assertSame(_encoder, _appender.getEncoder());
+        Assert.assertEquals(_directory.resolve("application-{shard}.log").toString(), _appender.getFile());
+        Assert.assertEquals(
+                _directory.resolve("application-{shard}-%d{yyyy-MM-dd_HH}.log").toString(),
+                _appender.getFileNamePattern());
+    }
+
+    @Test
+    public void testShardIndex() {
+        final Set<Integer> indices = new HashSet<>();
+        for (long threadId = 1; threadId <= 64; ++threadId) {
+            final int index = ShardedRollingFileAppender.shardIndex(threadId, 4);
+            Assert.assertTrue(index >= 0 && index < 4);
+            indices.add(index);
+        }
+        Assert.assertEquals(4, indices.size());
+        Assert.assertEquals(0, ShardedRollingFileAppender.shardIndex(Long.MAX_VALUE, 1));
+    }
+
+    private Path _directory;
+    private LoggerContext _context;
+    private StenoEncoder _encoder;
+    private ShardedRollingFileAppender<ILoggingEvent> _appender;
+}
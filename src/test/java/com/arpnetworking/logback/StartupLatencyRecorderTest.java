@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link StartupLatencyRecorder}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class StartupLatencyRecorderTest {
+
+    @Test
+    public void testEmpty() {
+        final StartupLatencyRecorder recorder = new StartupLatencyRecorder(0, 100, 10);
+        Assert.assertTrue(recorder.isRecording());
+        Assert.assertEquals(0, recorder.getCount());
+        Assert.assertEquals(-1, recorder.getFirstLatency());
+        Assert.assertEquals(-1, recorder.getPercentile(99));
+    }
+
+    @Test
+    public void testPercentile() {
+        final StartupLatencyRecorder recorder = new StartupLatencyRecorder(0, 1000, 200);
+        Assert.assertFalse(recorder.record(0, 50));
+        for (int i = 1; i < 100; ++i) {
+            Assert.assertFalse(recorder.record(i, i + i));
+        }
+        Assert.assertTrue(recorder.isRecording());
+        Assert.assertEquals(100, recorder.getCount());
+        Assert.assertEquals(50, recorder.getFirstLatency());
+        Assert.assertEquals(98, recorder.getPercentile(99));
+        Assert.assertEquals(99, recorder.getPercentile(100));
+        Assert.assertEquals(1, recorder.getPercentile(0));
+    }
+
+    @Test
+    public void testWindow() {
+        final StartupLatencyRecorder recorder = new StartupLatencyRecorder(100, 1000, 10);
+        Assert.assertFalse(recorder.record(100, 200));
+        Assert.assertTrue(recorder.record(1000, 1100));
+        Assert.assertFalse(recorder.isRecording());
+        Assert.assertFalse(recorder.record(1100, 1101));
+        Assert.assertEquals(1, recorder.getCount());
+        Assert.assertEquals(100, recorder.getPercentile(99));
+    }
+
+    @Test
+    public void testCapacity() {
+        final StartupLatencyRecorder recorder = new StartupLatencyRecorder(0, 1000, 2);
+        Assert.assertFalse(recorder.record(0, 10));
+        Assert.assertTrue(recorder.record(10, 30));
+        Assert.assertFalse(recorder.isRecording());
+        Assert.assertFalse(recorder.record(30, 40));
+        Assert.assertEquals(2, recorder.getCount());
+        Assert.assertEquals(20, recorder.getPercentile(99));
+    }
+
+    @Test
+    public void testFirstLatency() {
+        final StartupLatencyRecorder recorder = new StartupLatencyRecorder(100, 1000, 10);
+        Assert.assertFalse(recorder.record(500, 510));
+        Assert.assertFalse(recorder.record(600, 700));
+        Assert.assertEquals(410, recorder.getFirstLatency());
+        Assert.assertEquals(10, recorder.getPercentile(0));
+    }
+
+    @Test
+    public void testFirstLatencyAfterWindow() {
+        final StartupLatencyRecorder recorder = new StartupLatencyRecorder(0, 1000, 10);
+        Assert.assertTrue(recorder.record(2000, 2010));
+        Assert.assertFalse(recorder.isRecording());
+        Assert.assertEquals(2010, recorder.getFirstLatency());
+        Assert.assertEquals(0, recorder.getCount());
+    }
+
+    @Test
+    public void testClaimedSlot() {
+        final StartupLatencyRecorder recorder = new StartupLatencyRecorder(0, 1000, 10);
+        Assert.assertEquals(0, recorder.claim());
+        Assert.assertFalse(recorder.record(0, 10));
+        Assert.assertEquals(1, recorder.getCount());
+        Assert.assertEquals(10, recorder.getPercentile(99));
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final StartupLatencyRecorder recorder = new StartupLatencyRecorder(0, Long.MAX_VALUE, 1000);
+        final AtomicInteger ended = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            final Thread thread = new Thread(() -> {
+                for (int j = 0; j < 500; ++j) {
+                    if (recorder.record(j, j + 1)) {
+                        ended.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(1, ended.get());
+        Assert.assertFalse(recorder.isRecording());
+        Assert.assertEquals(1000, recorder.getCount());
+        Assert.assertEquals(1, recorder.getPercentile(99));
+    }
+}
@@ -22,6 +22,7 @@ import ch.qos.logback.classic.spi.IThrowableProxy;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.classic.spi.ThrowableProxy;
 import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.util.FileSize;
 import com.arpnetworking.logback.annotations.LogRedact;
 import com.arpnetworking.logback.annotations.Loggable;
 import com.arpnetworking.logback.widgets.Widget;
@@ -29,9 +30,12 @@ import com.arpnetworking.logback.widgets.WidgetWithLogValue;
 import com.arpnetworking.logback.widgets.WidgetWithLogValueProvidingReference;
 import com.arpnetworking.logback.widgets.WidgetWithLoggable;
 import com.arpnetworking.steno.LogValueMapFactory;
+import com.arpnetworking.steno.MemoizingSupplier;
+import com.arpnetworking.steno.RawJson;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -47,6 +51,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.slf4j.Marker;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -55,6 +60,7 @@ import java.io.ObjectStreamException;
 import java.io.Writer;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -62,11 +68,16 @@ import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Tests for {@link StenoEncoder}.
@@ -275,6 +286,9 @@ public class StenoEncoderTest {
         final JsonFactory jsonFactory = Mockito.mock(JsonFactory.class);
         Mockito.doThrow(new IOException("Mock Failure")).when(jsonFactory).createGenerator(Mockito.any(Writer.class));
         _encoder = new StenoEncoder(jsonFactory, objectMapper);
+        Assert.assertTrue(_encoder.isDirectWriter());
+        _encoder.setDirectWriter(false);
+        Assert.assertFalse(_encoder.isDirectWriter());
         // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
         final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
         // CHECKSTYLE.ON: IllegalInstantiation
@@ -857,6 +871,7 @@ public class StenoEncoderTest {
         final JsonFactory jsonFactory = Mockito.mock(JsonFactory.class);
         Mockito.doThrow(new IOException("Mock Failure")).when(jsonFactory).createGenerator(Mockito.any(Writer.class));
         _encoder = new StenoEncoder(jsonFactory, objectMapper);
+        _encoder.setDirectWriter(false);
         // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
         final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
         // CHECKSTYLE.ON: IllegalInstantiation
@@ -975,6 +990,562 @@ public class StenoEncoderTest {
         assertMatchesJsonSchema(logOutput);
     }
 
+    @Test
+    public void testEncodeArraySupplierValues() throws Exception {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.ARRAY_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final Object[] argArray = new Object[2];
+        argArray[0] = new String[]{"key1", "key2"};
+        argArray[1] = new Object[]{
+                MemoizingSupplier.memoize((Supplier<Integer>) evaluations::incrementAndGet),
+                MemoizingSupplier.memoize((Supplier<String>) () -> {
+                    throw new IllegalStateException("Failed");
+                })};
+        event.setArgumentArray(argArray);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        assertOutput("StenoEncoderTest.testEncodeArraySupplierValues.json", logOutput);
+        assertMatchesJsonSchema(logOutput);
+        Assert.assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    public void testEncodeArrayRawJsonValues() throws Exception {
+        _encoder.setRawJsonValidationLimit(65536);
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.ARRAY_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final Object[] argArray = new Object[2];
+        argArray[0] = new String[]{"key1", "key2", "key3"};
+        argArray[1] = new Object[]{
+                RawJson.of("{\"foo\":[1,2]}"),
+                RawJson.of(ByteBuffer.wrap("\"bar\"".getBytes(StandardCharsets.UTF_8))),
+                RawJson.of("{\"invalid\":")};
+        event.setArgumentArray(argArray);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        assertOutput("StenoEncoderTest.testEncodeArrayRawJsonValues.json", logOutput);
+        assertMatchesJsonSchema(logOutput);
+    }
+
+    @Test
+    public void testEncodeArrayPayloadLimits() throws Exception {
+        _encoder.setMaxStringLength(64);
+        _encoder.setMaxCollectionSize(3);
+        _encoder.setMaxDepth(2);
+        _encoder.setDetectCycles(true);
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.ARRAY_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 100; ++i) {
+            longString.append('a');
+        }
+        final List<Object> cycle = new ArrayList<>();
+        cycle.add(cycle);
+        final Object[] argArray = new Object[2];
+        argArray[0] = new String[]{"key1", "key2", "key3", "key4"};
+        argArray[1] = new Object[]{
+                longString.toString(),
+                Arrays.asList(1, 2, 3, 4, 5),
+                Collections.singletonMap("a", Collections.singletonMap("b", Collections.singletonMap("c", 1))),
+                cycle};
+        event.setArgumentArray(argArray);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        assertOutput("StenoEncoderTest.testEncodeArrayPayloadLimits.json", logOutput);
+        assertMatchesJsonSchema(logOutput);
+    }
+
+    @Test
+    public void testEncodeMaxEventSize() throws Exception {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.setMessage("logEvent - foo = {}");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        event.setArgumentArray(new Object[]{"bar"});
+        final int size = _encoder.encode(event).length;
+
+        _encoder.setMaxEventSize(new FileSize(size));
+        Assert.assertEquals(size, _encoder.encode(event).length);
+
+        _encoder.setMaxEventSize(new FileSize(size - 1));
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        final JsonNode rootNode = OBJECT_MAPPER.readTree(logOutput);
+        Assert.assertEquals("OversizedEvent", rootNode.get("name").asText());
+        Assert.assertEquals("warn", rootNode.get("level").asText());
+        Assert.assertTrue(rootNode.get("data").get("_truncated").asBoolean());
+        Assert.assertEquals(size, rootNode.get("data").get("_size").asInt());
+        Assert.assertTrue(rootNode.get("context").has("host"));
+        assertMatchesJsonSchema(logOutput);
+    }
+
+    @Test
+    public void testPayloadLimitSettings() {
+        Assert.assertEquals(0, _encoder.getMaxStringLength());
+        Assert.assertEquals(0, _encoder.getMaxCollectionSize());
+        Assert.assertEquals(0, _encoder.getMaxDepth());
+        Assert.assertNull(_encoder.getMaxEventSize());
+        Assert.assertFalse(_encoder.isDetectCycles());
+
+        _encoder.setMaxStringLength(10);
+        _encoder.setMaxCollectionSize(20);
+        _encoder.setMaxDepth(5);
+        _encoder.setMaxEventSize(FileSize.valueOf("1MB"));
+        _encoder.setDetectCycles(true);
+        Assert.assertEquals(10, _encoder.getMaxStringLength());
+        Assert.assertEquals(20, _encoder.getMaxCollectionSize());
+        Assert.assertEquals(5, _encoder.getMaxDepth());
+        Assert.assertEquals(1024 * 1024, _encoder.getMaxEventSize().getSize());
+        Assert.assertTrue(_encoder.isDetectCycles());
+
+        _encoder.setMaxStringLength(-1);
+        _encoder.setMaxCollectionSize(-1);
+        _encoder.setMaxDepth(-1);
+        _encoder.setMaxEventSize(new FileSize(0));
+        Assert.assertEquals(10, _encoder.getMaxStringLength());
+        Assert.assertEquals(20, _encoder.getMaxCollectionSize());
+        Assert.assertEquals(5, _encoder.getMaxDepth());
+        Assert.assertEquals(1024 * 1024, _encoder.getMaxEventSize().getSize());
+
+        _encoder.setMaxEventSize(null);
+        Assert.assertNull(_encoder.getMaxEventSize());
+    }
+
+    @Test
+    public void testLogValueCacheSettings() throws ObjectStreamException {
+        Assert.assertEquals(1024 * 1024, _encoder.getLogValueCacheSize().getSize());
+        Assert.assertEquals(1024 * 1024, _encoder.getLogValueCache().getMaxSize());
+
+        _encoder.setLogValueCacheSize(FileSize.valueOf("10KB"));
+        Assert.assertEquals(10 * 1024, _encoder.getLogValueCacheSize().getSize());
+        Assert.assertEquals(10 * 1024, _encoder.getLogValueCache().getMaxSize());
+
+        _encoder.readResolve();
+        Assert.assertEquals(10 * 1024, _encoder.getLogValueCache().getMaxSize());
+    }
+
+    @Test
+    public void testSharedSerializers() throws Exception {
+        Assert.assertFalse(_encoder.isSharedSerializers());
+        final int size = SerializerCoreRegistry.size();
+        final StenoEncoder first = createSharedEncoder();
+        final StenoEncoder second = createSharedEncoder();
+        Assert.assertTrue(first.isSharedSerializers());
+        Assert.assertEquals(size + 1, SerializerCoreRegistry.size());
+        Assert.assertSame(first.getLogValueCache(), second.getLogValueCache());
+        Assert.assertNotSame(_encoder.getLogValueCache(), first.getLogValueCache());
+
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.ARRAY_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final Object[] argArray = new Object[2];
+        argArray[0] = new String[]{"key1", "key2"};
+        argArray[1] = new Object[]{Integer.valueOf(1234), new Widget("foo")};
+        event.setArgumentArray(argArray);
+        final JsonNode data = encodeData(_encoder, event);
+        Assert.assertEquals(data, encodeData(first, event));
+        Assert.assertEquals(data, encodeData(second, event));
+        Assert.assertTrue(_encoder.isObjectMapperCreated());
+        Assert.assertFalse(first.isObjectMapperCreated());
+        Assert.assertFalse(second.isObjectMapperCreated());
+
+        first.stop();
+        Assert.assertEquals(size + 1, SerializerCoreRegistry.size());
+        Assert.assertEquals(data, encodeData(first, event));
+        Assert.assertTrue(first.isObjectMapperCreated());
+        Assert.assertNotSame(first.getLogValueCache(), second.getLogValueCache());
+        second.stop();
+        Assert.assertEquals(size, SerializerCoreRegistry.size());
+        _encoder.stop();
+    }
+
+    @Test
+    public void testWarmup() throws Exception {
+        Assert.assertNull(_encoder.getWarmupThread());
+
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setContext(_context);
+        encoder.addWarmupClass(Widget.class.getName());
+        encoder.addWarmupPackage("com.arpnetworking.logback.widgets");
+        Assert.assertTrue(encoder.isWarmupClass(Widget.class.getName()));
+        Assert.assertFalse(encoder.isWarmupClass(WidgetWithLoggable.class.getName()));
+        Assert.assertTrue(encoder.isWarmupPackage("com.arpnetworking.logback.widgets"));
+        Assert.assertFalse(encoder.isWarmupPackage("com.arpnetworking.logback"));
+        encoder.start();
+        final Thread warmupThread = encoder.getWarmupThread();
+        Assert.assertNotNull(warmupThread);
+        Assert.assertTrue(warmupThread.isDaemon());
+        warmupThread.join();
+        Assert.assertTrue(_context.getStatusManager().getCopyOfStatusList().stream()
+                .anyMatch(status -> status.getOrigin() == encoder && status.getMessage().startsWith("Warmed up serializers")));
+
+        // The warm-up events are not recorded
+        Assert.assertEquals(-1, encoder.getFirstEventLatencyInNanos());
+
+        encoder.stop();
+        Assert.assertNull(encoder.getWarmupThread());
+    }
+
+    @Test
+    public void testWarmupWithoutContextClassLoader() throws Exception {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setContext(_context);
+        encoder.addWarmupPackage("com.arpnetworking.logback.widgets");
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(null);
+        try {
+            encoder.start();
+        } finally {
+            Thread.currentThread().setContextClassLoader(classLoader);
+        }
+        encoder.getWarmupThread().join();
+        Assert.assertTrue(_context.getStatusManager().getCopyOfStatusList().stream()
+                .anyMatch(status -> status.getOrigin() == encoder && status.getMessage().startsWith("Warmed up serializers")));
+        encoder.stop();
+    }
+
+    @Test
+    public void testStartupLatency() throws Exception {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setContext(_context);
+        encoder.encode(event);
+        Assert.assertEquals(-1, encoder.getFirstEventLatencyInNanos());
+        Assert.assertEquals(-1, encoder.getStartupP99LatencyInNanos());
+
+        // Recording is opt-in
+        Assert.assertFalse(encoder.isRecordStartupLatency());
+        encoder.start();
+        encoder.encode(event);
+        Assert.assertEquals(-1, encoder.getFirstEventLatencyInNanos());
+        Assert.assertEquals(-1, encoder.getStartupP99LatencyInNanos());
+        encoder.stop();
+
+        encoder.setRecordStartupLatency(true);
+        Assert.assertTrue(encoder.isRecordStartupLatency());
+        encoder.start();
+        Assert.assertEquals(-1, encoder.getFirstEventLatencyInNanos());
+
+        // The first event latency is measured from the start of the encoder
+        Thread.sleep(10);
+        encoder.encode(event);
+        final long firstEventLatency = encoder.getFirstEventLatencyInNanos();
+        Assert.assertTrue(firstEventLatency >= TimeUnit.MILLISECONDS.toNanos(10));
+        final long encodeLatency = encoder.getStartupP99LatencyInNanos();
+        Assert.assertTrue(encodeLatency >= 0);
+        Assert.assertTrue(encodeLatency < firstEventLatency);
+
+        // Recording ends with a status message
+        encoder.setStartupLatencyRecorder(new StartupLatencyRecorder(System.nanoTime(), TimeUnit.MINUTES.toNanos(1), 2));
+        encoder.encode(event);
+        Assert.assertFalse(_context.getStatusManager().getCopyOfStatusList().stream()
+                .anyMatch(status -> status.getMessage().startsWith("Encoded first events")));
+        encoder.encode(event);
+        Assert.assertTrue(_context.getStatusManager().getCopyOfStatusList().stream()
+                .anyMatch(status -> status.getOrigin() == encoder && status.getMessage().startsWith("Encoded first events; count=2")));
+        final long p99Latency = encoder.getStartupP99LatencyInNanos();
+        encoder.encode(event);
+        Assert.assertEquals(p99Latency, encoder.getStartupP99LatencyInNanos());
+        encoder.stop();
+    }
+
+    @Test
+    public void testEncodeRedactKeys() throws Exception {
+        _encoder.setRedactEnabled(true);
+        _encoder.addRedactKey("password");
+        _encoder.addRedactKey("*_token");
+        _encoder.addRedactKey("auth*");
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.ARRAY_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("Authorization", "Basic abc");
+        nested.put("password", null);
+        nested.put("plain", 1);
+        final Object[] argArray = new Object[2];
+        argArray[0] = new String[]{"password", "access_token", "user", "nested", "refresh_token"};
+        argArray[1] = new Object[]{"secret", "abc", "bob", nested};
+        event.setArgumentArray(argArray);
+
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String redactedLogOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        JsonNode dataNode = OBJECT_MAPPER.readTree(redactedLogOutput).get("data");
+        Assert.assertEquals("<REDACTED>", dataNode.get("password").asText());
+        Assert.assertEquals("<REDACTED>", dataNode.get("access_token").asText());
+        Assert.assertEquals("bob", dataNode.get("user").asText());
+        Assert.assertEquals("<REDACTED>", dataNode.get("nested").get("Authorization").asText());
+        Assert.assertEquals("<REDACTED>", dataNode.get("nested").get("password").asText());
+        Assert.assertEquals(1, dataNode.get("nested").get("plain").asInt());
+        Assert.assertEquals("<REDACTED>", dataNode.get("refresh_token").asText());
+        assertMatchesJsonSchema(redactedLogOutput);
+
+        _encoder.setRedactNull(false);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String redactedWithNullLogOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        dataNode = OBJECT_MAPPER.readTree(redactedWithNullLogOutput).get("data");
+        Assert.assertEquals("<REDACTED>", dataNode.get("password").asText());
+        Assert.assertTrue(dataNode.get("nested").get("password").isNull());
+        Assert.assertTrue(dataNode.get("refresh_token").isNull());
+
+        _encoder.setRedactEnabled(false);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String nonRedactedLogOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        dataNode = OBJECT_MAPPER.readTree(nonRedactedLogOutput).get("data");
+        Assert.assertEquals("secret", dataNode.get("password").asText());
+        Assert.assertEquals("Basic abc", dataNode.get("nested").get("Authorization").asText());
+    }
+
+    @Test
+    public void testEncodeRedactKeysDirectWriter() throws Exception {
+        _encoder.setRedactEnabled(true);
+        _encoder.setDirectWriter(true);
+        _encoder.addRedactKey("password");
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.ARRAY_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final Object[] argArray = new Object[2];
+        argArray[0] = new String[]{"password", "user"};
+        argArray[1] = new Object[]{"secret", "bob"};
+        event.setArgumentArray(argArray);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        final JsonNode dataNode = OBJECT_MAPPER.readTree(logOutput).get("data");
+        Assert.assertEquals("<REDACTED>", dataNode.get("password").asText());
+        Assert.assertEquals("bob", dataNode.get("user").asText());
+        assertMatchesJsonSchema(logOutput);
+    }
+
+    @Test
+    public void testEncodeRedactKeysMapAndJson() throws Exception {
+        _encoder.setRedactEnabled(true);
+        _encoder.addRedactKey("*_token");
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("access_token", "{\"foo\":\"bar\"}");
+        map.put("key", "[\"foo\",\"bar\"]");
+        for (final Marker marker : Arrays.asList(StenoMarker.MAP_MARKER, StenoMarker.MAP_JSON_MARKER)) {
+            final LoggingEvent event = new LoggingEvent();
+            event.setLevel(Level.INFO);
+            event.addMarker(marker);
+            event.setMessage("logEvent");
+            event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+            event.setTimeStamp(0);
+            event.setArgumentArray(new Object[]{map});
+            // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+            final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+            // CHECKSTYLE.ON: IllegalInstantiation
+            final JsonNode dataNode = OBJECT_MAPPER.readTree(logOutput).get("data");
+            Assert.assertEquals("<REDACTED>", dataNode.get("access_token").asText());
+            Assert.assertTrue(dataNode.get("key").isArray());
+        }
+
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.ARRAY_JSON_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final Object[] argArray = new Object[2];
+        argArray[0] = new String[]{"access_token", "key", "id_token"};
+        argArray[1] = new String[]{"{\"foo\":\"bar\"}", "[\"foo\",\"bar\"]"};
+        event.setArgumentArray(argArray);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        final JsonNode dataNode = OBJECT_MAPPER.readTree(logOutput).get("data");
+        Assert.assertEquals("<REDACTED>", dataNode.get("access_token").asText());
+        Assert.assertTrue(dataNode.get("key").isArray());
+        Assert.assertEquals("<REDACTED>", dataNode.get("id_token").asText());
+    }
+
+    @Test
+    public void testEncodeRedactKeysListsAndContext() throws Exception {
+        _encoder.setRedactEnabled(true);
+        _encoder.addRedactKey("*_token");
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.LISTS_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final Object[] argArray = new Object[4];
+        argArray[0] = Arrays.asList("access_token", "key1");
+        argArray[1] = Arrays.asList("abc", "foo");
+        argArray[2] = Arrays.asList("session_token", "CONTEXT_KEY1");
+        argArray[3] = Arrays.asList("def", "bar");
+        event.setArgumentArray(argArray);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        final JsonNode rootNode = OBJECT_MAPPER.readTree(logOutput);
+        Assert.assertEquals("<REDACTED>", rootNode.get("data").get("access_token").asText());
+        Assert.assertEquals("foo", rootNode.get("data").get("key1").asText());
+        Assert.assertEquals("<REDACTED>", rootNode.get("context").get("session_token").asText());
+        Assert.assertEquals("bar", rootNode.get("context").get("CONTEXT_KEY1").asText());
+    }
+
+    @Test
+    public void testEncodeRedactKeysTruncatedMap() throws Exception {
+        _encoder.setRedactEnabled(true);
+        _encoder.setMaxCollectionSize(1);
+        _encoder.addRedactKey("password");
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.ARRAY_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("password", "secret");
+        map.put("user", "bob");
+        final Map<String, Object> other = new LinkedHashMap<>();
+        other.put("user", "bob");
+        other.put("password", "secret");
+        final Object[] argArray = new Object[2];
+        argArray[0] = new String[]{"map", "other"};
+        argArray[1] = new Object[]{map, other};
+        event.setArgumentArray(argArray);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        final JsonNode dataNode = OBJECT_MAPPER.readTree(logOutput).get("data");
+        Assert.assertEquals("<REDACTED>", dataNode.get("map").get("password").asText());
+        Assert.assertTrue(dataNode.get("map").get("_truncated").asBoolean());
+        Assert.assertEquals("bob", dataNode.get("other").get("user").asText());
+        Assert.assertFalse(dataNode.get("other").has("password"));
+    }
+
+    @Test
+    public void testRedactKeySettings() {
+        Assert.assertFalse(_encoder.iteratorForRedactKey().hasNext());
+        Assert.assertFalse(_encoder.isRedactedKey("password", "secret"));
+
+        _encoder.setRedactEnabled(true);
+        _encoder.addRedactKey("password");
+        _encoder.addRedactKey("");
+        _encoder.addRedactKey(null);
+        final Iterator<String> iterator = _encoder.iteratorForRedactKey();
+        Assert.assertEquals("password", iterator.next());
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertTrue(_encoder.isRedactedKey("password", "secret"));
+        Assert.assertTrue(_encoder.isRedactedKey("password", null));
+        Assert.assertFalse(_encoder.isRedactedKey(null, "secret"));
+        Assert.assertFalse(_encoder.isRedactedKey("user", "bob"));
+
+        _encoder.setRedactNull(false);
+        Assert.assertFalse(_encoder.isRedactedKey("password", null));
+
+        final List<String> patterns = new ArrayList<>();
+        final StringBuilder wildcards = new StringBuilder();
+        for (int i = 0; i < 20; ++i) {
+            patterns.add("*a" + wildcards + "b*");
+            wildcards.append('?');
+        }
+        patterns.forEach(_encoder::addRedactKey);
+        final List<String> redactKeys = new ArrayList<>();
+        _encoder.iteratorForRedactKey().forEachRemaining(redactKeys::add);
+        Assert.assertEquals("password", redactKeys.get(0));
+        Assert.assertFalse(redactKeys.contains(patterns.get(patterns.size() - 1)));
+        Assert.assertTrue(_encoder.isRedactedKey("password", "secret"));
+    }
+
+    @Test
+    public void testEncodeMapSupplierValues() throws Exception {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.MAP_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("key1", MemoizingSupplier.memoize(() -> Integer.valueOf(1234)));
+        map.put("key2", MemoizingSupplier.memoize(() -> new Widget("foo")));
+        event.setArgumentArray(new Object[]{map});
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        assertOutput("StenoEncoderTest.testEncodeMapSupplierValues.json", logOutput);
+        assertMatchesJsonSchema(logOutput);
+    }
+
+    @Test
+    public void testEncodeObjectSupplier() throws Exception {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.OBJECT_MARKER);
+        event.setMessage("logEvent");
+        event.setTimeStamp(0);
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setArgumentArray(new Object[]{MemoizingSupplier.memoize(() -> new Widget("foo"))});
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        assertOutput("StenoEncoderTest.testEncodeObject.json", logOutput);
+        assertMatchesJsonSchema(logOutput);
+    }
+
+    @Test
+    public void testEncodeListsSupplierValues() throws Exception {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.LISTS_MARKER);
+        event.setMessage("logEvent");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setTimeStamp(0);
+        final Object[] argArray = new Object[4];
+        argArray[0] = Arrays.asList("key1", "key2");
+        argArray[1] = Arrays.asList(MemoizingSupplier.memoize(() -> 1000 + evaluations.incrementAndGet()), "foo");
+        argArray[2] = Arrays.asList("CONTEXT_KEY1", "CONTEXT_KEY2");
+        argArray[3] = Arrays.asList(
+                MemoizingSupplier.memoize(() -> "bar"),
+                MemoizingSupplier.memoize((Supplier<Double>) () -> {
+                    throw new IllegalArgumentException("Failed");
+                }));
+        event.setArgumentArray(argArray);
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        assertOutput("StenoEncoderTest.testEncodeListsSupplierValues.json", logOutput);
+        assertMatchesJsonSchema(logOutput);
+        Assert.assertEquals(1, evaluations.get());
+    }
+
     @Test
     public void testEncodeStandardEvent() throws Exception {
         final LoggingEvent event = new LoggingEvent();
@@ -1008,6 +1579,7 @@ public class StenoEncoderTest {
         final JsonFactory jsonFactory = Mockito.mock(JsonFactory.class);
         Mockito.doThrow(new IOException("Mock Failure")).when(jsonFactory).createGenerator(Mockito.any(Writer.class));
         _encoder = new StenoEncoder(jsonFactory, objectMapper);
+        _encoder.setDirectWriter(false);
         // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
         final String logOutput = new String(_encoder.encode(event), _encoder.getCharset());
         // CHECKSTYLE.ON: IllegalInstantiation
@@ -1310,6 +1882,7 @@ public class StenoEncoderTest {
         final JsonFactory jsonFactory = Mockito.mock(JsonFactory.class);
         Mockito.doThrow(new RuntimeException("Mock Failure")).when(jsonFactory).createGenerator(Mockito.any(Writer.class));
         _encoder = new StenoEncoder(jsonFactory, objectMapper);
+        _encoder.setDirectWriter(false);
 
         _encoder.setInjectContextHost(false);
         _encoder.setInjectContextProcess(false);
@@ -1341,6 +1914,7 @@ public class StenoEncoderTest {
         final JsonFactory jsonFactory = Mockito.mock(JsonFactory.class);
         Mockito.doThrow(new RuntimeException("Mock Failure")).when(jsonFactory).createGenerator(Mockito.any(Writer.class));
         _encoder = new StenoEncoder(jsonFactory, objectMapper);
+        _encoder.setDirectWriter(false);
 
         _encoder.setInjectContextHost(false);
         _encoder.setInjectContextProcess(false);
@@ -1375,6 +1949,7 @@ public class StenoEncoderTest {
         final JsonFactory jsonFactory = Mockito.mock(JsonFactory.class);
         Mockito.doThrow(new RuntimeException("Mock Failure")).when(jsonFactory).createGenerator(Mockito.any(Writer.class));
         _encoder = new StenoEncoder(jsonFactory, objectMapper);
+        _encoder.setDirectWriter(false);
 
         _encoder.setInjectContextHost(false);
         _encoder.setInjectContextProcess(false);
@@ -1424,6 +1999,7 @@ public class StenoEncoderTest {
         final JsonFactory jsonFactory = Mockito.mock(JsonFactory.class);
         Mockito.doThrow(new RuntimeException("Mock Failure")).when(jsonFactory).createGenerator(Mockito.any(Writer.class));
         _encoder = new StenoEncoder(jsonFactory, objectMapper);
+        _encoder.setDirectWriter(false);
         _encoder.setInjectContextHost(false);
         _encoder.setInjectContextProcess(false);
         _encoder.setInjectContextThread(false);
@@ -1454,6 +2030,7 @@ public class StenoEncoderTest {
         final JsonFactory jsonFactory = Mockito.mock(JsonFactory.class);
         Mockito.doThrow(new RuntimeException("Mock Failure")).when(jsonFactory).createGenerator(Mockito.any(Writer.class));
         _encoder = new StenoEncoder(jsonFactory, objectMapper);
+        _encoder.setDirectWriter(false);
         _encoder.setInjectContextHost(false);
         _encoder.setInjectContextProcess(false);
         _encoder.setInjectContextThread(false);
@@ -1466,6 +2043,23 @@ public class StenoEncoderTest {
         assertMatchesJsonSchema(logOutput);
     }
 
+    private StenoEncoder createSharedEncoder() {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setRedactEnabled(false);
+        encoder.setRedactNull(true);
+        encoder.setSharedSerializers(true);
+        encoder.setContext(_context);
+        encoder.addJacksonModule(_javaTimeModule);
+        encoder.start();
+        return encoder;
+    }
+
+    private static JsonNode encodeData(final StenoEncoder encoder, final LoggingEvent event) throws IOException {
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        return OBJECT_MAPPER.readTree(new String(encoder.encode(event), encoder.getCharset())).get("data");
+        // CHECKSTYLE.ON: IllegalInstantiation
+    }
+
     private static void assertOutput(final String expectedResource, final String actualOutput) {
         final String redactedOutput = actualOutput
                 .replaceAll("\"id\":\"[^\"]+\"", "\"id\":\"<ID>\"")
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tests for {@link StenoShardMerger}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class StenoShardMergerTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("steno-shard-merger-test");
+    }
+
+    @Test
+    public void testMerge() throws IOException {
+        final Path shard0 = write("shard-0.log",
+                line("2011-11-11T00:00:00.001Z", "a"),
+                line("2011-11-11T00:00:00.004Z", "d"),
+                line("2011-11-11T00:00:00.005Z", "e"));
+        final Path shard1 = write("shard-1.log",
+                line("2011-11-11T00:00:00.002Z", "b"),
+                line("2011-11-11T00:00:00.003Z", "c"),
+                line("2011-11-11T00:00:00.006Z", "f"));
+
+        final StringWriter writer = new StringWriter();
+        Assert.assertEquals(6, StenoShardMerger.merge(Arrays.asList(shard0, shard1), writer));
+        Assert.assertEquals(
+                line("2011-11-11T00:00:00.001Z", "a")
+                        + line("2011-11-11T00:00:00.002Z", "b")
+                        + line("2011-11-11T00:00:00.003Z", "c")
+                        + line("2011-11-11T00:00:00.004Z", "d")
+                        + line("2011-11-11T00:00:00.005Z", "e")
+                        + line("2011-11-11T00:00:00.006Z", "f"),
+                writer.toString());
+    }
+
+    @Test
+    public void testMergeSameTime() throws IOException {
+        final Path shard0 = write("shard-0.log",
+                line("2011-11-11T00:00:00.000Z", "a"),
+                line("2011-11-11T00:00:00.000Z", "b"));
+        final Path shard1 = write("shard-1.log",
+                line("2011-11-11T00:00:00.000Z", "c"),
+                line("2011-11-11T00:00:00.000Z", "d"));
+
+        final StringWriter writer = new StringWriter();
+        StenoShardMerger.merge(Arrays.asList(shard1, shard0), writer);
+        Assert.assertEquals(
+                line("2011-11-11T00:00:00.000Z", "c")
+                        + line("2011-11-11T00:00:00.000Z", "d")
+                        + line("2011-11-11T00:00:00.000Z", "a")
+                        + line("2011-11-11T00:00:00.000Z", "b"),
+                writer.toString());
+    }
+
+    @Test
+    public void testMergeKeepsShardOrder() throws IOException {
+        // Shard 0 is slightly out of order; its events must not be reordered
+        final Path shard0 = write("shard-0.log",
+                line("2011-11-11T00:00:00.003Z", "a"),
+                line("2011-11-11T00:00:00.001Z", "b"),
+                "not steno\n",
+                "\n");
+        final Path shard1 = write("shard-1.log",
+                line("2011-11-11T00:00:00.002Z", "c"));
+
+        final StringWriter writer = new StringWriter();
+        Assert.assertEquals(4, StenoShardMerger.merge(Arrays.asList(shard0, shard1), writer));
+        Assert.assertEquals(
+                line("2011-11-11T00:00:00.002Z", "c")
+                        + line("2011-11-11T00:00:00.003Z", "a")
+                        + line("2011-11-11T00:00:00.001Z", "b")
+                        + "not steno\n",
+                writer.toString());
+    }
+
+    @Test
+    public void testMergeCompressed() throws IOException {
+        final Path shard0 = _directory.resolve("shard-0.log.gz");
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(shard0))) {
+            outputStream.write(line("2011-11-11T00:00:00.002Z", "b").getBytes(StandardCharsets.UTF_8));
+        }
+        final Path shard1 = write("shard-1.log", line("2011-11-11T00:00:00.001Z", "a"));
+
+        final StringWriter writer = new StringWriter();
+        StenoShardMerger.merge(Arrays.asList(shard0, shard1), writer);
+        Assert.assertEquals(
+                line("2011-11-11T00:00:00.001Z", "a") + line("2011-11-11T00:00:00.002Z", "b"),
+                writer.toString());
+    }
+
+    @Test(expected = IOException.class)
+    public void testMergeInvalidCompressed() throws IOException {
+        final Path shard0 = write("shard-0.log.gz", "not compressed\n");
+        StenoShardMerger.merge(Collections.singletonList(shard0), new StringWriter());
+    }
+
+    @Test
+    public void testMergeNothing() throws IOException {
+        final StringWriter writer = new StringWriter();
+        Assert.assertEquals(0, StenoShardMerger.merge(Collections.emptyList(), writer));
+        Assert.assertEquals("", writer.toString());
+    }
+
+    @Test
+    public void testMain() throws IOException {
+        final Path shard0 = write("shard-0.log", line("2011-11-11T00:00:00.002Z", "b"));
+        final Path shard1 = write("shard-1.log", line("2011-11-11T00:00:00.001Z", "a"));
+        final PrintStream originalOut = System.out;
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            System.setOut(new PrintStream(outputStream, true, "UTF-8"));
+            StenoShardMerger.main(new String[]{shard0.toString(), shard1.toString()});
+        } finally {
+            System.setOut(originalOut);
+        }
+        Assert.assertEquals(
+                line("2011-11-11T00:00:00.001Z", "a") + line("2011-11-11T00:00:00.002Z", "b"),
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testExtractTime() {
+        Assert.assertEquals("2011-11-11T00:00:00.000Z", StenoShardMerger.extractTime(line("2011-11-11T00:00:00.000Z", "a")));
+        Assert.assertNull(StenoShardMerger.extractTime("{\"name\":\"a\"}"));
+        Assert.assertNull(StenoShardMerger.extractTime("{\"time\":\"2011-11-11"));
+    }
+
+    private Path write(final String name, final String... lines) throws IOException {
+        final Path path = _directory.resolve(name);
+        Files.write(path, String.join("", lines).getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static String line(final String time, final String name) {
+        return "{\"time\":\"" + time + "\",\"name\":\"" + name + "\",\"level\":\"info\"}\n";
+    }
+
+    private Path _directory;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for {@link SwappableOutputStream}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class SwappableOutputStreamTest {
+
+    @Test
+    public void testWriteAndSwap() throws IOException {
+        final ByteArrayOutputStream first = new ByteArrayOutputStream();
+        final ByteArrayOutputStream second = new ByteArrayOutputStream();
+        try (SwappableOutputStream outputStream = new SwappableOutputStream(first)) {
+            outputStream.write('a');
+            outputStream.write("bc".getBytes(StandardCharsets.UTF_8));
+
+            Assert.assertSame(first, outputStream.swap(second));
+            outputStream.write("de".getBytes(StandardCharsets.UTF_8), 1, 1);
+        }
+        Assert.assertEquals("abc", first.toString("UTF-8"));
+        Assert.assertEquals("e", second.toString("UTF-8"));
+    }
+
+    @Test
+    public void testFlushAndClose() throws IOException {
+        final OutputStream delegate = Mockito.mock(OutputStream.class);
+        final SwappableOutputStream outputStream = new SwappableOutputStream(delegate);
+        outputStream.flush();
+        outputStream.close();
+        Mockito.verify(delegate).flush();
+        Mockito.verify(delegate).close();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Tests for {@link SyncFlushGzipOutputStream}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class SyncFlushGzipOutputStreamTest {
+
+    @Test
+    public void testSyncFlushBySize() throws IOException, DataFormatException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final SyncFlushGzipOutputStream outputStream = new SyncFlushGzipOutputStream(
+                buffer, Deflater.DEFAULT_COMPRESSION, 10, Long.MAX_VALUE, _clock::get);
+        outputStream.write("hello".getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+        Assert.assertEquals("", inflatePartial(buffer.toByteArray()));
+
+        outputStream.write(' ');
+        outputStream.write("world".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("hello world", inflatePartial(buffer.toByteArray()));
+
+        outputStream.close();
+        outputStream.close();
+        Assert.assertEquals("hello world", gunzip(buffer.toByteArray()));
+    }
+
+    @Test
+    public void testSyncFlushByTime() throws IOException, DataFormatException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final SyncFlushGzipOutputStream outputStream = new SyncFlushGzipOutputStream(
+                buffer, Deflater.DEFAULT_COMPRESSION, Long.MAX_VALUE, 1000, _clock::get);
+
+        // Nothing written yet
+        _clock.addAndGet(1000);
+        outputStream.flushIfDue();
+        Assert.assertEquals(10, buffer.size());
+
+        outputStream.write("hello".getBytes(StandardCharsets.UTF_8));
+        _clock.addAndGet(999);
+        outputStream.flush();
+        Assert.assertEquals("", inflatePartial(buffer.toByteArray()));
+
+        _clock.addAndGet(1);
+        outputStream.flushIfDue();
+        Assert.assertEquals("hello", inflatePartial(buffer.toByteArray()));
+
+        outputStream.close();
+        outputStream.flushIfDue();
+        Assert.assertEquals("hello", gunzip(buffer.toByteArray()));
+    }
+
+    @Test
+    public void testLargeWrites() throws IOException {
+        final byte[] data = new byte[1024 * 1024];
+        new Random(1).nextBytes(data);
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (SyncFlushGzipOutputStream outputStream = new SyncFlushGzipOutputStream(
+                buffer, Deflater.NO_COMPRESSION, data.length / 2, Long.MAX_VALUE, _clock::get)) {
+            outputStream.write(data, 0, data.length / 2);
+            outputStream.write(data, data.length / 2, data.length / 2);
+        }
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+            Assert.assertArrayEquals(data, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testMultipleMembers() throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (final String value : Arrays.asList("first\n", "second\n")) {
+            try (SyncFlushGzipOutputStream outputStream = new SyncFlushGzipOutputStream(
+                    buffer, Deflater.DEFAULT_COMPRESSION, 1024, 1000, _clock::get)) {
+                outputStream.write(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        Assert.assertEquals("first\nsecond\n", gunzip(buffer.toByteArray()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testWriteAfterClose() throws IOException {
+        final SyncFlushGzipOutputStream outputStream = new SyncFlushGzipOutputStream(
+                new ByteArrayOutputStream(), Deflater.DEFAULT_COMPRESSION, 1024, 1000, _clock::get);
+        outputStream.close();
+        outputStream.write('a');
+    }
+
+    @Test
+    public void testCloseClosesDelegateOnFailure() throws IOException {
+        final OutputStream delegate = Mockito.mock(OutputStream.class);
+        final SyncFlushGzipOutputStream outputStream = new SyncFlushGzipOutputStream(
+                delegate, Deflater.DEFAULT_COMPRESSION, 1024, 1000, _clock::get);
+        Mockito.doThrow(new IOException("Expected")).when(delegate).write(Mockito.any(byte[].class));
+        try {
+            outputStream.close();
+            Assert.fail("Expected exception");
+        } catch (final IOException e) {
+            Assert.assertEquals("Expected", e.getMessage());
+        }
+        Mockito.verify(delegate).close();
+    }
+
+    private static String inflatePartial(final byte[] bytes) throws DataFormatException {
+        // Skip the 10 byte header; the member is incomplete so the trailer is absent
+        final Inflater inflater = new Inflater(true);
+        inflater.setInput(bytes, 10, bytes.length - 10);
+        final byte[] output = new byte[1024];
+        final int length = inflater.inflate(output);
+        inflater.end();
+        return new String(output, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static String gunzip(final byte[] bytes) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private final AtomicLong _clock = new AtomicLong();
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.util.FileSize;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Tests for {@link UnixSocketAppender}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class UnixSocketAppenderTest {
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("unix-socket-appender-test");
+        _socketPath = _directory.resolve("agent.sock");
+        _context = new LoggerContext();
+
+        _encoder = new PatternLayoutEncoder();
+        _encoder.setContext(_context);
+        _encoder.setPattern("%msg%n");
+        _encoder.start();
+
+        _appender = new UnixSocketAppender<>();
+        _appender.setContext(_context);
+        _appender.setName("unix-socket");
+        _appender.setEncoder(_encoder);
+        _appender.setSocketPath(_socketPath.toString());
+        _appender.setMinReconnectDelayInMillis(10);
+        _appender.setMaxReconnectDelayInMillis(20);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        _appender.stop();
+        if (_agent != null) {
+            _agent.close();
+        }
+        _context.stop();
+    }
+
+    @Test
+    public void testSend() throws Exception {
+        _agent = new FakeLogAgent(_socketPath);
+        _appender.start();
+        Assert.assertTrue(_appender.isStarted());
+
+        _appender.doAppend(TestLoggingEvents.createEvent("hello"));
+        _appender.doAppend(TestLoggingEvents.createEvent("world"));
+        Assert.assertEquals("hello\n", _agent.take(TIMEOUT_IN_MILLIS));
+        Assert.assertEquals("world\n", _agent.take(TIMEOUT_IN_MILLIS));
+        Assert.assertTrue(_appender.isConnected());
+
+        _appender.stop();
+        Assert.assertFalse(_appender.isConnected());
+        Assert.assertEquals(2, _appender.getSentFrames());
+        Assert.assertEquals(0, _appender.getDroppedFrames());
+    }
+
+    @Test
+    public void testReconnect() throws Exception {
+        _appender.start();
+        _appender.doAppend(TestLoggingEvents.createEvent("held while down"));
+
+        // The event is held in the buffer until the agent is available
+        _agent = new FakeLogAgent(_socketPath);
+        Assert.assertEquals("held while down\n", _agent.take(TIMEOUT_IN_MILLIS));
+
+        // Restart the agent; frames lost with the connection are resent
+        _agent.close();
+        _agent = new FakeLogAgent(_socketPath);
+        String frame = null;
+        for (int i = 0; frame == null && i < 100; ++i) {
+            _appender.doAppend(TestLoggingEvents.createEvent("after restart"));
+            frame = _agent.take(100);
+        }
+        Assert.assertEquals("after restart\n", frame);
+        Assert.assertEquals(1, _agent.getConnections());
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        final Path fallbackFile = _directory.resolve("fallback").resolve("application.log");
+        _appender.setFallbackFile(fallbackFile.toString());
+        _appender.start();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("first"));
+        _appender.doAppend(TestLoggingEvents.createEvent("second"));
+        _appender.stop();
+
+        Assert.assertEquals(Arrays.asList("first", "second"), Files.readAllLines(fallbackFile, StandardCharsets.UTF_8));
+        Assert.assertEquals(2, _appender.getFallbackFrames());
+        Assert.assertEquals(0, _appender.getSentFrames());
+    }
+
+    @Test
+    public void testDropWhenFull() {
+        _appender.setBufferSize(new FileSize(10));
+        _appender.start();
+
+        _appender.doAppend(TestLoggingEvents.createEvent("first"));
+        _appender.doAppend(TestLoggingEvents.createEvent("second"));
+        Assert.assertEquals(1, _appender.getDroppedFrames());
+        Assert.assertEquals(7, _appender.getDroppedBytes());
+
+        // Events held when the appender stops are dropped
+        _appender.stop();
+        Assert.assertEquals(2, _appender.getDroppedFrames());
+        Assert.assertEquals(13, _appender.getDroppedBytes());
+    }
+
+    @Test
+    public void testFallbackFileFailure() {
+        _appender.setFallbackFile(_directory.toString());
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testNoEncoder() {
+        _appender.setEncoder(null);
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testNoSocketPath() {
+        _appender.setSocketPath(null);
+        _appender.start();
+        Assert.assertFalse(_appender.isStarted());
+    }
+
+    @Test
+    public void testSettings() {
+        final UnixSocketAppender<ILoggingEvent> appender = new UnixSocketAppender<>();
+        appender.setContext(_context);
+        Assert.assertNull(appender.getEncoder());
+        Assert.assertNull(appender.getSocketPath());
+        Assert.assertNull(appender.getFallbackFile());
+        Assert.assertEquals(8 * 1024 * 1024, appender.getBufferSize().getSize());
+        Assert.assertEquals(0, appender.getMaxBlockInMillis());
+        Assert.assertEquals(100, appender.getMinReconnectDelayInMillis());
+        Assert.assertEquals(30000, appender.getMaxReconnectDelayInMillis());
+
+        appender.setEncoder(_encoder);
+        appender.setSocketPath("agent.sock");
+        appender.setFallbackFile("fallback.log");
+        appender.setBufferSize(FileSize.valueOf("1MB"));
+        appender.setMaxBlockInMillis(10);
+        appender.setMinReconnectDelayInMillis(50);
+        appender.setMaxReconnectDelayInMillis(1000);
+        Assert.assertSame(_encoder, appender.getEncoder());
+        Assert.assertEquals("agent.sock", appender.getSocketPath());
+        Assert.assertEquals("fallback.log", appender.getFallbackFile());
+        Assert.assertEquals(1024 * 1024, appender.getBufferSize().getSize());
+        Assert.assertEquals(10, appender.getMaxBlockInMillis());
+        Assert.assertEquals(50, appender.getMinReconnectDelayInMillis());
+        Assert.assertEquals(1000, appender.getMaxReconnectDelayInMillis());
+
+        appender.setBufferSize(new FileSize(0));
+        appender.setMaxBlockInMillis(-1);
+        appender.setMinReconnectDelayInMillis(0);
+        appender.setMaxReconnectDelayInMillis(0);
+        Assert.assertEquals(1024 * 1024, appender.getBufferSize().getSize());
+        Assert.assertEquals(10, appender.getMaxBlockInMillis());
+        Assert.assertEquals(50, appender.getMinReconnectDelayInMillis());
+        Assert.assertEquals(1000, appender.getMaxReconnectDelayInMillis());
+    }
+
+    private Path _directory;
+    private Path _socketPath;
+    private LoggerContext _context;
+    private PatternLayoutEncoder _encoder;
+    private FakeLogAgent _agent;
+    private UnixSocketAppender<ILoggingEvent> _appender;
+
+    private static final long TIMEOUT_IN_MILLIS = 5000;
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.StenoMarker;
+import com.arpnetworking.logback.annotations.LogRedact;
+import com.arpnetworking.logback.annotations.Loggable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+/**
+ * Performance test comparing the encoding of {@link Loggable} beans with
+ * generated accessors against reflective access.
+ *
+ * Execute this using the command:
+ * <pre>
+ *     mvn -DskipCoverage=true -Dtest=AcceleratedBeanPropertyWriterBenchmark test
+ * </pre>
+ *
+ * The test is not named with the conventional "Test" suffix to avoid running it
+ * during normal test execution.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class AcceleratedBeanPropertyWriterBenchmark {
+
+    /**
+     * Setup the performance benchmark.
+     */
+    @Before
+    public void setUp() {
+        _context = new LoggerContext();
+        _acceleratedEncoder = createEncoder(true);
+        _reflectiveEncoder = createEncoder(false);
+    }
+
+    /**
+     * Cleanup after the performance benchmark.
+     */
+    @After
+    public void tearDown() {
+        _acceleratedEncoder.stop();
+        _reflectiveEncoder.stop();
+        _context.stop();
+    }
+
+    /**
+     * Execute the performance benchmark.
+     */
+    @Test
+    public void test() {
+        final LoggingEvent event = createEvent(new Widget());
+        for (int i = 0; i < ROUNDS; ++i) {
+            final double reflective = run(_reflectiveEncoder, event);
+            final double accelerated = run(_acceleratedEncoder, event);
+            System.err.printf(
+                    "round=%d reflective=%.1f ns/event accelerated=%.1f ns/event speedup=%.2f%n",
+                    i,
+                    reflective,
+                    accelerated,
+                    reflective / accelerated);
+        }
+    }
+
+    private double run(final StenoEncoder encoder, final LoggingEvent event) {
+        long bytes = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; ++i) {
+            bytes += encoder.encode(event).length;
+        }
+        final long end = System.nanoTime();
+        if (bytes == 0) {
+            throw new IllegalStateException("Nothing encoded");
+        }
+        return (end - start) / (double) ITERATIONS;
+    }
+
+    private StenoEncoder createEncoder(final boolean acceleratedAccessors) {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setContext(_context);
+        encoder.setAcceleratedAccessors(acceleratedAccessors);
+        encoder.start();
+        return encoder;
+    }
+
+    private LoggingEvent createEvent(final Object value) {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.addMarker(StenoMarker.ARRAY_MARKER);
+        event.setMessage("widgetEvent");
+        event.setLoggerName("com.arpnetworking.logback.jackson.AcceleratedBeanPropertyWriterBenchmark");
+        event.setThreadName("main");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setMDCPropertyMap(Collections.emptyMap());
+        event.setTimeStamp(System.currentTimeMillis());
+        event.setArgumentArray(new Object[]{new String[]{"widget"}, new Object[]{value}});
+        return event;
+    }
+
+    private LoggerContext _context;
+    private StenoEncoder _acceleratedEncoder;
+    private StenoEncoder _reflectiveEncoder;
+
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 1000000;
+
+    @Loggable
+    private static final class Widget {
+
+        public String getName() {
+            return "widget";
+        }
+
+        public long getId() {
+            return 1234L;
+        }
+
+        public double getWeight() {
+            return 1.5d;
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+
+        public String getColor() {
+            return "blue";
+        }
+
+        public int getCount() {
+            return 42;
+        }
+
+        @LogRedact
+        public String getOwner() {
+            return "owner";
+        }
+
+        public String getDescription() {
+            return "A widget for the benchmark";
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.annotations.LogRedact;
+import com.arpnetworking.logback.annotations.Loggable;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Tests for {@link AcceleratedBeanPropertyWriter}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class AcceleratedBeanPropertyWriterTest {
+
+    @Test
+    public void testWriters() throws JsonProcessingException {
+        final ObjectMapper objectMapper = createObjectMapper(true);
+        final List<PropertyWriter> writers = getWriters(objectMapper, Widget.class);
+        Assert.assertTrue(writers.get(0) instanceof AcceleratedBeanPropertyWriter);
+        Assert.assertTrue(writers.get(1) instanceof RedactingBeanPropertyWriter);
+        Assert.assertFalse(writers.get(2) instanceof AcceleratedBeanPropertyWriter);
+
+        Assert.assertFalse(getWriters(createObjectMapper(false), Widget.class).get(0) instanceof AcceleratedBeanPropertyWriter);
+        Assert.assertFalse(getWriters(objectMapper, NotLoggable.class).get(0) instanceof AcceleratedBeanPropertyWriter);
+        Assert.assertEquals(
+                "{\"name\":\"widget\",\"secret\":\"<REDACTED>\",\"field\":\"field\"}",
+                objectMapper.writeValueAsString(new Widget()));
+    }
+
+    @Test
+    public void testAccelerate() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper(false);
+        final List<PropertyWriter> writers = getWriters(objectMapper, Widget.class);
+        final BeanPropertyWriter getter = (BeanPropertyWriter) writers.get(0);
+        final BeanPropertyWriter field = (BeanPropertyWriter) writers.get(2);
+        final BeanPropertyWriter accelerated = AcceleratedBeanPropertyWriter.accelerate(getter);
+        Assert.assertTrue(accelerated instanceof AcceleratedBeanPropertyWriter);
+        Assert.assertSame(accelerated, AcceleratedBeanPropertyWriter.accelerate(accelerated));
+        Assert.assertSame(field, AcceleratedBeanPropertyWriter.accelerate(field));
+        Assert.assertEquals("widget", accelerated.get(new Widget()));
+
+        // The package is not open to the accelerator
+        final BeanPropertyWriter inaccessible = (BeanPropertyWriter) getWriters(new ObjectMapper(), MemoryUsage.class).get(0);
+        Assert.assertSame(inaccessible, AcceleratedBeanPropertyWriter.accelerate(inaccessible));
+    }
+
+    @Test
+    public void testEquivalent() throws JsonProcessingException {
+        final ObjectMapper accelerated = createObjectMapper(true);
+        final ObjectMapper reflective = createObjectMapper(false);
+        Assert.assertTrue(getWriters(accelerated, Values.class).get(0) instanceof AcceleratedBeanPropertyWriter);
+        Assert.assertTrue(getWriters(accelerated, ArrayValues.class).get(0) instanceof AcceleratedBeanPropertyWriter);
+
+        final String expected = reflective.writeValueAsString(new Values());
+        Assert.assertEquals(
+                "{\"string\":\"value\",\"number\":1,\"null\":null,\"dynamic\":[\"a\"],\"notEmpty\":[\"a\"],"
+                        + "\"custom\":\"other\",\"self\":\"values\",\"typed\":\"typed\"}",
+                expected);
+        Assert.assertEquals(expected, accelerated.writeValueAsString(new Values()));
+        // Repeated to use the resolved dynamic serializer
+        Assert.assertEquals(expected, accelerated.writeValueAsString(new Values()));
+
+        final String expectedArray = reflective.writeValueAsString(new ArrayValues());
+        Assert.assertEquals(expectedArray, accelerated.writeValueAsString(new ArrayValues()));
+        Assert.assertEquals(expectedArray, accelerated.writeValueAsString(new ArrayValues()));
+    }
+
+    @Test
+    public void testSelfReference() throws JsonProcessingException {
+        final ObjectMapper objectMapper = createObjectMapper(true);
+        objectMapper.disable(SerializationFeature.FAIL_ON_SELF_REFERENCES);
+        objectMapper.enable(SerializationFeature.WRITE_SELF_REFERENCES_AS_NULL);
+        Assert.assertTrue(getWriters(objectMapper, Self.class).get(0) instanceof AcceleratedBeanPropertyWriter);
+        Assert.assertEquals("{\"self\":null}", objectMapper.writeValueAsString(new Self()));
+        Assert.assertEquals("[null]", objectMapper.writeValueAsString(new ArraySelf()));
+    }
+
+    @Test
+    public void testUnwrapped() throws JsonProcessingException {
+        final String expected = "{\"prefix.name\":\"widget\",\"prefix.secret\":\"<REDACTED>\",\"prefix.field\":\"field\"}";
+        Assert.assertEquals(expected, createObjectMapper(false).writeValueAsString(new Container()));
+        Assert.assertEquals(expected, createObjectMapper(true).writeValueAsString(new Container()));
+    }
+
+    private static ObjectMapper createObjectMapper(final boolean acceleratedAccessors) {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setAcceleratedAccessors(acceleratedAccessors);
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(objectMapper));
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new StenoBeanSerializerModifier(encoder));
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    private static List<PropertyWriter> getWriters(final ObjectMapper objectMapper, final Class<?> beanClass)
+            throws JsonProcessingException {
+        final JsonSerializer<Object> serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(beanClass);
+        final List<PropertyWriter> writers = new ArrayList<>();
+        final Iterator<PropertyWriter> iterator = serializer.properties();
+        iterator.forEachRemaining(writers::add);
+        return writers;
+    }
+
+    @Loggable
+    @JsonPropertyOrder({"name", "secret", "field"})
+    private static final class Widget {
+
+        public String getName() {
+            return "widget";
+        }
+
+        @LogRedact
+        public String getSecret() {
+            return "secret";
+        }
+
+        @JsonProperty("field")
+        private final String _field = "field";
+    }
+
+    @JsonPropertyOrder({"name"})
+    private static final class NotLoggable {
+
+        public String getName() {
+            return "name";
+        }
+    }
+
+    @Loggable
+    @JsonPropertyOrder({"string", "number", "null", "dynamic", "nonNull", "nonEmpty", "notEmpty", "nonEmptyNull",
+            "customNull", "default", "custom", "self", "typed"})
+    private static final class Values {
+
+        public String getString() {
+            return "value";
+        }
+
+        public int getNumber() {
+            return 1;
+        }
+
+        public String getNull() {
+            return null;
+        }
+
+        public Object getDynamic() {
+            return Collections.singletonList("a");
+        }
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public String getNonNull() {
+            return null;
+        }
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public List<String> getNonEmpty() {
+            return Collections.emptyList();
+        }
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public List<String> getNotEmpty() {
+            return Collections.singletonList("a");
+        }
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public String getNonEmptyNull() {
+            return null;
+        }
+
+        @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = NullFilter.class)
+        public String getCustomNull() {
+            return null;
+        }
+
+        @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = DefaultFilter.class)
+        public String getDefault() {
+            return "default";
+        }
+
+        @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = DefaultFilter.class)
+        public String getCustom() {
+            return "other";
+        }
+
+        @JsonSerialize(using = ToStringSerializer.class)
+        public Values getSelf() {
+            return this;
+        }
+
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+        public Object getTyped() {
+            return "typed";
+        }
+
+        @Override
+        public String toString() {
+            return "values";
+        }
+    }
+
+    @Loggable
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"string", "null", "nonNull", "dynamic", "nonEmpty", "default", "self"})
+    private static final class ArrayValues {
+
+        public String getString() {
+            return "value";
+        }
+
+        public String getNull() {
+            return null;
+        }
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public String getNonNull() {
+            return null;
+        }
+
+        public Object getDynamic() {
+            return Collections.singletonList("a");
+        }
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        public List<String> getNonEmpty() {
+            return Collections.emptyList();
+        }
+
+        @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = DefaultFilter.class)
+        public String getDefault() {
+            return "default";
+        }
+
+        @JsonSerialize(using = ToStringSerializer.class)
+        public ArrayValues getSelf() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "values";
+        }
+    }
+
+    @Loggable
+    private static class Self {
+
+        public Self getSelf() {
+            return this;
+        }
+    }
+
+    @Loggable
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    private static final class ArraySelf extends Self {
+    }
+
+    @Loggable
+    private static final class Container {
+
+        @JsonUnwrapped(prefix = "prefix.")
+        public Widget getWidget() {
+            return new Widget();
+        }
+    }
+
+    private static final class NullFilter {
+
+        @Override
+        public boolean equals(final Object other) {
+            return other == null;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    private static final class DefaultFilter {
+
+        @Override
+        public boolean equals(final Object other) {
+            return "default".equals(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.annotations.Loggable;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BeanIdentifierSerializer}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class BeanIdentifierSerializerTest {
+
+    @Test
+    public void testSerialize() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        final Bean bean = new Bean();
+        Assert.assertEquals(
+                "{\"_id\":\"" + Integer.toHexString(System.identityHashCode(bean)) + "\",\"_class\":\"" + Bean.class.getName() + "\"}",
+                objectMapper.writeValueAsString(bean));
+    }
+
+    @Test
+    public void testSerializeWithType() throws Exception {
+        final Bean bean = new Bean();
+        Assert.assertEquals(
+                "{\"value\":{\"@class\":\"" + Bean.class.getName() + "\",\"_id\":\""
+                        + Integer.toHexString(System.identityHashCode(bean)) + "\",\"_class\":\"" + Bean.class.getName() + "\"}}",
+                createObjectMapper().writeValueAsString(new Holder(bean)));
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(objectMapper));
+        objectMapper.setSerializerFactory(new StenoSerializerFactory(null, new StenoEncoder()));
+        return objectMapper;
+    }
+
+    /**
+     * Bean which is not loggable.
+     */
+    private static final class Bean {
+
+        public String getSecret() {
+            return "secret";
+        }
+    }
+
+    /**
+     * Loggable bean with a value written with type information.
+     */
+    @Loggable
+    private static final class Holder {
+
+        private Holder(final Object value) {
+            _value = value;
+        }
+
+        @JsonProperty("value")
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+        private final Object _value;
+    }
+}
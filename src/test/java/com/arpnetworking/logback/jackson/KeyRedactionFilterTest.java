@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.annotations.Loggable;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tests for {@link KeyRedactionFilter}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class KeyRedactionFilterTest {
+
+    @Before
+    public void setUp() {
+        _encoder = new StenoEncoder();
+        _encoder.addRedactKey("password");
+        _encoder.addRedactKey("*_token");
+        _objectMapper = new ObjectMapper();
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new StenoBeanSerializerModifier(_encoder));
+        _objectMapper.registerModule(module);
+        _objectMapper.setFilterProvider(
+                new SimpleFilterProvider()
+                        .addFilter(RedactionFilter.REDACTION_FILTER_ID, new KeyRedactionFilter(_encoder))
+                        .addFilter(CUSTOM_FILTER_ID, SimpleBeanPropertyFilter.serializeAllExcept("user")));
+    }
+
+    @Test
+    public void testNestedMaps() throws JsonProcessingException {
+        final Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("access_token", "abc");
+        inner.put("user", "bob");
+        inner.put("refresh_token", null);
+        final Map<String, Object> outer = new LinkedHashMap<>();
+        outer.put("Password", "secret");
+        outer.put("inner", inner);
+        Assert.assertEquals(
+                "{\"Password\":\"<REDACTED>\",\"inner\":"
+                        + "{\"access_token\":\"<REDACTED>\",\"user\":\"bob\",\"refresh_token\":\"<REDACTED>\"}}",
+                _objectMapper.writeValueAsString(outer));
+
+        _encoder.setRedactNull(false);
+        Assert.assertEquals(
+                "{\"Password\":\"<REDACTED>\",\"inner\":{\"access_token\":\"<REDACTED>\",\"user\":\"bob\",\"refresh_token\":null}}",
+                _objectMapper.writeValueAsString(outer));
+
+        _encoder.setRedactEnabled(false);
+        Assert.assertEquals(
+                "{\"Password\":\"secret\",\"inner\":{\"access_token\":\"abc\",\"user\":\"bob\",\"refresh_token\":null}}",
+                _objectMapper.writeValueAsString(outer));
+    }
+
+    @Test
+    public void testBeanProperties() throws JsonProcessingException {
+        Assert.assertEquals(
+                "{\"password\":\"visible\",\"values\":{\"password\":\"<REDACTED>\"}}",
+                _objectMapper.writeValueAsString(new Filtered()));
+    }
+
+    @Test
+    public void testNoRedactKeys() throws JsonProcessingException {
+        // Maps are not filtered without key patterns, so no filter needs to be registered
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new StenoBeanSerializerModifier(new StenoEncoder()));
+        objectMapper.registerModule(module);
+        Assert.assertEquals("{\"password\":\"secret\"}", objectMapper.writeValueAsString(Collections.singletonMap("password", "secret")));
+    }
+
+    @Test
+    public void testMapWithFilter() throws JsonProcessingException {
+        final CustomMap map = new CustomMap();
+        map.put("password", "secret");
+        map.put("user", "bob");
+        Assert.assertEquals("{\"password\":\"secret\"}", _objectMapper.writeValueAsString(map));
+    }
+
+    private StenoEncoder _encoder;
+    private ObjectMapper _objectMapper;
+
+    private static final String CUSTOM_FILTER_ID = "custom";
+
+    @JsonFilter(CUSTOM_FILTER_ID)
+    private static final class CustomMap extends LinkedHashMap<String, Object> {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    @Loggable
+    @JsonFilter(RedactionFilter.REDACTION_FILTER_ID)
+    @JsonPropertyOrder({"password", "values"})
+    private static final class Filtered {
+
+        public String getPassword() {
+            return "visible";
+        }
+
+        public Map<String, String> getValues() {
+            return Collections.singletonMap("password", "value");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.annotations.Loggable;
+import com.arpnetworking.steno.LogReferenceOnly;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LogReferenceOnlySerializer}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class LogReferenceOnlySerializerTest {
+
+    @Before
+    public void setUp() {
+        _encoder = new StenoEncoder();
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        final JsonSerializer<?> serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(LogReferenceOnly.class);
+        Assert.assertTrue(serializer instanceof LogReferenceOnlySerializer);
+        Assert.assertEquals("{}", objectMapper.writeValueAsString(LogReferenceOnly.of(new Object())));
+    }
+
+    @Test
+    public void testInjectBeanIdentifier() throws Exception {
+        _encoder.setInjectBeanIdentifier(true);
+        final ObjectMapper objectMapper = createObjectMapper();
+        final Object target = new Object();
+        Assert.assertEquals(
+                "{\"_id\":\"" + Integer.toHexString(System.identityHashCode(target)) + "\",\"_class\":\"java.lang.Object\"}",
+                objectMapper.writeValueAsString(LogReferenceOnly.of(target)));
+        Assert.assertEquals(
+                "{\"_id\":null,\"_class\":null}",
+                objectMapper.writeValueAsString(LogReferenceOnly.of(null)));
+    }
+
+    @Test
+    public void testSerializeWithType() throws Exception {
+        final Holder holder = new Holder(LogReferenceOnly.of(new Object()));
+        final ObjectMapper reflective = new ObjectMapper();
+        reflective.setAnnotationIntrospector(new StenoAnnotationIntrospector(reflective));
+        Assert.assertEquals(reflective.writeValueAsString(holder), createObjectMapper().writeValueAsString(holder));
+    }
+
+    private ObjectMapper createObjectMapper() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(objectMapper));
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new StenoBeanSerializerModifier(_encoder));
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    private StenoEncoder _encoder;
+
+    /**
+     * Loggable bean with a reference written with type information.
+     */
+    @Loggable
+    private static final class Holder {
+
+        private Holder(final Object value) {
+            _value = value;
+        }
+
+        @JsonProperty("value")
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+        private final Object _value;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LogValueCache}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class LogValueCacheTest {
+
+    @Test
+    public void testGetAndPut() {
+        final LogValueCache cache = new LogValueCache(10);
+        Assert.assertTrue(cache.isEnabled());
+        Assert.assertEquals(10, cache.getMaxSize());
+        final Object first = new Object();
+        Assert.assertNull(cache.get(first));
+        cache.put(first, new SerializedString("\"a\""));
+        Assert.assertEquals("\"a\"", cache.get(first).getValue());
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertEquals(3, cache.getSize());
+
+        // Instances are compared by identity
+        Assert.assertNull(cache.get("key"));
+        cache.put("key", new SerializedString("1"));
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        Assert.assertNull(cache.get(new String("key")));
+        // CHECKSTYLE.ON: IllegalInstantiation
+        Assert.assertEquals(4, cache.getSize());
+
+        // Replacing a representation
+        cache.put(first, new SerializedString("\"bc\""));
+        Assert.assertEquals("\"bc\"", cache.get(first).getValue());
+        Assert.assertEquals(5, cache.getSize());
+
+        cache.clear();
+        Assert.assertNull(cache.get(first));
+        Assert.assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testEviction() {
+        final LogValueCache cache = new LogValueCache(6, 1);
+        final Object first = new Object();
+        final Object second = new Object();
+        final Object third = new Object();
+        cache.put(first, new SerializedString("111"));
+        cache.put(second, new SerializedString("222"));
+        Assert.assertNotNull(cache.get(first));
+
+        // The least recently used representation is evicted
+        cache.put(third, new SerializedString("333"));
+        Assert.assertNotNull(cache.get(first));
+        Assert.assertNull(cache.get(second));
+        Assert.assertNotNull(cache.get(third));
+        Assert.assertEquals(1, cache.getEvictions());
+
+        // Representations larger than the cache are not cached
+        cache.put(second, new SerializedString("2222222"));
+        Assert.assertNull(cache.get(second));
+        Assert.assertEquals(6, cache.getSize());
+
+        cache.setMaxSize(3);
+        Assert.assertNull(cache.get(first));
+        Assert.assertNotNull(cache.get(third));
+        Assert.assertEquals(2, cache.getEvictions());
+
+        cache.setMaxSize(0);
+        Assert.assertFalse(cache.isEnabled());
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertEquals(3, cache.getEvictions());
+    }
+
+    @Test
+    public void testSegments() throws InterruptedException {
+        final LogValueCache cache = new LogValueCache(30);
+        final Object[] values = new Object[100];
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; ++i) {
+            final int offset = i;
+            threads[i] = new Thread(() -> {
+                for (int j = offset; j < values.length; j += threads.length) {
+                    values[j] = new Object();
+                    cache.put(values[j], new SerializedString("123"));
+                    cache.get(values[j]);
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // The total size is bounded across the segments
+        final long size = cache.getSize();
+        Assert.assertTrue(size <= 30);
+        Assert.assertEquals(100 - size / 3, cache.getEvictions());
+        Assert.assertEquals(100, cache.getHits() + cache.getMisses());
+        int cached = 0;
+        for (final Object value : values) {
+            if (cache.get(value) != null) {
+                ++cached;
+            }
+        }
+        Assert.assertEquals(size / 3, cached);
+
+        cache.clear();
+        Assert.assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testWeakReferences() throws InterruptedException {
+        final LogValueCache cache = new LogValueCache(100);
+        putTemporary(cache);
+        Assert.assertEquals(6, cache.getSize());
+
+        // Entries are removed once their instances are collected
+        for (int i = 0; i < 100 && cache.getSize() > 0; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(0, cache.getSize());
+    }
+
+    private static void putTemporary(final LogValueCache cache) {
+        final Object value = new Object();
+        cache.put(value, new SerializedString("\"a\""));
+        cache.put(value, new SerializedString("\"b\""));
+        cache.put(new Object(), new SerializedString("\"c\""));
+    }
+}
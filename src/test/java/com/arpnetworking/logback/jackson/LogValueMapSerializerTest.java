@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.annotations.Loggable;
+import com.arpnetworking.steno.LogValueMapFactory;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LogValueMapSerializer}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class LogValueMapSerializerTest {
+
+    @Before
+    public void setUp() {
+        _encoder = new StenoEncoder();
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        final JsonSerializer<?> serializer = objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(LogValueMapFactory.LogValueMap.class);
+        Assert.assertTrue(serializer instanceof LogValueMapSerializer);
+        Assert.assertEquals("{}", objectMapper.writeValueAsString(LogValueMapFactory.builder().build()));
+        Assert.assertEquals(
+                "{\"a\":1,\"b\":\"2\",\"c\":[3]}",
+                objectMapper.writeValueAsString(createLogValueMap(new Object())));
+    }
+
+    @Test
+    public void testInjectBeanIdentifier() throws Exception {
+        _encoder.setInjectBeanIdentifier(true);
+        final ObjectMapper objectMapper = createObjectMapper();
+        final Object target = new Object();
+        Assert.assertEquals(
+                "{\"_id\":\"" + Integer.toHexString(System.identityHashCode(target)) + "\",\"_class\":\"java.lang.Object\","
+                        + "\"a\":1,\"b\":\"2\",\"c\":[3]}",
+                objectMapper.writeValueAsString(createLogValueMap(target)));
+        Assert.assertEquals(
+                "{\"_id\":null,\"_class\":null,\"a\":1}",
+                objectMapper.writeValueAsString(LogValueMapFactory.builder().put("a", 1).build()));
+    }
+
+    @Test
+    public void testRedactKeys() throws Exception {
+        _encoder.addRedactKey("b");
+        final ObjectMapper objectMapper = createObjectMapper();
+        Assert.assertEquals(
+                "{\"a\":1,\"b\":\"<REDACTED>\",\"c\":[3]}",
+                objectMapper.writeValueAsString(createLogValueMap(new Object())));
+    }
+
+    @Test
+    public void testMaxCollectionSize() throws Exception {
+        _encoder.setMaxCollectionSize(3);
+        final ObjectMapper objectMapper = createObjectMapper();
+        Assert.assertEquals(
+                "{\"a\":1,\"b\":\"2\",\"c\":[3]}",
+                objectMapper.writeValueAsString(createLogValueMap(new Object())));
+
+        _encoder.setMaxCollectionSize(2);
+        Assert.assertEquals(
+                "{\"a\":1,\"b\":\"2\",\"_truncated\":true,\"_size\":3}",
+                objectMapper.writeValueAsString(createLogValueMap(new Object())));
+    }
+
+    @Test
+    public void testSerializeWithType() throws Exception {
+        final Holder holder = new Holder(createLogValueMap(new Object()));
+        final String expected = "{\"value\":{\"@class\":\"" + LogValueMapFactory.LogValueMap.class.getName() + "\","
+                + "\"a\":1,\"b\":\"2\",\"c\":[3]}}";
+        final ObjectMapper reflective = new ObjectMapper();
+        reflective.setAnnotationIntrospector(new StenoAnnotationIntrospector(reflective));
+        Assert.assertEquals(expected, reflective.writeValueAsString(holder));
+        Assert.assertEquals(expected, createObjectMapper().writeValueAsString(holder));
+    }
+
+    private ObjectMapper createObjectMapper() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(objectMapper));
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new StenoBeanSerializerModifier(_encoder));
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    private static LogValueMapFactory.LogValueMap createLogValueMap(final Object target) {
+        return LogValueMapFactory.builder(target)
+                .put("a", 1)
+                .put("b", "2")
+                .put("c", new int[]{3})
+                .build();
+    }
+
+    private StenoEncoder _encoder;
+
+    /**
+     * Loggable bean with a log value map written with type information.
+     */
+    @Loggable
+    private static final class Holder {
+
+        private Holder(final Object value) {
+            _value = value;
+        }
+
+        @JsonProperty("value")
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+        private final Object _value;
+    }
+}
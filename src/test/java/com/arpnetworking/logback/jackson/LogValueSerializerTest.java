@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import ch.qos.logback.core.util.FileSize;
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.annotations.LogValue;
+import com.arpnetworking.logback.annotations.Loggable;
+import com.arpnetworking.steno.LogValueMapFactory;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.JsonValueSerializer;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.StringWriter;
+import java.lang.management.MemoryUsage;
+import java.util.Collections;
+
+/**
+ * Tests for {@link LogValueSerializer}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class LogValueSerializerTest {
+
+    @Test
+    public void testSerialize() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper(true);
+        Assert.assertTrue(
+                objectMapper.getSerializerProviderInstance().findValueSerializer(Widget.class) instanceof LogValueSerializer);
+        Assert.assertEquals("{\"name\":\"widget\"}", objectMapper.writeValueAsString(new Widget("widget")));
+        Assert.assertEquals("\"value\"", objectMapper.writeValueAsString(new StringValue("value")));
+        Assert.assertEquals("null", objectMapper.writeValueAsString(new StringValue(null)));
+        Assert.assertEquals(
+                "{\"widget\":{\"name\":\"widget\"}}",
+                objectMapper.writeValueAsString(new Holder(new Widget("widget"))));
+    }
+
+    @Test
+    public void testEquivalent() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper(true);
+        final ObjectMapper reflective = createObjectMapper(false);
+        final Holder holder = new Holder(new Widget("widget"));
+        Assert.assertEquals(reflective.writeValueAsString(holder), objectMapper.writeValueAsString(holder));
+
+        final TypedHolder typedHolder = new TypedHolder(new Widget("widget"));
+        final String expected = reflective.writeValueAsString(typedHolder);
+        Assert.assertEquals(
+                "{\"widget\":{\"@class\":\"" + Widget.class.getName() + "\",\"name\":\"widget\"}}",
+                expected);
+        Assert.assertEquals(expected, objectMapper.writeValueAsString(typedHolder));
+    }
+
+    @Test
+    public void testException() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper(true);
+        try {
+            objectMapper.writeValueAsString(new Failing());
+            Assert.fail("Expected exception not thrown");
+        } catch (final JsonMappingException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            Assert.assertTrue(e.getMessage().contains("toLogValue()"));
+        }
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        final StenoEncoder encoder = new StenoEncoder();
+        final ObjectMapper objectMapper = createObjectMapper(encoder);
+        final CacheableWidget widget = new CacheableWidget("widget");
+        final String expected = "{\"name\":\"widget\",\"secret\":\"secret\"}";
+        Assert.assertEquals(expected, objectMapper.writeValueAsString(widget));
+        Assert.assertEquals("[" + expected + "]", objectMapper.writeValueAsString(Collections.singletonList(widget)));
+        Assert.assertEquals(1, widget._invocations);
+        Assert.assertEquals(1, encoder.getLogValueCache().getHits());
+        Assert.assertEquals(1, encoder.getLogValueCache().getMisses());
+        Assert.assertEquals(expected.length(), encoder.getLogValueCache().getSize());
+
+        // Encoders do not share representations
+        final StenoEncoder redactingEncoder = new StenoEncoder();
+        redactingEncoder.addRedactKey("secret");
+        Assert.assertEquals(
+                "{\"name\":\"widget\",\"secret\":\"<REDACTED>\"}",
+                createObjectMapper(redactingEncoder).writeValueAsString(widget));
+        Assert.assertEquals(2, widget._invocations);
+
+        // Values which are not cacheable
+        Assert.assertEquals("{\"name\":\"widget\"}", objectMapper.writeValueAsString(new Widget("widget")));
+        Assert.assertEquals(1, encoder.getLogValueCache().getMisses());
+
+        // Generators without a mapper do not cache
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(writer)) {
+            objectMapper.writeValue(generator, new CacheableWidget("widget"));
+        }
+        Assert.assertEquals(expected, writer.toString());
+        Assert.assertEquals(1, encoder.getLogValueCache().getMisses());
+
+        // Changing the redaction settings clears the cache
+        encoder.setRedactNull(false);
+        Assert.assertEquals(0, encoder.getLogValueCache().getSize());
+        Assert.assertEquals(expected, objectMapper.writeValueAsString(widget));
+        Assert.assertEquals(3, widget._invocations);
+        encoder.setRedactEnabled(false);
+        Assert.assertEquals(0, encoder.getLogValueCache().getSize());
+        Assert.assertEquals(expected, objectMapper.writeValueAsString(widget));
+        encoder.addRedactKey("secret");
+        Assert.assertEquals(0, encoder.getLogValueCache().getSize());
+        Assert.assertEquals(4, widget._invocations);
+
+        // Disabled cache
+        encoder.setLogValueCacheSize(new FileSize(0));
+        Assert.assertEquals(expected, objectMapper.writeValueAsString(widget));
+        Assert.assertEquals(5, widget._invocations);
+        Assert.assertEquals(1, encoder.getLogValueCache().getHits());
+    }
+
+    @Test
+    public void testCacheWithDepthLimits() throws Exception {
+        // Representations depend on the depth at which they are written
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setMaxDepth(2);
+        final CacheableWidget widget = new CacheableWidget("widget");
+        createObjectMapper(encoder).writeValueAsString(widget);
+        Assert.assertEquals(0, encoder.getLogValueCache().getMisses());
+
+        final StenoEncoder cycleEncoder = new StenoEncoder();
+        cycleEncoder.setDetectCycles(true);
+        createObjectMapper(cycleEncoder).writeValueAsString(widget);
+        Assert.assertEquals(0, cycleEncoder.getLogValueCache().getMisses());
+        Assert.assertEquals(2, widget._invocations);
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        final JsonValueSerializer delegate = Mockito.mock(JsonValueSerializer.class);
+        Assert.assertTrue(
+                LogValueSerializer.create(delegate, Widget.class.getMethod("toLogValue"), null) instanceof LogValueSerializer);
+
+        // The package is not open to the serializer
+        Assert.assertSame(delegate, LogValueSerializer.create(delegate, MemoryUsage.class.getMethod("getInit"), null));
+    }
+
+    private static ObjectMapper createObjectMapper(final StenoEncoder encoder) {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(objectMapper));
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new StenoBeanSerializerModifier(encoder));
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    private static ObjectMapper createObjectMapper(final boolean modified) {
+        if (modified) {
+            return createObjectMapper(new StenoEncoder());
+        }
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(objectMapper));
+        return objectMapper;
+    }
+
+    /**
+     * Type represented by a log value map.
+     */
+    private static final class Widget {
+
+        private Widget(final String name) {
+            _name = name;
+        }
+
+        @LogValue
+        public LogValueMapFactory.LogValueMap toLogValue() {
+            return LogValueMapFactory.builder(this)
+                    .put("name", _name)
+                    .build();
+        }
+
+        private final String _name;
+    }
+
+    /**
+     * Immutable type represented by a cacheable log value map.
+     */
+    private static final class CacheableWidget {
+
+        private CacheableWidget(final String name) {
+            _name = name;
+        }
+
+        @LogValue(cacheable = true)
+        public LogValueMapFactory.LogValueMap toLogValue() {
+            ++_invocations;
+            return LogValueMapFactory.builder(this)
+                    .put("name", _name)
+                    .put("secret", "secret")
+                    .build();
+        }
+
+        private final String _name;
+        private int _invocations;
+    }
+
+    /**
+     * Type represented by a string.
+     */
+    private static final class StringValue {
+
+        private StringValue(final String value) {
+            _value = value;
+        }
+
+        @LogValue
+        public String toLogValue() {
+            return _value;
+        }
+
+        private final String _value;
+    }
+
+    /**
+     * Type which fails to provide a representation.
+     */
+    private static final class Failing {
+
+        @LogValue
+        public String toLogValue() {
+            throw new IllegalStateException("Failure");
+        }
+    }
+
+    /**
+     * Loggable bean with a log value property.
+     */
+    @Loggable
+    private static final class Holder {
+
+        private Holder(final Widget widget) {
+            _widget = widget;
+        }
+
+        @JsonProperty("widget")
+        private final Widget _widget;
+    }
+
+    /**
+     * Loggable bean with a log value property written with type information.
+     */
+    @Loggable
+    private static final class TypedHolder {
+
+        private TypedHolder(final Object widget) {
+            _widget = widget;
+        }
+
+        @JsonProperty("widget")
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+        private final Object _widget;
+    }
+}
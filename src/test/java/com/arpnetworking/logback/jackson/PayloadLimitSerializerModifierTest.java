@@ -0,0 +1,382 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.annotations.LogValue;
+import com.arpnetworking.steno.LogReferenceOnly;
+import com.arpnetworking.steno.LogValueMapFactory;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for {@link PayloadLimitSerializerModifier}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class PayloadLimitSerializerModifierTest {
+
+    @Before
+    public void setUp() {
+        _encoder = new StenoEncoder();
+    }
+
+    @Test
+    public void testNoLimits() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        Assert.assertEquals(
+                "[[\"abc\",[1,2,3]],{\"a\":true},{\"next\":null},[1]]",
+                objectMapper.writeValueAsString(Arrays.asList(
+                        Arrays.asList("abc", new int[]{1, 2, 3}),
+                        Collections.singletonMap("a", true),
+                        new Node(null),
+                        new Value(1))));
+
+        final SerializationConfig config = objectMapper.getSerializationConfig();
+        final PayloadLimitSerializerModifier modifier = new PayloadLimitSerializerModifier(_encoder);
+        final JsonSerializer<?> serializer = Mockito.mock(JsonSerializer.class);
+        final BeanDescription stringDescription = config.introspect(TypeFactory.defaultInstance().constructType(String.class));
+        Assert.assertSame(serializer, modifier.modifySerializer(config, stringDescription, serializer));
+        Assert.assertSame(
+                serializer,
+                modifier.modifyArraySerializer(config, TypeFactory.defaultInstance().constructArrayType(int.class), null, serializer));
+        Assert.assertSame(serializer, modifier.modifyCollectionSerializer(config, null, null, serializer));
+        Assert.assertSame(serializer, modifier.modifyMapSerializer(config, null, null, serializer));
+    }
+
+    @Test
+    public void testMaxStringLength() throws Exception {
+        _encoder.setMaxStringLength(3);
+        final ObjectMapper objectMapper = createObjectMapper();
+        Assert.assertEquals("\"abc\"", objectMapper.writeValueAsString("abc"));
+        Assert.assertEquals(
+                "{\"_truncated\":true,\"_size\":5,\"_value\":\"abc\"}",
+                objectMapper.writeValueAsString("abcde"));
+        Assert.assertEquals(
+                "[\"ab\",{\"_truncated\":true,\"_size\":4,\"_value\":\"abc\"}]",
+                objectMapper.writeValueAsString(Arrays.asList("ab", "abcd")));
+        Assert.assertEquals(
+                "{\"abcd\":{\"_truncated\":true,\"_size\":4,\"_value\":\"abc\"}}",
+                objectMapper.writeValueAsString(Collections.singletonMap("abcd", "abcd")));
+
+        // Only string values are limited
+        Assert.assertEquals("[[1,2,3,4],{\"next\":null},[1]]", objectMapper.writeValueAsString(
+                Arrays.asList(new int[]{1, 2, 3, 4}, new Node(null), new Value(1))));
+
+        // The limit is read on each use
+        _encoder.setMaxStringLength(4);
+        Assert.assertEquals("\"abcd\"", objectMapper.writeValueAsString("abcd"));
+    }
+
+    @Test
+    public void testMaxCollectionSize() throws Exception {
+        _encoder.setMaxCollectionSize(2);
+        _encoder.setMaxDepth(10);
+        final ObjectMapper objectMapper = createObjectMapper();
+        Assert.assertEquals("{\"next\":null}", objectMapper.writeValueAsString(new Node(null)));
+        Assert.assertEquals("[1,2]", objectMapper.writeValueAsString(Arrays.asList(1, 2)));
+        Assert.assertEquals(
+                "[1,2,{\"_truncated\":true,\"_size\":3}]",
+                objectMapper.writeValueAsString(Arrays.asList(1, 2, 3)));
+        Assert.assertEquals(
+                "[\"a\",null,{\"_truncated\":true,\"_size\":4}]",
+                objectMapper.writeValueAsString(new String[]{"a", null, "c", "d"}));
+        Assert.assertEquals(
+                "[1,2,{\"_truncated\":true,\"_size\":3}]",
+                objectMapper.writeValueAsString(new int[]{1, 2, 3}));
+        Assert.assertEquals("[1,2]", objectMapper.writeValueAsString(new long[]{1, 2}));
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", "2");
+        Assert.assertEquals("{\"a\":1,\"b\":\"2\"}", objectMapper.writeValueAsString(map));
+        map.put("c", 3);
+        Assert.assertEquals("{\"a\":1,\"b\":\"2\",\"_truncated\":true,\"_size\":3}", objectMapper.writeValueAsString(map));
+
+        // Byte and character arrays are written as strings
+        Assert.assertEquals("\"AQID\"", objectMapper.writeValueAsString(new byte[]{1, 2, 3}));
+        Assert.assertEquals("\"abc\"", objectMapper.writeValueAsString(new char[]{'a', 'b', 'c'}));
+    }
+
+    @Test
+    public void testMaxDepth() throws Exception {
+        _encoder.setMaxDepth(2);
+        final ObjectMapper objectMapper = createObjectMapper();
+        final List<Object> inner = new ArrayList<>();
+        inner.add(new ArrayList<>(Collections.singletonList(1)));
+        Assert.assertEquals(
+                "[[{\"_truncated\":true,\"_class\":\"java.util.ArrayList\"}]]",
+                objectMapper.writeValueAsString(new ArrayList<>(Collections.singletonList(inner))));
+        Assert.assertEquals("[[1]]", objectMapper.writeValueAsString(inner));
+
+        final Node node = new Node(new Node(new Node(null)));
+        Assert.assertEquals(
+                "{\"next\":{\"next\":{\"_truncated\":true,\"_class\":\"" + Node.class.getName() + "\"}}}",
+                objectMapper.writeValueAsString(node));
+
+        // Values written in place of a bean do not count toward the depth
+        Assert.assertEquals("[[1]]", objectMapper.writeValueAsString(Collections.singletonList(new Value(1))));
+    }
+
+    @Test
+    public void testDetectCycles() throws Exception {
+        _encoder.setDetectCycles(true);
+        final ObjectMapper objectMapper = createObjectMapper();
+        final List<Object> list = new ArrayList<>();
+        list.add(1);
+        list.add(list);
+        Assert.assertEquals(
+                "[1,{\"_cycle\":true,\"_id\":\"" + Integer.toHexString(System.identityHashCode(list))
+                        + "\",\"_class\":\"java.util.ArrayList\"}]",
+                objectMapper.writeValueAsString(list));
+
+        final Node first = new Node(null);
+        final Node second = new Node(first);
+        first._next = second;
+        Assert.assertEquals(
+                "{\"next\":{\"next\":{\"_cycle\":true,\"_id\":\"" + Integer.toHexString(System.identityHashCode(first))
+                        + "\",\"_class\":\"" + Node.class.getName() + "\"}}}",
+                objectMapper.writeValueAsString(first));
+
+        final Value value = new Value(null);
+        value._value = value;
+        Assert.assertEquals(
+                "[{\"_cycle\":true,\"_id\":\"" + Integer.toHexString(System.identityHashCode(value))
+                        + "\",\"_class\":\"" + Value.class.getName() + "\"}]",
+                objectMapper.writeValueAsString(value));
+
+        // Repeated values which are not cycles are written in full
+        final List<Object> repeated = Collections.singletonList(1);
+        Assert.assertEquals("[[1],[1]]", objectMapper.writeValueAsString(Arrays.asList(repeated, repeated)));
+    }
+
+    @Test
+    public void testLogValue() throws Exception {
+        _encoder.setMaxDepth(1);
+        final LogValueMapFactory.LogValueMap nested = LogValueMapFactory.builder()
+                .put("inner", LogValueMapFactory.of("a", 1))
+                .build();
+        Assert.assertEquals(
+                "{\"inner\":{\"_truncated\":true,\"_class\":\"" + LogValueMapFactory.LogValueMap.class.getName() + "\"}}",
+                createLogValueObjectMapper().writeValueAsString(nested));
+
+        final LogValueMapFactory.LogValueMap reference = LogValueMapFactory.builder()
+                .put("inner", LogReferenceOnly.of(new Object()))
+                .build();
+        Assert.assertEquals(
+                "{\"inner\":{\"_truncated\":true,\"_class\":\"" + LogReferenceOnly.class.getName() + "\"}}",
+                createLogValueObjectMapper().writeValueAsString(reference));
+
+        _encoder.setMaxDepth(0);
+        _encoder.setDetectCycles(true);
+        final LoggedNode node = new LoggedNode();
+        node._next = node;
+        Assert.assertEquals(
+                "{\"next\":{\"_cycle\":true,\"_id\":\"" + Integer.toHexString(System.identityHashCode(node))
+                        + "\",\"_class\":\"" + LoggedNode.class.getName() + "\"}}",
+                createLogValueObjectMapper().writeValueAsString(node));
+    }
+
+    @Test
+    public void testBeanIdentifier() throws Exception {
+        _encoder.setMaxDepth(1);
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setSerializerFactory(new StenoSerializerFactory(null, _encoder));
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new PayloadLimitSerializerModifier(_encoder));
+        objectMapper.registerModule(module);
+        final Node node = new Node(null);
+        Assert.assertEquals(
+                "[{\"_truncated\":true,\"_class\":\"" + Node.class.getName() + "\"}]",
+                objectMapper.writeValueAsString(Collections.singletonList(node)));
+
+        _encoder.setMaxDepth(2);
+        Assert.assertEquals(
+                "[{\"_id\":\"" + Integer.toHexString(System.identityHashCode(node)) + "\",\"_class\":\"" + Node.class.getName() + "\"}]",
+                objectMapper.writeValueAsString(Collections.singletonList(node)));
+    }
+
+    @Test
+    public void testTypedValues() throws Exception {
+        Assert.assertEquals(
+                "{\"value\":[\"java.util.ArrayList\",[1,2,3]]}",
+                createObjectMapper().writeValueAsString(new Typed(new ArrayList<>(Arrays.asList(1, 2, 3)))));
+
+        _encoder.setMaxStringLength(3);
+        _encoder.setMaxCollectionSize(2);
+        _encoder.setMaxDepth(2);
+        _encoder.setDetectCycles(true);
+        final ObjectMapper objectMapper = createObjectMapper();
+        Assert.assertEquals(
+                "{\"value\":[\"java.util.ArrayList\",[1,2]]}",
+                objectMapper.writeValueAsString(new Typed(new ArrayList<>(Arrays.asList(1, 2)))));
+        Assert.assertEquals(
+                "{\"value\":[1,2,{\"_truncated\":true,\"_size\":3}]}",
+                objectMapper.writeValueAsString(new Typed(new ArrayList<>(Arrays.asList(1, 2, 3)))));
+        Assert.assertEquals("{\"value\":\"abc\"}", objectMapper.writeValueAsString(new Typed("abc")));
+        Assert.assertEquals(
+                "{\"value\":{\"_truncated\":true,\"_size\":4,\"_value\":\"abc\"}}",
+                objectMapper.writeValueAsString(new Typed("abcd")));
+        Assert.assertEquals(
+                "{\"value\":{\"@class\":\"" + Typed.class.getName()
+                        + "\",\"value\":{\"_truncated\":true,\"_class\":\"java.util.ArrayList\"}}}",
+                objectMapper.writeValueAsString(new Typed(new Typed(new ArrayList<>(Arrays.asList(1, 2))))));
+
+        final Typed typed = new Typed(null);
+        typed._value = typed;
+        Assert.assertEquals(
+                "{\"value\":{\"_cycle\":true,\"_id\":\"" + Integer.toHexString(System.identityHashCode(typed))
+                        + "\",\"_class\":\"" + Typed.class.getName() + "\"}}",
+                objectMapper.writeValueAsString(typed));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLimitedSerializerDelegation() throws Exception {
+        final JsonSerializer<Object> delegate = Mockito.mock(JsonSerializer.class);
+        final JsonSerializer<Object> unwrapping = Mockito.mock(JsonSerializer.class);
+        final NameTransformer nameTransformer = NameTransformer.simpleTransformer("a", "b");
+        Mockito.doReturn(true).when(delegate).isEmpty(Mockito.any(), Mockito.any());
+        Mockito.doReturn(true).when(delegate).usesObjectId();
+        Mockito.doReturn(true).when(delegate).isUnwrappingSerializer();
+        Mockito.doReturn(unwrapping).when(delegate).unwrappingSerializer(nameTransformer);
+        Mockito.doReturn(Object.class).when(delegate).handledType();
+
+        final PayloadLimitSerializerModifier.LimitedSerializer serializer = new PayloadLimitSerializerModifier.LimitedSerializer(
+                _encoder,
+                delegate,
+                PayloadLimitSerializerModifier.Kind.BEAN);
+        Assert.assertTrue(serializer.isEmpty(null, "value"));
+        Assert.assertTrue(serializer.usesObjectId());
+        Assert.assertTrue(serializer.isUnwrappingSerializer());
+        Assert.assertSame(unwrapping, serializer.unwrappingSerializer(nameTransformer));
+        Assert.assertEquals(Object.class, serializer.handledType());
+        Assert.assertSame(delegate, serializer.getDelegatee());
+        Assert.assertSame(serializer, serializer.createContextual(null, null));
+        serializer.resolve(null);
+
+        final JsonGenerator generator = Mockito.mock(JsonGenerator.class);
+        final SerializerProvider provider = Mockito.mock(SerializerProvider.class);
+        final TypeSerializer typeSerializer = Mockito.mock(TypeSerializer.class);
+        serializer.serializeWithType("value", generator, provider, typeSerializer);
+        Mockito.verify(delegate).serializeWithType("value", generator, provider, typeSerializer);
+    }
+
+    private ObjectMapper createObjectMapper() {
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new PayloadLimitSerializerModifier(_encoder));
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    private ObjectMapper createLogValueObjectMapper() {
+        final ObjectMapper objectMapper = createObjectMapper();
+        objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(objectMapper));
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new StenoBeanSerializerModifier(_encoder));
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    private StenoEncoder _encoder;
+
+    /**
+     * Linked bean for depth and cycle tests.
+     */
+    private static final class Node {
+
+        private Node(final Node next) {
+            _next = next;
+        }
+
+        public Node getNext() {
+            return _next;
+        }
+
+        private Node _next;
+    }
+
+    /**
+     * Bean whose value is written with its type.
+     */
+    private static final class Typed {
+
+        private Typed(final Object value) {
+            _value = value;
+        }
+
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+        public Object getValue() {
+            return _value;
+        }
+
+        private Object _value;
+    }
+
+    /**
+     * Type written as a list of another value.
+     */
+    private static final class Value {
+
+        private Value(final Object value) {
+            _value = value;
+        }
+
+        @JsonValue
+        public List<Object> toList() {
+            return Collections.singletonList(_value);
+        }
+
+        private Object _value;
+    }
+
+    /**
+     * Linked type represented by a log value map for cycle tests.
+     */
+    private static final class LoggedNode {
+
+        @LogValue
+        public LogValueMapFactory.LogValueMap toLogValue() {
+            return LogValueMapFactory.builder(this)
+                    .put("next", _next)
+                    .build();
+        }
+
+        private LoggedNode _next;
+    }
+}
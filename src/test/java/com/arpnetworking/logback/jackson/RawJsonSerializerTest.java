@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.steno.RawJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+/**
+ * Tests for {@link RawJsonSerializer}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class RawJsonSerializerTest {
+
+    @Before
+    public void setUp() {
+        _encoder = new StenoEncoder();
+        final SimpleModule module = new SimpleModule();
+        module.addSerializer(RawJson.class, new RawJsonSerializer(_encoder));
+        _objectMapper = new ObjectMapper();
+        _objectMapper.registerModule(module);
+    }
+
+    @Test
+    public void testValid() throws Exception {
+        Assert.assertEquals(
+                "{\"data\":{\"a\":[1,true,null]}}",
+                serialize(RawJson.of("{\"a\":[1,true,null]}".getBytes(StandardCharsets.UTF_8))));
+        Assert.assertEquals("{\"data\":\"text\"}", serialize(RawJson.of("\"text\"")));
+        Assert.assertEquals("{\"data\": 12 }", serialize(RawJson.of(" 12 ")));
+    }
+
+    @Test
+    public void testInvalid() throws Exception {
+        _encoder.setRawJsonValidationLimit(65536);
+        Assert.assertEquals("{\"data\":\"{\\\"a\\\":\"}", serialize(RawJson.of("{\"a\":")));
+        Assert.assertEquals("{\"data\":\"1 2\"}", serialize(RawJson.of("1 2")));
+        Assert.assertEquals("{\"data\":\"[1]]\"}", serialize(RawJson.of("[1]]")));
+        Assert.assertEquals("{\"data\":\"\"}", serialize(RawJson.of("")));
+        Assert.assertEquals("{\"data\":\"not json\"}", serialize(RawJson.of("not json")));
+    }
+
+    @Test
+    public void testValidationLimit() throws Exception {
+        Assert.assertEquals(0, _encoder.getRawJsonValidationLimit());
+        Assert.assertEquals("{\"data\":1 2}", serialize(RawJson.of("1 2")));
+
+        _encoder.setRawJsonValidationLimit(3);
+        Assert.assertEquals(3, _encoder.getRawJsonValidationLimit());
+        Assert.assertEquals("{\"data\":\"1 2\"}", serialize(RawJson.of("1 2")));
+        Assert.assertEquals("{\"data\":1 2 3}", serialize(RawJson.of("1 2 3")));
+
+        _encoder.setRawJsonValidationLimit(0);
+        Assert.assertEquals("{\"data\":}", serialize(RawJson.of("")));
+    }
+
+    @Test
+    public void testIsValid() {
+        Assert.assertTrue(RawJsonSerializer.isValid("{}"));
+        Assert.assertTrue(RawJsonSerializer.isValid("[{\"a\":{\"b\":[]}}]"));
+        Assert.assertTrue(RawJsonSerializer.isValid("null"));
+        Assert.assertFalse(RawJsonSerializer.isValid(" "));
+        Assert.assertFalse(RawJsonSerializer.isValid("{} {}"));
+        Assert.assertFalse(RawJsonSerializer.isValid("[1,"));
+    }
+
+    private String serialize(final RawJson value) throws Exception {
+        return _objectMapper.writeValueAsString(Collections.singletonMap("data", value));
+    }
+
+    private StenoEncoder _encoder;
+    private ObjectMapper _objectMapper;
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.annotations.LogRedact;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link RedactingBeanPropertyWriter}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class RedactingBeanPropertyWriterTest {
+
+    @Before
+    public void setUp() {
+        _encoder = new StenoEncoder();
+        _encoder.setSafe(false);
+        _objectMapper = new ObjectMapper();
+        _objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(_objectMapper));
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new StenoBeanSerializerModifier(_encoder));
+        _objectMapper.registerModule(module);
+    }
+
+    @Test
+    public void testSettingsAppliedWithoutRebuild() throws JsonProcessingException {
+        final Secret secret = new Secret("value", null);
+        Assert.assertEquals("{\"name\":\"<REDACTED>\",\"other\":\"<REDACTED>\"}", _objectMapper.writeValueAsString(secret));
+
+        _encoder.setRedactNull(false);
+        Assert.assertEquals("{\"name\":\"<REDACTED>\",\"other\":null}", _objectMapper.writeValueAsString(secret));
+
+        _encoder.setRedactEnabled(false);
+        Assert.assertEquals("{\"name\":\"value\",\"other\":null}", _objectMapper.writeValueAsString(secret));
+
+        _encoder.setRedactEnabled(true);
+        _encoder.setRedactNull(true);
+        Assert.assertEquals("{\"name\":\"<REDACTED>\",\"other\":\"<REDACTED>\"}", _objectMapper.writeValueAsString(secret));
+    }
+
+    @Test
+    public void testArrayShape() throws JsonProcessingException {
+        final ArraySecret secret = new ArraySecret();
+        Assert.assertEquals("[\"<REDACTED>\",\"visible\"]", _objectMapper.writeValueAsString(secret));
+        _encoder.setRedactEnabled(false);
+        Assert.assertEquals("[\"value\",\"visible\"]", _objectMapper.writeValueAsString(secret));
+    }
+
+    @Test
+    public void testUnwrapped() throws JsonProcessingException {
+        final Container container = new Container();
+        Assert.assertEquals(
+                "{\"secret\":\"<REDACTED>\",\"prefix.name\":\"<REDACTED>\",\"prefix.other\":\"<REDACTED>\"}",
+                _objectMapper.writeValueAsString(container));
+        _encoder.setRedactEnabled(false);
+        Assert.assertEquals(
+                "{\"a\":\"value\",\"prefix.name\":\"value\",\"prefix.other\":null}",
+                _objectMapper.writeValueAsString(container));
+    }
+
+    @Test
+    public void testDelegation() throws JsonProcessingException {
+        final JsonSerializer<Object> serializer = _objectMapper.getSerializerProviderInstance().findValueSerializer(Secret.class);
+        final PropertyWriter propertyWriter = serializer.properties().next();
+        Assert.assertTrue(propertyWriter instanceof RedactingBeanPropertyWriter);
+        final BeanPropertyWriter writer = (BeanPropertyWriter) propertyWriter;
+
+        final TypeSerializer typeSerializer = Mockito.mock(TypeSerializer.class);
+        writer.assignTypeSerializer(typeSerializer);
+        writer.fixAccess(_objectMapper.getSerializationConfig());
+        Assert.assertSame(typeSerializer, writer.getTypeSerializer());
+    }
+
+    private StenoEncoder _encoder;
+    private ObjectMapper _objectMapper;
+
+    @JsonPropertyOrder({"name", "other"})
+    private static final class Secret {
+
+        Secret(final String name, final String other) {
+            _name = name;
+            _other = other;
+        }
+
+        @LogRedact
+        public String getName() {
+            return _name;
+        }
+
+        @LogRedact
+        public String getOther() {
+            return _other;
+        }
+
+        private final String _name;
+        private final String _other;
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"name", "visible"})
+    private static final class ArraySecret {
+
+        @LogRedact
+        public String getName() {
+            return "value";
+        }
+
+        public String getVisible() {
+            return "visible";
+        }
+    }
+
+    @JsonPropertyOrder({"secret", "prefix"})
+    private static final class Container {
+
+        @LogRedact
+        @JsonUnwrapped
+        public Other getSecret() {
+            return new Other();
+        }
+
+        @JsonUnwrapped(prefix = "prefix.")
+        public Secret getPrefix() {
+            return new Secret("value", null);
+        }
+    }
+
+    private static final class Other {
+
+        public String getA() {
+            return "value";
+        }
+    }
+}
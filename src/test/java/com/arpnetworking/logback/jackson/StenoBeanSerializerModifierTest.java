@@ -15,10 +15,13 @@
  */
 package com.arpnetworking.logback.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.StringWriter;
+
 /**
  * Tests for {@link StenoBeanSerializerModifier}.
  *
@@ -37,6 +40,31 @@ public class StenoBeanSerializerModifierTest {
         Assert.assertEquals("BeanIdentifierPropertyWriter", writer.toString());
     }
 
+    @Test
+    public void testBeanIdentifierPropertyWriterIdentifiesBean() throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final StenoBeanSerializerModifier.BeanIdentifierPropertyWriter writer =
+                new StenoBeanSerializerModifier.BeanIdentifierPropertyWriter(objectMapper.getSerializationConfig());
+        final Object bean = new Object();
+
+        final StringWriter stringWriter = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(stringWriter)) {
+            generator.writeStartObject();
+            writer.serializeAsField(bean, generator, objectMapper.getSerializerProviderInstance());
+            generator.writeEndObject();
+        }
+        Assert.assertEquals("{\"_id\":\"" + Integer.toHexString(System.identityHashCode(bean)) + "\"}", stringWriter.toString());
+
+        // The identifier matches the one written for the same bean by the identifier only serializer
+        final StringWriter identifierWriter = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(identifierWriter)) {
+            new BeanIdentifierSerializer().serialize(bean, generator, objectMapper.getSerializerProviderInstance());
+        }
+        Assert.assertEquals(
+                "{\"_id\":\"" + Integer.toHexString(System.identityHashCode(bean)) + "\",\"_class\":\"java.lang.Object\"}",
+                identifierWriter.toString());
+    }
+
     @Test
     public void testBeanClassPropertyWriter() throws Exception {
         final ObjectMapper objectMapper = new ObjectMapper();
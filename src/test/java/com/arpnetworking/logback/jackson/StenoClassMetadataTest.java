@@ -0,0 +1,375 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.annotations.LogRedact;
+import com.arpnetworking.logback.annotations.LogValue;
+import com.arpnetworking.logback.annotations.Loggable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Tests for {@link StenoClassMetadata}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class StenoClassMetadataTest {
+
+    @Test
+    public void testCached() {
+        Assert.assertSame(StenoClassMetadata.of(CONFIG, Base.class), StenoClassMetadata.of(CONFIG, Base.class));
+    }
+
+    @Test
+    public void testNoAnnotations() {
+        final StenoClassMetadata metadata = StenoClassMetadata.of(CONFIG, Object.class);
+        Assert.assertFalse(metadata.isLoggable());
+        Assert.assertTrue(metadata.getRedactedMembers().isEmpty());
+        Assert.assertNull(metadata.getFilterId());
+        Assert.assertNull(metadata.getLogValueMethod());
+        Assert.assertFalse(metadata.isValueSuppressed());
+    }
+
+    @Test
+    public void testBase() throws NoSuchMethodException {
+        final StenoClassMetadata metadata = StenoClassMetadata.of(CONFIG, Base.class);
+        Assert.assertTrue(metadata.isLoggable());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("_secret", "getPassword")), metadata.getRedactedMembers());
+        Assert.assertEquals(RedactionFilter.REDACTION_FILTER_ID, metadata.getFilterId());
+        Assert.assertEquals(Base.class.getDeclaredMethod("toLogValue"), metadata.getLogValueMethod());
+        Assert.assertFalse(metadata.isValueSuppressed());
+    }
+
+    @Test
+    public void testInherited() throws NoSuchMethodException {
+        // Redaction and the log value are inherited but @Loggable is not
+        final StenoClassMetadata metadata = StenoClassMetadata.of(CONFIG, Derived.class);
+        Assert.assertFalse(metadata.isLoggable());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("_secret", "getPassword")), metadata.getRedactedMembers());
+        Assert.assertEquals(RedactionFilter.REDACTION_FILTER_ID, metadata.getFilterId());
+        Assert.assertEquals(Base.class.getDeclaredMethod("toLogValue"), metadata.getLogValueMethod());
+    }
+
+    @Test
+    public void testOverridden() {
+        // The annotation on the overriding method takes precedence
+        final StenoClassMetadata metadata = StenoClassMetadata.of(CONFIG, Overridden.class);
+        Assert.assertNull(metadata.getLogValueMethod());
+        Assert.assertTrue(metadata.isValueSuppressed());
+    }
+
+    @Test
+    public void testInterface() throws NoSuchMethodException {
+        Assert.assertEquals(
+                Valued.class.getDeclaredMethod("toLogValue"),
+                StenoClassMetadata.of(CONFIG, Valued.class).getLogValueMethod());
+        // The implementing method is invoked with the annotation of the interface method
+        Assert.assertEquals(
+                ValuedImpl.class.getDeclaredMethod("toLogValue"),
+                StenoClassMetadata.of(CONFIG, ValuedImpl.class).getLogValueMethod());
+        Assert.assertEquals(
+                ValuedImpl.class.getDeclaredMethod("toLogValue"),
+                StenoClassMetadata.of(CONFIG, ValuedDerived.class).getLogValueMethod());
+    }
+
+    @Test
+    public void testIgnoredMembers() {
+        final StenoClassMetadata metadata = StenoClassMetadata.of(CONFIG, Ignored.class);
+        Assert.assertEquals(Collections.emptySet(), metadata.getRedactedMembers());
+        Assert.assertNull(metadata.getFilterId());
+        Assert.assertNull(metadata.getLogValueMethod());
+    }
+
+    @Test
+    public void testMultiple() throws NoSuchMethodException {
+        // The first enabled annotation found is used; synthetic members are ignored
+        final StenoClassMetadata metadata = StenoClassMetadata.of(CONFIG, Multiple.class);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("_secret", "getPassword")), metadata.getRedactedMembers());
+        Assert.assertEquals(Multiple.class.getDeclaredMethod("toLogValue"), metadata.getLogValueMethod());
+        Assert.assertFalse(metadata.isValueSuppressed());
+    }
+
+    @Test
+    public void testCacheable() throws NoSuchMethodException {
+        Assert.assertFalse(StenoClassMetadata.of(CONFIG, Base.class).isLogValueCacheable());
+        Assert.assertFalse(StenoClassMetadata.of(CONFIG, Object.class).isLogValueCacheable());
+
+        // The annotation on the overriding method takes precedence
+        final StenoClassMetadata metadata = StenoClassMetadata.of(CONFIG, Cacheable.class);
+        Assert.assertEquals(Cacheable.class.getDeclaredMethod("toLogValue"), metadata.getLogValueMethod());
+        Assert.assertTrue(metadata.isLogValueCacheable());
+    }
+
+    @Test
+    public void testMixIns() throws NoSuchMethodException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.addMixIn(Plain.class, PlainMixIn.class);
+        objectMapper.addMixIn(Ignored.class, EmptyMixIn.class);
+        final SerializationConfig config = objectMapper.getSerializationConfig();
+
+        final StenoClassMetadata metadata = StenoClassMetadata.of(config, Plain.class);
+        Assert.assertSame(metadata, StenoClassMetadata.of(config, Plain.class));
+        Assert.assertTrue(metadata.isLoggable());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("_secret", "getPassword")), metadata.getRedactedMembers());
+        Assert.assertEquals(Plain.class.getDeclaredMethod("toLogValue"), metadata.getLogValueMethod());
+        Assert.assertTrue(metadata.isLogValueCacheable());
+
+        // Mix-ins of supertypes apply to members but @Loggable is not inherited
+        final StenoClassMetadata derived = StenoClassMetadata.of(config, PlainDerived.class);
+        Assert.assertFalse(derived.isLoggable());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("_secret", "getPassword")), derived.getRedactedMembers());
+        Assert.assertEquals(Plain.class.getDeclaredMethod("toLogValue"), derived.getLogValueMethod());
+        Assert.assertFalse(StenoClassMetadata.of(config, Ignored.class).isLoggable());
+
+        // Metadata without the mix-ins is held separately
+        final StenoClassMetadata plain = StenoClassMetadata.of(CONFIG, Plain.class);
+        Assert.assertNotSame(metadata, plain);
+        Assert.assertFalse(plain.isLoggable());
+        Assert.assertEquals(Collections.emptySet(), plain.getRedactedMembers());
+        Assert.assertNull(plain.getLogValueMethod());
+    }
+
+    @Test
+    public void testMixInCombinations() {
+        final SerializationConfig plainMixIn = createConfig(Plain.class, PlainMixIn.class);
+        final SerializationConfig derivedMixIn = createConfig(PlainDerived.class, EmptyMixIn.class);
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.addMixIn(Plain.class, PlainMixIn.class);
+        objectMapper.addMixIn(PlainDerived.class, EmptyMixIn.class);
+        final SerializationConfig bothMixIns = objectMapper.getSerializationConfig();
+        final SerializationConfig otherDerivedMixIn = createConfig(PlainDerived.class, PlainMixIn.class);
+        final SerializationConfig unrelatedMixIn = createConfig(Ignored.class, EmptyMixIn.class);
+
+        final StenoClassMetadata metadata = StenoClassMetadata.of(plainMixIn, PlainDerived.class);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("_secret", "getPassword")), metadata.getRedactedMembers());
+        final StenoClassMetadata derived = StenoClassMetadata.of(derivedMixIn, PlainDerived.class);
+        Assert.assertNotSame(metadata, derived);
+        Assert.assertEquals(Collections.emptySet(), derived.getRedactedMembers());
+        Assert.assertSame(metadata, StenoClassMetadata.of(plainMixIn, PlainDerived.class));
+        Assert.assertSame(derived, StenoClassMetadata.of(derivedMixIn, PlainDerived.class));
+
+        final StenoClassMetadata both = StenoClassMetadata.of(bothMixIns, PlainDerived.class);
+        Assert.assertNotSame(metadata, both);
+        Assert.assertNotSame(derived, both);
+        Assert.assertNotSame(both, StenoClassMetadata.of(otherDerivedMixIn, PlainDerived.class));
+        Assert.assertNotSame(derived, StenoClassMetadata.of(unrelatedMixIn, PlainDerived.class));
+    }
+
+    @Test
+    public void testMixInClassLoaderUnloaded() throws Exception {
+        final WeakReference<ClassLoader> classLoader = applyChildMixIn();
+        for (int i = 0; i < 100 && classLoader.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(classLoader.get());
+
+        // The entry for the unloaded mix-in is discarded
+        final StenoClassMetadata metadata = StenoClassMetadata.of(createConfig(Plain.class, EmptyMixIn.class), Plain.class);
+        Assert.assertFalse(metadata.isLoggable());
+    }
+
+    private static WeakReference<ClassLoader> applyChildMixIn() throws ClassNotFoundException {
+        final ClassLoader classLoader = new ChildClassLoader(ChildMixIn.class.getName());
+        final Class<?> mixIn = classLoader.loadClass(ChildMixIn.class.getName());
+        Assert.assertNotSame(ChildMixIn.class, mixIn);
+        Assert.assertTrue(StenoClassMetadata.of(createConfig(Plain.class, mixIn), Plain.class).isLoggable());
+        return new WeakReference<>(classLoader);
+    }
+
+    private static SerializationConfig createConfig(final Class<?> target, final Class<?> mixIn) {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.addMixIn(target, mixIn);
+        return objectMapper.getSerializationConfig();
+    }
+
+    private static final SerializationConfig CONFIG = new ObjectMapper().getSerializationConfig();
+
+    @Loggable
+    private static class Base {
+
+        @LogRedact
+        public String getPassword() {
+            return "password";
+        }
+
+        @LogValue
+        public Object toLogValue() {
+            return "base";
+        }
+
+        @LogRedact
+        private final String _secret = "secret";
+    }
+
+    private static class Derived extends Base {
+
+        @Override
+        public String getPassword() {
+            return "derived";
+        }
+    }
+
+    private static final class Overridden extends Base {
+
+        @LogValue(enabled = false, fallback = false)
+        @Override
+        public Object toLogValue() {
+            return "overridden";
+        }
+    }
+
+    private interface Valued {
+
+        @LogValue
+        Object toLogValue();
+    }
+
+    private static class ValuedImpl implements Valued {
+
+        @Override
+        public Object toLogValue() {
+            return "value";
+        }
+    }
+
+    private static final class ValuedDerived extends ValuedImpl implements Valued {
+    }
+
+    private final class Multiple extends Base {
+
+        @LogValue
+        @Override
+        public String toLogValue() {
+            return "multiple";
+        }
+
+        @LogValue
+        public String toOtherLogValue() {
+            return "other";
+        }
+
+        @LogValue(enabled = false)
+        public String toJsonValue() {
+            return "json";
+        }
+    }
+
+    private static final class Cacheable extends Base {
+
+        @LogValue(cacheable = true)
+        @Override
+        public Object toLogValue() {
+            return "cacheable";
+        }
+    }
+
+    private static class Plain {
+
+        public String getPassword() {
+            return "password";
+        }
+
+        public Object toLogValue() {
+            return "plain";
+        }
+
+        private final String _secret = "secret";
+    }
+
+    private static final class PlainDerived extends Plain {
+    }
+
+    @Loggable
+    private abstract static class PlainMixIn {
+
+        @LogRedact
+        public abstract String getPassword();
+
+        @LogValue(cacheable = true)
+        public abstract Object toLogValue();
+
+        @LogRedact
+        private String _secret;
+    }
+
+    private static final class EmptyMixIn {
+    }
+
+    @Loggable
+    private static final class ChildMixIn {
+    }
+
+    // Defines the named class itself rather than delegating to its parent
+    private static final class ChildClassLoader extends ClassLoader {
+
+        private ChildClassLoader(final String name) {
+            super(StenoClassMetadataTest.class.getClassLoader());
+            _name = name;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (!_name.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                final Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream stream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    if (stream == null) {
+                        throw new ClassNotFoundException(name);
+                    }
+                    final byte[] bytes = stream.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (final IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+
+        private final String _name;
+    }
+
+    private static final class Ignored {
+
+        @LogRedact
+        @LogValue
+        public static String getStatic() {
+            return "static";
+        }
+
+        @LogRedact
+        @LogValue
+        public String getThree(final String a, final String b, final String c) {
+            return a + b + c;
+        }
+
+        @LogRedact
+        private static final String STATIC = "static";
+    }
+}
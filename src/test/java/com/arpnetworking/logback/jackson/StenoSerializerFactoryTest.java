@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.jackson;
+
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.annotations.Loggable;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+/**
+ * Tests for {@link StenoSerializerFactory}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class StenoSerializerFactoryTest {
+
+    @Before
+    public void setUp() {
+        _encoder = new StenoEncoder();
+    }
+
+    @Test
+    public void testSafe() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        Assert.assertTrue(findSerializer(objectMapper, Bean.class) instanceof BeanIdentifierSerializer);
+        Assert.assertTrue(findSerializer(objectMapper, LoggableBean.class) instanceof BeanSerializer);
+        Assert.assertEquals("{\"value\":1}", objectMapper.writeValueAsString(new LoggableBean()));
+    }
+
+    @Test
+    public void testUnsafe() throws Exception {
+        _encoder.setSafe(false);
+        final ObjectMapper objectMapper = createObjectMapper();
+        Assert.assertTrue(findSerializer(objectMapper, Bean.class) instanceof BeanSerializer);
+        Assert.assertEquals("{\"value\":1}", objectMapper.writeValueAsString(new Bean()));
+    }
+
+    @Test
+    public void testExcludedTypes() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        Assert.assertEquals("{}", objectMapper.writeValueAsString(new Object()));
+        Assert.assertEquals("{}", objectMapper.writeValueAsString(new JsonFactory()));
+        Assert.assertFalse(findSerializer(objectMapper, LocalDate.class) instanceof BeanIdentifierSerializer);
+    }
+
+    @Test
+    public void testWithConfig() {
+        final StenoSerializerFactory factory = new StenoSerializerFactory(null, _encoder);
+        Assert.assertSame(factory, factory.withConfig(factory.getFactoryConfig()));
+        final SerializerFactory modified = factory.withSerializerModifier(new StenoBeanSerializerModifier(_encoder));
+        Assert.assertTrue(modified instanceof StenoSerializerFactory);
+        Assert.assertNotSame(factory, modified);
+    }
+
+    private ObjectMapper createObjectMapper() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setAnnotationIntrospector(new StenoAnnotationIntrospector(objectMapper));
+        objectMapper.setSerializerFactory(new StenoSerializerFactory(null, _encoder));
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new StenoBeanSerializerModifier(_encoder));
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    private static JsonSerializer<Object> findSerializer(final ObjectMapper objectMapper, final Class<?> clazz) throws Exception {
+        return objectMapper.getSerializerProviderInstance().findValueSerializer(clazz);
+    }
+
+    private StenoEncoder _encoder;
+
+    /**
+     * Bean which is not loggable.
+     */
+    private static final class Bean {
+
+        public int getValue() {
+            return 1;
+        }
+    }
+
+    /**
+     * Bean which is loggable.
+     */
+    @Loggable
+    private static final class LoggableBean {
+
+        public int getValue() {
+            return 1;
+        }
+    }
+}
@@ -15,12 +15,15 @@
  */
 package com.arpnetworking.logback.serialization.steno;
 
+import com.arpnetworking.logback.StenoEncoder;
 import com.arpnetworking.steno.LogValueMapFactory;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -208,6 +211,121 @@ public class SafeSerializationHelperTest {
         Assert.assertEquals("\"hello world\"", stringBuilder.toString());
     }
 
+    @Test
+    public void testSafeEncodeValueMaxStringLength() {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setMaxStringLength(3);
+        final StringBuilder stringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeValue(stringBuilder, Arrays.asList("abc", "ab\"cd", new ThrowableWithoutStacktrace()), encoder);
+        Assert.assertEquals(
+                "[\"abc\",{\"_truncated\":true,\"_size\":5,\"_value\":\"ab\\\"\"},"
+                        + "{\"type\":\"" + ThrowableWithoutStacktrace.class.getName() + "\","
+                        + "\"message\":{\"_truncated\":true,\"_size\":7,\"_value\":\"fai\"},\"backtrace\":[],\"data\":{}}]",
+                stringBuilder.toString());
+    }
+
+    @Test
+    public void testSafeEncodeValueMaxCollectionSize() {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setMaxCollectionSize(2);
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("A", Arrays.asList(1, 2, 3));
+        map.put("B", new int[]{1, 2});
+        map.put("C", new int[]{1, 2, 3});
+        final StringBuilder stringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeValue(stringBuilder, map, encoder);
+        Assert.assertEquals(
+                "{\"A\":[1,2,{\"_truncated\":true,\"_size\":3}],\"B\":[1,2],\"_truncated\":true,\"_size\":3}",
+                stringBuilder.toString());
+
+        final StringBuilder arrayStringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeValue(arrayStringBuilder, new int[]{1, 2, 3}, encoder);
+        Assert.assertEquals("[1,2,{\"_truncated\":true,\"_size\":3}]", arrayStringBuilder.toString());
+    }
+
+    @Test
+    public void testSafeEncodeValueMaxDepth() {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setMaxDepth(2);
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("A", Collections.singletonList(Collections.singletonList(1)));
+        map.put("B", Collections.singletonList(1));
+        final StringBuilder stringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeValue(stringBuilder, map, encoder);
+        Assert.assertEquals(
+                "{\"A\":[{\"_truncated\":true,\"_class\":\"java.util.Collections$SingletonList\"}],\"B\":[1]}",
+                stringBuilder.toString());
+    }
+
+    @Test
+    public void testSafeEncodeValueDetectCycles() {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setDetectCycles(true);
+        final List<Object> list = new ArrayList<>();
+        final List<Object> repeated = Collections.singletonList(1);
+        list.add(repeated);
+        list.add(repeated);
+        list.add(list);
+        final StringBuilder stringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeValue(stringBuilder, list, encoder);
+        Assert.assertEquals(
+                "[[1],[1],{\"_cycle\":true,\"_id\":\"" + Integer.toHexString(System.identityHashCode(list))
+                        + "\",\"_class\":\"java.util.ArrayList\"}]",
+                stringBuilder.toString());
+    }
+
+    @Test
+    public void testSafeEncodeContext() {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setMaxCollectionSize(1);
+        encoder.setMaxDepth(1);
+        final Map<String, Object> context = new LinkedHashMap<>();
+        context.put("host", "localhost");
+        context.put("list", Arrays.asList(1, 2));
+        context.put(null, "value");
+        final StringBuilder stringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeContext(stringBuilder, context, encoder);
+        Assert.assertEquals(
+                "{\"host\":\"localhost\",\"list\":[1,{\"_truncated\":true,\"_size\":2}],\"null\":\"value\"}",
+                stringBuilder.toString());
+
+        final StringBuilder emptyStringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeContext(emptyStringBuilder, Collections.emptyMap(), encoder);
+        Assert.assertEquals("{}", emptyStringBuilder.toString());
+    }
+
+    @Test
+    public void testSafeEncodeRedactKeys() {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.addRedactKey("*_token");
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("access_token", "abc");
+        map.put("refresh_token", null);
+        map.put("nested", Collections.singletonMap("id_token", Arrays.asList(1, 2)));
+        map.put("user", "bob");
+        final StringBuilder stringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeValue(stringBuilder, map, encoder);
+        Assert.assertEquals(
+                "{\"access_token\":\"<REDACTED>\",\"refresh_token\":\"<REDACTED>\","
+                        + "\"nested\":{\"id_token\":\"<REDACTED>\"},\"user\":\"bob\"}",
+                stringBuilder.toString());
+
+        final StringBuilder contextStringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeContext(contextStringBuilder, map, encoder);
+        Assert.assertEquals(stringBuilder.toString(), contextStringBuilder.toString());
+
+        encoder.setRedactEnabled(false);
+        final StringBuilder nonRedactedStringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeValue(nonRedactedStringBuilder, map, encoder);
+        Assert.assertEquals(
+                "{\"access_token\":\"abc\",\"refresh_token\":null,\"nested\":{\"id_token\":[1,2]},\"user\":\"bob\"}",
+                nonRedactedStringBuilder.toString());
+
+        final StringBuilder unlimitedStringBuilder = new StringBuilder();
+        SafeSerializationHelper.safeEncodeValue(unlimitedStringBuilder, map);
+        Assert.assertEquals(nonRedactedStringBuilder.toString(), unlimitedStringBuilder.toString());
+    }
+
     @Test
     public void testPrivateConstructor() throws Exception {
         final Constructor<SafeSerializationHelper> constructor =
@@ -0,0 +1,460 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.logback.serialization.steno;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import com.arpnetworking.logback.StenoEncoder;
+import com.arpnetworking.logback.StenoMarker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Marker;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+
+/**
+ * Tests for {@link StenoJsonWriter}. Each event is encoded both with and
+ * without the direct writer and the outputs are compared.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class StenoJsonWriterTest {
+
+    @Before
+    public void setUp() {
+        _context = new LoggerContext();
+        _directEncoder = createEncoder(true);
+        _jacksonEncoder = createEncoder(false);
+    }
+
+    @After
+    public void tearDown() {
+        _directEncoder.stop();
+        _jacksonEncoder.stop();
+        _context.stop();
+    }
+
+    @Test
+    public void testStandard() {
+        final LoggingEvent event = createEvent(null, "Hello \"World\"\n\tfrom \\ steno é世");
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "log", OBJECT_MAPPER, event.getFormattedMessage()));
+        assertEquivalent(event);
+    }
+
+    @Test
+    public void testStandardNullMessage() {
+        final LoggingEvent event = createEvent(null, null);
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "log", OBJECT_MAPPER, event.getFormattedMessage()));
+        assertEquivalent(event);
+    }
+
+    @Test
+    public void testArray() {
+        final String[] keys = new String[]{
+                "string", "integer", "long", "short", "byte", "boolean", "double", "float",
+                "bigInteger", "bigDecimal", "uuid", "null", "duplicate", "duplicate"};
+        final Object[] values = new Object[]{
+                "value",
+                Integer.MIN_VALUE,
+                Long.MIN_VALUE,
+                (short) -12,
+                (byte) 7,
+                Boolean.TRUE,
+                -0.0d,
+                1.23f,
+                new BigInteger("123456789012345678901234567890"),
+                new BigDecimal("1E+3"),
+                UUID.fromString("5d3cb6f8-8ea0-4d2a-a1b4-93ba9c0e2d34"),
+                null,
+                1,
+                2};
+        final LoggingEvent event = createEvent(StenoMarker.ARRAY_MARKER, "arrayEvent");
+        event.setArgumentArray(new Object[]{keys, values});
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "arrayEvent", OBJECT_MAPPER, keys, values));
+        assertEquivalent(event);
+    }
+
+    @Test
+    public void testArrayNonFiniteNumbers() {
+        final String[] keys = new String[]{"doubleNaN", "doubleInfinity", "floatNaN", "floatInfinity", "small", "large"};
+        final Object[] values = new Object[]{
+                Double.NaN,
+                Double.NEGATIVE_INFINITY,
+                Float.NaN,
+                Float.POSITIVE_INFINITY,
+                Double.MIN_VALUE,
+                Float.MAX_VALUE};
+        final LoggingEvent event = createEvent(StenoMarker.ARRAY_MARKER, "arrayEvent");
+        event.setArgumentArray(new Object[]{keys, values});
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "arrayEvent", OBJECT_MAPPER, keys, values));
+        assertEquivalent(event);
+    }
+
+    @Test
+    public void testArrayEscaping() {
+        final StringBuilder ascii = new StringBuilder();
+        for (char c = 0; c < 0x80; ++c) {
+            ascii.append(c);
+        }
+        final String[] keys = new String[]{ascii.toString(), "unicode é世😀", "surrogate " + (char) 0xD83D};
+        final Object[] values = new Object[]{ascii.toString(), keys[1], keys[2]};
+        final LoggingEvent event = createEvent(StenoMarker.ARRAY_MARKER, "arrayEvent");
+        event.setArgumentArray(new Object[]{keys, values});
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "arrayEvent", OBJECT_MAPPER, keys, values));
+        assertEquivalent(event);
+    }
+
+    @Test
+    public void testArrayLongStrings() {
+        final String clean = repeat("abcdefghijklmnopqrstuvwxyz0123456789", 100);
+        final String candidates = repeat("ĢŜĀĉ", 50);
+        final String escaped = clean + "\"" + candidates + "\n" + clean + "\\";
+        final String[] keys = new String[]{"clean", "candidates", "escaped"};
+        final Object[] values = new Object[]{clean, candidates, escaped};
+        final LoggingEvent event = createEvent(StenoMarker.ARRAY_MARKER, "arrayEvent");
+        event.setArgumentArray(new Object[]{keys, values});
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "arrayEvent", OBJECT_MAPPER, keys, values));
+        assertEquivalent(event);
+    }
+
+    @Test
+    public void testArrayMaxStringLength() {
+        _directEncoder.setMaxStringLength(10);
+        _jacksonEncoder.setMaxStringLength(10);
+        final String[] keys = new String[]{"short", "exact", "long", "surrogate", "escaped", "keyLongerThanTheLimit"};
+        final Object[] values = new Object[]{
+                "short",
+                "0123456789",
+                "0123456789abc",
+                "012345678" + (char) 0xD83D + (char) 0xDE00,
+                "0123\"\n4567890",
+                UUID.fromString("5d3cb6f8-8ea0-4d2a-a1b4-93ba9c0e2d34")};
+        final LoggingEvent event = createEvent(StenoMarker.ARRAY_MARKER, "arrayEventLongerThanTheLimit");
+        event.setArgumentArray(new Object[]{keys, values});
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "arrayEvent", OBJECT_MAPPER, keys, values));
+        assertEquivalent(event);
+        Assert.assertTrue(encode(_directEncoder, event).contains(
+                "\"long\":{\"_truncated\":true,\"_size\":13,\"_value\":\"0123456789\"}"));
+    }
+
+    @Test
+    public void testArrayMissingValues() {
+        final String[] keys = new String[]{"key1", "key2"};
+        final LoggingEvent event = createEvent(StenoMarker.ARRAY_MARKER, "arrayEvent");
+        event.setArgumentArray(new Object[]{keys, new Object[]{"value1"}});
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "arrayEvent", OBJECT_MAPPER, keys, new Object[]{"value1"}));
+        assertEquivalent(event);
+
+        event.setArgumentArray(new Object[]{keys, new Object[]{"value1", "value2", "value3"}});
+        assertEquivalent(event);
+
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "arrayEvent", OBJECT_MAPPER, keys, null));
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "arrayEvent", OBJECT_MAPPER, null, null));
+    }
+
+    @Test
+    public void testArrayFallback() {
+        final String[] keys = new String[]{"key1", "key2"};
+        final Object[] values = new Object[]{"value1", Arrays.asList("a", "b")};
+        final LoggingEvent event = createEvent(StenoMarker.ARRAY_MARKER, "arrayEvent");
+        event.setArgumentArray(new Object[]{keys, values});
+        Assert.assertNull(StenoJsonWriter.write(_directEncoder, event, "arrayEvent", OBJECT_MAPPER, keys, values));
+        assertEquivalent(event);
+
+        Assert.assertNull(StenoJsonWriter.write(
+                _directEncoder,
+                event,
+                "arrayEvent",
+                OBJECT_MAPPER,
+                new String[]{"key1", null},
+                new Object[]{"value1", "value2"}));
+    }
+
+    @Test
+    public void testLists() {
+        final List<String> dataKeys = Arrays.asList("key1", "key2", "key3");
+        final List<Object> dataValues = Arrays.asList("value1", 2L, null);
+        final List<String> contextKeys = Arrays.asList("context1", "context2", "context1");
+        final List<Object> contextValues = Arrays.asList(Boolean.FALSE, 3.5d, "value\r\n");
+        final LoggingEvent event = createEvent(StenoMarker.LISTS_MARKER, "listsEvent");
+        event.setArgumentArray(new Object[]{dataKeys, dataValues, contextKeys, contextValues});
+        Assert.assertNotNull(StenoJsonWriter.write(
+                _directEncoder,
+                event,
+                "listsEvent",
+                OBJECT_MAPPER,
+                dataKeys,
+                dataValues,
+                contextKeys,
+                contextValues));
+        assertEquivalent(event);
+    }
+
+    @Test
+    public void testListsMissingValues() {
+        final List<String> dataKeys = Arrays.asList("key1", "key2");
+        final List<String> contextKeys = Collections.singletonList("context1");
+        final LoggingEvent event = createEvent(StenoMarker.LISTS_MARKER, "listsEvent");
+        event.setArgumentArray(new Object[]{dataKeys, Collections.singletonList("value1"), contextKeys, null});
+        assertEquivalent(event);
+
+        event.setArgumentArray(new Object[]{dataKeys, null, null, null});
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "listsEvent", OBJECT_MAPPER, dataKeys, null, null, null));
+        assertEquivalent(event);
+
+        event.setArgumentArray(new Object[]{null, null, null, null});
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "listsEvent", OBJECT_MAPPER, null, null, null, null));
+        assertEquivalent(event);
+    }
+
+    @Test
+    public void testListsFallback() {
+        final List<String> dataKeys = Collections.singletonList("key1");
+        final List<String> contextKeys = Collections.singletonList("context1");
+        final List<Object> simpleValues = Collections.singletonList("value1");
+        final List<Object> complexValues = Collections.singletonList(Collections.singletonMap("a", "b"));
+        final LoggingEvent event = createEvent(StenoMarker.LISTS_MARKER, "listsEvent");
+
+        event.setArgumentArray(new Object[]{dataKeys, complexValues, contextKeys, simpleValues});
+        Assert.assertNull(StenoJsonWriter.write(
+                _directEncoder,
+                event,
+                "listsEvent",
+                OBJECT_MAPPER,
+                dataKeys,
+                complexValues,
+                contextKeys,
+                simpleValues));
+        assertEquivalent(event);
+
+        event.setArgumentArray(new Object[]{dataKeys, simpleValues, contextKeys, complexValues});
+        Assert.assertNull(StenoJsonWriter.write(
+                _directEncoder,
+                event,
+                "listsEvent",
+                OBJECT_MAPPER,
+                dataKeys,
+                simpleValues,
+                contextKeys,
+                complexValues));
+        assertEquivalent(event);
+
+        Assert.assertNull(StenoJsonWriter.write(
+                _directEncoder,
+                event,
+                "listsEvent",
+                OBJECT_MAPPER,
+                Collections.singletonList(null),
+                simpleValues,
+                null,
+                null));
+
+        event.setLevel(Level.OFF);
+        Assert.assertNull(StenoJsonWriter.write(_directEncoder, event, "listsEvent", OBJECT_MAPPER, dataKeys, simpleValues, null, null));
+    }
+
+    @Test
+    public void testRedactKeys() {
+        _directEncoder.addRedactKey("*_token");
+        _jacksonEncoder.addRedactKey("*_token");
+        final String[] keys = new String[]{"access_token", "key1", "refresh_token"};
+        final Object[] values = new Object[]{"abc", "value1"};
+        final LoggingEvent event = createEvent(StenoMarker.ARRAY_MARKER, "arrayEvent");
+        event.setArgumentArray(new Object[]{keys, values});
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "arrayEvent", OBJECT_MAPPER, keys, values));
+        assertEquivalent(event);
+        Assert.assertTrue(encode(_directEncoder, event).contains(
+                "\"access_token\":\"<REDACTED>\",\"key1\":\"value1\",\"refresh_token\":\"<REDACTED>\""));
+
+        final List<String> contextKeys = Collections.singletonList("session_token");
+        final List<Object> contextValues = Collections.singletonList("def");
+        final LoggingEvent listsEvent = createEvent(StenoMarker.LISTS_MARKER, "listsEvent");
+        listsEvent.setArgumentArray(new Object[]{Arrays.asList(keys), Arrays.asList(values), contextKeys, contextValues});
+        assertEquivalent(listsEvent);
+        Assert.assertTrue(encode(_directEncoder, listsEvent).contains("\"session_token\":\"<REDACTED>\""));
+    }
+
+    @Test
+    public void testInjectedContext() {
+        _directEncoder.setInjectContextLogger(true);
+        _directEncoder.setInjectContextClass(true);
+        _directEncoder.setInjectContextFile(true);
+        _directEncoder.setInjectContextLine(true);
+        _directEncoder.setInjectContextMethod(true);
+        _directEncoder.addInjectContextMdc("MDC_KEY1");
+        _directEncoder.addInjectContextMdc("MDC_KEY2");
+        _jacksonEncoder.setInjectContextLogger(true);
+        _jacksonEncoder.setInjectContextClass(true);
+        _jacksonEncoder.setInjectContextFile(true);
+        _jacksonEncoder.setInjectContextLine(true);
+        _jacksonEncoder.setInjectContextMethod(true);
+        _jacksonEncoder.addInjectContextMdc("MDC_KEY1");
+        _jacksonEncoder.addInjectContextMdc("MDC_KEY2");
+
+        final LoggingEvent event = createEvent(null, "message");
+        event.setMDCPropertyMap(Collections.singletonMap("MDC_KEY1", "MDC \"VALUE\""));
+        event.setCallerData(new StackTraceElement[]{
+                new StackTraceElement("com.example.Caller", "call", "Caller.java", 42)});
+        Assert.assertNotNull(StenoJsonWriter.write(_directEncoder, event, "log", OBJECT_MAPPER, event.getFormattedMessage()));
+        assertEquivalent(event);
+    }
+
+    @Test
+    public void testNullContextKey() {
+        _directEncoder.addInjectContextMdc(null);
+        final Map<String, String> mdc = new HashMap<>();
+        mdc.put(null, "value");
+        final LoggingEvent event = createEvent(null, "message");
+        event.setMDCPropertyMap(mdc);
+        Assert.assertNull(StenoJsonWriter.write(_directEncoder, event, "log", OBJECT_MAPPER, event.getFormattedMessage()));
+        Assert.assertNull(StenoJsonWriter.write(
+                _directEncoder,
+                event,
+                "log",
+                OBJECT_MAPPER,
+                new String[]{"key1"},
+                new Object[]{"value1"}));
+    }
+
+    @Test
+    public void testThrowable() {
+        final LoggingEvent event = createEvent(null, "message");
+        event.setThrowableProxy(new ThrowableProxy(new IllegalStateException("Failure")));
+        Assert.assertNull(StenoJsonWriter.write(_directEncoder, event, "log", OBJECT_MAPPER, event.getFormattedMessage()));
+        assertEquivalent(event);
+    }
+
+    @Test
+    public void testLevels() {
+        final LoggingEvent event = createEvent(null, "message");
+        for (final Level level : Arrays.asList(Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR)) {
+            event.setLevel(level);
+            assertEquivalent(event);
+        }
+        event.setLevel(Level.OFF);
+        Assert.assertNull(StenoJsonWriter.write(_directEncoder, event, "log", OBJECT_MAPPER, event.getFormattedMessage()));
+        Assert.assertNull(StenoJsonWriter.write(_directEncoder, event, "log", OBJECT_MAPPER, new String[0], new Object[0]));
+    }
+
+    @Test
+    public void testIndexOfEscape() {
+        Assert.assertEquals(-1, StenoJsonWriter.indexOfEscape("", 0, 0));
+        Assert.assertEquals(-1, StenoJsonWriter.indexOfEscape("short", 0, 5));
+        Assert.assertEquals(2, StenoJsonWriter.indexOfEscape("sh\"rt", 0, 5));
+        Assert.assertEquals(-1, StenoJsonWriter.indexOfEscape("sh\"rt", 3, 5));
+
+        final String clean = repeat("a", 40);
+        Assert.assertEquals(-1, StenoJsonWriter.indexOfEscape(clean, 0, clean.length()));
+        Assert.assertEquals(20, StenoJsonWriter.indexOfEscape(clean.substring(0, 20) + "\\" + clean, 0, 61));
+        Assert.assertEquals(3, StenoJsonWriter.indexOfEscape("abc" + (char) 0x01 + clean, 0, 44));
+        Assert.assertEquals(40, StenoJsonWriter.indexOfEscape(clean + "\t", 0, 41));
+        Assert.assertEquals(-1, StenoJsonWriter.indexOfEscape(clean + "\t", 0, 40));
+
+        // Characters sharing a low byte with an escaped character are not escaped
+        final String candidates = repeat("ĢŜĊ", 20);
+        Assert.assertEquals(-1, StenoJsonWriter.indexOfEscape(candidates, 0, candidates.length()));
+        Assert.assertEquals(61, StenoJsonWriter.indexOfEscape(candidates + "a\r", 0, 62));
+    }
+
+    @Test
+    public void testIsDirect() {
+        Assert.assertTrue(StenoJsonWriter.isDirect(null));
+        Assert.assertTrue(StenoJsonWriter.isDirect("string"));
+        Assert.assertTrue(StenoJsonWriter.isDirect(1));
+        Assert.assertTrue(StenoJsonWriter.isDirect(1L));
+        Assert.assertTrue(StenoJsonWriter.isDirect((short) 1));
+        Assert.assertTrue(StenoJsonWriter.isDirect((byte) 1));
+        Assert.assertTrue(StenoJsonWriter.isDirect(Boolean.TRUE));
+        Assert.assertTrue(StenoJsonWriter.isDirect(1.0d));
+        Assert.assertTrue(StenoJsonWriter.isDirect(1.0f));
+        Assert.assertTrue(StenoJsonWriter.isDirect(BigInteger.ONE));
+        Assert.assertTrue(StenoJsonWriter.isDirect(BigDecimal.ONE));
+        Assert.assertTrue(StenoJsonWriter.isDirect(UUID.randomUUID()));
+        Assert.assertFalse(StenoJsonWriter.isDirect(new Object()));
+        Assert.assertFalse(StenoJsonWriter.isDirect(new AtomicInteger()));
+        Assert.assertFalse(StenoJsonWriter.isDirect(Instant.EPOCH));
+        Assert.assertFalse(StenoJsonWriter.isDirect(TimeUnit.SECONDS));
+        Assert.assertFalse(StenoJsonWriter.isDirect('c'));
+        Assert.assertFalse(StenoJsonWriter.isDirect(new int[0]));
+        Assert.assertFalse(StenoJsonWriter.isDirect(Collections.emptyList()));
+    }
+
+    private static String repeat(final String value, final int count) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; ++i) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+    private StenoEncoder createEncoder(final boolean directWriter) {
+        final StenoEncoder encoder = new StenoEncoder();
+        encoder.setContext(_context);
+        encoder.setDirectWriter(directWriter);
+        encoder.start();
+        return encoder;
+    }
+
+    private LoggingEvent createEvent(@Nullable final Marker marker, @Nullable final String message) {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        if (marker != null) {
+            event.addMarker(marker);
+        }
+        event.setMessage(message);
+        event.setLoggerName("com.arpnetworking.logback.serialization.steno.StenoJsonWriterTest");
+        event.setThreadName("main");
+        event.setLoggerContextRemoteView(_context.getLoggerContextRemoteView());
+        event.setMDCPropertyMap(Collections.emptyMap());
+        event.setTimeStamp(1234567890123L);
+        return event;
+    }
+
+    private void assertEquivalent(final LoggingEvent event) {
+        final String expected = encode(_jacksonEncoder, event);
+        final String actual = encode(_directEncoder, event);
+        Assert.assertEquals(expected, actual);
+    }
+
+    private static String encode(final StenoEncoder encoder, final LoggingEvent event) {
+        // CHECKSTYLE.OFF: IllegalInstantiation - This is valid case.
+        final String output = new String(encoder.encode(event), encoder.getCharset());
+        // CHECKSTYLE.ON: IllegalInstantiation
+        return output.replaceAll("\"id\":\"[^\"]+\",\"version\"", "\"id\":\"<ID>\",\"version\"");
+    }
+
+    private LoggerContext _context;
+    private StenoEncoder _directEncoder;
+    private StenoEncoder _jacksonEncoder;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+}
@@ -18,6 +18,7 @@ package com.arpnetworking.logback.serialization.steno;
 import ch.qos.logback.classic.spi.IThrowableProxy;
 import ch.qos.logback.classic.spi.StackTraceElementProxy;
 import com.arpnetworking.logback.jackson.StenoAnnotationIntrospector;
+import com.arpnetworking.steno.MemoizingSupplier;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Assert;
@@ -27,6 +28,12 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Tests for {@link StenoSerializationHelper}.
@@ -66,6 +73,60 @@ public class StenoSerializationHelperTest {
         Assert.assertFalse(StenoSerializationHelper.isSimpleType(new double[]{}));
     }
 
+    @Test
+    public void testResolveValue() {
+        final Object value = new Object();
+        Assert.assertNull(StenoSerializationHelper.resolveValue(null));
+        Assert.assertSame(value, StenoSerializationHelper.resolveValue(value));
+        Assert.assertSame(value, StenoSerializationHelper.resolveValue(MemoizingSupplier.memoize(() -> value)));
+        Assert.assertNull(StenoSerializationHelper.resolveValue(MemoizingSupplier.memoize(() -> null)));
+        final Supplier<Object> supplier = () -> value;
+        Assert.assertSame(supplier, StenoSerializationHelper.resolveValue(supplier));
+
+        final Map<String, Object> failure = new LinkedHashMap<>();
+        failure.put("type", "java.lang.UnsupportedOperationException");
+        failure.put("message", "Not supported");
+        Assert.assertEquals(
+                Collections.singletonMap(StenoSerializationHelper.SUPPLIER_EXCEPTION_KEY, failure),
+                StenoSerializationHelper.resolveValue(MemoizingSupplier.memoize(() -> {
+                    throw new UnsupportedOperationException("Not supported");
+                })));
+    }
+
+    @Test
+    public void testResolveValues() {
+        final Object[] array = new Object[]{"a", 1};
+        Assert.assertNull(StenoSerializationHelper.resolveValues((Object[]) null));
+        Assert.assertSame(array, StenoSerializationHelper.resolveValues(array));
+        final Object[] suppliedArray = new Object[]{"a", MemoizingSupplier.memoize(() -> "b"), MemoizingSupplier.memoize(() -> "c")};
+        Assert.assertArrayEquals(new Object[]{"a", "b", "c"}, StenoSerializationHelper.resolveValues(suppliedArray));
+        Assert.assertTrue(suppliedArray[1] instanceof Supplier);
+        final Object[] plainArray = new Object[]{"a", (Supplier<Object>) () -> "b"};
+        Assert.assertSame(plainArray, StenoSerializationHelper.resolveValues(plainArray));
+
+        final List<Object> list = Arrays.asList("a", 1);
+        Assert.assertNull(StenoSerializationHelper.resolveValues((List<Object>) null));
+        Assert.assertSame(list, StenoSerializationHelper.resolveValues(list));
+        final List<Object> suppliedList = Arrays.asList("a", MemoizingSupplier.memoize(() -> "b"), MemoizingSupplier.memoize(() -> "c"));
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), StenoSerializationHelper.resolveValues(suppliedList));
+        Assert.assertTrue(suppliedList.get(1) instanceof Supplier);
+        final List<Object> plainList = Arrays.asList("a", (Supplier<Object>) () -> "b");
+        Assert.assertSame(plainList, StenoSerializationHelper.resolveValues(plainList));
+    }
+
+    @Test
+    public void testTruncate() {
+        final String value = "abc";
+        Assert.assertSame(value, StenoSerializationHelper.truncate(value, 3));
+        Assert.assertEquals("ab", StenoSerializationHelper.truncate(value, 2));
+        Assert.assertEquals("", StenoSerializationHelper.truncate(value, 0));
+
+        // A surrogate pair is not split
+        final String surrogates = "a" + (char) 0xD83D + (char) 0xDE00 + "b";
+        Assert.assertEquals("a", StenoSerializationHelper.truncate(surrogates, 2));
+        Assert.assertEquals(surrogates.substring(0, 3), StenoSerializationHelper.truncate(surrogates, 3));
+    }
+
     @Test
     public void testStenoLevel() {
         for (final StenoSerializationHelper.StenoLevel level : StenoSerializationHelper.StenoLevel.values()) {
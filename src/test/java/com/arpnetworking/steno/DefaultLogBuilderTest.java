@@ -17,11 +17,14 @@ package com.arpnetworking.steno;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Tests for {@link DefaultLogBuilder}.
@@ -113,6 +116,37 @@ public class DefaultLogBuilderTest {
                 EXCEPTION);
     }
 
+    @Test
+    public void testBuilderWithSuppliers() {
+        final Logger logger = Mockito.mock(Logger.class);
+        final AtomicInteger evaluations = new AtomicInteger();
+        new DefaultLogBuilder(logger, LogLevel.DEBUG)
+                .setEvent("MyEvent")
+                .addData("KEY1", () -> "VALUE" + evaluations.incrementAndGet())
+                .addContext("KEY2", () -> "VALUE" + evaluations.incrementAndGet())
+                .addData("KEY3", (Supplier<?>) null)
+                .log();
+        Assert.assertEquals(0, evaluations.get());
+
+        final ArgumentCaptor<List<Object>> dataValues = ArgumentCaptor.captor();
+        final ArgumentCaptor<List<Object>> contextValues = ArgumentCaptor.captor();
+        Mockito.verify(logger).log(
+                Mockito.eq(LogLevel.DEBUG),
+                Mockito.eq("MyEvent"),
+                Mockito.eq(Arrays.asList("KEY1", "KEY3")),
+                dataValues.capture(),
+                Mockito.eq(Collections.singletonList("KEY2")),
+                contextValues.capture(),
+                Mockito.isNull());
+        Assert.assertNull(dataValues.getValue().get(1));
+        final Supplier<?> data = (Supplier<?>) dataValues.getValue().get(0);
+        final Supplier<?> context = (Supplier<?>) contextValues.getValue().get(0);
+        Assert.assertEquals("VALUE1", data.get());
+        Assert.assertEquals("VALUE1", data.get());
+        Assert.assertEquals("VALUE2", context.get());
+        Assert.assertEquals(2, evaluations.get());
+    }
+
     @Test
     public void testBuilderWithDuplicateKeys() {
         final Logger logger = Mockito.mock(Logger.class);
@@ -35,6 +35,7 @@ public class LogReferenceOnlyTest {
         Assert.assertTrue(logValue.getData().isEmpty());
         Assert.assertTrue(logValue.getTarget().isPresent());
         Assert.assertEquals("Wrong class", String.class, logValue.getTarget().get().getClass());
+        Assert.assertSame(value, valueReference.getTarget());
 
         final String asString = valueReference.toString();
         Assert.assertNotNull(asString);
@@ -21,8 +21,14 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Tests for {@link LogValueMapFactory}.
@@ -170,6 +176,61 @@ public class LogValueMapFactoryTest {
         Assert.assertEquals(expectedValue, actualValue);
     }
 
+    @Test
+    public void testOfWithNulls() {
+        // CHECKSTYLE.OFF: RegexpSingleline - Allow suboptimal construction for testing purposes.
+        final LogValueMapFactory.LogValueMap logValueMap = LogValueMapFactory.of(
+                "k1", "v1",
+                null, "v2",
+                "k3", null,
+                "k1", "v4",
+                "k5", "v5");
+        // CHECKSTYLE.ON: RegexpSingleline
+        Assert.assertEquals(4, logValueMap.size());
+        Assert.assertEquals(Arrays.asList("k1", "k5", "_nullKeys", "_nullValues"), getKeys(logValueMap));
+        Assert.assertEquals("v4", logValueMap.getValue(0));
+        Assert.assertEquals("v5", logValueMap.getValue(1));
+        Assert.assertEquals(true, logValueMap.getValue(2));
+        Assert.assertEquals(true, logValueMap.getValue(3));
+    }
+
+    @Test
+    public void testBuilderOrder() {
+        final LogValueMapFactory.Builder builder = LogValueMapFactory.builder();
+        final List<String> expectedKeys = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            builder.put("k" + i, i);
+            expectedKeys.add("k" + i);
+        }
+        builder.put("k3", "replaced");
+        final LogValueMapFactory.LogValueMap logValueMap = builder.build();
+        Assert.assertEquals(20, logValueMap.size());
+        Assert.assertEquals(expectedKeys, getKeys(logValueMap));
+        Assert.assertEquals("replaced", logValueMap.getValue(3));
+        Assert.assertEquals(19, logValueMap.getValue(19));
+
+        // The built map does not change with the builder
+        builder.put("k20", 20);
+        Assert.assertEquals(20, logValueMap.size());
+    }
+
+    @Test
+    public void testConstructor() {
+        final Map<String, Object> data = new LinkedHashMap<>();
+        data.put("b", 1);
+        data.put("a", 2);
+        final LogValueMapFactory.LogValueMap logValueMap = new LogValueMapFactory.LogValueMap(Optional.empty(), data);
+        Assert.assertEquals(Arrays.asList("b", "a"), getKeys(logValueMap));
+        Assert.assertEquals(data, logValueMap.getData());
+        Assert.assertEquals(Arrays.asList("b", "a"), new ArrayList<>(logValueMap.getData().keySet()));
+        try {
+            logValueMap.getData().put("c", 3);
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnsupportedOperationException e) {
+            // Expected exception
+        }
+    }
+
     @Test
     public void testSerialization() {
         final Widget w = new Widget("foo");
@@ -181,6 +242,24 @@ public class LogValueMapFactoryTest {
         final LogValueMapFactory.LogValueMap deserializedMap = SerializationUtils.deserialize(serializedMap);
 
         Assert.assertFalse(deserializedMap.getTarget().isPresent());
+
+        // CHECKSTYLE.OFF: RegexpSingleline - Allow suboptimal construction for testing purposes.
+        final LogValueMapFactory.LogValueMap map = LogValueMapFactory.of("k1", "v1", "k2", 2);
+        // CHECKSTYLE.ON: RegexpSingleline
+        final LogValueMapFactory.LogValueMap deserializedData = SerializationUtils.deserialize(SerializationUtils.serialize(map));
+        Assert.assertEquals(map.getData(), deserializedData.getData());
+    }
+
+    @Test
+    public void testSerializationCompatibility() {
+        // Serialized by the map backed by a LinkedHashMap
+        final LogValueMapFactory.LogValueMap map = SerializationUtils.deserialize(Base64.getDecoder().decode(SERIALIZED_MAP));
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals("k1", map.getKey(0));
+        Assert.assertEquals("v1", map.getValue(0));
+        Assert.assertEquals("k2", map.getKey(1));
+        Assert.assertEquals(2, map.getValue(1));
+        Assert.assertFalse(map.getTarget().isPresent());
     }
 
     @Test
@@ -212,4 +291,19 @@ public class LogValueMapFactoryTest {
             Assert.assertNotNull(logValueMapFactory);
         }
     }
+
+    private static List<String> getKeys(final LogValueMapFactory.LogValueMap logValueMap) {
+        final List<String> keys = new ArrayList<>();
+        for (int i = 0; i < logValueMap.size(); ++i) {
+            keys.add(logValueMap.getKey(i));
+        }
+        return keys;
+    }
+
+    private static final String SERIALIZED_MAP =
+            "rO0ABXNyADZjb20uYXJwbmV0d29ya2luZy5zdGVuby5Mb2dWYWx1ZU1hcEZhY3RvcnkkTG9nVmFsdWVNYXDY5wQ0tzpudwIAAUwA"
+            + "BV9kYXRhdAAZTGphdmEvdXRpbC9MaW5rZWRIYXNoTWFwO3hwc3IAF2phdmEudXRpbC5MaW5rZWRIYXNoTWFwNMBOXBBswPsCAAFa"
+            + "AAthY2Nlc3NPcmRlcnhyABFqYXZhLnV0aWwuSGFzaE1hcAUH2sHDFmDRAwACRgAKbG9hZEZhY3RvckkACXRocmVzaG9sZHhwP0AA"
+            + "AAAAAAN3CAAAAAQAAAACdAACazF0AAJ2MXQAAmsyc3IAEWphdmEubGFuZy5JbnRlZ2VyEuKgpPeBhzgCAAFJAAV2YWx1ZXhyABBq"
+            + "YXZhLmxhbmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAJ4AA==";
 }
@@ -24,6 +24,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Tests for {@link Logger}.
@@ -737,6 +739,26 @@ public class LoggerTest {
                 TEST_EXCEPTION);
     }
 
+    @Test
+    public void testInfoWithArraysAndSupplier() {
+        final org.slf4j.Logger slf4jLogger = Mockito.mock(org.slf4j.Logger.class);
+        Mockito.doReturn(Boolean.TRUE).when(slf4jLogger).isInfoEnabled();
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Supplier<Integer> supplier = evaluations::incrementAndGet;
+        new Logger(slf4jLogger).info(TEST_EVENT, TEST_MESSAGE, new String[]{KEY1, KEY2}, VALUE1, supplier);
+        final Object[] arguments = (Object[]) Mockito.mockingDetails(slf4jLogger).getInvocations().stream()
+                .filter(invocation -> "info".equals(invocation.getMethod().getName()))
+                .findFirst()
+                .get()
+                .getRawArguments()[2];
+        final Object[] values = (Object[]) arguments[1];
+        Assert.assertEquals(3, values.length);
+        Assert.assertSame(TEST_MESSAGE, values[0]);
+        Assert.assertSame(VALUE1, values[1]);
+        Assert.assertSame(supplier, values[2]);
+        Assert.assertEquals(0, evaluations.get());
+    }
+
     @Test
     public void testInfoWithArraysAndThrowable() {
         final org.slf4j.Logger slf4jLogger = Mockito.mock(org.slf4j.Logger.class);
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.steno;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tests for {@link MemoizingSupplier}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class MemoizingSupplierTest {
+
+    @Test
+    public void testGet() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Supplier<?> supplier = MemoizingSupplier.memoize(evaluations::incrementAndGet);
+        Assert.assertEquals(0, evaluations.get());
+        Assert.assertEquals(1, supplier.get());
+        Assert.assertEquals(1, supplier.get());
+        Assert.assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    public void testGetFailure() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Supplier<?> supplier = MemoizingSupplier.memoize(() -> {
+            throw new IllegalStateException("Failure " + evaluations.incrementAndGet());
+        });
+        for (int i = 0; i < 2; ++i) {
+            try {
+                supplier.get();
+                Assert.fail("Expected exception not thrown");
+            } catch (final IllegalStateException e) {
+                Assert.assertEquals("Failure 1", e.getMessage());
+            }
+        }
+        Assert.assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    public void testMemoize() {
+        Assert.assertNull(MemoizingSupplier.memoize((Supplier<?>) null));
+        final Supplier<?> supplier = MemoizingSupplier.memoize(() -> "value");
+        Assert.assertSame(supplier, MemoizingSupplier.memoize(supplier));
+    }
+}
@@ -30,6 +30,8 @@ public class NoOpLogBuilderTest {
         final LogBuilder logBuilder = new NoOpLogBuilder();
         Assert.assertSame(logBuilder, logBuilder.addData("key", "value"));
         Assert.assertSame(logBuilder, logBuilder.addContext("key", "value"));
+        Assert.assertSame(logBuilder, logBuilder.addData("key", () -> "value"));
+        Assert.assertSame(logBuilder, logBuilder.addContext("key", () -> "value"));
         Assert.assertSame(logBuilder, logBuilder.setEvent("event"));
         Assert.assertSame(logBuilder, logBuilder.setMessage("message"));
         Assert.assertSame(logBuilder, logBuilder.setThrowable(new NullPointerException("NPE!")));
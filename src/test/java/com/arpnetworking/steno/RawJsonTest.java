@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.steno;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for {@link RawJson}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class RawJsonTest {
+
+    @Test
+    public void testString() {
+        final RawJson rawJson = RawJson.of(JSON);
+        Assert.assertSame(JSON, rawJson.toString());
+        Assert.assertEquals(ByteBuffer.wrap(JSON_BYTES), rawJson.asByteBuffer());
+        Assert.assertTrue(rawJson.asByteBuffer().isReadOnly());
+    }
+
+    @Test
+    public void testBytes() {
+        final RawJson rawJson = RawJson.of(JSON_BYTES);
+        Assert.assertEquals(JSON, rawJson.toString());
+        Assert.assertEquals(JSON, rawJson.toString());
+        Assert.assertEquals(ByteBuffer.wrap(JSON_BYTES), rawJson.asByteBuffer());
+        Assert.assertTrue(rawJson.asByteBuffer().isReadOnly());
+    }
+
+    @Test
+    public void testBytesRange() {
+        final byte[] bytes = ("xx" + JSON + "yy").getBytes(StandardCharsets.UTF_8);
+        final RawJson rawJson = RawJson.of(bytes, 2, JSON_BYTES.length);
+        Assert.assertEquals(JSON, rawJson.toString());
+        Assert.assertEquals(ByteBuffer.wrap(JSON_BYTES), rawJson.asByteBuffer());
+    }
+
+    @Test
+    public void testBytesNotCopied() {
+        final byte[] bytes = "[1]".getBytes(StandardCharsets.UTF_8);
+        final RawJson rawJson = RawJson.of(bytes);
+        bytes[1] = '2';
+        Assert.assertEquals("[2]", rawJson.toString());
+    }
+
+    @Test
+    public void testByteBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(JSON_BYTES.length + 2);
+        buffer.put((byte) ' ').put(JSON_BYTES).put((byte) ' ');
+        buffer.position(1).limit(JSON_BYTES.length + 1);
+        final RawJson rawJson = RawJson.of(buffer);
+
+        // The wrapped bytes are independent of the buffer's position
+        buffer.position(0).limit(buffer.capacity());
+        Assert.assertEquals(JSON, rawJson.toString());
+        Assert.assertEquals(ByteBuffer.wrap(JSON_BYTES), rawJson.asByteBuffer());
+        Assert.assertEquals(0, buffer.position());
+    }
+
+    private static final String JSON = "{\"name\":\"café\",\"values\":[1,2,3]}";
+    private static final byte[] JSON_BYTES = JSON.getBytes(StandardCharsets.UTF_8);
+}